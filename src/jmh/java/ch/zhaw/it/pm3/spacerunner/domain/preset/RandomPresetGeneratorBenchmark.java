@@ -0,0 +1,56 @@
+package ch.zhaw.it.pm3.spacerunner.domain.preset;
+
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameBalance;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool.SpaceElementPools;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of a random preset. With pooling the elements of the preset are released again,
+ * like the GameSimulation does when they have passed the screen.
+ * The session has a new profile in memory, so the timings don't depend on the profile of the player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class RandomPresetGeneratorBenchmark {
+
+    @Param({"true", "false"})
+    private boolean pooling;
+
+    private SpaceElementPools spaceElementPools;
+    private RandomPresetGenerator randomPresetGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VisualManager visualManager = VisualManager.getManager();
+        visualManager.setViewport(1920, 1080);
+        Persistence persistence = new InMemoryPersistenceUtil(new PlayerProfile());
+
+        GameSession gameSession = new GameSession(new VelocityManager(), persistence, 2020L, GameBalance.getDefault());
+        gameSession.setElementDimensions(visualManager.loadGameElementVisuals(persistence));
+        spaceElementPools = gameSession.getSpaceElementPools();
+        randomPresetGenerator = gameSession.getPresetGenerator();
+    }
+
+    @Benchmark
+    public Preset getRandomPreset() {
+        Preset preset = randomPresetGenerator.getRandomPreset();
+        if (pooling) {
+            for (SpaceElement spaceElement : preset.getElementsInPreset()) {
+                spaceElementPools.release(spaceElement);
+            }
+        }
+        return preset;
+    }
+}
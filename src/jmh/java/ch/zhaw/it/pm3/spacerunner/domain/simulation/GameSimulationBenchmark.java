@@ -0,0 +1,61 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.geom.Point2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one frame of the game (what GameController.processFrame runs) with different numbers of elements.
+ * Every iteration starts a new run and simulates one second (60 frames), so the elements don't reach the spaceship
+ * and the number of elements stays the same during the measurement.
+ * The runs are played with a new profile in memory, so the timings don't depend on the profile of the player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = GameSimulationBenchmark.FRAMES_PER_ITERATION)
+@Measurement(iterations = 50, batchSize = GameSimulationBenchmark.FRAMES_PER_ITERATION)
+public class GameSimulationBenchmark {
+
+    static final int FRAMES_PER_ITERATION = 60;
+    private static final long FRAME_MILLIS = 16;
+
+    @Param({"0", "50", "200", "1000"})
+    private int elementCount;
+
+    private ManualGameClock gameClock;
+    private GameSimulation gameSimulation;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        VisualManager.getManager().setViewport(1920, 1080);
+        gameClock = new ManualGameClock();
+        gameSimulation = new GameSimulation(gameClock, new GameSession(new VelocityManager(),
+                new InMemoryPersistenceUtil(new PlayerProfile()), 2020L, GameBalance.getDefault()));
+        gameSimulation.initialize();
+
+        Random random = new Random(42);
+        for (int i = 0; i < elementCount; i++) {
+            //offscreen on the right like the generated presets
+            gameSimulation.addElement(new Asteroid(new Point2D.Double(1 + random.nextDouble() * 2, random.nextDouble()), gameSimulation.getGameSession()));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        gameSimulation.terminate();
+    }
+
+    @Benchmark
+    public int processFrame() {
+        gameClock.advanceMillis(FRAME_MILLIS);
+        return gameSimulation.advance(false, false);
+    }
+}
@@ -0,0 +1,59 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
+
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.geom.Point2D;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the collision check of two elements, once with the dimensions looked up in the VisualManager and once with
+ * the dimensions passed in (like the GameSimulation does).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SpaceElementBenchmark {
+
+    private final VisualManager visualManager = VisualManager.getManager();
+
+    @Param({"true", "false"})
+    private boolean colliding;
+
+    private SpaceShip spaceShip;
+    private Asteroid asteroid;
+    private double spaceShipWidth;
+    private double spaceShipHeight;
+    private double asteroidWidth;
+    private double asteroidHeight;
+
+    @Setup(Level.Trial)
+    public void setUp() throws VisualNotSetException {
+        visualManager.setViewport(1920, 1080);
+        //the default space ship, independent of the profile of the player
+        visualManager.loadGameElementVisuals(new InMemoryPersistenceUtil(new PlayerProfile()));
+
+        spaceShip = new SpaceShip(new Point2D.Double(0.05, 0.45));
+        asteroid = new Asteroid(new Point2D.Double(colliding ? 0.06 : 0.8, 0.46));
+
+        spaceShipWidth = visualManager.getElementRelativeWidth(SpaceShip.class);
+        spaceShipHeight = visualManager.getElementRelativeHeight(SpaceShip.class);
+        asteroidWidth = visualManager.getElementRelativeWidth(Asteroid.class);
+        asteroidHeight = visualManager.getElementRelativeHeight(Asteroid.class);
+    }
+
+    @Benchmark
+    public boolean doesCollide() {
+        return spaceShip.doesCollide(asteroid);
+    }
+
+    @Benchmark
+    public boolean doesCollideWithDimensions() {
+        return spaceShip.doesCollide(asteroid, spaceShipWidth, spaceShipHeight, asteroidWidth, asteroidHeight);
+    }
+}
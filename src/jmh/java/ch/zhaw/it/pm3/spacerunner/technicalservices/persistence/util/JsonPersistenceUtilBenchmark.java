@@ -0,0 +1,50 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util;
+
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading the player profile, once from the cached profile and once read and parsed from the file.
+ * The benchmark uses a new profile in the test files (see GameFile.TEST), so the profile of the player is neither
+ * overwritten nor measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class JsonPersistenceUtilBenchmark {
+
+    private final JsonPersistenceUtil persistenceUtil = JsonPersistenceUtil.getUtil();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameFile.TEST = true;
+        persistenceUtil.discardCachedProfile();
+        persistenceUtil.saveProfile(new PlayerProfile());
+        persistenceUtil.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        persistenceUtil.discardCachedProfile();
+        Files.deleteIfExists(Path.of(GameFile.PROFILE.getFileName()));
+        GameFile.TEST = false;
+    }
+
+    @Benchmark
+    public PlayerProfile loadProfile() {
+        return persistenceUtil.loadProfile();
+    }
+
+    @Benchmark
+    public PlayerProfile loadProfileFromFile() {
+        persistenceUtil.discardCachedProfile();
+        return persistenceUtil.loadProfile();
+    }
+}
@@ -0,0 +1,57 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util;
+
+import ch.zhaw.it.pm3.spacerunner.SpaceRunnerApp;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the image operations of the VisualUtil: rasterizing an SVG (with a cached and with a freshly parsed
+ * document), resizing and generating the background.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class VisualUtilBenchmark {
+
+    private final VisualUtil visualUtil = VisualUtil.getUtil();
+
+    @Param({"50", "200"})
+    private float height;
+
+    private URL spaceShipURL;
+    private BufferedImage spaceShipImage;
+    private BufferedImage backgroundImage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spaceShipURL = SpaceRunnerApp.class.getResource(VisualSVGFile.SPACE_SHIP_1.getFileName());
+        spaceShipImage = visualUtil.loadSVGImage(spaceShipURL, 400f);
+        backgroundImage = visualUtil.loadImage(SpaceRunnerApp.class.getResource(VisualFile.BACKGROUND_STARS.getFileName()));
+    }
+
+    @Benchmark
+    public BufferedImage rasterize() {
+        return visualUtil.loadSVGImage(spaceShipURL, height);
+    }
+
+    @Benchmark
+    public BufferedImage rasterizeUncached() {
+        visualUtil.clearSVGDocumentCache();
+        return visualUtil.loadSVGImage(spaceShipURL, height);
+    }
+
+    @Benchmark
+    public BufferedImage resizeImage() {
+        return visualUtil.resizeImage(spaceShipImage, (int) height, (int) height);
+    }
+
+    @Benchmark
+    public BufferedImage generateBackground() {
+        return visualUtil.generateBackground(backgroundImage, 1920, 1080);
+    }
+}
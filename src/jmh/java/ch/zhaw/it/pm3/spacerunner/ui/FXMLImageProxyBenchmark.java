@@ -0,0 +1,43 @@
+package ch.zhaw.it.pm3.spacerunner.ui;
+
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of a JavaFX image, once from the cache of the proxy and once with the conversion of the
+ * BufferedImage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FXMLImageProxyBenchmark {
+
+    private final FXMLImageProxy fxmlImageProxy = FXMLImageProxy.getProxy();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VisualManager visualManager = VisualManager.getManager();
+        visualManager.setViewport(1920, 1080);
+        visualManager.loadGameElementVisuals(new InMemoryPersistenceUtil(new PlayerProfile()));
+    }
+
+    @Benchmark
+    public Image getFXMLImage() throws VisualNotSetException {
+        return fxmlImageProxy.getFXMLImage(Asteroid.class);
+    }
+
+    @Benchmark
+    public Image getFXMLImageUncached() throws VisualNotSetException {
+        fxmlImageProxy.clear();
+        return fxmlImageProxy.getFXMLImage(Asteroid.class);
+    }
+}
@@ -5,6 +5,7 @@ import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersist
 import ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util.GameSound;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util.GameSoundUtil;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util.SoundClip;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.RasterCache;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualFile;
 import ch.zhaw.it.pm3.spacerunner.ui.FXMLFile;
 import ch.zhaw.it.pm3.spacerunner.ui.ViewController;
@@ -48,15 +49,25 @@ public class SpaceRunnerApp extends Application {
      */
     @Override
     public void start(Stage primaryStage) {
+        RasterCache.getCache().setEnabled(true);
         this.primaryStage = primaryStage;
         this.primaryStage.setTitle("Space Runner");
         ViewController.setMain(this);
         setFXMLView(FXMLFile.MENU);
 
         gameSoundUtil.setVolume(persistenceUtil.getSoundVolume());
+        gameSoundUtil.preloadSounds();
         setupBackgroundMusic();
     }
 
+    /**
+     * Writes the changes of the profile which are not persisted yet before the application exits.
+     */
+    @Override
+    public void stop() {
+        persistenceUtil.flush();
+    }
+
     /**
      * Loads the new view to the primaryStage. Sizes and app-icon are set/loaded only once to avoid redundant
      * operations and to maintain same sizes while loading another view.
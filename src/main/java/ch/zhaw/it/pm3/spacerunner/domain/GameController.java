@@ -1,157 +1,198 @@
 package ch.zhaw.it.pm3.spacerunner.domain;
 
-import ch.zhaw.it.pm3.spacerunner.domain.preset.Preset;
-import ch.zhaw.it.pm3.spacerunner.domain.preset.RandomPresetGenerator;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.*;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ActivatedPowerUpManager;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameBalance;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameClock;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameReplay;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulationListener;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.InputRecording;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.RenderSnapshot;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.SimulationLoop;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.SystemGameClock;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.TripleBuffer;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceShip;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.PowerUp;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FrameProfiler;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.GameFile;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersistenceUtil;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util.GameSound;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util.GameSoundUtil;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util.SoundClip;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
-import java.awt.geom.Point2D;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * The GameController is responsible for the game logic of the Space-Runner application.
+ * The logic itself runs in the GameSimulation (fixed ticks, driven by the GameClock). The GameController connects it
+ * to the application: it plays the sounds and persists the results of a run. The input of the last run is saved as
+ * InputRecording, so the run can be replayed without UI.
+ * Every run gets its own GameSession, so nothing of a run (e.g. the accelerated velocities) is left for the next one.
+ * <p>
+ * During a game the simulation runs on a thread of its own (see startSimulation). After every step it publishes a
+ * RenderSnapshot through a TripleBuffer, so the UI only reads the latest snapshot and never touches the simulation.
  *
  * @author islermic, hirsceva, blattpet, nachbric, freymar1, kunnuman
  */
-public class GameController {
+public class GameController implements GameSimulationListener {
 
     private final Logger logger = Logger.getLogger(GameController.class.getName());
 
-    private final Persistence persistenceUtil = JsonPersistenceUtil.getUtil();
+    //writes the recording of the last run, so the file IO doesn't block the simulation thread
+    private static final ExecutorService RECORDING_WRITER = Executors.newSingleThreadExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "Recording Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Persistence persistenceUtil;
     private final GameSoundUtil gameSoundUtil = GameSoundUtil.getUtil();
     private final VisualManager visualManager = VisualManager.getManager();
-    private final VelocityManager velocityManager = VelocityManager.getManager();
-    private final ActivatedPowerUpManager activatedPowerUpManager = new ActivatedPowerUpManager();
-
-
-    private static final long GAME_SPEED_INCREASE_PERIOD_TIME = 1000L;
-    private static final double RELATIVE_GAME_SPEED_INCREASE_PER_SECOND = 0.005;
-
 
-    private double remainingDistanceUntilNextPreset = 0.1;
-    private static final double BUFFER_DISTANCE_BETWEEN_PRESETS = 0.45;
+    private final GameClock gameClock;
+    private GameSimulation gameSimulation;
 
-    private static final int GENERAL_POWER_UP_COOLDOWN = 5000;
+    private final SimulationLoop simulationLoop = new SimulationLoop(this::runSimulationStep, GameSimulation.TICK_MILLIS);
+    private final TripleBuffer<RenderSnapshot> renderSnapshots = new TripleBuffer<>(RenderSnapshot::new);
+    //written by the UI thread, read by the simulation thread
+    private volatile boolean upPressed = false;
+    private volatile boolean downPressed = false;
 
-
-    private boolean isPaused = false;
-    private int collectedCoins = 0;
-    private int score = 0;
+    private volatile boolean isPaused = false;
     private int fps = 60;
-    private boolean gameOver = false;
 
     private boolean isInitialized = false;
-    private boolean isTerminated = false;
-
-    private Timer gameTimer;
-    private SpaceWorld background = null;
-    private SpaceShip spaceShip;
+    private volatile boolean isTerminated = false;
 
-    private final Set<SpaceElement> elements = ConcurrentHashMap.newKeySet();
     private PlayerProfile playerProfile;
-    private RandomPresetGenerator elementPreset;
 
+    /**
+     * Creates a GameController which runs the game with the wall clock.
+     */
+    public GameController() {
+        this(SystemGameClock.getClock());
+    }
 
-    private long lastUpdate = 0;
+    /**
+     * Creates a GameController which runs the game with the specified clock.
+     *
+     * @param gameClock time source of the game. not null
+     */
+    public GameController(GameClock gameClock) {
+        this(gameClock, JsonPersistenceUtil.getUtil());
+    }
 
+    /**
+     * Creates a GameController which runs the game with the specified clock and persistence.
+     *
+     * @param gameClock   time source of the game. not null
+     * @param persistence persistence of the player profile and the results. not null
+     */
+    public GameController(GameClock gameClock, Persistence persistence) {
+        if (gameClock == null) {
+            throw new IllegalArgumentException("gameClock can not be null");
+        } else if (persistence == null) {
+            throw new IllegalArgumentException("persistence can not be null");
+        }
+        this.gameClock = gameClock;
+        this.persistenceUtil = persistence;
+    }
 
     /**
      * Initializes the class variables.
      */
     public void initialize() {
-        velocityManager.setupGameElementVelocity();
-        visualManager.loadGameElementVisuals();
-
-        gameTimer = new Timer("GameBackgroundTimer");
-        gameTimer.scheduleAtFixedRate(getGameBackgroundTask(), 0, GAME_SPEED_INCREASE_PERIOD_TIME);
-        gameTimer.schedule(getPowerUpGeneratorTask(), 0, GENERAL_POWER_UP_COOLDOWN);
+        GameSession gameSession = new GameSession(new VelocityManager(), persistenceUtil,
+                ThreadLocalRandom.current().nextLong(), GameBalance.getDefault());
+        gameSimulation = new GameSimulation(gameClock, gameSession);
+        gameSimulation.initialize();
+        gameSimulation.addListener(this);
 
         playerProfile = persistenceUtil.loadProfile();
 
-        elementPreset = new RandomPresetGenerator();
-
-        background = new SpaceWorld(new Point2D.Double(0, 0));
-        spaceShip = new SpaceShip(new Point2D.Double(.05, 0.45));
-
         fps = playerProfile.getFps();
 
         isTerminated = false;
         isInitialized = true;
     }
 
+    /**
+     * Terminates the game and cancels its timed events.
+     * The simulation loop is stopped first, so a running step finishes before the game is marked as terminated.
+     */
     public void terminate() {
-        if (gameTimer != null) {
-            gameTimer.cancel();
-        }
+        simulationLoop.stop();
         isTerminated = true;
+        if (gameSimulation != null) {
+            gameSimulation.removeListener(this);
+            gameSimulation.terminate();
+        }
     }
 
-    private TimerTask getGameBackgroundTask() {
-        return new TimerTask() {
-            public void run() {
-                if (!isPaused) {
-                    updateElementsSpeed();
-                }
-
-                removePastDrawables();
-            }
-        };
+    /**
+     * Starts running the simulation on its own thread with the input set by setInput.
+     * After every step the state is published as RenderSnapshot (see getRenderSnapshot).
+     * IMPORTANT: Initialize has to be called before the simulation is started! Terminate stops it.
+     */
+    public void startSimulation() {
+        if (!isInitialized) {
+            throw new IllegalStateException("The game is not initialized! Method initialized has to be called before starting the simulation!");
+        }
+        simulationLoop.start();
     }
 
-    private TimerTask getPowerUpGeneratorTask() {
-        return new TimerTask() {
-            @Override
-            public void run() {
-                if (!isPaused) {
-                    PowerUp powerUp = activatedPowerUpManager.generatePowerUps();
-                    if (powerUp != null) {
-                        elements.add(powerUp);
-                    }
-                }
-            }
-        };
+    private void runSimulationStep() {
+        if (isTerminated) {
+            return;
+        }
+        processFrame(upPressed, downPressed);
+        publishRenderSnapshot();
     }
 
-    private void updateElementsSpeed() {
-        velocityManager.accelerateAll(new Point2D.Double(-RELATIVE_GAME_SPEED_INCREASE_PER_SECOND, RELATIVE_GAME_SPEED_INCREASE_PER_SECOND));
+    /**
+     * Writes the current state into the next RenderSnapshot and publishes it to the render thread.
+     * Has to be called by the thread which processes the frames.
+     */
+    void publishRenderSnapshot() {
+        gameSimulation.writeRenderSnapshot(renderSnapshots.getWriteBuffer(), isPaused);
+        renderSnapshots.publish();
     }
 
     /**
-     * Removes drawable SpaceElements that have moved past the left side of the screen, so that their no longer visible on the UI.
+     * Returns the latest state published by the simulation. The snapshot may be read until the next call.
+     * Has to be called by one thread only (the render thread).
+     *
+     * @return latest snapshot or null if the simulation hasn't published one yet
      */
-    private void removePastDrawables() {
-        AtomicInteger count = new AtomicInteger();
-        elements.removeIf((SpaceElement element) -> {
-            try {
-                boolean outOfScreen = element.getRelativePosition().x + visualManager.getElementRelativeWidth(element.getClass()) < 0;
-                if (outOfScreen) {
-                    count.getAndIncrement();
-                }
-                return outOfScreen;
-            } catch (VisualNotSetException e) {
-                logger.log(Level.SEVERE, "Visual of {0} wasn't set", element.getClass());
-                return true;
-            }
-        });
-        logger.log(Level.INFO, "removed " + count + " past drawables");
+    public RenderSnapshot getRenderSnapshot() {
+        return renderSnapshots.getLatest();
+    }
 
+    /**
+     * Sets the keys which are used by the next steps of the simulation thread.
+     *
+     * @param upPressed   Is true when the Up-Key is pressed, else false.
+     * @param downPressed Is true when the Down-Key is pressed, else false.
+     */
+    public void setInput(boolean upPressed, boolean downPressed) {
+        this.upPressed = upPressed;
+        this.downPressed = downPressed;
     }
 
     /**
-     * Process each frame.
+     * Process each frame. Runs as many simulation ticks as fit into the time since the last frame.
      * IMPORTANT: Initialize has to be called before processing frames!
      * IMPORTANT: If the game is terminated, initialize has to be called again to process frames or it will not process any more frames.
      *
@@ -165,140 +206,70 @@ public class GameController {
             throw new IllegalStateException("The game is not initialized! Method initialized has to be called before processing frames!");
         }
 
-        long timeSinceLastUpdate = millisSinceLastProcessing();
-
-        if (!isPaused) {
-            moveSpaceShip(upPressed, downPressed, timeSinceLastUpdate);
-            updateHighScore(timeSinceLastUpdate);
-            processCollision(detectCollision());
-            generatePreset();
-            moveElements(timeSinceLastUpdate);
-        }
-
-        lastUpdate = System.currentTimeMillis();
-    }
-
-    private long millisSinceLastProcessing() {
-        if (lastUpdate == 0) {
-            return 0;
+        if (isPaused) {
+            gameSimulation.synchronizeClock();
         } else {
-            return System.currentTimeMillis() - lastUpdate;
+            gameSimulation.advance(upPressed, downPressed);
         }
     }
 
     /**
-     * Checks if movement keys are pressed & moves the spaceship accordingly.
+     * Ends the game if the spaceship collided with any obstacle and saves the game.
+     * Runs on the simulation thread: the profile is written behind by the persistence and the recording of the run
+     * is written by the recording writer, so the step doesn't wait for the file IO.
      */
-    private void moveSpaceShip(boolean upPressed, boolean downPressed, long timeInMillis) {
-        if (upPressed && !downPressed) {
-            spaceShip.moveSpaceShip(SpaceShipDirection.UP, timeInMillis);
-        } else if (downPressed && !upPressed) {
-            spaceShip.moveSpaceShip(SpaceShipDirection.DOWN, timeInMillis);
+    @Override
+    public void gameOver() {
+        if (playerProfile.isAudioEnabled()) {
+            try {
+                //The game over sounds are queued with delays, so they follow the explosion without a listener chain
+                long explosionDuration = gameSoundUtil.getSoundDurationMillis(GameSound.EXPLOSION);
+                long gameOverVoiceDuration = gameSoundUtil.getSoundDurationMillis(GameSound.GAME_OVER_VOICE);
+
+                gameSoundUtil.playSound(GameSound.EXPLOSION);
+                gameSoundUtil.playSound(GameSound.GAME_OVER_VOICE, explosionDuration);
+                gameSoundUtil.playSound(GameSound.GAME_OVER_1, explosionDuration);
+                gameSoundUtil.playSound(GameSound.GAME_OVER_2, explosionDuration + gameOverVoiceDuration);
+            } catch (Exception e) {
+                //IGNORE ON PURPOSE
+                logger.log(Level.WARNING, "Game over sounds couldn't be loaded");
+            }
         }
-    }
 
-    private void updateHighScore(long timeSinceLastUpdate) {
-        score = score + (int) (timeSinceLastUpdate / 10);
+        saveGame();
+        //the world keeps moving after the game is over, so the recording is copied before it's written
+        InputRecording lastRunRecording = gameSimulation.getInputRecording().copy();
+        RECORDING_WRITER.execute(() -> saveLastRunRecording(lastRunRecording));
     }
 
-    /**
-     * Checks if Spaceship has collided with any other SpaceElement and performs the corresponding actions
-     *
-     * @return Returns the SpaceElement-Object with which the Spaceship collided.
-     */
-    private SpaceElement detectCollision() {
-        for (SpaceElement spaceElement : elements) {
-            if (spaceShip.doesCollide(spaceElement)) {
-                return spaceElement;
-            }
+    private void saveLastRunRecording(InputRecording lastRunRecording) {
+        try {
+            lastRunRecording.write(Path.of(GameFile.LAST_RUN_RECORDING.getFileName()));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Recording of the run couldn't be saved");
         }
-        return null;
     }
 
     /**
-     * executes effects depending on type of spaceElement
+     * Writes the input of the current run (seed, viewport and keys of every tick) to the file.
      *
-     * @param spaceElement The SpaceElements for example UFO, Asteroid, COIN, etc.
+     * @param path file to write to. not null
+     * @throws IOException if the file can't be written
      */
-    private void processCollision(SpaceElement spaceElement) {
-        if (spaceElement == null) {
-            return;
-        }
-
-        if (spaceElement instanceof Obstacle) {
-            collisionWithObstacle((Obstacle) spaceElement);
-        } else if (spaceElement instanceof Coin) {
-            collisionWithCoin((Coin) spaceElement);
-        } else if (spaceElement instanceof PowerUp) {
-            collisionWithPowerUp((PowerUp) spaceElement);
-        } else {
-            logger.log(Level.INFO, "Collision with unknown spaceElement");
-        }
+    public void saveInputRecording(Path path) throws IOException {
+        gameSimulation.getInputRecording().write(path);
     }
 
     /**
-     * Executes the logic when the spaceship collided with an obstacle.
+     * Reads a recorded run and simulates it again without UI, as fast as possible.
+     * The viewport is set to the recorded one during the replay, so it shouldn't be called during a running game.
      *
-     * @param o Obstacle with which the spaceship collided.
+     * @param path recording written with saveInputRecording. not null
+     * @return score, coins and collisions of the replay
+     * @throws IOException if the recording can't be read
      */
-    private void collisionWithObstacle(Obstacle o) {
-        if (activatedPowerUpManager.hasShield()) {
-            elements.remove(o);
-            activatedPowerUpManager.removeShield();
-        } else {
-            endRun();
-        }
-    }
-
-    /**
-     * Ends the game if the spaceship collided with any obstacle and saves the game.
-     */
-    private void endRun() {
-        gameTimer.cancel();
-        gameOver = true;
-        if (playerProfile.isAudioEnabled()) {
-            new Thread(() -> {
-                try {
-                    SoundClip explosion = gameSoundUtil.loadClip(GameSound.EXPLOSION);
-
-                    //Play next sound after this one has stopped playing!
-                    explosion.addListener(() -> {
-                        try {
-                            SoundClip gameOverVoice = gameSoundUtil.loadClip(GameSound.GAME_OVER_VOICE);
-
-                            //Play next sound after this one has stopped playing!
-                            gameOverVoice.addListener(() -> {
-                                try {
-                                    gameSoundUtil.loadClip(GameSound.GAME_OVER_2).play();
-                                } catch (Exception e) {
-                                    //IGNORE ON PURPOSE
-                                    logger.log(Level.WARNING, "Sound GAME_OVER_2 couldn't be loaded");
-                                }
-                            });
-
-                            gameOverVoice.play();
-                            gameSoundUtil.loadClip(GameSound.GAME_OVER_1).play();
-                        } catch (Exception e) {
-                            //IGNORE ON PURPOSE
-                            logger.log(Level.WARNING, "Sound GAME_OVER_1 couldn't be loaded");
-                        }
-                    });
-                    explosion.play();
-
-                } catch (Exception e) {
-                    //IGNORE ON PURPOSE
-                    logger.log(Level.WARNING, "Sound EXPLOSION couldn't be loaded");
-                }
-            }).start();
-        }
-
-        try {
-            Thread.sleep(500);
-        } catch (Exception e) {
-            //IGNORE ON PURPOSE
-            logger.log(Level.WARNING, "Thread wasn't able to sleep");
-        }
-        saveGame();
+    public GameReplay.ReplayResult replayInputRecording(Path path) throws IOException {
+        return new GameReplay(InputRecording.read(path)).run();
     }
 
     private void saveGame() {
@@ -310,85 +281,52 @@ public class GameController {
      * Updates the playerProfile with collected coins and the new high score.
      */
     private void updatePlayerProfile() {
-        playerProfile.addCoins(collectedCoins);
-        if (score > playerProfile.getHighScore()) {
-            playerProfile.setHighScore(score);
+        playerProfile.addCoins(gameSimulation.getCollectedCoins());
+        if (gameSimulation.getScore() > playerProfile.getHighScore()) {
+            playerProfile.setHighScore(gameSimulation.getScore());
         }
     }
 
     /**
-     * Executes the logic when the spaceship collides with Coin-Object.
-     *
-     * @param c A Coin-Object which the spaceship collects.
+     * Plays the pickup sound when the spaceship collected a coin.
      */
-    private void collisionWithCoin(Coin c) {
-        collectedCoins += 1 * Math.pow(2, activatedPowerUpManager.getCoinMultiplier());
-        score += 25 * Math.pow(2, activatedPowerUpManager.getCoinMultiplier());
-        elements.remove(c);
+    @Override
+    public void coinCollected() {
         if (playerProfile.isAudioEnabled()) {
-            new Thread(() -> {
-                try {
-                    gameSoundUtil.loadClip(GameSound.COIN_PICKUP).play();
-                } catch (Exception e) {
-                    //IGNORE ON PURPOSE
-                    logger.log(Level.WARNING, "Sound COIN_PICKUP couldn't be loaded");
-                }
-            }).start();
-        }
-    }
-
-    private void collisionWithPowerUp(PowerUp p) {
-        activatedPowerUpManager.activatePowerUp(p);
-        elements.remove(p);
-        score += 50;
-        if (playerProfile.isAudioEnabled()) {
-            new Thread(() -> {
-                try {
-                    gameSoundUtil.loadClip(GameSound.POWER_UP_PICKUP).play();
-                } catch (Exception e) {
-                    //IGNORE ON PURPOSE
-                    logger.log(Level.WARNING, "Sound POWER_UP_PICKUP couldn't be loaded");
-                }
-            }).start();
-        }
-    }
-
-    /**
-     * Generates SpaceElements offscreen, which are meant to move left towards the spaceship
-     */
-    private void generatePreset() {
-        if (remainingDistanceUntilNextPreset < -BUFFER_DISTANCE_BETWEEN_PRESETS) {
-            Preset generatedPreset = elementPreset.getRandomPreset();
-            Collections.addAll(elements, generatedPreset.getElementsInPreset());
-
-            remainingDistanceUntilNextPreset = generatedPreset.getPresetTimeUntilOnScreen();
+            try {
+                gameSoundUtil.playSound(GameSound.COIN_PICKUP);
+            } catch (Exception e) {
+                //IGNORE ON PURPOSE
+                logger.log(Level.WARNING, "Sound COIN_PICKUP couldn't be loaded");
+            }
         }
     }
 
     /**
-     * Moves all SpaceElements
+     * Plays the pickup sound when the spaceship collected a power-up.
      */
-    private void moveElements(long timeSinceLastUpdate) {
-        for (SpaceElement element : elements) {
-            element.move(timeSinceLastUpdate);
+    @Override
+    public void powerUpCollected() {
+        if (playerProfile.isAudioEnabled()) {
+            try {
+                gameSoundUtil.playSound(GameSound.POWER_UP_PICKUP);
+            } catch (Exception e) {
+                //IGNORE ON PURPOSE
+                logger.log(Level.WARNING, "Sound POWER_UP_PICKUP couldn't be loaded");
+            }
         }
-        background.move(timeSinceLastUpdate);
-        remainingDistanceUntilNextPreset -= timeSinceLastUpdate / 1000.0;
     }
 
     public ArrayList<SpaceElement> getGameElements() {
-        ArrayList<SpaceElement> dataToDisplay = new ArrayList<SpaceElement>(elements);
-        dataToDisplay.add(0, background);
-        dataToDisplay.add(spaceShip);
-        return dataToDisplay;
+        return gameSimulation.getGameElements();
     }
 
     public int getCollectedCoins() {
-        return collectedCoins;
+        return gameSimulation.getCollectedCoins();
     }
 
     public int getScore() {
-        return score;
+        return gameSimulation.getScore();
     }
 
     public int getFps() {
@@ -412,20 +350,36 @@ public class GameController {
      * @return true if the game is over, else false.
      */
     public boolean isGameOver() {
-        return gameOver;
+        return gameSimulation.isGameOver();
     }
 
 
+    /**
+     * Loads the visuals for the new viewport and hands their dimensions to the session of the running game.
+     *
+     * @param width  width of the viewport in px
+     * @param height height of the viewport in px
+     */
     public void setViewport(int width, int height) {
         this.visualManager.setViewport(width, height);
+        if (gameSimulation != null) {
+            gameSimulation.getGameSession().setElementDimensions(visualManager.getElementDimensions());
+        }
     }
 
 
     public Map<Class<? extends PowerUp>, PowerUp> getActivePowerUps() {
-        return Collections.unmodifiableMap(activatedPowerUpManager.getActivePowerUps());
+        return Collections.unmodifiableMap(gameSimulation.getActivePowerUps());
+    }
+
+    /**
+     * @return profiler with the time spent in the phases of the simulation
+     */
+    public FrameProfiler getFrameProfiler() {
+        return gameSimulation.getFrameProfiler();
     }
 
     protected SpaceShip getSpaceShip() {
-        return spaceShip;
+        return gameSimulation.getSpaceShip();
     }
 }
@@ -39,6 +39,26 @@ public class PlayerProfile {
         activeShopContent = new HashSet<>();
     }
 
+    /**
+     * Creates a copy of the profile, so changes to the copy don't change the original.
+     *
+     * @param playerProfile profile to copy. not null
+     */
+    public PlayerProfile(PlayerProfile playerProfile) {
+        if (playerProfile == null) {
+            throw new IllegalArgumentException("playerProfile can not be null");
+        }
+        audioEnabled = playerProfile.audioEnabled;
+        volume = playerProfile.volume;
+        playerName = playerProfile.playerName;
+        coins = playerProfile.coins;
+        highScore = playerProfile.highScore;
+        fps = playerProfile.fps;
+        purchasedContentIds = new HashSet<>(playerProfile.purchasedContentIds);
+        activeContentIds = new HashSet<>(playerProfile.activeContentIds);
+        activeShopContent = playerProfile.activeShopContent == null ? new HashSet<>() : new HashSet<>(playerProfile.activeShopContent);
+    }
+
     public boolean isAudioEnabled() {
         return audioEnabled;
     }
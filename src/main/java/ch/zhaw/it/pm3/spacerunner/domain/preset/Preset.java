@@ -1,9 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.preset;
 
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityNotSetException;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
 import java.util.logging.Level;
@@ -22,9 +20,6 @@ public class Preset implements Cloneable {
     private final SpaceElement[] elementsInPreset;
     private final double timeUntilEntirePresetOnScreen;
 
-    private final VisualManager visualManager = VisualManager.getManager();
-    private final VelocityManager velocityManager = VelocityManager.getManager();
-
     /**
      * Constructor for the class preset.
      *
@@ -39,7 +34,7 @@ public class Preset implements Cloneable {
         try {
             double maxTime = 0;
             for (SpaceElement e : elementsInPreset) {
-                maxTime = Math.max(maxTime, (1.0 - (e.getRelativePosition().x + visualManager.getElementRelativeWidth(e.getClass()))) / velocityManager.getRelativeVelocity(e.getClass()).x);
+                maxTime = Math.max(maxTime, (1.0 - (e.getRelativeX() + e.getGameSession().getElementRelativeWidth(e.getClass()))) / e.getGameSession().getVelocityManager().getRelativeVelocity(e.getClass()).x);
             }
             return maxTime;
         } catch (VisualNotSetException e) {
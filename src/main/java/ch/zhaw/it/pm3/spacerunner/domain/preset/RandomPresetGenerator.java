@@ -1,65 +1,124 @@
 package ch.zhaw.it.pm3.spacerunner.domain.preset;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameRandom;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.*;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool.SpaceElementPools;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
-import java.awt.geom.Point2D;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * In this class the different presets are created, which are can shown randomly in the game.
+ * A preset is first generated as WorldChunk (types and offsets of its elements), so it can be generated ahead of time
+ * by the WorldChunkStream. The SpaceElements are taken from the pools when the chunk is spawned.
  *
  * @author blattpet
  */
 public class RandomPresetGenerator {
 
     private final Logger logger = Logger.getLogger(RandomPresetGenerator.class.getName());
-    private final VisualManager visualManager = VisualManager.getManager();
+    private final GameSession gameSession;
+    private final SpaceElementPools spaceElementPools;
+    private final GameRandom gameRandom;
+    //weight of every PresetType by ordinal, all the same by default
+    private final int[] presetWeights = new int[PresetType.values().length];
+    private final int totalPresetWeight;
+
+    /**
+     * Creates a generator for the default GameSession.
+     */
+    public RandomPresetGenerator() {
+        this(GameSession.getDefault());
+    }
+
+    /**
+     * Creates a generator which takes its SpaceElements from the pools of the session and its random numbers from the
+     * GameRandom of the session, so the presets can be reproduced. The PresetTypes are chosen with the preset weights
+     * of the GameBalance of the session. A type with weight 2 is chosen twice as often as a type with weight 1.
+     *
+     * @param gameSession session of the game. not null
+     */
+    public RandomPresetGenerator(GameSession gameSession) {
+        if (gameSession == null) {
+            throw new IllegalArgumentException("gameSession can not be null");
+        }
+        this.gameSession = gameSession;
+        this.spaceElementPools = gameSession.getSpaceElementPools();
+        this.gameRandom = gameSession.getGameRandom();
+        Map<PresetType, Integer> presetWeights = gameSession.getGameBalance().getPresetWeights();
+
+        int totalWeight = 0;
+        for (PresetType presetType : PresetType.values()) {
+            int weight = presetWeights.getOrDefault(presetType, 1);
+            if (weight < 0) {
+                throw new IllegalArgumentException("weight of " + presetType + " can not be negative");
+            }
+            this.presetWeights[presetType.ordinal()] = weight;
+            totalWeight += weight;
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("at least one PresetType needs a weight");
+        }
+        this.totalPresetWeight = totalWeight;
+    }
 
     /**
      * Creates all cases of presets.
      *
      * @param p PresetType
-     * @return A preset when the case exists
+     * @return A chunk with the elements of the preset when the case exists
      */
-    private Preset generatePreset(PresetType p) throws VisualNotSetException {
+    private WorldChunk generateChunk(PresetType p) throws VisualNotSetException {
+        WorldChunk.Builder chunk = new WorldChunk.Builder(p);
         double y;
         switch (p) {
             case ASTEROID:
-                y = Math.random() * (1.0 - visualManager.getElementRelativeHeight(Asteroid.class));
-                return new Preset(new SpaceElement[]{new Asteroid(new Point2D.Double(1, y))});
+                y = gameRandom.nextDouble() * (1.0 - gameSession.getElementRelativeHeight(Asteroid.class));
+                return addElement(chunk, Asteroid.class, 0, y, 0).build();
             case UFO_SINGLE:
-                return new Preset(new SpaceElement[]{new UFO(new Point2D.Double(1, 0))});
+                return addElement(chunk, UFO.class, 0, 0, 0).build();
             case UFOS_MIRRORED:
-                return new Preset(new SpaceElement[]{new UFO(new Point2D.Double(1, 0)), new UFO(new Point2D.Double(1, 0), 0.5)});
+                addElement(chunk, UFO.class, 0, 0, 0);
+                return addElement(chunk, UFO.class, 0, 0, 0.5).build();
             case ROCKET:
-                y = Math.random() * (1.0 - visualManager.getElementRelativeHeight(Rocket.class));
-                return new Preset(new SpaceElement[]{new Rocket(new Point2D.Double(1, y))});
+                y = gameRandom.nextDouble() * (1.0 - gameSession.getElementRelativeHeight(Rocket.class));
+                return addElement(chunk, Rocket.class, 0, y, 0).build();
             case ROCKET_RANDOM_THREE:
-                return new Preset(randomRocket());
+                return randomRocket(chunk).build();
             case COINS_ARROW:
-                return new Preset(coinArrow());
+                return coinArrow(chunk).build();
             case COINS_RANDOM_LINE:
-                return new Preset(randomCoinLine());
+                return randomCoinLine(chunk).build();
             case COINS_RANDOM_SQUARE:
-                return new Preset(randomCoinSquare());
+                return randomCoinSquare(chunk).build();
             default:
                 logger.log(Level.WARNING, "No Case for this Preset Type: {0}", p.name());
                 return null;
         }
     }
 
+    private WorldChunk.Builder addElement(WorldChunk.Builder chunk, Class<? extends SpaceElement> type, double offsetX,
+                                          double y, double waveOffset) throws VisualNotSetException {
+        return chunk.add(type, offsetX, y, waveOffset, gameSession.getElementRelativeWidth(type), gameSession.getElementRelativeHeight(type));
+    }
+
     /**
-     * Returns one of the random preset
-     * @return a random preset
+     * Chooses a PresetType with the preset weights and generates its chunk.
+     *
+     * @return a random chunk or null if a visual of its elements wasn't set
      */
-    public synchronized Preset getRandomPreset() {
-        int index = (int) Math.floor(Math.random() * (PresetType.values().length));
+    public synchronized WorldChunk getRandomChunk() {
+        int index = 0;
+        int weight = gameRandom.nextInt(totalPresetWeight) - presetWeights[0];
+        while (weight >= 0) {
+            weight -= presetWeights[++index];
+        }
 
         try {
-            return generatePreset(PresetType.values()[index]);
+            return generateChunk(PresetType.values()[index]);
         } catch (VisualNotSetException e) {
             logger.log(Level.SEVERE, "Error with Preset generation");
         }
@@ -67,62 +126,71 @@ public class RandomPresetGenerator {
         return null;
     }
 
-    private SpaceElement[] randomCoinLine() throws VisualNotSetException {
-        double y = Math.random() * (1.0 - visualManager.getElementRelativeHeight(Coin.class));
-        double x = 1.0;
-        int count = (int) (Math.random() * 10);
-        SpaceElement[] spaceElements = new SpaceElement[count];
+    /**
+     * Returns one of the random preset
+     * @return a random preset with the elements at the right border of the screen
+     */
+    public synchronized Preset getRandomPreset() {
+        WorldChunk chunk = getRandomChunk();
+        return chunk == null ? null : chunk.spawn(spaceElementPools, 1.0);
+    }
+
+    private WorldChunk.Builder randomCoinLine(WorldChunk.Builder chunk) throws VisualNotSetException {
+        double y = gameRandom.nextDouble() * (1.0 - gameSession.getElementRelativeHeight(Coin.class));
+        double x = 0;
+        int count = gameRandom.nextInt(10);
         for (int i = 0; i < count; i++) {
-            spaceElements[i] = new Coin(new Point2D.Double(x, y));
-            x = x + 2 * visualManager.getElementRelativeWidth(Coin.class);
+            addElement(chunk, Coin.class, x, y, 0);
+            x = x + 2 * gameSession.getElementRelativeWidth(Coin.class);
         }
-        return spaceElements;
+        return chunk;
     }
 
-    private SpaceElement[] randomCoinSquare() throws VisualNotSetException {
-        double coinHeight = visualManager.getElementRelativeHeight(Coin.class);
-        double y = Math.random() * (1.0 - coinHeight);
-        int squareSize = (int) ((Math.random() * (6 - 2)) + 2);
+    private WorldChunk.Builder randomCoinSquare(WorldChunk.Builder chunk) throws VisualNotSetException {
+        double coinHeight = gameSession.getElementRelativeHeight(Coin.class);
+        double y = gameRandom.nextDouble() * (1.0 - coinHeight);
+        int squareSize = gameRandom.nextInt(6 - 2) + 2;
 
         if (Double.compare(squareSize * coinHeight + y, 1.0 - coinHeight) >= 0) {
-            return new SpaceElement[]{new Coin(new Point2D.Double(1, y))};
+            return addElement(chunk, Coin.class, 0, y, 0);
         }
 
-        return generateCoinSquare(coinHeight, y, squareSize);
+        return generateCoinSquare(chunk, coinHeight, y, squareSize);
     }
 
-    private SpaceElement[] generateCoinSquare(double coinHeight, double y, int squareSize) throws VisualNotSetException {
-        SpaceElement[] spaceElements = new SpaceElement[squareSize * squareSize];
-        int index = 0;
+    private WorldChunk.Builder generateCoinSquare(WorldChunk.Builder chunk, double coinHeight, double y, int squareSize) throws VisualNotSetException {
         for (int i = 0; i < squareSize; i++) {
-            double x = 1.0;
+            double x = 0;
             for (int j = 0; j < squareSize; j++) {
-                spaceElements[index] = new Coin(new Point2D.Double(x, y));
-                x = x + 2 * visualManager.getElementRelativeWidth(Coin.class);
-                index++;
+                addElement(chunk, Coin.class, x, y, 0);
+                x = x + 2 * gameSession.getElementRelativeWidth(Coin.class);
             }
             y = y + coinHeight;
         }
-        return spaceElements;
+        return chunk;
     }
 
-    private SpaceElement[] randomRocket() throws VisualNotSetException {
-        SpaceElement[] spaceElements = new SpaceElement[3];
-        double x = 1.0;
+    private WorldChunk.Builder randomRocket(WorldChunk.Builder chunk) throws VisualNotSetException {
+        double x = 0;
         for (int i = 0; i < 3; i++) {
-            spaceElements[i] = new Rocket(new Point2D.Double(x, Math.random() * (1.0 - visualManager.getElementRelativeHeight(Rocket.class))));
-            x = x + 2 * visualManager.getElementRelativeWidth(Rocket.class);
+            addElement(chunk, Rocket.class, x, gameRandom.nextDouble() * (1.0 - gameSession.getElementRelativeHeight(Rocket.class)), 0);
+            x = x + 2 * gameSession.getElementRelativeWidth(Rocket.class);
         }
-        return spaceElements;
+        return chunk;
     }
 
-    private SpaceElement[] coinArrow() throws VisualNotSetException {
-        double coinHeight = visualManager.getElementRelativeHeight(Coin.class);
-        double coinWidth = visualManager.getElementRelativeWidth(Coin.class);
-        double y = (Math.random() * (1.0 - 6 * coinHeight)) + 3 * coinHeight;
-        return new SpaceElement[]{new Coin(new Point2D.Double(1, y)), new Coin(new Point2D.Double(1 + 2 * coinWidth, y + coinHeight)),
-                new Coin(new Point2D.Double(1 + 2 * coinWidth, y - coinHeight)), new Coin(new Point2D.Double(1 + 4 * coinWidth, y + 2 * coinHeight)),
-                new Coin(new Point2D.Double(1 + 4 * coinWidth, y - 2 * coinHeight)), new Coin(new Point2D.Double(1 + 2 * coinWidth, y)),
-                new Coin(new Point2D.Double(1 + 4 * coinWidth, y)), new Coin(new Point2D.Double(1 + 6 * coinWidth, y)), new Coin(new Point2D.Double(1 + 8 * coinWidth, y))};
+    private WorldChunk.Builder coinArrow(WorldChunk.Builder chunk) throws VisualNotSetException {
+        double coinHeight = gameSession.getElementRelativeHeight(Coin.class);
+        double coinWidth = gameSession.getElementRelativeWidth(Coin.class);
+        double y = (gameRandom.nextDouble() * (1.0 - 6 * coinHeight)) + 3 * coinHeight;
+        addElement(chunk, Coin.class, 0, y, 0);
+        addElement(chunk, Coin.class, 2 * coinWidth, y + coinHeight, 0);
+        addElement(chunk, Coin.class, 2 * coinWidth, y - coinHeight, 0);
+        addElement(chunk, Coin.class, 4 * coinWidth, y + 2 * coinHeight, 0);
+        addElement(chunk, Coin.class, 4 * coinWidth, y - 2 * coinHeight, 0);
+        addElement(chunk, Coin.class, 2 * coinWidth, y, 0);
+        addElement(chunk, Coin.class, 4 * coinWidth, y, 0);
+        addElement(chunk, Coin.class, 6 * coinWidth, y, 0);
+        return addElement(chunk, Coin.class, 8 * coinWidth, y, 0);
     }
 }
@@ -0,0 +1,171 @@
+package ch.zhaw.it.pm3.spacerunner.domain.preset;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Coin;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Rocket;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.UFO;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool.SpaceElementPools;
+
+import java.util.Arrays;
+
+/**
+ * Immutable description of one piece of the world (the content of a preset) which is generated ahead of time.
+ * It contains the type and the offset of every element relative to the spawn position and the bounding extent of the
+ * elements, but no SpaceElements. The elements are only taken from the pools when the chunk is spawned, so chunks can
+ * wait in the lookahead of the WorldChunkStream without holding elements.
+ */
+public class WorldChunk {
+
+    private final PresetType presetType;
+    private final Class<? extends SpaceElement>[] types;
+    private final double[] offsetX;
+    private final double[] y;
+    private final double[] waveOffset;
+    private final double width;
+    private final double minY;
+    private final double maxY;
+
+    private WorldChunk(Builder builder) {
+        this.presetType = builder.presetType;
+        this.types = Arrays.copyOf(builder.types, builder.count);
+        this.offsetX = Arrays.copyOf(builder.offsetX, builder.count);
+        this.y = Arrays.copyOf(builder.y, builder.count);
+        this.waveOffset = Arrays.copyOf(builder.waveOffset, builder.count);
+        this.width = builder.width;
+        this.minY = builder.count == 0 ? 0 : builder.minY;
+        this.maxY = builder.count == 0 ? 0 : builder.maxY;
+    }
+
+    /**
+     * Takes the elements of the chunk from the pools and places them relative to the spawn position.
+     *
+     * @param spaceElementPools pools of the game. not null
+     * @param spawnX            relative x position of the left border of the chunk (1 is the right border of the screen)
+     * @return preset with the elements of the chunk
+     */
+    public Preset spawn(SpaceElementPools spaceElementPools, double spawnX) {
+        if (spaceElementPools == null) {
+            throw new IllegalArgumentException("spaceElementPools can not be null");
+        }
+        SpaceElement[] spaceElements = new SpaceElement[types.length];
+        for (int i = 0; i < types.length; i++) {
+            double x = spawnX + offsetX[i];
+            if (types[i] == Coin.class) {
+                spaceElements[i] = spaceElementPools.obtainCoin(x, y[i]);
+            } else if (types[i] == Rocket.class) {
+                spaceElements[i] = spaceElementPools.obtainRocket(x, y[i]);
+            } else if (types[i] == Asteroid.class) {
+                spaceElements[i] = spaceElementPools.obtainAsteroid(x, y[i]);
+            } else {
+                spaceElements[i] = spaceElementPools.obtainUFO(x, y[i], waveOffset[i]);
+            }
+        }
+        return new Preset(spaceElements);
+    }
+
+    public PresetType getPresetType() {
+        return presetType;
+    }
+
+    public int getElementCount() {
+        return types.length;
+    }
+
+    public Class<? extends SpaceElement> getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return relative x position of the element relative to the left border of the chunk
+     */
+    public double getOffsetX(int index) {
+        return offsetX[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @return relative width from the left border of the chunk to the right border of its rightmost element
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * @return relative y position of the top border of the highest element
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * @return relative y position of the bottom border of the lowest element
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Collects the elements of a chunk. Used by the RandomPresetGenerator.
+     */
+    static class Builder {
+
+        private final PresetType presetType;
+        @SuppressWarnings("unchecked")
+        private Class<? extends SpaceElement>[] types = (Class<? extends SpaceElement>[]) new Class<?>[8];
+        private double[] offsetX = new double[8];
+        private double[] y = new double[8];
+        private double[] waveOffset = new double[8];
+        private int count = 0;
+        private double width = 0;
+        private double minY = Double.MAX_VALUE;
+        private double maxY = -Double.MAX_VALUE;
+
+        Builder(PresetType presetType) {
+            this.presetType = presetType;
+        }
+
+        /**
+         * Adds an element to the chunk.
+         *
+         * @param type          Coin, Rocket, Asteroid or UFO
+         * @param offsetX       relative x position relative to the left border of the chunk
+         * @param y             relative y position
+         * @param waveOffset    wave offset of a UFO (see SpaceElementPools.obtainUFO), 0 for other types
+         * @param elementWidth  relative width of the element
+         * @param elementHeight relative height of the element
+         * @return this builder
+         */
+        Builder add(Class<? extends SpaceElement> type, double offsetX, double y, double waveOffset,
+                    double elementWidth, double elementHeight) {
+            if (type != Coin.class && type != Rocket.class && type != Asteroid.class && type != UFO.class) {
+                throw new IllegalArgumentException(type + " can not be part of a chunk");
+            }
+            if (count == types.length) {
+                int capacity = count * 2;
+                types = Arrays.copyOf(types, capacity);
+                this.offsetX = Arrays.copyOf(this.offsetX, capacity);
+                this.y = Arrays.copyOf(this.y, capacity);
+                this.waveOffset = Arrays.copyOf(this.waveOffset, capacity);
+            }
+            types[count] = type;
+            this.offsetX[count] = offsetX;
+            this.y[count] = y;
+            this.waveOffset[count] = waveOffset;
+            count++;
+
+            width = Math.max(width, offsetX + elementWidth);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y + elementHeight);
+            return this;
+        }
+
+        WorldChunk build() {
+            return new WorldChunk(this);
+        }
+    }
+}
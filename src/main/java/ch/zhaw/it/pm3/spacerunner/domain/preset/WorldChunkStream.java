@@ -0,0 +1,80 @@
+package ch.zhaw.it.pm3.spacerunner.domain.preset;
+
+import java.util.ArrayDeque;
+
+/**
+ * The world ahead of the spaceship as a stream of WorldChunks. The chunks are generated ahead of time into a bounded
+ * lookahead, so spawning a chunk only takes the next one instead of generating it in the same tick.
+ * <p>
+ * The stream is filled by produce(), which generates at most one chunk per call and is meant to be called on the
+ * ticks which don't spawn a chunk. It runs on the simulation thread and not on a thread of its own, because the chunks
+ * take their random numbers from the GameRandom of the session and have to be generated in the same order in a replay.
+ * The stream is not thread-safe.
+ */
+public class WorldChunkStream {
+
+    /**
+     * Maximal number of chunks which are generated ahead.
+     */
+    public static final int LOOKAHEAD_CHUNKS = 4;
+
+    private final RandomPresetGenerator presetGenerator;
+    private final ArrayDeque<WorldChunk> lookahead = new ArrayDeque<>(LOOKAHEAD_CHUNKS);
+
+    /**
+     * Creates an empty stream.
+     *
+     * @param presetGenerator generator of the chunks. not null
+     */
+    public WorldChunkStream(RandomPresetGenerator presetGenerator) {
+        if (presetGenerator == null) {
+            throw new IllegalArgumentException("presetGenerator can not be null");
+        }
+        this.presetGenerator = presetGenerator;
+    }
+
+    /**
+     * Generates the next chunk if the lookahead isn't full.
+     *
+     * @return true if a chunk was generated
+     */
+    public boolean produce() {
+        if (lookahead.size() >= LOOKAHEAD_CHUNKS) {
+            return false;
+        }
+        WorldChunk chunk = presetGenerator.getRandomChunk();
+        if (chunk == null) {
+            return false;
+        }
+        lookahead.addLast(chunk);
+        return true;
+    }
+
+    /**
+     * Takes the next chunk of the world. If the lookahead is empty (e.g. at the start), the chunk is generated now.
+     *
+     * @return next chunk or null if it couldn't be generated
+     */
+    public WorldChunk next() {
+        if (lookahead.isEmpty()) {
+            produce();
+        }
+        return lookahead.pollFirst();
+    }
+
+    /**
+     * Drops the chunks which were generated ahead, e.g. because their offsets were computed for another viewport.
+     * The following chunks are generated with the next random numbers, so a replay which clears at the same tick
+     * generates the same chunks.
+     */
+    public void clear() {
+        lookahead.clear();
+    }
+
+    /**
+     * @return number of chunks which are generated ahead at the moment
+     */
+    public int getLookaheadSize() {
+        return lookahead.size();
+    }
+}
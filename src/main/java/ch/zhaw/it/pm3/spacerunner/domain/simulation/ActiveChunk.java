@@ -0,0 +1,60 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElementStore;
+
+import java.util.function.Consumer;
+
+/**
+ * The elements of a chunk which was spawned into the game. The chunk is despawned as a whole when all its elements have
+ * moved past the left side of the screen.
+ * Elements which were removed on their own (e.g. collected coins) may already be used by another chunk again, so only
+ * the elements which are still stored with the id of this chunk belong to it.
+ */
+class ActiveChunk {
+
+    private final int id;
+    private final SpaceElement[] spaceElements;
+
+    ActiveChunk(int id, SpaceElement[] spaceElements) {
+        this.id = id;
+        this.spaceElements = spaceElements;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    /**
+     * @param elements store of the game
+     * @param minX     relative x position
+     * @return true if the right border of every element of the chunk is left of minX (or no element is left)
+     */
+    boolean isLeftOf(SpaceElementStore elements, double minX) {
+        for (SpaceElement spaceElement : spaceElements) {
+            if (elements.getChunk(spaceElement) == id && spaceElement.getRelativeX() + elements.getWidth(spaceElement) >= minX) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the remaining elements of the chunk from the store.
+     *
+     * @param elements        store of the game
+     * @param removedElements gets every removed element (e.g. to return it to a pool)
+     * @return number of removed elements
+     */
+    int despawn(SpaceElementStore elements, Consumer<SpaceElement> removedElements) {
+        int removed = 0;
+        for (SpaceElement spaceElement : spaceElements) {
+            if (elements.getChunk(spaceElement) == id) {
+                elements.remove(spaceElement);
+                removedElements.accept(spaceElement);
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
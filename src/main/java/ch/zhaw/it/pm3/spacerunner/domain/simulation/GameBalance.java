@@ -0,0 +1,118 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.preset.PresetType;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ActivatedPowerUpManager;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parameters of the game which are tuned for the balancing (speed, speed increase, power-up chance and the mix of the
+ * presets). The default values are the ones of the normal game. The class is immutable, the with-methods return a copy
+ * with the changed parameter.
+ */
+public class GameBalance {
+
+    /**
+     * Increase of the relative speed of all the elements per second.
+     */
+    public static final double DEFAULT_GAME_SPEED_INCREASE_PER_SECOND = 0.005;
+
+    private static final GameBalance DEFAULT = new GameBalance(1, DEFAULT_GAME_SPEED_INCREASE_PER_SECOND,
+            ActivatedPowerUpManager.GENERAL_POWER_UP_PROBABILITY, new EnumMap<>(PresetType.class));
+
+    private final double horizontalSpeedFactor;
+    private final double gameSpeedIncreasePerSecond;
+    private final int powerUpProbability;
+    private final Map<PresetType, Integer> presetWeights;
+
+    private GameBalance(double horizontalSpeedFactor, double gameSpeedIncreasePerSecond, int powerUpProbability, Map<PresetType, Integer> presetWeights) {
+        this.horizontalSpeedFactor = horizontalSpeedFactor;
+        this.gameSpeedIncreasePerSecond = gameSpeedIncreasePerSecond;
+        this.powerUpProbability = powerUpProbability;
+        this.presetWeights = presetWeights;
+    }
+
+    /**
+     * @return parameters of the normal game
+     */
+    public static GameBalance getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param horizontalSpeedFactor factor for all the HorizontalSpeeds. has to be greater than 0
+     * @return copy with the changed parameter
+     */
+    public GameBalance withHorizontalSpeedFactor(double horizontalSpeedFactor) {
+        if (horizontalSpeedFactor <= 0) {
+            throw new IllegalArgumentException("horizontalSpeedFactor has to be greater than 0");
+        }
+        return new GameBalance(horizontalSpeedFactor, gameSpeedIncreasePerSecond, powerUpProbability, presetWeights);
+    }
+
+    /**
+     * @param gameSpeedIncreasePerSecond increase of the relative speed per second. has to be 0 or greater
+     * @return copy with the changed parameter
+     */
+    public GameBalance withGameSpeedIncreasePerSecond(double gameSpeedIncreasePerSecond) {
+        if (gameSpeedIncreasePerSecond < 0) {
+            throw new IllegalArgumentException("gameSpeedIncreasePerSecond has to be 0 or greater");
+        }
+        return new GameBalance(horizontalSpeedFactor, gameSpeedIncreasePerSecond, powerUpProbability, presetWeights);
+    }
+
+    /**
+     * @param powerUpProbability chance in percent that a power-up is generated (0 - 100)
+     * @return copy with the changed parameter
+     */
+    public GameBalance withPowerUpProbability(int powerUpProbability) {
+        if (powerUpProbability < 0 || powerUpProbability > 100) {
+            throw new IllegalArgumentException("powerUpProbability has to be between 0 and 100");
+        }
+        return new GameBalance(horizontalSpeedFactor, gameSpeedIncreasePerSecond, powerUpProbability, presetWeights);
+    }
+
+    /**
+     * @param presetType type of the preset. not null
+     * @param weight     weight of the type (1 by default, 0 disables the type). has to be 0 or greater
+     * @return copy with the changed parameter
+     */
+    public GameBalance withPresetWeight(PresetType presetType, int weight) {
+        if (presetType == null) {
+            throw new IllegalArgumentException("presetType can not be null");
+        } else if (weight < 0) {
+            throw new IllegalArgumentException("weight has to be 0 or greater");
+        }
+        Map<PresetType, Integer> weights = new EnumMap<>(PresetType.class);
+        weights.putAll(presetWeights);
+        weights.put(presetType, weight);
+        return new GameBalance(horizontalSpeedFactor, gameSpeedIncreasePerSecond, powerUpProbability, weights);
+    }
+
+    public double getHorizontalSpeedFactor() {
+        return horizontalSpeedFactor;
+    }
+
+    public double getGameSpeedIncreasePerSecond() {
+        return gameSpeedIncreasePerSecond;
+    }
+
+    public int getPowerUpProbability() {
+        return powerUpProbability;
+    }
+
+    /**
+     * @return weights of the PresetTypes which differ from the default weight 1
+     */
+    public Map<PresetType, Integer> getPresetWeights() {
+        return Collections.unmodifiableMap(presetWeights);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("speed factor %.3f, speed increase %.4f/s, power-up probability %d%%, preset weights %s",
+                horizontalSpeedFactor, gameSpeedIncreasePerSecond, powerUpProbability, presetWeights);
+    }
+}
@@ -0,0 +1,17 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+/**
+ * Time source of the GameSimulation.
+ * Implemented as an interface so a simulation can run against the wall clock (SystemGameClock) or against a clock
+ * which is advanced manually (ManualGameClock) for headless runs and tests.
+ */
+public interface GameClock {
+
+    /**
+     * Returns the current time of the clock in nanoseconds.
+     * Only the difference between two values is meaningful (like System.nanoTime()).
+     *
+     * @return current time in nanoseconds
+     */
+    long nanoTime();
+}
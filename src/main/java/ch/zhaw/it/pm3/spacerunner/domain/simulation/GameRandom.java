@@ -0,0 +1,64 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeded random number generator of a game run. Every random decision of the simulation (presets, power-ups) is taken
+ * from the GameRandom of the run, so a run can be reproduced with the same seed.
+ * Implemented with SplitMix64, so the sequence of a seed is the same on every JVM.
+ */
+public class GameRandom {
+
+    private final long seed;
+    private long state;
+
+    /**
+     * Creates a generator with a random seed.
+     */
+    public GameRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a generator which returns the sequence of the specified seed.
+     *
+     * @param seed seed of the sequence
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return next random long
+     */
+    public long nextLong() {
+        state += 0x9E3779B97F4A7C15L;
+        long z = state;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return next random double between 0 (inclusive) and 1 (exclusive), like Math.random()
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @param bound upper bound (exclusive). has to be greater than 0
+     * @return next random int between 0 (inclusive) and bound (exclusive)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound has to be greater than 0");
+        }
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+}
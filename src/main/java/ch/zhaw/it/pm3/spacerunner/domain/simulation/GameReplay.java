@@ -0,0 +1,144 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Simulates a recorded run again without UI and without clock. The ticks run as fast as possible, so a replay takes a
+ * fraction of the time of the original run. With the same seed, viewport and input the replay reaches the same score,
+ * coins and collisions on the same ticks. The replay plays with the recorded space ship skin and upgrades in a profile
+ * in memory, so it doesn't depend on the current profile of the player.
+ * <p>
+ * The viewport of the VisualManager is set to the recorded one during the replay and restored afterwards. The
+ * dimensions of every recorded viewport are handed to the session of the replay, like the game does after a resize.
+ */
+public class GameReplay implements GameSimulationListener {
+
+    private final VisualManager visualManager = VisualManager.getManager();
+
+    private final InputRecording recording;
+    private final List<String> collisionEvents = new ArrayList<>();
+    private int currentTick = 0;
+
+    /**
+     * Creates a replay of the recording.
+     *
+     * @param recording recorded run. not null
+     */
+    public GameReplay(InputRecording recording) {
+        if (recording == null) {
+            throw new IllegalArgumentException("recording can not be null");
+        }
+        this.recording = recording;
+    }
+
+    /**
+     * Simulates all the recorded ticks.
+     *
+     * @return score, coins and collisions of the replay
+     */
+    public ReplayResult run() {
+        int originalWidth = visualManager.getWidth();
+        int originalHeight = visualManager.getHeight();
+        List<InputRecording.ViewportChange> viewportChanges = recording.getViewportChanges();
+        int nextViewportChange = 0;
+        collisionEvents.clear();
+
+        //the visuals of the start viewport have to be loaded before the simulation is initialized
+        if (!viewportChanges.isEmpty() && viewportChanges.get(0).getTick() == 0) {
+            setViewport(viewportChanges.get(0));
+            nextViewportChange++;
+        }
+
+        GameSimulation gameSimulation = new GameSimulation(new ManualGameClock(), new GameSession(new VelocityManager(),
+                recording.createPersistence(), recording.getSeed(), GameBalance.getDefault()));
+        gameSimulation.initialize();
+        gameSimulation.addListener(this);
+        try {
+            for (currentTick = 0; currentTick < recording.getTickCount(); currentTick++) {
+                while (nextViewportChange < viewportChanges.size() && viewportChanges.get(nextViewportChange).getTick() <= currentTick) {
+                    setViewport(viewportChanges.get(nextViewportChange++));
+                    gameSimulation.getGameSession().setElementDimensions(visualManager.getElementDimensions());
+                }
+                gameSimulation.tick(recording.isUpPressed(currentTick), recording.isDownPressed(currentTick));
+            }
+        } finally {
+            gameSimulation.removeListener(this);
+            gameSimulation.terminate();
+            if (visualManager.getWidth() != originalWidth || visualManager.getHeight() != originalHeight) {
+                visualManager.setViewport(originalWidth, originalHeight);
+            }
+        }
+
+        return new ReplayResult(gameSimulation.getScore(), gameSimulation.getCollectedCoins(), recording.getTickCount(), collisionEvents);
+    }
+
+    private void setViewport(InputRecording.ViewportChange viewportChange) {
+        if (visualManager.getWidth() != viewportChange.getWidth() || visualManager.getHeight() != viewportChange.getHeight()) {
+            visualManager.setViewport(viewportChange.getWidth(), viewportChange.getHeight());
+        }
+    }
+
+    @Override
+    public void coinCollected() {
+        collisionEvents.add(currentTick + " coin");
+    }
+
+    @Override
+    public void powerUpCollected() {
+        collisionEvents.add(currentTick + " power-up");
+    }
+
+    @Override
+    public void gameOver() {
+        collisionEvents.add(currentTick + " game over");
+    }
+
+    /**
+     * Outcome of a replay.
+     */
+    public static class ReplayResult {
+        private final int score;
+        private final int collectedCoins;
+        private final int tickCount;
+        private final List<String> collisionEvents;
+
+        private ReplayResult(int score, int collectedCoins, int tickCount, List<String> collisionEvents) {
+            this.score = score;
+            this.collectedCoins = collectedCoins;
+            this.tickCount = tickCount;
+            this.collisionEvents = Collections.unmodifiableList(new ArrayList<>(collisionEvents));
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public int getCollectedCoins() {
+            return collectedCoins;
+        }
+
+        public int getTickCount() {
+            return tickCount;
+        }
+
+        /**
+         * @return collisions in the order they happened, as "tick type" (e.g. "1250 coin")
+         */
+        public List<String> getCollisionEvents() {
+            return collisionEvents;
+        }
+
+        /**
+         * @param recording recording which was replayed
+         * @return true if the replay reached the score and the coins of the recorded run
+         */
+        public boolean matches(InputRecording recording) {
+            return score == recording.getScore() && collectedCoins == recording.getCollectedCoins();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the timed events of a game (power-up expiry, speed increase, power-up generation) on simulation ticks.
+ * Implemented as a hashed timing wheel: every task is put into the slot of its deadline tick, so a tick only looks at
+ * the tasks of one slot. Because the time only moves forward with tick(), the tasks pause together with the game and
+ * no timer thread is needed.
+ * <p>
+ * The scheduler is not thread-safe, it has to be used by the thread which runs the simulation.
+ */
+public class GameScheduler {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final long tickMillis;
+    private final List<List<ScheduledTask>> wheel = new ArrayList<>(WHEEL_SIZE);
+    //reused by every tick, so ticking doesn't create garbage
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
+
+    private long currentTick = 0;
+    private boolean processing = false;
+    private int pendingTasks = 0;
+
+    /**
+     * Creates a scheduler which moves forward by the specified time on every tick.
+     *
+     * @param tickMillis duration of one tick in milliseconds. has to be greater than 0
+     */
+    public GameScheduler(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis has to be greater than 0");
+        }
+        this.tickMillis = tickMillis;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Runs the task once after the delay. A delay of 0 runs the task on the next tick.
+     *
+     * @param task        task to run. not null
+     * @param delayMillis delay in milliseconds, rounded up to whole ticks
+     * @return handle to cancel the task
+     */
+    public ScheduledTask schedule(Runnable task, long delayMillis) {
+        return scheduleTask(task, delayMillis, 0);
+    }
+
+    /**
+     * Runs the task after the initial delay and then repeatedly with the period.
+     *
+     * @param task         task to run. not null
+     * @param initialDelay delay in milliseconds until the first run, rounded up to whole ticks
+     * @param period       time in milliseconds between two runs. has to be greater than 0
+     * @return handle to cancel the task
+     */
+    public ScheduledTask scheduleAtFixedRate(Runnable task, long initialDelay, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period has to be greater than 0");
+        }
+        return scheduleTask(task, initialDelay, toTicks(period));
+    }
+
+    private ScheduledTask scheduleTask(Runnable task, long delayMillis, long periodTicks) {
+        if (task == null) {
+            throw new IllegalArgumentException("task can not be null");
+        }
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("delayMillis has to be 0 or greater");
+        }
+
+        ScheduledTask scheduledTask = new ScheduledTask(task, periodTicks);
+        //the slot of the current tick is already taken while processing, so the task has to wait for the next one
+        long earliestTick = processing ? currentTick + 1 : currentTick;
+        insert(scheduledTask, Math.max(currentTick + toTicks(delayMillis), earliestTick));
+        return scheduledTask;
+    }
+
+    private void insert(ScheduledTask scheduledTask, long deadlineTick) {
+        scheduledTask.deadlineTick = deadlineTick;
+        wheel.get((int) (deadlineTick & WHEEL_MASK)).add(scheduledTask);
+        pendingTasks++;
+    }
+
+    private long toTicks(long millis) {
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+
+    /**
+     * Runs the tasks which are due on the current tick and moves the scheduler one tick forward.
+     * Tasks in the same slot whose deadline is in a later round of the wheel are kept.
+     */
+    public void tick() {
+        List<ScheduledTask> slot = wheel.get((int) (currentTick & WHEEL_MASK));
+        dueTasks.clear();
+        for (int i = slot.size() - 1; i >= 0; i--) {
+            ScheduledTask scheduledTask = slot.get(i);
+            if (scheduledTask.cancelled || scheduledTask.deadlineTick <= currentTick) {
+                slot.remove(i);
+                pendingTasks--;
+                if (!scheduledTask.cancelled) {
+                    dueTasks.add(scheduledTask);
+                }
+            }
+        }
+
+        processing = true;
+        try {
+            for (int i = dueTasks.size() - 1; i >= 0; i--) {
+                ScheduledTask scheduledTask = dueTasks.get(i);
+                scheduledTask.task.run();
+                if (scheduledTask.periodTicks > 0 && !scheduledTask.cancelled) {
+                    insert(scheduledTask, scheduledTask.deadlineTick + scheduledTask.periodTicks);
+                }
+            }
+        } finally {
+            processing = false;
+        }
+        currentTick++;
+    }
+
+    /**
+     * Cancels all the tasks, e.g. when the game is terminated.
+     */
+    public void cancelAll() {
+        for (List<ScheduledTask> slot : wheel) {
+            for (ScheduledTask scheduledTask : slot) {
+                scheduledTask.cancelled = true;
+            }
+            slot.clear();
+        }
+        pendingTasks = 0;
+    }
+
+    /**
+     * @return number of scheduled tasks (cancelled tasks are counted until their slot is reached)
+     */
+    public int getPendingTasks() {
+        return pendingTasks;
+    }
+
+    /**
+     * @return time in milliseconds which has passed on this scheduler
+     */
+    public long getCurrentMillis() {
+        return currentTick * tickMillis;
+    }
+
+    /**
+     * Handle of a task scheduled on the GameScheduler.
+     */
+    public static class ScheduledTask {
+        private final Runnable task;
+        private final long periodTicks;
+        private long deadlineTick;
+        private boolean cancelled = false;
+
+        private ScheduledTask(Runnable task, long periodTicks) {
+            this.task = task;
+            this.periodTicks = periodTicks;
+        }
+
+        /**
+         * Prevents the task from running (again).
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
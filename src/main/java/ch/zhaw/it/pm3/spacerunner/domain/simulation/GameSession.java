@@ -0,0 +1,170 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.preset.RandomPresetGenerator;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool.SpaceElementPools;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.ElementDimensions;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualElement;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Context of one game: velocities, element dimensions, persistence, random numbers, balancing parameters, the pools and
+ * the preset generator. The SpaceElements resolve their velocities and dimensions through the session they were
+ * created in, so games with their own sessions can run in one JVM at the same time without influencing each other.
+ * <p>
+ * Elements which are created without a session (e.g. in tests) belong to the default session, which uses the
+ * singletons (VelocityManager, JsonPersistenceUtil) and the current dimensions of the VisualManager.
+ * The visuals are loaded once for all sessions, but every other session keeps its own immutable snapshot of the
+ * element dimensions. The snapshot is taken when the session is created and only replaced by its game (see
+ * setElementDimensions), so a game which loads visuals or changes the viewport doesn't change the dimensions of the
+ * other games.
+ */
+public class GameSession {
+
+    private static final GameSession DEFAULT_SESSION = new GameSession(VelocityManager.getManager(), JsonPersistenceUtil.getUtil(),
+            ThreadLocalRandom.current().nextLong(), GameBalance.getDefault(), true);
+
+    private final VisualManager visualManager = VisualManager.getManager();
+
+    private final VelocityManager velocityManager;
+    private final Persistence persistence;
+    private final GameRandom gameRandom;
+    private final GameBalance gameBalance;
+    private final SpaceElementPools spaceElementPools;
+    private final RandomPresetGenerator presetGenerator;
+    //the default session follows the dimensions of the VisualManager instead of keeping a snapshot
+    private final boolean followsVisualManager;
+    private volatile ElementDimensions elementDimensions;
+
+    /**
+     * Creates a session for a normal game with its own velocities.
+     *
+     * @param seed seed of the GameRandom of the game
+     */
+    public GameSession(long seed) {
+        this(new VelocityManager(), JsonPersistenceUtil.getUtil(), seed, GameBalance.getDefault());
+    }
+
+    /**
+     * Creates a session.
+     *
+     * @param velocityManager velocities of the game. not null
+     * @param persistence     persistence with the player profile (e.g. for the upgrades). not null
+     * @param seed            seed of the GameRandom of the game
+     * @param gameBalance     balancing parameters of the game. not null
+     */
+    public GameSession(VelocityManager velocityManager, Persistence persistence, long seed, GameBalance gameBalance) {
+        this(velocityManager, persistence, seed, gameBalance, false);
+    }
+
+    private GameSession(VelocityManager velocityManager, Persistence persistence, long seed, GameBalance gameBalance,
+                        boolean followsVisualManager) {
+        if (velocityManager == null) {
+            throw new IllegalArgumentException("velocityManager can not be null");
+        } else if (persistence == null) {
+            throw new IllegalArgumentException("persistence can not be null");
+        } else if (gameBalance == null) {
+            throw new IllegalArgumentException("gameBalance can not be null");
+        }
+        this.velocityManager = velocityManager;
+        this.persistence = persistence;
+        this.gameRandom = new GameRandom(seed);
+        this.gameBalance = gameBalance;
+        this.spaceElementPools = new SpaceElementPools(this);
+        this.presetGenerator = new RandomPresetGenerator(this);
+        this.followsVisualManager = followsVisualManager;
+        this.elementDimensions = visualManager.getElementDimensions();
+    }
+
+    /**
+     * @return session of the elements which are created without a session
+     */
+    public static GameSession getDefault() {
+        return DEFAULT_SESSION;
+    }
+
+    public VelocityManager getVelocityManager() {
+        return velocityManager;
+    }
+
+    public VisualManager getVisualManager() {
+        return visualManager;
+    }
+
+    public Persistence getPersistence() {
+        return persistence;
+    }
+
+    public GameRandom getGameRandom() {
+        return gameRandom;
+    }
+
+    /**
+     * @return seed of the GameRandom of the game
+     */
+    public long getSeed() {
+        return gameRandom.getSeed();
+    }
+
+    public GameBalance getGameBalance() {
+        return gameBalance;
+    }
+
+    /**
+     * @return pools of the SpaceElements which are generated by the presets of this session
+     */
+    public SpaceElementPools getSpaceElementPools() {
+        return spaceElementPools;
+    }
+
+    public RandomPresetGenerator getPresetGenerator() {
+        return presetGenerator;
+    }
+
+    /**
+     * @return dimensions of the elements in this session
+     */
+    public ElementDimensions getElementDimensions() {
+        return followsVisualManager ? visualManager.getElementDimensions() : elementDimensions;
+    }
+
+    /**
+     * Replaces the dimensions of the elements in this session, e.g. with the dimensions of the VisualManager after the
+     * viewport of the game changed. The simulation of the session picks them up with its next tick.
+     *
+     * @param elementDimensions dimensions for the viewport of the game. not null
+     */
+    public void setElementDimensions(ElementDimensions elementDimensions) {
+        if (elementDimensions == null) {
+            throw new IllegalArgumentException("elementDimensions can not be null");
+        }
+        this.elementDimensions = elementDimensions;
+    }
+
+    /**
+     * Returns the width of the elements of the class relative to the width of the viewport.
+     *
+     * @param elementClass class to get the width of
+     * @return relative width
+     * @throws VisualNotSetException if no visual is set for the class
+     */
+    public double getElementRelativeWidth(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
+        return getElementDimensions().getRelativeWidth(elementClass);
+    }
+
+    /**
+     * Returns the height of the elements of the class relative to the height of the viewport.
+     *
+     * @param elementClass class to get the height of
+     * @return relative height
+     * @throws VisualNotSetException if no visual is set for the class
+     */
+    public double getElementRelativeHeight(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
+        return getElementDimensions().getRelativeHeight(elementClass);
+    }
+}
@@ -0,0 +1,636 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.preset.Preset;
+import ch.zhaw.it.pm3.spacerunner.domain.preset.WorldChunk;
+import ch.zhaw.it.pm3.spacerunner.domain.preset.WorldChunkStream;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.*;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.collision.CollisionGrid;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool.SpaceElementPools;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ActivatedPowerUpManager;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.PowerUp;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FramePhase;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FrameProfiler;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.ElementDimensions;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+
+import java.awt.geom.Point2D;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Headless core of the game logic. Moves the SpaceElements, detects collisions, generates presets and power-ups and
+ * speeds up the game. Everything runs on fixed simulation ticks of TICK_MILLIS, so a run does not depend on the
+ * frame rate or the wall clock and can be simulated faster than real time (no JavaFX needed).
+ * <p>
+ * The time is taken from the injected GameClock and accumulated; advance() runs as many ticks as fit into the
+ * accumulated time. Alternatively tick() can be called directly to step the simulation.
+ * <p>
+ * All the random decisions are taken from a GameRandom with the seed of the run and the input of every tick is
+ * recorded, so the run can be simulated again with a GameReplay.
+ * <p>
+ * The velocities, dimensions, random numbers and balancing parameters are taken from the GameSession of the game,
+ * so several simulations (e.g. balancing runs) can run in parallel without influencing each other.
+ * <p>
+ * The obstacles and coins come from a WorldChunkStream, which generates the chunks of the world ahead of time. A chunk
+ * is spawned when the previous one is on the screen and despawned as a whole when it has moved past the screen.
+ */
+public class GameSimulation {
+
+    private final Logger logger = Logger.getLogger(GameSimulation.class.getName());
+
+    private final VisualManager visualManager = VisualManager.getManager();
+    private final GameSession gameSession;
+    private final VelocityManager velocityManager;
+
+    /**
+     * Fixed duration of one simulation tick (125 ticks per second).
+     */
+    public static final long TICK_MILLIS = 8L;
+    private static final long TICK_NANOS = TICK_MILLIS * 1_000_000L;
+    //More elapsed time than this is dropped (e.g. after a hang), so the simulation doesn't have to catch up forever
+    private static final long MAX_ELAPSED_NANOS_PER_ADVANCE = 1_000_000_000L;
+
+    private static final long GAME_SPEED_INCREASE_PERIOD_TIME = 1000L;
+
+    private static final double BUFFER_DISTANCE_BETWEEN_PRESETS = 0.45;
+    //chunks are spawned at the right border of the screen
+    private static final double CHUNK_SPAWN_X = 1.0;
+
+    private static final long GENERAL_POWER_UP_COOLDOWN = 5000L;
+
+    private final GameClock gameClock;
+    private final GameRandom gameRandom;
+    private final InputRecording inputRecording;
+    private final GameBalance gameBalance;
+    private final GameScheduler gameScheduler = new GameScheduler(TICK_MILLIS);
+    private final FrameProfiler frameProfiler = new FrameProfiler("simulation");
+    private final Set<GameSimulationListener> gameSimulationListeners = new HashSet<>();
+
+    private ActivatedPowerUpManager activatedPowerUpManager;
+    private WorldChunkStream worldChunkStream;
+    private final ArrayDeque<ActiveChunk> activeChunks = new ArrayDeque<>();
+    private int nextChunkId = 0;
+    private SpaceWorld background;
+    private SpaceShip spaceShip;
+    //positions before the last tick, so the UI can interpolate
+    private double previousBackgroundX;
+    private double previousSpaceShipX;
+    private double previousSpaceShipY;
+    private final SpaceElementStore elements = new SpaceElementStore();
+    private final SpaceElementPools spaceElementPools;
+    private final CollisionGrid collisionGrid = new CollisionGrid();
+    private ElementDimensions elementDimensions = null;
+
+    private double remainingDistanceUntilNextPreset = 0.1;
+    private int collectedCoins = 0;
+    private int score = 0;
+    private boolean gameOver = false;
+    private Class<? extends SpaceElement> causeOfDeath = null;
+
+    private long simulatedMillis = 0;
+
+    private long accumulatedNanos = 0;
+    private long lastClockNanos = 0;
+    private boolean clockSynchronized = false;
+
+    /**
+     * Creates a simulation with a random seed which takes its time from the specified clock.
+     *
+     * @param gameClock time source for advance(). not null
+     */
+    public GameSimulation(GameClock gameClock) {
+        this(gameClock, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a simulation with its own GameSession which takes its time from the specified clock and its random
+     * numbers from a GameRandom with the specified seed.
+     *
+     * @param gameClock time source for advance(). not null
+     * @param seed      seed of the run
+     */
+    public GameSimulation(GameClock gameClock, long seed) {
+        this(gameClock, new GameSession(seed));
+    }
+
+    /**
+     * Creates a simulation in the specified session (e.g. with different balancing parameters).
+     *
+     * @param gameClock   time source for advance(). not null
+     * @param gameSession session of the game, which isn't shared with another running simulation. not null
+     */
+    public GameSimulation(GameClock gameClock, GameSession gameSession) {
+        if (gameClock == null) {
+            throw new IllegalArgumentException("gameClock can not be null");
+        } else if (gameSession == null) {
+            throw new IllegalArgumentException("gameSession can not be null");
+        }
+        this.gameClock = gameClock;
+        this.gameSession = gameSession;
+        this.gameRandom = gameSession.getGameRandom();
+        this.inputRecording = new InputRecording(gameSession.getSeed());
+        this.velocityManager = gameSession.getVelocityManager();
+        this.gameBalance = gameSession.getGameBalance();
+        this.spaceElementPools = gameSession.getSpaceElementPools();
+    }
+
+    /**
+     * Sets up velocities, visuals, the spaceship and the background for a new run.
+     * The session takes the dimensions of the loaded visuals as its own snapshot.
+     */
+    public void initialize() {
+        velocityManager.setupGameElementVelocity(gameBalance.getHorizontalSpeedFactor());
+        Persistence persistence = gameSession.getPersistence();
+        gameSession.setElementDimensions(visualManager.loadGameElementVisuals(persistence));
+        inputRecording.recordProfile(visualManager.getSpaceShipFile(persistence.loadProfile()),
+                persistence.hasPowerUpChanceMultiplierUpgrade(), persistence.hasDoubleDurationForCoinPowerUp());
+
+        activatedPowerUpManager = new ActivatedPowerUpManager(gameScheduler, gameSession);
+        worldChunkStream = new WorldChunkStream(gameSession.getPresetGenerator());
+
+        background = new SpaceWorld(new Point2D.Double(0, 0), gameSession);
+        spaceShip = new SpaceShip(new Point2D.Double(.05, 0.45), gameSession);
+        savePreviousPositions();
+
+        gameScheduler.scheduleAtFixedRate(this::increaseGameSpeed, 0, GAME_SPEED_INCREASE_PERIOD_TIME);
+        gameScheduler.scheduleAtFixedRate(this::generatePowerUp, 0, GENERAL_POWER_UP_COOLDOWN);
+    }
+
+    /**
+     * Cancels all the timed events of the run (e.g. running power-ups).
+     */
+    public void terminate() {
+        gameScheduler.cancelAll();
+    }
+
+    /**
+     * Runs as many ticks as fit into the time which elapsed on the GameClock since the last call.
+     * The remaining time (less than one tick) is kept for the next call.
+     *
+     * @param upPressed   Is true when the Up-Key was pressed, else false.
+     * @param downPressed Is true when the Down-Key was pressed, else false.
+     * @return number of ticks that were run
+     */
+    public int advance(boolean upPressed, boolean downPressed) {
+        long currentClockNanos = gameClock.nanoTime();
+        if (!clockSynchronized) {
+            lastClockNanos = currentClockNanos;
+            clockSynchronized = true;
+        }
+
+        accumulatedNanos += Math.min(currentClockNanos - lastClockNanos, MAX_ELAPSED_NANOS_PER_ADVANCE);
+        lastClockNanos = currentClockNanos;
+
+        int ticks = 0;
+        while (accumulatedNanos >= TICK_NANOS) {
+            tick(upPressed, downPressed);
+            accumulatedNanos -= TICK_NANOS;
+            ticks++;
+        }
+        frameProfiler.endFrame();
+        return ticks;
+    }
+
+    /**
+     * Drops the time which elapsed on the GameClock since the last advance (e.g. while the game was paused).
+     */
+    public void synchronizeClock() {
+        lastClockNanos = gameClock.nanoTime();
+        clockSynchronized = true;
+    }
+
+    /**
+     * Runs one simulation step of TICK_MILLIS.
+     * After the game is over the world keeps moving (chunks are still spawned and despawned), but the spaceship, the
+     * score, the timed events (GameScheduler) and the collisions are frozen.
+     *
+     * @param upPressed   Is true when the Up-Key was pressed, else false.
+     * @param downPressed Is true when the Down-Key was pressed, else false.
+     */
+    public void tick(boolean upPressed, boolean downPressed) {
+        updateDimensionsIfChanged();
+        inputRecording.recordInput(upPressed, downPressed);
+        long phaseStart = frameProfiler.begin();
+        savePreviousPositions();
+        if (!gameOver) {
+            gameScheduler.tick();
+            phaseStart = frameProfiler.end(FramePhase.TIMED_EVENTS, phaseStart);
+            moveSpaceShip(upPressed, downPressed);
+            updateHighScore();
+            phaseStart = frameProfiler.end(FramePhase.MOVE_SPACE_SHIP, phaseStart);
+            processCollision(detectCollision());
+            phaseStart = frameProfiler.end(FramePhase.DETECT_COLLISION, phaseStart);
+        }
+        generatePreset();
+        phaseStart = frameProfiler.end(FramePhase.GENERATE_PRESET, phaseStart);
+        moveElements();
+        removePastChunks();
+        frameProfiler.end(FramePhase.MOVE_ELEMENTS, phaseStart);
+
+        simulatedMillis += TICK_MILLIS;
+    }
+
+    private void savePreviousPositions() {
+        elements.savePreviousPositions();
+        previousBackgroundX = background.getRelativeX();
+        previousSpaceShipX = spaceShip.getRelativeX();
+        previousSpaceShipY = spaceShip.getRelativeY();
+    }
+
+    /**
+     * Speeds up the game. Runs every GAME_SPEED_INCREASE_PERIOD_TIME on the GameScheduler.
+     */
+    private void increaseGameSpeed() {
+        updateElementsSpeed();
+    }
+
+    /**
+     * Generates a power-up by chance. Runs every GENERAL_POWER_UP_COOLDOWN on the GameScheduler.
+     */
+    private void generatePowerUp() {
+        PowerUp powerUp = activatedPowerUpManager.generatePowerUps();
+        if (powerUp != null) {
+            addElement(powerUp);
+        }
+    }
+
+    private void updateElementsSpeed() {
+        double increase = gameBalance.getGameSpeedIncreasePerSecond();
+        velocityManager.accelerateAll(new Point2D.Double(-increase, increase));
+    }
+
+    /**
+     * Removes the chunks whose SpaceElements have all moved past the left side of the screen, so that their no longer
+     * visible on the UI. Runs on every tick, also after the game is over.
+     * All the chunks are checked, because the element types move at different speeds: a fast chunk can pass a slow
+     * chunk which was spawned before it.
+     */
+    private void removePastChunks() {
+        int count = 0;
+        Iterator<ActiveChunk> activeChunkIterator = activeChunks.iterator();
+        while (activeChunkIterator.hasNext()) {
+            ActiveChunk activeChunk = activeChunkIterator.next();
+            if (activeChunk.isLeftOf(elements, 0)) {
+                count += activeChunk.despawn(elements, spaceElementPools::release);
+                activeChunkIterator.remove();
+            }
+        }
+        if (count > 0 && logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, "removed {0} past drawables", count);
+            logger.log(Level.FINE, "space element pools: {0} hits, {1} misses", new Object[]{spaceElementPools.getHits(), spaceElementPools.getMisses()});
+        }
+    }
+
+    /**
+     * Adds the element as a chunk of its own (e.g. a power-up).
+     * Package-private, so benchmarks and tests can fill the game with a known number of elements.
+     *
+     * @param spaceElement element to add
+     */
+    void addElement(SpaceElement spaceElement) {
+        activateChunk(new SpaceElement[]{spaceElement});
+    }
+
+    /**
+     * Package-private, so tests can check the chunks which are generated ahead.
+     *
+     * @return stream of the chunks ahead of the spaceship
+     */
+    WorldChunkStream getWorldChunkStream() {
+        return worldChunkStream;
+    }
+
+    /**
+     * Inserts the elements of a chunk into the store at once and looks up the dimension of a type if it is the first
+     * one of its kind.
+     *
+     * @param spaceElements elements of the chunk
+     */
+    private void activateChunk(SpaceElement[] spaceElements) {
+        int chunkId = nextChunkId++;
+        elements.addAll(spaceElements, chunkId);
+        for (SpaceElement spaceElement : spaceElements) {
+            if (!elements.isDimensionSet(spaceElement.getClass())) {
+                updateDimension(spaceElement.getClass());
+            }
+        }
+        activeChunks.addLast(new ActiveChunk(chunkId, spaceElements));
+    }
+
+    /**
+     * The relative dimensions of the elements depend on the aspect ratio of the viewport,
+     * so they are looked up again when the session got a dimension table with other values.
+     * Every change is recorded as viewport change, so a replay changes the dimensions (and drops the lookahead) on the
+     * same tick. A table with the same values (e.g. the visuals were loaded again) changes nothing.
+     */
+    private void updateDimensionsIfChanged() {
+        ElementDimensions currentDimensions = gameSession.getElementDimensions();
+        if (currentDimensions == elementDimensions) {
+            return;
+        }
+        boolean changed = !currentDimensions.equals(elementDimensions);
+        elementDimensions = currentDimensions;
+        if (!changed) {
+            return;
+        }
+        inputRecording.recordViewport(currentDimensions.getViewportWidth(), currentDimensions.getViewportHeight());
+        for (Class<? extends SpaceElement> elementClass : elements.getTypes()) {
+            updateDimension(elementClass);
+        }
+        //the chunks generated ahead were laid out with the old dimensions
+        if (worldChunkStream != null) {
+            worldChunkStream.clear();
+        }
+    }
+
+    private void updateDimension(Class<? extends SpaceElement> elementClass) {
+        try {
+            elements.setDimension(elementClass,
+                    gameSession.getElementRelativeWidth(elementClass),
+                    gameSession.getElementRelativeHeight(elementClass));
+        } catch (VisualNotSetException e) {
+            logger.log(Level.SEVERE, "Visual for {0} wasn't set", elementClass);
+        }
+    }
+
+    /**
+     * Checks if movement keys are pressed & moves the spaceship accordingly.
+     */
+    private void moveSpaceShip(boolean upPressed, boolean downPressed) {
+        if (upPressed && !downPressed) {
+            spaceShip.moveSpaceShip(SpaceShipDirection.UP, TICK_MILLIS);
+        } else if (downPressed && !upPressed) {
+            spaceShip.moveSpaceShip(SpaceShipDirection.DOWN, TICK_MILLIS);
+        }
+    }
+
+    /**
+     * Increases the score by one point per 10 simulated milliseconds.
+     */
+    private void updateHighScore() {
+        score += (int) ((simulatedMillis + TICK_MILLIS) / 10 - simulatedMillis / 10);
+    }
+
+    /**
+     * Checks if Spaceship has collided with any other SpaceElement and performs the corresponding actions
+     *
+     * @return Returns the SpaceElement-Object with which the Spaceship collided.
+     */
+    private SpaceElement detectCollision() {
+        collisionGrid.clear();
+        for (int i = 0; i < elements.size(); i++) {
+            collisionGrid.add(elements.getElement(i), elements.getX(i), elements.getY(i), elements.getWidth(i), elements.getHeight(i));
+        }
+
+        try {
+            double spaceShipWidth = gameSession.getElementRelativeWidth(SpaceShip.class);
+            double spaceShipHeight = gameSession.getElementRelativeHeight(SpaceShip.class);
+            for (SpaceElement candidate : collisionGrid.getCandidates(spaceShip.getRelativeX(), spaceShip.getRelativeY(), spaceShipWidth, spaceShipHeight)) {
+                double width = elements.getWidth(candidate);
+                double height = elements.getHeight(candidate);
+                if (spaceShip.doesCollide(candidate, spaceShipWidth, spaceShipHeight, width, height)) {
+                    return candidate;
+                }
+            }
+        } catch (VisualNotSetException e) {
+            logger.log(Level.SEVERE, "Visual for {0} wasn't set", SpaceShip.class);
+        }
+        return null;
+    }
+
+    /**
+     * executes effects depending on type of spaceElement
+     *
+     * @param spaceElement The SpaceElements for example UFO, Asteroid, COIN, etc.
+     */
+    private void processCollision(SpaceElement spaceElement) {
+        if (spaceElement == null) {
+            return;
+        }
+
+        if (spaceElement instanceof Obstacle) {
+            collisionWithObstacle((Obstacle) spaceElement);
+        } else if (spaceElement instanceof Coin) {
+            collisionWithCoin((Coin) spaceElement);
+        } else if (spaceElement instanceof PowerUp) {
+            collisionWithPowerUp((PowerUp) spaceElement);
+        } else {
+            logger.log(Level.INFO, "Collision with unknown spaceElement");
+        }
+    }
+
+    /**
+     * Executes the logic when the spaceship collided with an obstacle.
+     *
+     * @param o Obstacle with which the spaceship collided.
+     */
+    private void collisionWithObstacle(Obstacle o) {
+        if (activatedPowerUpManager.hasShield()) {
+            elements.remove(o);
+            spaceElementPools.release(o);
+            activatedPowerUpManager.removeShield();
+        } else {
+            gameOver = true;
+            causeOfDeath = o.getClass();
+            gameSimulationListeners.forEach(GameSimulationListener::gameOver);
+        }
+    }
+
+    /**
+     * Executes the logic when the spaceship collides with Coin-Object.
+     *
+     * @param c A Coin-Object which the spaceship collects.
+     */
+    private void collisionWithCoin(Coin c) {
+        collectedCoins += 1 * Math.pow(2, activatedPowerUpManager.getCoinMultiplier());
+        score += 25 * Math.pow(2, activatedPowerUpManager.getCoinMultiplier());
+        elements.remove(c);
+        spaceElementPools.release(c);
+        gameSimulationListeners.forEach(GameSimulationListener::coinCollected);
+    }
+
+    private void collisionWithPowerUp(PowerUp p) {
+        activatedPowerUpManager.activatePowerUp(p);
+        elements.remove(p);
+        score += 50;
+        gameSimulationListeners.forEach(GameSimulationListener::powerUpCollected);
+    }
+
+    /**
+     * Spawns the next chunk offscreen when the previous one is on the screen. Its SpaceElements are meant to move left
+     * towards the spaceship. On the other ticks the lookahead of the WorldChunkStream is filled.
+     */
+    private void generatePreset() {
+        if (remainingDistanceUntilNextPreset < -BUFFER_DISTANCE_BETWEEN_PRESETS) {
+            WorldChunk worldChunk = worldChunkStream.next();
+            if (worldChunk == null) {
+                return;
+            }
+            Preset spawnedPreset = worldChunk.spawn(spaceElementPools, CHUNK_SPAWN_X);
+            activateChunk(spawnedPreset.getElementsInPreset());
+
+            remainingDistanceUntilNextPreset = spawnedPreset.getPresetTimeUntilOnScreen();
+        } else {
+            worldChunkStream.produce();
+        }
+    }
+
+    /**
+     * Moves all SpaceElements
+     */
+    private void moveElements() {
+        for (int i = 0; i < elements.size(); i++) {
+            elements.getElement(i).move(TICK_MILLIS);
+        }
+        background.move(TICK_MILLIS);
+        if (background.getRelativeX() > previousBackgroundX) {
+            //the background only moves to the left, so it has wrapped around. The previous position is moved along,
+            //so the interpolation doesn't run back over the whole period
+            try {
+                previousBackgroundX += background.getWrapPeriod();
+            } catch (VisualNotSetException e) {
+                previousBackgroundX = background.getRelativeX();
+            }
+        }
+        remainingDistanceUntilNextPreset -= TICK_MILLIS / 1000.0;
+    }
+
+    public ArrayList<SpaceElement> getGameElements() {
+        ArrayList<SpaceElement> dataToDisplay = new ArrayList<SpaceElement>(elements.size() + 2);
+        dataToDisplay.add(background);
+        elements.copyElementsTo(dataToDisplay);
+        dataToDisplay.add(spaceShip);
+        return dataToDisplay;
+    }
+
+    /**
+     * Writes the current state into the snapshot for the render thread: the elements in drawing order (the spaceship
+     * on top) with their positions before and after the last tick, the background, the score, the coins and the
+     * active power-ups.
+     *
+     * @param renderSnapshot snapshot to overwrite. not null
+     * @param paused         true if the game is paused
+     */
+    public void writeRenderSnapshot(RenderSnapshot renderSnapshot, boolean paused) {
+        if (renderSnapshot == null) {
+            throw new IllegalArgumentException("renderSnapshot can not be null");
+        }
+        renderSnapshot.clear();
+        for (int i = 0; i < elements.size(); i++) {
+            renderSnapshot.addElement(elements.getElement(i).getClass(), elements.getPreviousX(i), elements.getPreviousY(i),
+                    elements.getX(i), elements.getY(i));
+        }
+        renderSnapshot.addElement(spaceShip.getClass(), previousSpaceShipX, previousSpaceShipY,
+                spaceShip.getRelativeX(), spaceShip.getRelativeY());
+        renderSnapshot.setBackgroundX(previousBackgroundX, background.getRelativeX());
+        //the last tick is shown completely when the time which is left over in the accumulator has elapsed again
+        renderSnapshot.setInterpolation(lastClockNanos - accumulatedNanos, TICK_NANOS);
+        for (Class<? extends PowerUp> powerUpClass : activatedPowerUpManager.getActivePowerUps().keySet()) {
+            renderSnapshot.addActivePowerUp(powerUpClass);
+        }
+        renderSnapshot.setScore(score);
+        renderSnapshot.setCollectedCoins(collectedCoins);
+        renderSnapshot.setPaused(paused);
+        renderSnapshot.setGameOver(gameOver);
+    }
+
+    public int getCollectedCoins() {
+        return collectedCoins;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return type of the obstacle which ended the run or null if the game is not over
+     */
+    public Class<? extends SpaceElement> getCauseOfDeath() {
+        return causeOfDeath;
+    }
+
+    /**
+     * @return time in milliseconds which has been simulated so far
+     */
+    public long getSimulatedMillis() {
+        return simulatedMillis;
+    }
+
+    public Map<Class<? extends PowerUp>, PowerUp> getActivePowerUps() {
+        return activatedPowerUpManager.getActivePowerUps();
+    }
+
+    /**
+     * @return seed of the GameRandom of the run
+     */
+    public long getSeed() {
+        return gameSession.getSeed();
+    }
+
+    /**
+     * @return session of the game with its velocities, dimensions and random numbers
+     */
+    public GameSession getGameSession() {
+        return gameSession;
+    }
+
+    /**
+     * @return recording of the ticks simulated so far, with the current score and coins as result
+     */
+    public InputRecording getInputRecording() {
+        inputRecording.setResult(score, collectedCoins);
+        return inputRecording;
+    }
+
+    /**
+     * @return pools of the generated SpaceElements (e.g. for the hit and miss counters)
+     */
+    public SpaceElementPools getSpaceElementPools() {
+        return spaceElementPools;
+    }
+
+    /**
+     * @return profiler with the time spent in the phases of the ticks (a frame is one call of advance)
+     */
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
+    /**
+     * @return scheduler of the timed events, which moves forward with the simulation ticks
+     */
+    public GameScheduler getGameScheduler() {
+        return gameScheduler;
+    }
+
+    public SpaceShip getSpaceShip() {
+        return spaceShip;
+    }
+
+    /**
+     * Add Listener
+     *
+     * @param gameSimulationListener listener to add
+     */
+    public void addListener(GameSimulationListener gameSimulationListener) {
+        gameSimulationListeners.add(gameSimulationListener);
+    }
+
+    /**
+     * Remove Listener
+     *
+     * @param gameSimulationListener listener to remove
+     */
+    public void removeListener(GameSimulationListener gameSimulationListener) {
+        gameSimulationListeners.remove(gameSimulationListener);
+    }
+}
@@ -0,0 +1,23 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+/**
+ * Implement this interface to register to events of the GameSimulation.
+ * Used by the GameController to play sounds and persist the run, so the simulation itself stays headless.
+ */
+public interface GameSimulationListener {
+
+    /**
+     * Notifies when the spaceship collected a coin.
+     */
+    void coinCollected();
+
+    /**
+     * Notifies when the spaceship collected a power-up.
+     */
+    void powerUpCollected();
+
+    /**
+     * Notifies when the spaceship collided with an obstacle without a shield and the run is over.
+     */
+    void gameOver();
+}
@@ -0,0 +1,324 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.ContentId;
+import ch.zhaw.it.pm3.spacerunner.domain.ItemType;
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.ShopContent;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Input of a run, recorded per simulation tick together with the seed, the viewport and the parts of the profile which
+ * change the game (space ship skin and upgrades), which is all a GameReplay needs to simulate the run again. The score and the collected coins of the run are stored as well, so a replay can be
+ * compared with the original run.
+ * <p>
+ * In the file the inputs are run-length encoded (the keys stay the same for many ticks), so a run of ten minutes
+ * takes a few kilobytes.
+ */
+public class InputRecording {
+
+    private static final int MAGIC = 0x53524950; //"SRIP"
+    private static final int VERSION = 2;
+
+    private static final byte UP = 1;
+    private static final byte DOWN = 2;
+
+    private final long seed;
+    private final List<ViewportChange> viewportChanges = new ArrayList<>();
+    private VisualSVGFile spaceShipFile = VisualSVGFile.SPACE_SHIP_1;
+    private boolean powerUpChanceMultiplierUpgrade = false;
+    private boolean doubleDurationForCoinPowerUp = false;
+    private byte[] inputs = new byte[1024];
+    private int tickCount = 0;
+    private int score = 0;
+    private int collectedCoins = 0;
+
+    /**
+     * Creates an empty recording of a run with the specified seed.
+     *
+     * @param seed seed of the GameRandom of the run
+     */
+    public InputRecording(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Records the keys of the next tick.
+     */
+    void recordInput(boolean upPressed, boolean downPressed) {
+        if (tickCount == inputs.length) {
+            inputs = Arrays.copyOf(inputs, inputs.length * 2);
+        }
+        inputs[tickCount++] = (byte) ((upPressed ? UP : 0) | (downPressed ? DOWN : 0));
+    }
+
+    /**
+     * Records that the viewport changed before the next tick.
+     */
+    void recordViewport(int width, int height) {
+        viewportChanges.add(new ViewportChange(tickCount, width, height));
+    }
+
+    /**
+     * Records the parts of the profile which change the game.
+     */
+    void recordProfile(VisualSVGFile spaceShipFile, boolean powerUpChanceMultiplierUpgrade, boolean doubleDurationForCoinPowerUp) {
+        if (spaceShipFile == null) {
+            throw new IllegalArgumentException("spaceShipFile can not be null");
+        }
+        this.spaceShipFile = spaceShipFile;
+        this.powerUpChanceMultiplierUpgrade = powerUpChanceMultiplierUpgrade;
+        this.doubleDurationForCoinPowerUp = doubleDurationForCoinPowerUp;
+    }
+
+    void setResult(int score, int collectedCoins) {
+        this.score = score;
+        this.collectedCoins = collectedCoins;
+    }
+
+    /**
+     * Copies the recording, e.g. to write it on another thread while the game records further ticks.
+     *
+     * @return copy which doesn't change with the ticks recorded afterwards
+     */
+    public InputRecording copy() {
+        InputRecording copy = new InputRecording(seed);
+        copy.viewportChanges.addAll(viewportChanges);
+        copy.recordProfile(spaceShipFile, powerUpChanceMultiplierUpgrade, doubleDurationForCoinPowerUp);
+        copy.inputs = Arrays.copyOf(inputs, inputs.length);
+        copy.tickCount = tickCount;
+        copy.score = score;
+        copy.collectedCoins = collectedCoins;
+        return copy;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isUpPressed(int tick) {
+        return (getInput(tick) & UP) != 0;
+    }
+
+    public boolean isDownPressed(int tick) {
+        return (getInput(tick) & DOWN) != 0;
+    }
+
+    private byte getInput(int tick) {
+        if (tick < 0 || tick >= tickCount) {
+            throw new IndexOutOfBoundsException("tick " + tick + " was not recorded");
+        }
+        return inputs[tick];
+    }
+
+    /**
+     * @return viewport changes ordered by tick. the first change is the viewport at the start of the run
+     */
+    public List<ViewportChange> getViewportChanges() {
+        return Collections.unmodifiableList(viewportChanges);
+    }
+
+    /**
+     * @return space ship skin of the recorded run
+     */
+    public VisualSVGFile getSpaceShipFile() {
+        return spaceShipFile;
+    }
+
+    /**
+     * @return true if the power-up chance multiplier upgrade was active during the recorded run
+     */
+    public boolean hasPowerUpChanceMultiplierUpgrade() {
+        return powerUpChanceMultiplierUpgrade;
+    }
+
+    /**
+     * @return true if the double duration upgrade of the coin power-up was active during the recorded run
+     */
+    public boolean hasDoubleDurationForCoinPowerUp() {
+        return doubleDurationForCoinPowerUp;
+    }
+
+    /**
+     * Creates a persistence with a profile in memory which has the recorded space ship skin and upgrades active, so a
+     * replay doesn't depend on the current profile of the player.
+     *
+     * @return new persistence which never touches the disk
+     */
+    public Persistence createPersistence() {
+        PlayerProfile playerProfile = new PlayerProfile();
+        if (powerUpChanceMultiplierUpgrade) {
+            playerProfile.addContent(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+            playerProfile.activateContent(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+        }
+        if (doubleDurationForCoinPowerUp) {
+            playerProfile.addContent(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+            playerProfile.activateContent(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+        }
+        if (spaceShipFile != VisualSVGFile.SPACE_SHIP_1) {
+            Set<ShopContent> activeShopContent = new HashSet<>();
+            activeShopContent.add(new ShopContent(null, null, null, 0, spaceShipFile, ItemType.PLAYER_MODEL));
+            playerProfile.setActiveShopContent(activeShopContent);
+        }
+        return new InMemoryPersistenceUtil(playerProfile);
+    }
+
+    /**
+     * @return score of the recorded run
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return collected coins of the recorded run
+     */
+    public int getCollectedCoins() {
+        return collectedCoins;
+    }
+
+    /**
+     * Writes the recording to the file (existing files are overwritten).
+     *
+     * @param path file to write to. not null
+     * @throws IOException if the file can't be written
+     */
+    public void write(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path can not be null");
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeInt(score);
+            out.writeInt(collectedCoins);
+            out.writeInt(tickCount);
+            out.writeUTF(spaceShipFile.name());
+            out.writeBoolean(powerUpChanceMultiplierUpgrade);
+            out.writeBoolean(doubleDurationForCoinPowerUp);
+
+            writeVarInt(out, viewportChanges.size());
+            for (ViewportChange viewportChange : viewportChanges) {
+                writeVarInt(out, viewportChange.tick);
+                writeVarInt(out, viewportChange.width);
+                writeVarInt(out, viewportChange.height);
+            }
+
+            int runStart = 0;
+            for (int tick = 1; tick <= tickCount; tick++) {
+                if (tick == tickCount || inputs[tick] != inputs[runStart]) {
+                    out.writeByte(inputs[runStart]);
+                    writeVarInt(out, tick - runStart);
+                    runStart = tick;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a recording written with write.
+     *
+     * @param path file to read. not null
+     * @return the recording
+     * @throws IOException if the file can't be read or is not a valid recording
+     */
+    public static InputRecording read(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path can not be null");
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException(path + " is not a recording of this version");
+            }
+            InputRecording recording = new InputRecording(in.readLong());
+            recording.setResult(in.readInt(), in.readInt());
+            int tickCount = in.readInt();
+            String spaceShipName = in.readUTF();
+            try {
+                recording.recordProfile(VisualSVGFile.valueOf(spaceShipName), in.readBoolean(), in.readBoolean());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown space ship " + spaceShipName + " in " + path, e);
+            }
+
+            int viewportChangeCount = readVarInt(in);
+            for (int i = 0; i < viewportChangeCount; i++) {
+                recording.viewportChanges.add(new ViewportChange(readVarInt(in), readVarInt(in), readVarInt(in)));
+            }
+
+            recording.inputs = new byte[Math.max(tickCount, 1)];
+            while (recording.tickCount < tickCount) {
+                byte input = in.readByte();
+                int runLength = readVarInt(in);
+                if (runLength <= 0 || runLength > tickCount - recording.tickCount) {
+                    throw new IOException("Invalid run length " + runLength + " in " + path);
+                }
+                Arrays.fill(recording.inputs, recording.tickCount, recording.tickCount + runLength, input);
+                recording.tickCount += runLength;
+            }
+            return recording;
+        }
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid variable length int");
+    }
+
+    /**
+     * Viewport size from the specified tick on.
+     */
+    public static class ViewportChange {
+        private final int tick;
+        private final int width;
+        private final int height;
+
+        private ViewportChange(int tick, int width, int height) {
+            this.tick = tick;
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+/**
+ * GameClock which only moves forward when it is advanced manually.
+ * Used to run a GameSimulation independent of the wall clock (headless runs, tests).
+ */
+public class ManualGameClock implements GameClock {
+
+    private long currentNanoTime = 0;
+
+    @Override
+    public long nanoTime() {
+        return currentNanoTime;
+    }
+
+    /**
+     * Advances the clock by the specified time.
+     *
+     * @param millis time in milliseconds to advance the clock. has to be 0 or greater
+     */
+    public void advanceMillis(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("millis has to be 0 or greater");
+        }
+        currentNanoTime += millis * 1_000_000L;
+    }
+}
@@ -0,0 +1,246 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.PowerUp;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything the UI needs to draw one state of the game: the type and the position of every element in drawing order,
+ * the scroll position of the background and the content of the info bar.
+ * The GameSimulation writes the snapshot on the simulation thread and hands it over to the render thread with a
+ * TripleBuffer. The arrays are preallocated and reused by the next write, so publishing a state doesn't create garbage.
+ * After it was published the snapshot isn't changed until the reader has let go of it, so it can be read without locks.
+ * <p>
+ * Besides the positions after the last tick the snapshot contains the positions before it. The UI draws the elements
+ * between them with the interpolation factor of its frame (the part of the next tick which has elapsed), so the
+ * motion is smooth even if the frames don't line up with the ticks.
+ */
+public class RenderSnapshot {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Class<? extends SpaceElement>[] types = newTypeArray(INITIAL_CAPACITY);
+    private int[] typeOrdinals = new int[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private int elementCount = 0;
+
+    private double backgroundX;
+    private double previousBackgroundX;
+    private long interpolationStartNanos;
+    private long tickNanos = 1;
+    private int score;
+    private int collectedCoins;
+    private boolean paused;
+    private boolean gameOver;
+    private final List<Class<? extends PowerUp>> activePowerUps = new ArrayList<>();
+    private final List<Class<? extends PowerUp>> activePowerUpsView = Collections.unmodifiableList(activePowerUps);
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends SpaceElement>[] newTypeArray(int capacity) {
+        return (Class<? extends SpaceElement>[]) new Class<?>[capacity];
+    }
+
+    /**
+     * Removes the elements and the active power-ups before the snapshot is written again.
+     */
+    void clear() {
+        Arrays.fill(types, 0, elementCount, null);
+        elementCount = 0;
+        activePowerUps.clear();
+    }
+
+    /**
+     * Appends an element, it is drawn on top of the elements which were added before.
+     *
+     * @param type      class of the element
+     * @param previousX relative x position before the last tick
+     * @param previousY relative y position before the last tick
+     * @param x         relative x position
+     * @param y         relative y position
+     */
+    void addElement(Class<? extends SpaceElement> type, double previousX, double previousY, double x, double y) {
+        if (elementCount == types.length) {
+            int capacity = types.length * 2;
+            types = Arrays.copyOf(types, capacity);
+            typeOrdinals = Arrays.copyOf(typeOrdinals, capacity);
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.previousX = Arrays.copyOf(this.previousX, capacity);
+            this.previousY = Arrays.copyOf(this.previousY, capacity);
+        }
+        types[elementCount] = type;
+        typeOrdinals[elementCount] = VelocityManager.getTypeOrdinal(type);
+        this.x[elementCount] = x;
+        this.y[elementCount] = y;
+        this.previousX[elementCount] = previousX;
+        this.previousY[elementCount] = previousY;
+        elementCount++;
+    }
+
+    /**
+     * Sets the time at which the last tick is shown completely.
+     *
+     * @param interpolationStartNanos clock time in nanoseconds at which the interpolation factor is 0
+     * @param tickNanos               duration of a tick in nanoseconds, the factor reaches 1 after it
+     */
+    void setInterpolation(long interpolationStartNanos, long tickNanos) {
+        this.interpolationStartNanos = interpolationStartNanos;
+        this.tickNanos = tickNanos;
+    }
+
+    void addActivePowerUp(Class<? extends PowerUp> powerUpClass) {
+        activePowerUps.add(powerUpClass);
+    }
+
+    void setBackgroundX(double previousBackgroundX, double backgroundX) {
+        this.previousBackgroundX = previousBackgroundX;
+        this.backgroundX = backgroundX;
+    }
+
+    void setScore(int score) {
+        this.score = score;
+    }
+
+    void setCollectedCoins(int collectedCoins) {
+        this.collectedCoins = collectedCoins;
+    }
+
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    void setGameOver(boolean gameOver) {
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * @return number of elements (without the background)
+     */
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * @param index index of the element, 0 is drawn first
+     * @return class of the element, which selects its visual
+     */
+    public Class<? extends SpaceElement> getType(int index) {
+        checkIndex(index);
+        return types[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return type ordinal of the class of the element (see VelocityManager.getTypeOrdinal), e.g. to look up its visual
+     * in an array
+     */
+    public int getTypeOrdinal(int index) {
+        checkIndex(index);
+        return typeOrdinals[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return relative x position of the element
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return relative y position of the element
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    /**
+     * @param index               index of the element
+     * @param interpolationFactor 0 for the position before the last tick, 1 for the position after it
+     * @return relative x position of the element in between
+     */
+    public double getInterpolatedX(int index, double interpolationFactor) {
+        checkIndex(index);
+        return previousX[index] + (x[index] - previousX[index]) * interpolationFactor;
+    }
+
+    /**
+     * @param index               index of the element
+     * @param interpolationFactor 0 for the position before the last tick, 1 for the position after it
+     * @return relative y position of the element in between
+     */
+    public double getInterpolatedY(int index, double interpolationFactor) {
+        checkIndex(index);
+        return previousY[index] + (y[index] - previousY[index]) * interpolationFactor;
+    }
+
+    /**
+     * Computes which part of the next tick has elapsed at the specified time. While the game is paused nothing moves,
+     * so the positions after the last tick are shown.
+     *
+     * @param nanoTime current time of the clock which runs the simulation (System.nanoTime() for the wall clock)
+     * @return interpolation factor between 0 and 1
+     */
+    public double getInterpolationFactor(long nanoTime) {
+        if (paused) {
+            return 1;
+        }
+        double interpolationFactor = (nanoTime - interpolationStartNanos) / (double) tickNanos;
+        return Math.max(0, Math.min(1, interpolationFactor));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= elementCount) {
+            throw new IndexOutOfBoundsException("index " + index + " is out of bounds for " + elementCount + " elements");
+        }
+    }
+
+    /**
+     * @return relative x position of the background (SpaceWorld), which is its scroll position
+     */
+    public double getBackgroundX() {
+        return backgroundX;
+    }
+
+    /**
+     * @param interpolationFactor 0 for the position before the last tick, 1 for the position after it
+     * @return relative x position of the background in between
+     */
+    public double getInterpolatedBackgroundX(double interpolationFactor) {
+        return previousBackgroundX + (backgroundX - previousBackgroundX) * interpolationFactor;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCollectedCoins() {
+        return collectedCoins;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return classes of the active power-ups (read-only)
+     */
+    public List<Class<? extends PowerUp>> getActivePowerUps() {
+        return activePowerUpsView;
+    }
+}
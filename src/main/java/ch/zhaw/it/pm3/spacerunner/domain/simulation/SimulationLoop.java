@@ -0,0 +1,86 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a step of the game on a thread of its own at a fixed rate, so the simulation doesn't depend on the JavaFX pulse
+ * and the rendering doesn't wait for the simulation.
+ * The thread is a daemon, so a loop which wasn't stopped doesn't keep the application alive.
+ */
+public class SimulationLoop {
+
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private final Logger logger = Logger.getLogger(SimulationLoop.class.getName());
+
+    private final Runnable step;
+    private final long periodMillis;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a loop which isn't running yet.
+     *
+     * @param step         step which is run periodically. not null
+     * @param periodMillis time between the starts of two steps. has to be higher than 0 (positive)
+     */
+    public SimulationLoop(Runnable step, long periodMillis) {
+        if (step == null) {
+            throw new IllegalArgumentException("step can not be null");
+        } else if (periodMillis <= 0) {
+            throw new IllegalArgumentException("periodMillis has to be higher than 0");
+        }
+        this.step = step;
+        this.periodMillis = periodMillis;
+    }
+
+    /**
+     * Starts running the step on the simulation thread. Does nothing if the loop is already running.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::runStep, 0, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void runStep() {
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            //an exception would cancel the periodic run silently
+            logger.log(Level.SEVERE, "Simulation step failed", e);
+        }
+    }
+
+    /**
+     * Stops the loop and waits until a running step has finished, so the state of the step can be changed afterwards.
+     * Has to be called from another thread than the simulation thread.
+     */
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.log(Level.WARNING, "Simulation step didn't finish within {0} ms", STOP_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
@@ -0,0 +1,25 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+/**
+ * GameClock which uses the wall clock of the system (System.nanoTime()).
+ * Implemented with the singleton-pattern.
+ */
+public class SystemGameClock implements GameClock {
+
+    private static final SystemGameClock SYSTEM_GAME_CLOCK = new SystemGameClock();
+
+    /**
+     * private constructor for the singleton-pattern
+     */
+    private SystemGameClock() {
+    }
+
+    public static SystemGameClock getClock() {
+        return SYSTEM_GAME_CLOCK;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
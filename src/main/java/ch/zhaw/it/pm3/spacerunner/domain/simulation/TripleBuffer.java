@@ -0,0 +1,75 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free hand-over of the latest data from one writer thread to one reader thread with three preallocated buffers.
+ * The writer fills its write buffer and publishes it, the reader takes the latest published buffer. Publishing swaps
+ * the write buffer with the buffer in the middle and reading swaps the read buffer with the middle, so neither thread
+ * ever waits for the other and a buffer is never written while it is read.
+ * A buffer which was published but not read yet is overwritten by the next publish (the reader only gets the latest).
+ * <p>
+ * The write side has to be used by one thread and the read side by one (other) thread.
+ *
+ * @param <T> type of the buffers
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b11;
+    //set in the middle index if the middle buffer was published and not read yet
+    private static final int NEW_DATA = 0b100;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int writeIndex = 0;
+    private int readIndex = 2;
+    private boolean received = false;
+
+    /**
+     * Creates the three buffers.
+     *
+     * @param bufferFactory creates one buffer. not null
+     */
+    public TripleBuffer(Supplier<T> bufferFactory) {
+        if (bufferFactory == null) {
+            throw new IllegalArgumentException("bufferFactory can not be null");
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = bufferFactory.get();
+        }
+    }
+
+    /**
+     * @return buffer the writer may fill until it publishes it
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * Publishes the write buffer to the reader. Afterwards the writer gets another buffer to fill, which still contains
+     * older data.
+     */
+    public void publish() {
+        int previousMiddle = middle.getAndSet(writeIndex | NEW_DATA);
+        writeIndex = previousMiddle & INDEX_MASK;
+    }
+
+    /**
+     * Takes the latest published buffer. The buffer stays the reader's until the next call, so it can be read
+     * without copying.
+     *
+     * @return latest published buffer (the same as before if nothing new was published) or null if nothing was published yet
+     */
+    @SuppressWarnings("unchecked")
+    public T getLatest() {
+        if ((middle.get() & NEW_DATA) != 0) {
+            int previousMiddle = middle.getAndSet(readIndex);
+            readIndex = previousMiddle & INDEX_MASK;
+            received = true;
+        }
+        return received ? (T) buffers[readIndex] : null;
+    }
+}
@@ -0,0 +1,124 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameBalance;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Outcomes of all the games of a balancing run with their summary (means, percentiles and causes of death).
+ * Can be written as CSV (one line per game) or JSON (summary and games).
+ */
+public class BalancingReport {
+
+    private final GameBalance gameBalance;
+    private final List<GameOutcome> outcomes;
+
+    BalancingReport(GameBalance gameBalance, List<GameOutcome> outcomes) {
+        this.gameBalance = gameBalance;
+        this.outcomes = Collections.unmodifiableList(new ArrayList<>(outcomes));
+    }
+
+    public GameBalance getGameBalance() {
+        return gameBalance;
+    }
+
+    /**
+     * @return outcomes ordered by seed
+     */
+    public List<GameOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    public double getMeanScore() {
+        return outcomes.stream().mapToInt(GameOutcome::getScore).average().orElse(0);
+    }
+
+    public double getMeanCollectedCoins() {
+        return outcomes.stream().mapToInt(GameOutcome::getCollectedCoins).average().orElse(0);
+    }
+
+    public double getMeanSurvivalSeconds() {
+        return outcomes.stream().mapToLong(GameOutcome::getSurvivalMillis).average().orElse(0) / 1000;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100
+     * @return score which the specified percentage of the games didn't exceed
+     */
+    public int getScoreAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile has to be between 0 and 100");
+        }
+        if (outcomes.isEmpty()) {
+            return 0;
+        }
+        int[] scores = outcomes.stream().mapToInt(GameOutcome::getScore).sorted().toArray();
+        int rank = (int) Math.max(1, Math.ceil(percentile / 100 * scores.length));
+        return scores[rank - 1];
+    }
+
+    /**
+     * @return number of games per cause of death, the most frequent first
+     */
+    public Map<String, Long> getCausesOfDeath() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (GameOutcome outcome : outcomes) {
+            counts.merge(outcome.getCauseOfDeath(), 1L, Long::sum);
+        }
+        Map<String, Long> sortedCounts = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> sortedCounts.put(entry.getKey(), entry.getValue()));
+        return sortedCounts;
+    }
+
+    /**
+     * Writes one line per game with a header line.
+     *
+     * @param writer writer to write to. not null
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("seed,score,coins,survival_millis,cause_of_death\n");
+        for (GameOutcome outcome : outcomes) {
+            writer.write(String.format(Locale.ROOT, "%d,%d,%d,%d,%s%n", outcome.getSeed(), outcome.getScore(),
+                    outcome.getCollectedCoins(), outcome.getSurvivalMillis(), outcome.getCauseOfDeath()));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the balancing parameters, the summary and all the games as JSON.
+     *
+     * @param writer writer to write to. not null
+     * @throws IOException if writing fails
+     */
+    public void writeJson(Writer writer) throws IOException {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("games", outcomes.size());
+        summary.put("meanScore", getMeanScore());
+        summary.put("p50Score", getScoreAtPercentile(50));
+        summary.put("p90Score", getScoreAtPercentile(90));
+        summary.put("meanCoins", getMeanCollectedCoins());
+        summary.put("meanSurvivalSeconds", getMeanSurvivalSeconds());
+        summary.put("causesOfDeath", getCausesOfDeath());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("balance", gameBalance);
+        report.put("summary", summary);
+        report.put("games", outcomes);
+        new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+        writer.write(System.lineSeparator());
+        writer.flush();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d games, mean score %.0f (p50 %d, p90 %d), mean coins %.1f, mean survival %.1f s, deaths %s",
+                outcomes.size(), getMeanScore(), getScoreAtPercentile(50), getScoreAtPercentile(90),
+                getMeanCollectedCoins(), getMeanSurvivalSeconds(), getCausesOfDeath());
+    }
+}
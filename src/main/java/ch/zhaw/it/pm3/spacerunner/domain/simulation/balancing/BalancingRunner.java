@@ -0,0 +1,253 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.preset.PresetType;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameBalance;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.InputRecording;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.ManualGameClock;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Plays many headless games with the same balancing parameters in parallel (one game per core at a time) and collects
+ * their outcomes. Every game runs on its own GameSimulation with its own VelocityManager and seed, so the games don't
+ * influence each other and the same seeds give the same outcomes.
+ * <p>
+ * The games are played with a new profile in memory (no upgrades, default space ship), so the outcomes don't depend
+ * on the profile of the player. Every game keeps its own snapshot of the element dimensions of the viewport.
+ * <p>
+ * Can be started from the command line, see main.
+ */
+public class BalancingRunner {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: BalancingRunner [options]",
+            "  --games <n>                  number of games (default 100)",
+            "  --threads <n>                games in parallel (default number of cores)",
+            "  --seed <n>                   seed of the first game, the next games use the following seeds (default 1)",
+            "  --input bot|random|<file>    input of the games: dodging bot, random keys or a recorded run (default bot)",
+            "  --max-seconds <n>            simulated time after which a game counts as survived (default 300)",
+            "  --speed-factor <x>           factor for all the horizontal speeds (default 1)",
+            "  --speed-increase <x>         increase of the relative speed per second (default " + GameBalance.DEFAULT_GAME_SPEED_INCREASE_PER_SECOND + ")",
+            "  --power-up-probability <n>   chance in percent for a power-up (default " + GameBalance.getDefault().getPowerUpProbability() + ")",
+            "  --preset-weight <TYPE>=<n>   weight of a PresetType (default 1), can be repeated",
+            "  --viewport <w>x<h>           viewport of the games (default 1280x720)",
+            "  --format csv|json            format of the report (default csv)",
+            "  --output <file>              file for the report (default standard output)");
+
+    private final GameBalance gameBalance;
+    private final LongFunction<InputScript> inputScripts;
+    private final long maxMillis;
+    private final int parallelism;
+
+    /**
+     * Creates a runner.
+     *
+     * @param gameBalance  balancing parameters of all the games. not null
+     * @param inputScripts creates the InputScript of a game from its seed. not null
+     * @param maxMillis    simulated time after which a game is stopped and counts as survived. has to be greater than 0
+     * @param parallelism  number of games which run in parallel. has to be greater than 0
+     */
+    public BalancingRunner(GameBalance gameBalance, LongFunction<InputScript> inputScripts, long maxMillis, int parallelism) {
+        if (gameBalance == null) {
+            throw new IllegalArgumentException("gameBalance can not be null");
+        } else if (inputScripts == null) {
+            throw new IllegalArgumentException("inputScripts can not be null");
+        } else if (maxMillis <= 0) {
+            throw new IllegalArgumentException("maxMillis has to be greater than 0");
+        } else if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism has to be greater than 0");
+        }
+        this.gameBalance = gameBalance;
+        this.inputScripts = inputScripts;
+        this.maxMillis = maxMillis;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays the games with the seeds firstSeed to firstSeed + games - 1.
+     *
+     * @param games     number of games. has to be greater than 0
+     * @param firstSeed seed of the first game
+     * @return outcomes of the games ordered by seed
+     */
+    public BalancingReport run(int games, long firstSeed) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("games has to be greater than 0");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<GameOutcome> outcomes = pool.submit(() -> LongStream.range(firstSeed, firstSeed + games)
+                    .parallel()
+                    .mapToObj(this::playGame)
+                    .collect(Collectors.toList()))
+                    .get();
+            return new BalancingReport(gameBalance, outcomes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Balancing run was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game of the balancing run failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one game until it is over or the time limit is reached.
+     *
+     * @param seed seed of the game
+     * @return outcome of the game
+     */
+    GameOutcome playGame(long seed) {
+        GameSimulation gameSimulation = new GameSimulation(new ManualGameClock(),
+                new GameSession(new VelocityManager(), new InMemoryPersistenceUtil(new PlayerProfile()), seed, gameBalance));
+        gameSimulation.initialize();
+        InputScript inputScript = inputScripts.apply(seed);
+
+        long maxTicks = maxMillis / GameSimulation.TICK_MILLIS;
+        for (int tick = 0; tick < maxTicks && !gameSimulation.isGameOver(); tick++) {
+            InputAction action = inputScript.nextAction(gameSimulation, tick);
+            gameSimulation.tick(action.isUpPressed(), action.isDownPressed());
+        }
+        gameSimulation.terminate();
+
+        String causeOfDeath = gameSimulation.isGameOver() ? gameSimulation.getCauseOfDeath().getSimpleName() : GameOutcome.SURVIVED;
+        return new GameOutcome(seed, gameSimulation.getScore(), gameSimulation.getCollectedCoins(), gameSimulation.getSimulatedMillis(), causeOfDeath);
+    }
+
+    /**
+     * Runs the games with the options of the command line and writes the report (see USAGE).
+     * The summary is printed to the standard error, so the report can be piped.
+     *
+     * @param args options
+     */
+    public static void main(String[] args) {
+        int games = 100;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        String input = "bot";
+        long maxSeconds = 300;
+        int viewportWidth = 1280;
+        int viewportHeight = 720;
+        String format = "csv";
+        String output = null;
+        GameBalance gameBalance = GameBalance.getDefault();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value of " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--games":
+                        games = Integer.parseInt(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--input":
+                        input = value;
+                        break;
+                    case "--max-seconds":
+                        maxSeconds = Long.parseLong(value);
+                        break;
+                    case "--speed-factor":
+                        gameBalance = gameBalance.withHorizontalSpeedFactor(Double.parseDouble(value));
+                        break;
+                    case "--speed-increase":
+                        gameBalance = gameBalance.withGameSpeedIncreasePerSecond(Double.parseDouble(value));
+                        break;
+                    case "--power-up-probability":
+                        gameBalance = gameBalance.withPowerUpProbability(Integer.parseInt(value));
+                        break;
+                    case "--preset-weight":
+                        String[] weight = value.split("=");
+                        if (weight.length != 2) {
+                            throw new IllegalArgumentException("Preset weight has to be <TYPE>=<n>: " + value);
+                        }
+                        gameBalance = gameBalance.withPresetWeight(PresetType.valueOf(weight[0]), Integer.parseInt(weight[1]));
+                        break;
+                    case "--viewport":
+                        String[] viewport = value.split("x");
+                        if (viewport.length != 2) {
+                            throw new IllegalArgumentException("Viewport has to be <w>x<h>: " + value);
+                        }
+                        viewportWidth = Integer.parseInt(viewport[0]);
+                        viewportHeight = Integer.parseInt(viewport[1]);
+                        break;
+                    case "--format":
+                        if (!value.equals("csv") && !value.equals("json")) {
+                            throw new IllegalArgumentException("Unknown format " + value);
+                        }
+                        format = value;
+                        break;
+                    case "--output":
+                        output = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            LongFunction<InputScript> inputScripts = createInputScripts(input);
+            VisualManager.getManager().setViewport(viewportWidth, viewportHeight);
+
+            BalancingReport report = new BalancingRunner(gameBalance, inputScripts, maxSeconds * 1000, threads).run(games, seed);
+            try (Writer writer = output == null
+                    ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                    : Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+                if (format.equals("json")) {
+                    report.writeJson(writer);
+                } else {
+                    report.writeCsv(writer);
+                }
+            }
+            System.err.println(gameBalance);
+            System.err.println(report);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Report couldn't be written: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static LongFunction<InputScript> createInputScripts(String input) throws IOException {
+        switch (input) {
+            case "bot":
+                return seed -> new DodgingBot();
+            case "random":
+                return RandomInputScript::new;
+            default:
+                InputRecording recording = InputRecording.read(Path.of(input));
+                return seed -> new RecordedInputScript(recording);
+        }
+    }
+}
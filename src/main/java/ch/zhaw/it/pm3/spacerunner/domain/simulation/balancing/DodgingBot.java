@@ -0,0 +1,82 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Obstacle;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceShip;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Simple bot which dodges the nearest obstacle in front of the spaceship. It moves to the side of the obstacle with
+ * more room and stays put if nothing is in the way. It reacts on every tick, so it plays better than most players in
+ * the early game, but the increasing speed still catches it.
+ */
+public class DodgingBot implements InputScript {
+
+    private final Logger logger = Logger.getLogger(DodgingBot.class.getName());
+
+    //relative distance in front of the spaceship in which obstacles are dodged
+    private static final double LOOK_AHEAD = 0.35;
+    private static final double SAFETY_MARGIN = 0.02;
+
+    //the dimensions of a session don't change during a balancing run, so they are looked up once per type
+    private final Map<Class<? extends SpaceElement>, double[]> dimensions = new HashMap<>();
+
+    @Override
+    public InputAction nextAction(GameSimulation gameSimulation, int tick) {
+        try {
+            SpaceShip spaceShip = gameSimulation.getSpaceShip();
+            GameSession gameSession = gameSimulation.getGameSession();
+            double[] shipDimension = getDimension(gameSession, SpaceShip.class);
+            double shipX = spaceShip.getRelativeX();
+            double shipTop = spaceShip.getRelativeY() - SAFETY_MARGIN;
+            double shipBottom = spaceShip.getRelativeY() + shipDimension[1] + SAFETY_MARGIN;
+
+            SpaceElement threat = null;
+            double[] threatDimension = null;
+            for (SpaceElement spaceElement : gameSimulation.getGameElements()) {
+                if (!(spaceElement instanceof Obstacle)) {
+                    continue;
+                }
+                double[] dimension = getDimension(gameSession, spaceElement.getClass());
+                double x = spaceElement.getRelativeX();
+                double y = spaceElement.getRelativeY();
+                boolean ahead = x + dimension[0] >= shipX && x <= shipX + shipDimension[0] + LOOK_AHEAD;
+                boolean inLane = y < shipBottom && y + dimension[1] > shipTop;
+                if (ahead && inLane && (threat == null || x < threat.getRelativeX())) {
+                    threat = spaceElement;
+                    threatDimension = dimension;
+                }
+            }
+
+            if (threat == null) {
+                return InputAction.NONE;
+            }
+            double roomAbove = threat.getRelativeY();
+            double roomBelow = 1 - (threat.getRelativeY() + threatDimension[1]);
+            boolean shipAboveCenter = spaceShip.getRelativeY() + shipDimension[1] / 2 < threat.getRelativeY() + threatDimension[1] / 2;
+            if (roomAbove >= shipDimension[1] && (shipAboveCenter || roomBelow < shipDimension[1])) {
+                return InputAction.UP;
+            }
+            return InputAction.DOWN;
+        } catch (VisualNotSetException e) {
+            logger.log(Level.SEVERE, "Visual for the bot wasn't set");
+            return InputAction.NONE;
+        }
+    }
+
+    private double[] getDimension(GameSession gameSession, Class<? extends SpaceElement> elementClass) throws VisualNotSetException {
+        double[] dimension = dimensions.get(elementClass);
+        if (dimension == null) {
+            dimension = new double[]{gameSession.getElementRelativeWidth(elementClass), gameSession.getElementRelativeHeight(elementClass)};
+            dimensions.put(elementClass, dimension);
+        }
+        return dimension;
+    }
+}
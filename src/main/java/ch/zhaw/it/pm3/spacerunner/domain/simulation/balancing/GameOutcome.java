@@ -0,0 +1,52 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+/**
+ * Result of one game of a balancing run.
+ */
+public class GameOutcome {
+
+    /**
+     * Cause of death of the games which reached the time limit.
+     */
+    public static final String SURVIVED = "survived";
+
+    private final long seed;
+    private final int score;
+    private final int collectedCoins;
+    private final long survivalMillis;
+    private final String causeOfDeath;
+
+    GameOutcome(long seed, int score, int collectedCoins, long survivalMillis, String causeOfDeath) {
+        this.seed = seed;
+        this.score = score;
+        this.collectedCoins = collectedCoins;
+        this.survivalMillis = survivalMillis;
+        this.causeOfDeath = causeOfDeath;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCollectedCoins() {
+        return collectedCoins;
+    }
+
+    /**
+     * @return simulated time until the game was over (or until the time limit)
+     */
+    public long getSurvivalMillis() {
+        return survivalMillis;
+    }
+
+    /**
+     * @return simple name of the obstacle which ended the game or SURVIVED
+     */
+    public String getCauseOfDeath() {
+        return causeOfDeath;
+    }
+}
@@ -0,0 +1,26 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+/**
+ * Keys which are pressed during a simulation tick.
+ */
+public enum InputAction {
+    NONE(false, false),
+    UP(true, false),
+    DOWN(false, true);
+
+    private final boolean upPressed;
+    private final boolean downPressed;
+
+    InputAction(boolean upPressed, boolean downPressed) {
+        this.upPressed = upPressed;
+        this.downPressed = downPressed;
+    }
+
+    public boolean isUpPressed() {
+        return upPressed;
+    }
+
+    public boolean isDownPressed() {
+        return downPressed;
+    }
+}
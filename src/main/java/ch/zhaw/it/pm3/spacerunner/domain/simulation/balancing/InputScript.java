@@ -0,0 +1,18 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
+
+/**
+ * Plays a headless game instead of a player. Every game of a balancing run gets its own InputScript.
+ */
+public interface InputScript {
+
+    /**
+     * Decides which keys are pressed during the next tick.
+     *
+     * @param gameSimulation game which is played
+     * @param tick           number of the next tick, starting with 0
+     * @return keys to press
+     */
+    InputAction nextAction(GameSimulation gameSimulation, int tick);
+}
@@ -0,0 +1,35 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameRandom;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
+
+/**
+ * Presses random keys, each for a random number of ticks (like a player who doesn't look at the screen).
+ * Gives the lower bound of the balancing: the score which is reached without any skill.
+ */
+public class RandomInputScript implements InputScript {
+
+    private static final int MIN_HOLD_TICKS = 10;
+    private static final int MAX_HOLD_TICKS = 100;
+
+    private final GameRandom gameRandom;
+    private InputAction currentAction = InputAction.NONE;
+    private int remainingTicks = 0;
+
+    /**
+     * @param seed seed of the random keys
+     */
+    public RandomInputScript(long seed) {
+        gameRandom = new GameRandom(seed);
+    }
+
+    @Override
+    public InputAction nextAction(GameSimulation gameSimulation, int tick) {
+        if (remainingTicks == 0) {
+            currentAction = InputAction.values()[gameRandom.nextInt(InputAction.values().length)];
+            remainingTicks = MIN_HOLD_TICKS + gameRandom.nextInt(MAX_HOLD_TICKS - MIN_HOLD_TICKS + 1);
+        }
+        remainingTicks--;
+        return currentAction;
+    }
+}
@@ -0,0 +1,37 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.InputRecording;
+
+/**
+ * Presses the keys of a recorded run. After the end of the recording no keys are pressed.
+ * With other seeds or balancing parameters the recorded keys are played against a different game, which shows how a
+ * real player's input holds up.
+ */
+public class RecordedInputScript implements InputScript {
+
+    private final InputRecording recording;
+
+    /**
+     * @param recording recorded run. not null
+     */
+    public RecordedInputScript(InputRecording recording) {
+        if (recording == null) {
+            throw new IllegalArgumentException("recording can not be null");
+        }
+        this.recording = recording;
+    }
+
+    @Override
+    public InputAction nextAction(GameSimulation gameSimulation, int tick) {
+        if (tick >= recording.getTickCount()) {
+            return InputAction.NONE;
+        }
+        boolean upPressed = recording.isUpPressed(tick);
+        boolean downPressed = recording.isDownPressed(tick);
+        if (upPressed == downPressed) {
+            return InputAction.NONE;
+        }
+        return upPressed ? InputAction.UP : InputAction.DOWN;
+    }
+}
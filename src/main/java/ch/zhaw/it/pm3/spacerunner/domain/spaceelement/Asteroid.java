@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+
 import java.awt.geom.Point2D;
 
 /**
@@ -18,4 +20,14 @@ public class Asteroid extends Obstacle {
         super(startPosition);
     }
 
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the Asteroid
+     * @param gameSession   The session of the game the Asteroid is part of
+     */
+    public Asteroid(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
 }
@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+
 import java.awt.geom.Point2D;
 
 /**
@@ -19,4 +21,14 @@ public class Coin extends SpaceElement {
         super(startPosition);
     }
 
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the Coin
+     * @param gameSession   The session of the game the Coin is part of
+     */
+    public Coin(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
 }
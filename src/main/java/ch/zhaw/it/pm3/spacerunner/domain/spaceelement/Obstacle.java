@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+
 import java.awt.geom.Point2D;
 
 /**
@@ -17,4 +19,14 @@ public abstract class Obstacle extends SpaceElement {
     public Obstacle(Point2D.Double startPosition) {
         super(startPosition);
     }
+
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the Obstacle
+     * @param gameSession   The session of the game the Obstacle is part of
+     */
+    public Obstacle(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
 }
@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+
 import java.awt.geom.Point2D;
 
 /**
@@ -17,4 +19,14 @@ public class Rocket extends Obstacle {
     public Rocket(Point2D.Double startPosition) {
         super(startPosition);
     }
+
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the Rocket
+     * @param gameSession   The session of the game the Rocket is part of
+     */
+    public Rocket(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
 }
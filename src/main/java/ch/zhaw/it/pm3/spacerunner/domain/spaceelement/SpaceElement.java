@@ -1,9 +1,10 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityNotSetException;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityTable;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualElement;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
 import java.awt.geom.Point2D;
@@ -13,16 +14,26 @@ import java.util.logging.Logger;
 /**
  * SpaceElement is the superclass to all Elements in the game (including SpaceShip, Coin, SpaceWorld and Obstacles)
  * It contains the code for initialization, movement and collision of these Elements.
+ * The velocities and dimensions are resolved through the GameSession of the game the element is part of.
  *
  * @author nachbric
  */
 public abstract class SpaceElement implements VisualElement {
 
-    private final Logger logger = Logger.getLogger(SpaceElement.class.getName());
+    private static final Logger logger = Logger.getLogger(SpaceElement.class.getName());
 
-    private final VisualManager visualManager = VisualManager.getManager();
-    private final VelocityManager velocityManager = VelocityManager.getManager();
-    private Point2D.Double position = new Point2D.Double(0, 0);
+
+    //position while the element is not in a SpaceElementStore
+    private double x;
+    private double y;
+
+    //set by the SpaceElementStore which holds the position while the element is in it
+    SpaceElementStore store;
+    int index = -1;
+
+    //index of the class in the VelocityTable, looked up once instead of for every move
+    private final int velocityOrdinal = VelocityManager.getTypeOrdinal(getClass());
+    private final GameSession gameSession;
 
     /**
      * Initializes the variable position.
@@ -30,7 +41,22 @@ public abstract class SpaceElement implements VisualElement {
      * @param startPosition The starting position of the element
      */
     public SpaceElement(Point2D.Double startPosition) {
-        this.position = startPosition;
+        this(startPosition, GameSession.getDefault());
+    }
+
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the element
+     * @param gameSession   The session of the game the element is part of. not null
+     */
+    public SpaceElement(Point2D.Double startPosition, GameSession gameSession) {
+        if (gameSession == null) {
+            throw new IllegalArgumentException("gameSession can not be null");
+        }
+        this.x = startPosition.x;
+        this.y = startPosition.y;
+        this.gameSession = gameSession;
     }
 
     /**
@@ -40,22 +66,70 @@ public abstract class SpaceElement implements VisualElement {
      *                     If timeInMillis is larger the element will be moved a larger distance to prevent element movement from changing at different framerates.
      */
     public void move(long timeInMillis) {
-        Point2D.Double velocity = null;
+        VelocityTable velocities = getVelocityTable();
+        double seconds = timeInMillis / 1000.0;
+        setRelativePosition(getRelativeX() + seconds * velocities.getX(velocityOrdinal), getRelativeY() + seconds * velocities.getY(velocityOrdinal));
+    }
+
+    /**
+     * @return The velocity of this type of element or null if it wasn't set.
+     */
+    protected Point2D.Double getRelativeVelocity() {
         try {
-            velocity = velocityManager.getRelativeVelocity(this.getClass());
+            return gameSession.getVelocityManager().getRelativeVelocity(this.getClass());
         } catch (VelocityNotSetException e) {
             logger.log(Level.SEVERE, "Velocity for {0} wasn't set", this.getClass());
+            return null;
         }
+    }
 
-        position.x += (timeInMillis / 1000.0) * velocity.x;
-        position.y += (timeInMillis / 1000.0) * velocity.y;
+    /**
+     * Gets the current velocities without locking or allocating. Read the velocity of this element with getVelocityOrdinal().
+     *
+     * @return The current velocity table. If the velocity of this type of element wasn't set, its velocity in the table is 0.
+     */
+    protected VelocityTable getVelocityTable() {
+        VelocityTable velocities = gameSession.getVelocityManager().getVelocityTable();
+        if (!velocities.isSet(velocityOrdinal)) {
+            logger.log(Level.SEVERE, "Velocity for {0} wasn't set", this.getClass());
+        }
+        return velocities;
+    }
+
+    /**
+     * @return The session of the game the element is part of.
+     */
+    public GameSession getGameSession() {
+        return gameSession;
+    }
+
+    /**
+     * @return The index of this type of element in the VelocityTable.
+     */
+    protected int getVelocityOrdinal() {
+        return velocityOrdinal;
     }
 
     /**
      * @return The position of the element in relation to the height and width of the game-screen.
+     * The returned point is a copy; use setRelativePosition to change the position.
      */
     public Point2D.Double getRelativePosition() {
-        return position;
+        return new Point2D.Double(getRelativeX(), getRelativeY());
+    }
+
+    /**
+     * @return The x position of the element in relation to the width of the game-screen.
+     */
+    public double getRelativeX() {
+        return store == null ? x : store.getX(index);
+    }
+
+    /**
+     * @return The y position of the element in relation to the height of the game-screen.
+     */
+    public double getRelativeY() {
+        return store == null ? y : store.getY(index);
     }
 
     /**
@@ -64,21 +138,30 @@ public abstract class SpaceElement implements VisualElement {
      * @param position The position of the element in relation to the height and width of the game-screen.
      */
     public void setRelativePosition(Point2D.Double position) {
-        this.position = position;
+        setRelativePosition(position.x, position.y);
     }
 
     /**
-     * @return Returns the relative position where the SpaceElement will be after one move(1000) (1 second of movement).
+     * Sets the position of the element.
+     *
+     * @param x The x position of the element in relation to the width of the game-screen.
+     * @param y The y position of the element in relation to the height of the game-screen.
      */
-    public Point2D.Double getNextPosition() {
-        Point2D.Double velocity = null;
-        try {
-            velocity = velocityManager.getRelativeVelocity(this.getClass());
-        } catch (VelocityNotSetException e) {
-            logger.log(Level.SEVERE, "Velocity for {0} wasn't set");
+    public void setRelativePosition(double x, double y) {
+        if (store == null) {
+            this.x = x;
+            this.y = y;
+        } else {
+            store.setPosition(index, x, y);
         }
+    }
 
-        return new Point2D.Double(position.x + velocity.x, position.y + velocity.y);
+    /**
+     * @return Returns the relative position where the SpaceElement will be after one move(1000) (1 second of movement).
+     */
+    public Point2D.Double getNextPosition() {
+        VelocityTable velocities = getVelocityTable();
+        return new Point2D.Double(getRelativeX() + velocities.getX(velocityOrdinal), getRelativeY() + velocities.getY(velocityOrdinal));
     }
 
 
@@ -90,14 +173,12 @@ public abstract class SpaceElement implements VisualElement {
      */
     public boolean doesCollide(SpaceElement s) {
         try {
-            return pointInObject(s.getRelativePosition().x, s.getRelativePosition().y, this)
-                    || pointInObject(s.getRelativePosition().x, s.getRelativePosition().y + visualManager.getElementRelativeHeight(s.getClass()), this)
-                    || pointInObject(s.getRelativePosition().x + visualManager.getElementRelativeWidth(s.getClass()), s.getRelativePosition().y, this)
-                    || pointInObject(s.getRelativePosition().x + visualManager.getElementRelativeWidth(s.getClass()), s.getRelativePosition().y + visualManager.getElementRelativeHeight(s.getClass()), this)
-                    || pointInObject(position.x, position.y, s)
-                    || pointInObject(position.x, position.y + visualManager.getElementRelativeHeight(this.getClass()), s)
-                    || pointInObject(position.x + visualManager.getElementRelativeWidth(this.getClass()), position.y, s)
-                    || pointInObject(position.x + visualManager.getElementRelativeWidth(this.getClass()), position.y + visualManager.getElementRelativeHeight(this.getClass()), s);
+            //the dimensions are looked up once instead of for every corner
+            double width = gameSession.getElementRelativeWidth(this.getClass());
+            double height = gameSession.getElementRelativeHeight(this.getClass());
+            double otherWidth = gameSession.getElementRelativeWidth(s.getClass());
+            double otherHeight = gameSession.getElementRelativeHeight(s.getClass());
+            return doesCollide(s, width, height, otherWidth, otherHeight);
         } catch (VisualNotSetException e) {
             logger.log(Level.SEVERE, "Visual for {0} wasn't set", this.getClass());
             return true;
@@ -105,22 +186,45 @@ public abstract class SpaceElement implements VisualElement {
     }
 
     /**
-     * Determines if a point is within the a SpaceElement.
+     * Determines whether the SpaceElement is currently colliding with another SpaceElement whose dimensions are already known.
+     *
+     * @param s           The other SpaceElement
+     * @param width       The relative width of this SpaceElement
+     * @param height      The relative height of this SpaceElement
+     * @param otherWidth  The relative width of the other SpaceElement
+     * @param otherHeight The relative height of the other SpaceElement
+     * @return True if the two SpaceElements are colliding
+     */
+    public boolean doesCollide(SpaceElement s, double width, double height, double otherWidth, double otherHeight) {
+        double ownX = getRelativeX();
+        double ownY = getRelativeY();
+        double otherX = s.getRelativeX();
+        double otherY = s.getRelativeY();
+        return pointInObject(otherX, otherY, ownX, ownY, width, height)
+                || pointInObject(otherX, otherY + otherHeight, ownX, ownY, width, height)
+                || pointInObject(otherX + otherWidth, otherY, ownX, ownY, width, height)
+                || pointInObject(otherX + otherWidth, otherY + otherHeight, ownX, ownY, width, height)
+                || pointInObject(ownX, ownY, otherX, otherY, otherWidth, otherHeight)
+                || pointInObject(ownX, ownY + height, otherX, otherY, otherWidth, otherHeight)
+                || pointInObject(ownX + width, ownY, otherX, otherY, otherWidth, otherHeight)
+                || pointInObject(ownX + width, ownY + height, otherX, otherY, otherWidth, otherHeight);
+    }
+
+    /**
+     * Determines if a point is within the bounds of a SpaceElement.
      *
-     * @param x The X value of the point
-     * @param y The Y value of the point
-     * @param s The SpaceElement
+     * @param x       The X value of the point
+     * @param y       The Y value of the point
+     * @param objectX The relative x position of the SpaceElement
+     * @param objectY The relative y position of the SpaceElement
+     * @param width   The relative width of the SpaceElement
+     * @param height  The relative height of the SpaceElement
      * @return True if the points is within the SpaceElement.
      */
-    private boolean pointInObject(double x, double y, SpaceElement s) {
-        try {
-            return x >= s.getRelativePosition().x
-                    && x <= s.getRelativePosition().x + visualManager.getElementRelativeWidth(s.getClass())
-                    && y >= s.getRelativePosition().y
-                    && y <= s.getRelativePosition().y + visualManager.getElementRelativeHeight(s.getClass());
-        } catch (VisualNotSetException e) {
-            logger.log(Level.SEVERE, "Visual for {0} wasn't set", this.getClass());
-            return false;
-        }
+    private boolean pointInObject(double x, double y, double objectX, double objectY, double width, double height) {
+        return x >= objectX
+                && x <= objectX + width
+                && y >= objectY
+                && y <= objectY + height;
     }
 }
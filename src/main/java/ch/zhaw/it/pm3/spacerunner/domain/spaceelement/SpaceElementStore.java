@@ -0,0 +1,340 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores the data of the SpaceElements in the game in primitive columns (structure of arrays).
+ * The position, the dimension and the type of the element at index i are in x[i], y[i], width[i], height[i] and type[i].
+ * The position at the last savePreviousPositions() is kept in previousX[i] and previousY[i], so the UI can interpolate
+ * between two ticks. chunk[i] is the id of the WorldChunk the element was spawned with (or NO_CHUNK), so the elements
+ * of a chunk can be despawned together.
+ * The SpaceElements themselves are only handles to their index, so moving, removing and colliding elements runs over
+ * tightly packed memory and doesn't create garbage.
+ * <p>
+ * Removing an element moves the last element into its place (swap-remove), so the order of the elements is not kept.
+ * The store is not thread-safe.
+ */
+public class SpaceElementStore {
+
+    /**
+     * Chunk id of the elements which weren't spawned with a chunk.
+     */
+    public static final int NO_CHUNK = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<Class<? extends SpaceElement>, Integer> typeIds = new HashMap<>();
+    private double[] typeWidth = new double[8];
+    private double[] typeHeight = new double[8];
+    private boolean[] typeDimensionSet = new boolean[8];
+
+    private SpaceElement[] elements = new SpaceElement[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private int[] type = new int[INITIAL_CAPACITY];
+    private int[] chunk = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds the element to the store. From now on the position of the element is kept in the store.
+     *
+     * @param spaceElement element to add. not null and not in a store yet
+     */
+    public void add(SpaceElement spaceElement) {
+        add(spaceElement, NO_CHUNK);
+    }
+
+    /**
+     * Adds the element of a chunk to the store. From now on the position of the element is kept in the store.
+     *
+     * @param spaceElement element to add. not null and not in a store yet
+     * @param chunkId      id of the chunk the element belongs to
+     */
+    public void add(SpaceElement spaceElement, int chunkId) {
+        if (spaceElement == null) {
+            throw new IllegalArgumentException("spaceElement can not be null");
+        } else if (spaceElement.store != null) {
+            throw new IllegalArgumentException("spaceElement is already in a store");
+        }
+
+        ensureCapacity(size + 1);
+        int typeId = getTypeId(spaceElement.getClass());
+
+        elements[size] = spaceElement;
+        x[size] = spaceElement.getRelativeX();
+        y[size] = spaceElement.getRelativeY();
+        previousX[size] = x[size];
+        previousY[size] = y[size];
+        width[size] = typeWidth[typeId];
+        height[size] = typeHeight[typeId];
+        type[size] = typeId;
+        chunk[size] = chunkId;
+
+        spaceElement.store = this;
+        spaceElement.index = size;
+        size++;
+    }
+
+    /**
+     * Adds all the elements to the store.
+     *
+     * @param spaceElements elements to add
+     */
+    public void addAll(SpaceElement[] spaceElements) {
+        addAll(spaceElements, NO_CHUNK);
+    }
+
+    /**
+     * Adds all the elements of a chunk to the store.
+     *
+     * @param spaceElements elements to add
+     * @param chunkId       id of the chunk the elements belong to
+     */
+    public void addAll(SpaceElement[] spaceElements, int chunkId) {
+        ensureCapacity(size + spaceElements.length);
+        for (SpaceElement spaceElement : spaceElements) {
+            add(spaceElement, chunkId);
+        }
+    }
+
+    /**
+     * Removes the element from the store. The element keeps its last position.
+     *
+     * @param spaceElement element to remove
+     * @return true if the element was in this store
+     */
+    public boolean remove(SpaceElement spaceElement) {
+        if (spaceElement == null || spaceElement.store != this) {
+            return false;
+        }
+        removeAt(spaceElement.index);
+        return true;
+    }
+
+    /**
+     * Removes the element at the index by moving the last element into its place.
+     *
+     * @param index index of the element to remove
+     */
+    public void removeAt(int index) {
+        checkIndex(index);
+
+        SpaceElement removed = elements[index];
+        double removedX = x[index];
+        double removedY = y[index];
+
+        int last = size - 1;
+        if (index != last) {
+            elements[index] = elements[last];
+            x[index] = x[last];
+            y[index] = y[last];
+            previousX[index] = previousX[last];
+            previousY[index] = previousY[last];
+            width[index] = width[last];
+            height[index] = height[last];
+            type[index] = type[last];
+            chunk[index] = chunk[last];
+            elements[index].index = index;
+        }
+        elements[last] = null;
+        size--;
+
+        removed.store = null;
+        removed.index = -1;
+        removed.setRelativePosition(removedX, removedY);
+    }
+
+    /**
+     * Keeps the current positions of all elements as their previous positions (e.g. at the start of a tick).
+     * Elements which are added afterwards start with their position as previous position.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+    }
+
+    /**
+     * Removes all elements from the store.
+     */
+    public void clear() {
+        for (int i = size - 1; i >= 0; i--) {
+            removeAt(i);
+        }
+    }
+
+    /**
+     * Sets the relative dimension of all elements of the specified type (current and future ones).
+     *
+     * @param elementClass type of the elements
+     * @param elementWidth relative width
+     * @param elementHeight relative height
+     */
+    public void setDimension(Class<? extends SpaceElement> elementClass, double elementWidth, double elementHeight) {
+        int typeId = getTypeId(elementClass);
+        typeWidth[typeId] = elementWidth;
+        typeHeight[typeId] = elementHeight;
+        typeDimensionSet[typeId] = true;
+        for (int i = 0; i < size; i++) {
+            if (type[i] == typeId) {
+                width[i] = elementWidth;
+                height[i] = elementHeight;
+            }
+        }
+    }
+
+    /**
+     * @param elementClass type of the elements
+     * @return true if the dimension of the type was set with setDimension
+     */
+    public boolean isDimensionSet(Class<? extends SpaceElement> elementClass) {
+        Integer typeId = typeIds.get(elementClass);
+        return typeId != null && typeDimensionSet[typeId];
+    }
+
+    /**
+     * @return all types which were added to the store so far
+     */
+    public Set<Class<? extends SpaceElement>> getTypes() {
+        return typeIds.keySet();
+    }
+
+    /**
+     * Copies the elements into the list (e.g. for the UI).
+     *
+     * @param target list to add the elements to
+     */
+    public void copyElementsTo(List<SpaceElement> target) {
+        for (int i = 0; i < size; i++) {
+            target.add(elements[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SpaceElement getElement(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return relative x position of the element at the last savePreviousPositions()
+     */
+    public double getPreviousX(int index) {
+        return previousX[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return relative y position of the element at the last savePreviousPositions()
+     */
+    public double getPreviousY(int index) {
+        return previousY[index];
+    }
+
+    public double getWidth(int index) {
+        return width[index];
+    }
+
+    public double getHeight(int index) {
+        return height[index];
+    }
+
+    /**
+     * @param spaceElement element in this store
+     * @return relative width of the element
+     */
+    public double getWidth(SpaceElement spaceElement) {
+        checkContains(spaceElement);
+        return width[spaceElement.index];
+    }
+
+    /**
+     * @param spaceElement element in this store
+     * @return relative height of the element
+     */
+    public double getHeight(SpaceElement spaceElement) {
+        checkContains(spaceElement);
+        return height[spaceElement.index];
+    }
+
+    public int getType(int index) {
+        return type[index];
+    }
+
+    /**
+     * @param spaceElement element to look up
+     * @return id of the chunk of the element or NO_CHUNK if it isn't in this store or wasn't spawned with a chunk
+     */
+    public int getChunk(SpaceElement spaceElement) {
+        if (spaceElement == null || spaceElement.store != this) {
+            return NO_CHUNK;
+        }
+        return chunk[spaceElement.index];
+    }
+
+    void setPosition(int index, double newX, double newY) {
+        x[index] = newX;
+        y[index] = newY;
+    }
+
+    private int getTypeId(Class<? extends SpaceElement> elementClass) {
+        Integer typeId = typeIds.get(elementClass);
+        if (typeId == null) {
+            typeId = typeIds.size();
+            typeIds.put(elementClass, typeId);
+            if (typeId >= typeWidth.length) {
+                typeWidth = Arrays.copyOf(typeWidth, typeWidth.length * 2);
+                typeHeight = Arrays.copyOf(typeHeight, typeHeight.length * 2);
+                typeDimensionSet = Arrays.copyOf(typeDimensionSet, typeDimensionSet.length * 2);
+            }
+        }
+        return typeId;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= elements.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, elements.length * 2);
+        elements = Arrays.copyOf(elements, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        width = Arrays.copyOf(width, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+        chunk = Arrays.copyOf(chunk, newCapacity);
+    }
+
+    private void checkContains(SpaceElement spaceElement) {
+        if (spaceElement == null || spaceElement.store != this) {
+            throw new IllegalArgumentException("spaceElement is not in this store");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+}
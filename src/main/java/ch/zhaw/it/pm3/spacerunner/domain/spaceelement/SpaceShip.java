@@ -1,9 +1,8 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
 
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityNotSetException;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityTable;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
 import java.awt.geom.Point2D;
@@ -17,10 +16,7 @@ import java.util.logging.Logger;
  */
 public class SpaceShip extends SpaceElement {
 
-    private final Logger logger = Logger.getLogger(SpaceShip.class.getName());
-
-    private final VelocityManager velocityManager = VelocityManager.getManager();
-    private final VisualManager visualManager = VisualManager.getManager();
+    private static final Logger logger = Logger.getLogger(SpaceShip.class.getName());
 
     /**
      * Initializes the variable position.
@@ -31,23 +27,32 @@ public class SpaceShip extends SpaceElement {
         super(startPosition);
     }
 
-    private void directMove(SpaceShipDirection direction, Point2D.Double position, long timeInMillis) {
-        Point2D.Double velocity = null;
-        try {
-            velocity = velocityManager.getRelativeVelocity(this.getClass());
-        } catch (VelocityNotSetException e) {
-            logger.log(Level.SEVERE, "Velocity for {0} wasn't set", this.getClass());
-        }
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the SpaceShip
+     * @param gameSession   The session of the game the SpaceShip is part of
+     */
+    public SpaceShip(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
+    private void directMove(SpaceShipDirection direction, long timeInMillis) {
+        VelocityTable velocities = getVelocityTable();
+        double velocityX = velocities.getX(getVelocityOrdinal());
+        double velocityY = velocities.getY(getVelocityOrdinal());
+        double x = getRelativeX();
+        double y = getRelativeY();
 
         if (direction == SpaceShipDirection.UP) {
-            position.x -= timeInMillis / 1000.0 * velocity.x;
-            position.y -= timeInMillis / 1000.0 * velocity.y;
+            x -= timeInMillis / 1000.0 * velocityX;
+            y -= timeInMillis / 1000.0 * velocityY;
         } else if (direction == SpaceShipDirection.DOWN) {
-            position.x += timeInMillis / 1000.0 * velocity.x;
-            position.y += timeInMillis / 1000.0 * velocity.y;
+            x += timeInMillis / 1000.0 * velocityX;
+            y += timeInMillis / 1000.0 * velocityY;
         }
 
-        setRelativePosition(position);
+        setRelativePosition(x, y);
     }
 
     /**
@@ -59,25 +64,26 @@ public class SpaceShip extends SpaceElement {
     public void moveSpaceShip(SpaceShipDirection direction, long timeInMillis) {
         double relativeHeight = 0;
         try {
-            relativeHeight = visualManager.getElementRelativeHeight(this.getClass());
+            relativeHeight = getGameSession().getElementRelativeHeight(this.getClass());
         } catch (VisualNotSetException e) {
             logger.log(Level.SEVERE, "Visual for {0} wasn't set", this.getClass());
         }
-        Point2D.Double position = getRelativePosition();
+        double x = getRelativeX();
+        double y = getRelativeY();
         switch (direction) {
             case UP:
-                if (position.y <= 0.0) {
-                    setRelativePosition(new Point2D.Double(position.x, 0.0));
+                if (y <= 0.0) {
+                    setRelativePosition(x, 0.0);
                     return;
                 }
-                directMove(direction, position, timeInMillis);
+                directMove(direction, timeInMillis);
                 break;
             case DOWN:
-                if (position.y + relativeHeight >= 1.0) {
-                    setRelativePosition(new Point2D.Double(position.x, 1.0 - relativeHeight));
+                if (y + relativeHeight >= 1.0) {
+                    setRelativePosition(x, 1.0 - relativeHeight);
                     return;
                 }
-                directMove(direction, position, timeInMillis);
+                directMove(direction, timeInMillis);
                 break;
             default:
                 //nothing to do
@@ -1,8 +1,6 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityNotSetException;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
 import java.awt.geom.Point2D;
@@ -10,7 +8,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * The background of the game.
+ * The background of the game. Its position is the scroll position of the background, which is drawn as a tile
+ * followed by its mirror image. The position wraps around after one tile and its mirror image.
  *
  * @author islermic
  */
@@ -25,33 +24,45 @@ public class SpaceWorld extends SpaceElement {
         super(startPosition);
     }
 
-    private final VisualManager visualManager = VisualManager.getManager();
-    private final VelocityManager velocityManager = VelocityManager.getManager();
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the SpaceWorld
+     * @param gameSession   The session of the game the SpaceWorld is part of
+     */
+    public SpaceWorld(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
+    private static final Logger logger = Logger.getLogger(SpaceWorld.class.getName());
 
     /**
      * Moves the SpaceWorld to make it seem as if the background is looping.
+     * When it has moved by a tile and its mirror image, it is moved back by the same distance, so the looping is seamless.
      *
      * @param timeInMillis The time in milliseconds since the last time the SpaceWorld was moved.
      *                     If timeInMillis is larger the SpaceWorld will be moved a larger distance to prevent element movement from changing at different framerates.
      */
     @Override
     public void move(long timeInMillis) {
-
-        Logger logger = Logger.getLogger(SpaceWorld.class.getName());
-
-        Point2D.Double position = getRelativePosition();
+        double x = getRelativeX() + timeInMillis / 1000.0 * getVelocityTable().getX(getVelocityOrdinal());
 
         try {
-            if (position.x + visualManager.getElementRelativeWidth(SpaceWorld.class) < 1) {
-                position.x = 0;
-            } else {
-                position.x += (timeInMillis / 1000.0 * velocityManager.getRelativeVelocity(this.getClass()).x);
+            double period = getWrapPeriod();
+            if (x <= -period) {
+                x %= period;
             }
         } catch (VisualNotSetException e) {
             logger.log(Level.SEVERE, "Visual for {0} wasn't set", SpaceWorld.class);
-        } catch (VelocityNotSetException e) {
-            logger.log(Level.SEVERE, "Velocity for {0} wasn't set", this.getClass());
         }
-        setRelativePosition(position);
+        setRelativePosition(x, getRelativeY());
+    }
+
+    /**
+     * @return relative distance after which the position wraps around (a tile and its mirror image)
+     * @throws VisualNotSetException if the visual of the SpaceWorld wasn't set
+     */
+    public double getWrapPeriod() throws VisualNotSetException {
+        return 2 * getGameSession().getElementRelativeWidth(SpaceWorld.class);
     }
 }
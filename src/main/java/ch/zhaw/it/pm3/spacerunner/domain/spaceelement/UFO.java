@@ -1,7 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.speed.VerticalSpeed;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 
 import java.awt.geom.Point2D;
@@ -15,9 +15,7 @@ import java.util.logging.Logger;
  */
 public class UFO extends Obstacle {
 
-    private final Logger logger = Logger.getLogger(UFO.class.getName());
-
-    private final VisualManager visualManager = VisualManager.getManager();
+    private static final Logger logger = Logger.getLogger(UFO.class.getName());
     private double waveOffset = 0;
 
     /**
@@ -29,6 +27,16 @@ public class UFO extends Obstacle {
         super(startPosition);
     }
 
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the UFO
+     * @param gameSession   The session of the game the UFO is part of
+     */
+    public UFO(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
     /**
      * Initializes the variable position and waveOffset.
      *
@@ -40,6 +48,15 @@ public class UFO extends Obstacle {
         this.waveOffset = waveOffset;
     }
 
+    /**
+     * Sets the waveOffset (e.g. when the UFO is reused from a pool).
+     *
+     * @param waveOffset The number of wavelengths that the movement pattern of the UFO is shifted to the left by
+     */
+    public void setWaveOffset(double waveOffset) {
+        this.waveOffset = waveOffset;
+    }
+
     /**
      * Moves the UFO in a wavey motion (similar to a sine wave).
      *
@@ -48,17 +65,17 @@ public class UFO extends Obstacle {
      */
     @Override
     public void move(long timeInMillis) {
-        double currentXPos = getRelativePosition().x;
-        Point2D.Double currentPos = new Point2D.Double(currentXPos, sinWave(currentXPos));
-        double nextXPos = getNextPosition().x;
-        Point2D.Double velocity = new Point2D.Double(nextXPos - currentXPos, sinWave(currentXPos) - sinWave(nextXPos));
-        Point2D.Double nextPos = new Point2D.Double(currentPos.x + (timeInMillis / 1000.0) * velocity.x, currentPos.y + (timeInMillis / 1000.0) * velocity.y);
-        setRelativePosition(nextPos);
+        double currentXPos = getRelativeX();
+        double currentYPos = sinWave(currentXPos);
+        double nextXPos = currentXPos + getVelocityTable().getX(getVelocityOrdinal());
+        double velocityX = nextXPos - currentXPos;
+        double velocityY = currentYPos - sinWave(nextXPos);
+        setRelativePosition(currentXPos + (timeInMillis / 1000.0) * velocityX, currentYPos + (timeInMillis / 1000.0) * velocityY);
     }
 
     private double sinWave(double posX) {
         try {
-            return 0.35 * Math.sin(posX * VerticalSpeed.UFO.getSpeed() + 1 + 2 * Math.PI * waveOffset) + 0.5 - 0.5 * visualManager.getElementRelativeHeight(UFO.class);
+            return 0.35 * Math.sin(posX * VerticalSpeed.UFO.getSpeed() + 1 + 2 * Math.PI * waveOffset) + 0.5 - 0.5 * getGameSession().getElementRelativeHeight(UFO.class);
         } catch (VisualNotSetException e) {
             logger.log(Level.SEVERE, "Visual for {0} wasn't set", UFO.class);
             e.printStackTrace();
@@ -0,0 +1,120 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.collision;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform grid over the relative coordinates of the game (broad-phase of the collision detection).
+ * Every SpaceElement is stored in the cell of its position (top left corner). A query only returns the elements of the
+ * cells near the queried area, so only these candidates need the exact (and expensive) collision test.
+ * <p>
+ * Positions outside of the grid are clamped to the border cells, so no element is ever lost.
+ * The grid and its lists are reused; call clear() and add the elements again when they have moved.
+ */
+public class CollisionGrid {
+
+    private static final double CELL_SIZE = 0.1;
+    private static final double MIN_X = -0.5;
+    private static final double MIN_Y = 0;
+    private static final int COLUMNS = 30;
+    private static final int ROWS = 10;
+
+    private final List<List<SpaceElement>> cells = new ArrayList<>(COLUMNS * ROWS);
+    private final List<SpaceElement> candidates = new ArrayList<>();
+    private double maxElementWidth = 0;
+    private double maxElementHeight = 0;
+    private int size = 0;
+
+    public CollisionGrid() {
+        for (int i = 0; i < COLUMNS * ROWS; i++) {
+            cells.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Removes all elements from the grid. The allocated cells are kept for reuse.
+     */
+    public void clear() {
+        for (List<SpaceElement> cell : cells) {
+            cell.clear();
+        }
+        maxElementWidth = 0;
+        maxElementHeight = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the cell of its current position.
+     *
+     * @param spaceElement element to add. not null
+     * @param x            relative x position of the element
+     * @param y            relative y position of the element
+     * @param width        relative width of the element
+     * @param height       relative height of the element
+     */
+    public void add(SpaceElement spaceElement, double x, double y, double width, double height) {
+        if (spaceElement == null) {
+            throw new IllegalArgumentException("spaceElement can not be null");
+        }
+
+        int column = getColumn(x);
+        int row = getRow(y);
+        cells.get(row * COLUMNS + column).add(spaceElement);
+
+        maxElementWidth = Math.max(maxElementWidth, width);
+        maxElementHeight = Math.max(maxElementHeight, height);
+        size++;
+    }
+
+    /**
+     * Returns the elements which could overlap the specified area.
+     * The returned list is reused by the next call of this method.
+     *
+     * @param x      relative x position of the area
+     * @param y      relative y position of the area
+     * @param width  relative width of the area
+     * @param height relative height of the area
+     * @return candidates which could collide with the area
+     */
+    public List<SpaceElement> getCandidates(double x, double y, double width, double height) {
+        candidates.clear();
+
+        //elements are stored by their top left corner => extend the area by the size of the biggest element
+        int firstColumn = getColumn(x - maxElementWidth);
+        int lastColumn = getColumn(x + width);
+        int firstRow = getRow(y - maxElementHeight);
+        int lastRow = getRow(y + height);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                //addAll would copy the cell into a new array
+                List<SpaceElement> cell = cells.get(row * COLUMNS + column);
+                for (int i = 0; i < cell.size(); i++) {
+                    candidates.add(cell.get(i));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @return number of elements in the grid
+     */
+    public int size() {
+        return size;
+    }
+
+    private int getColumn(double x) {
+        return clamp((int) Math.floor((x - MIN_X) / CELL_SIZE), COLUMNS);
+    }
+
+    private int getRow(double y) {
+        return clamp((int) Math.floor((y - MIN_Y) / CELL_SIZE), ROWS);
+    }
+
+    private int clamp(int index, int count) {
+        return Math.max(0, Math.min(count - 1, index));
+    }
+}
@@ -0,0 +1,98 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable SpaceElements of one type.
+ * Elements which are no longer in the game are released to the pool and handed out again by obtain(),
+ * so the game doesn't produce garbage for every generated preset.
+ * <p>
+ * Counts the hits (element was reused) and the misses (element had to be created).
+ * The pool is not thread-safe.
+ *
+ * @param <T> type of the pooled SpaceElements
+ */
+public class SpaceElementPool<T extends SpaceElement> {
+
+    private final Supplier<T> factory;
+    private final int maxSize;
+    private final Deque<T> freeElements;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param factory creates a new element when the pool is empty. not null
+     * @param maxSize maximum number of free elements which are kept. Released elements beyond are dropped
+     */
+    public SpaceElementPool(Supplier<T> factory, int maxSize) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory can not be null");
+        } else if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize can not be negative");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.freeElements = new ArrayDeque<>(maxSize);
+    }
+
+    /**
+     * Returns a free element of the pool (or a new one if the pool is empty) at the specified position.
+     *
+     * @param x relative x position
+     * @param y relative y position
+     * @return element at the position
+     */
+    public T obtain(double x, double y) {
+        T element = freeElements.pollFirst();
+        if (element == null) {
+            misses++;
+            element = factory.get();
+        } else {
+            hits++;
+        }
+        element.setRelativePosition(x, y);
+        return element;
+    }
+
+    /**
+     * Returns the element to the pool. The element must not be used anymore afterwards.
+     *
+     * @param element element to release. not null
+     */
+    public void release(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("element can not be null");
+        }
+        if (freeElements.size() < maxSize) {
+            freeElements.addFirst(element);
+        }
+    }
+
+    /**
+     * @return number of free elements in the pool
+     */
+    public int getFreeCount() {
+        return freeElements.size();
+    }
+
+    /**
+     * @return number of obtain calls which reused an element
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of obtain calls which had to create an element
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,112 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.*;
+
+import java.awt.geom.Point2D;
+
+/**
+ * Pools for the SpaceElements which are generated by the presets (Coin, Rocket, Asteroid and UFO).
+ */
+public class SpaceElementPools {
+
+    private static final int MAX_POOL_SIZE = 128;
+
+    private final SpaceElementPool<Coin> coinPool;
+    private final SpaceElementPool<Rocket> rocketPool;
+    private final SpaceElementPool<Asteroid> asteroidPool;
+    private final SpaceElementPool<UFO> ufoPool;
+
+    /**
+     * Creates pools whose elements belong to the default GameSession.
+     */
+    public SpaceElementPools() {
+        this(GameSession.getDefault());
+    }
+
+    /**
+     * Creates pools whose elements belong to the specified game.
+     *
+     * @param gameSession session of the game. not null
+     */
+    public SpaceElementPools(GameSession gameSession) {
+        if (gameSession == null) {
+            throw new IllegalArgumentException("gameSession can not be null");
+        }
+        coinPool = new SpaceElementPool<>(() -> new Coin(new Point2D.Double(0, 0), gameSession), MAX_POOL_SIZE);
+        rocketPool = new SpaceElementPool<>(() -> new Rocket(new Point2D.Double(0, 0), gameSession), MAX_POOL_SIZE);
+        asteroidPool = new SpaceElementPool<>(() -> new Asteroid(new Point2D.Double(0, 0), gameSession), MAX_POOL_SIZE);
+        ufoPool = new SpaceElementPool<>(() -> new UFO(new Point2D.Double(0, 0), gameSession), MAX_POOL_SIZE);
+    }
+
+    public Coin obtainCoin(double x, double y) {
+        return coinPool.obtain(x, y);
+    }
+
+    public Rocket obtainRocket(double x, double y) {
+        return rocketPool.obtain(x, y);
+    }
+
+    public Asteroid obtainAsteroid(double x, double y) {
+        return asteroidPool.obtain(x, y);
+    }
+
+    /**
+     * @param x          relative x position
+     * @param y          relative y position
+     * @param waveOffset The number of wavelengths that the movement pattern of the UFO is shifted to the left by
+     * @return UFO at the position
+     */
+    public UFO obtainUFO(double x, double y, double waveOffset) {
+        UFO ufo = ufoPool.obtain(x, y);
+        ufo.setWaveOffset(waveOffset);
+        return ufo;
+    }
+
+    /**
+     * Returns the element to its pool. Elements of other types (e.g. power-ups) are ignored.
+     *
+     * @param spaceElement element which is no longer in the game
+     */
+    public void release(SpaceElement spaceElement) {
+        if (spaceElement instanceof Coin) {
+            coinPool.release((Coin) spaceElement);
+        } else if (spaceElement instanceof Rocket) {
+            rocketPool.release((Rocket) spaceElement);
+        } else if (spaceElement instanceof Asteroid) {
+            asteroidPool.release((Asteroid) spaceElement);
+        } else if (spaceElement instanceof UFO) {
+            ufoPool.release((UFO) spaceElement);
+        }
+    }
+
+    /**
+     * @return number of obtain calls of all pools which reused an element
+     */
+    public long getHits() {
+        return coinPool.getHits() + rocketPool.getHits() + asteroidPool.getHits() + ufoPool.getHits();
+    }
+
+    /**
+     * @return number of obtain calls of all pools which had to create an element
+     */
+    public long getMisses() {
+        return coinPool.getMisses() + rocketPool.getMisses() + asteroidPool.getMisses() + ufoPool.getMisses();
+    }
+
+    public SpaceElementPool<Coin> getCoinPool() {
+        return coinPool;
+    }
+
+    public SpaceElementPool<Rocket> getRocketPool() {
+        return rocketPool;
+    }
+
+    public SpaceElementPool<Asteroid> getAsteroidPool() {
+        return asteroidPool;
+    }
+
+    public SpaceElementPool<UFO> getUfoPool() {
+        return ufoPool;
+    }
+}
@@ -1,14 +1,14 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup;
 
-import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersistenceUtil;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameRandom;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameScheduler;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 
 import java.awt.geom.Point2D;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,23 +20,55 @@ import java.util.logging.Logger;
 public class ActivatedPowerUpManager implements PowerUpListener {
 
     private final Logger logger = Logger.getLogger(ActivatedPowerUpManager.class.getName());
-    private final Persistence persistenceUtil = JsonPersistenceUtil.getUtil();
-    private final VisualManager visualManager = VisualManager.getManager();
 
-    private final Random randomGen = new Random();
-    private static int GENERAL_POWER_UP_PROBABILITY = 33;
+    private final GameScheduler gameScheduler;
+    private final GameSession gameSession;
+
+    private final GameRandom gameRandom;
+    /**
+     * Chance in percent that a power-up is generated every GENERAL_POWER_UP_COOLDOWN of the GameSimulation.
+     */
+    public static final int GENERAL_POWER_UP_PROBABILITY = 33;
+    private final int generalPowerUpProbability;
     private final Map<Class<? extends PowerUp>, PowerUp> activePowerUps = new HashMap<>();
-    private final Map<Class<? extends PowerUp>, Integer> probabilities = new HashMap<>() {{
+    //linked, so the power-up which is chosen for a random number doesn't depend on the hash codes of the classes
+    private final Map<Class<? extends PowerUp>, Integer> probabilities = new LinkedHashMap<>() {{
         put(DoubleCoinsPowerUp.class, 10);
         put(ShieldPowerUp.class, 15);
     }};
 
     /**
-     * Sets up the ActivatedPowerUpManager and increases the probability of power-ups if the upgrade was selected in the shop.
+     * Sets up the ActivatedPowerUpManager for the default GameSession.
+     *
+     * @param gameScheduler scheduler of the game on which the activated power-ups expire. not null
+     */
+    public ActivatedPowerUpManager(GameScheduler gameScheduler) {
+        this(gameScheduler, GameSession.getDefault());
+    }
+
+    /**
+     * Sets up the ActivatedPowerUpManager with the power-up chance of the GameBalance of the session and increases it
+     * if the upgrade was selected in the shop. The random numbers are taken from the GameRandom of the session, so the
+     * generated power-ups can be reproduced.
+     *
+     * @param gameScheduler scheduler of the game on which the activated power-ups expire. not null
+     * @param gameSession   session of the game. not null
      */
-    public ActivatedPowerUpManager() {
-        if (persistenceUtil.hasPowerUpChanceMultiplierUpgrade()) {
-            GENERAL_POWER_UP_PROBABILITY = (int) (GENERAL_POWER_UP_PROBABILITY * 1.5);
+    public ActivatedPowerUpManager(GameScheduler gameScheduler, GameSession gameSession) {
+        if (gameScheduler == null) {
+            throw new IllegalArgumentException("gameScheduler can not be null");
+        } else if (gameSession == null) {
+            throw new IllegalArgumentException("gameSession can not be null");
+        }
+        this.gameScheduler = gameScheduler;
+        this.gameSession = gameSession;
+        this.gameRandom = gameSession.getGameRandom();
+
+        int powerUpProbability = gameSession.getGameBalance().getPowerUpProbability();
+        if (gameSession.getPersistence().hasPowerUpChanceMultiplierUpgrade()) {
+            generalPowerUpProbability = (int) (powerUpProbability * 1.5);
+        } else {
+            generalPowerUpProbability = powerUpProbability;
         }
     }
 
@@ -47,8 +79,8 @@ public class ActivatedPowerUpManager implements PowerUpListener {
      */
     public PowerUp generatePowerUps() {
 
-        int x = randomGen.nextInt(101);
-        if (x < GENERAL_POWER_UP_PROBABILITY) {
+        int x = gameRandom.nextInt(101);
+        if (x < generalPowerUpProbability) {
             int sum = 0;
 
             for (Map.Entry<Class<? extends PowerUp>, Integer> probability : probabilities.entrySet()) {
@@ -56,16 +88,16 @@ public class ActivatedPowerUpManager implements PowerUpListener {
             }
 
 
-            x = randomGen.nextInt(sum);
+            x = gameRandom.nextInt(sum);
             int secondSum = 0;
 
             for (Map.Entry<Class<? extends PowerUp>, Integer> probability : probabilities.entrySet()) {
                 if (x < probability.getValue() + secondSum) {
                     PowerUp powerUp;
                     try {
-                        Double randomY = Math.random() * (1.0 - visualManager.getElementRelativeHeight(probability.getKey()));
+                        Double randomY = gameRandom.nextDouble() * (1.0 - gameSession.getElementRelativeHeight(probability.getKey()));
                         Point2D.Double generatedPosition = new Point2D.Double(1, randomY);
-                        powerUp = probability.getKey().getConstructor(Point2D.Double.class).newInstance(generatedPosition);
+                        powerUp = probability.getKey().getConstructor(Point2D.Double.class, GameSession.class).newInstance(generatedPosition, gameSession);
                         return powerUp;
                     } catch (Exception e) {
                         logger.log(Level.SEVERE, "Error in PowerUp generation");
@@ -90,7 +122,7 @@ public class ActivatedPowerUpManager implements PowerUpListener {
         } else {
             activePowerUps.put(powerUp.getClass(), powerUp);
             powerUp.addListener(this);
-            powerUp.activatePowerUp();
+            powerUp.activatePowerUp(gameScheduler);
         }
     }
 
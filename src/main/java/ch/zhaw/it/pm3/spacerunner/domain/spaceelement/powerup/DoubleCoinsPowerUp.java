@@ -1,7 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup;
 
-import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
-import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameScheduler;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 
 import java.awt.geom.Point2D;
 
@@ -11,9 +11,8 @@ import java.awt.geom.Point2D;
  * @author nachbric
  */
 public class DoubleCoinsPowerUp extends PowerUp {
-    private final Persistence persistenceUtil = JsonPersistenceUtil.getUtil();
-
-    private static int timeActive = 10000;
+    private static final int DEFAULT_TIME_ACTIVE = 10000;
+    private int timeActive = DEFAULT_TIME_ACTIVE;
 
     /**
      * Sets up the startPosition and doubles the duration of this power-ups if the upgrade was selected in the shop.
@@ -21,9 +20,20 @@ public class DoubleCoinsPowerUp extends PowerUp {
      * @param startPosition The startPosition where the double coins power-up should appear.
      */
     public DoubleCoinsPowerUp(Point2D.Double startPosition) {
-        super(startPosition);
+        this(startPosition, GameSession.getDefault());
+    }
+
+    /**
+     * Sets up the startPosition in the specified game and doubles the duration of this power-ups if the upgrade was
+     * selected in the shop (of the persistence of the game).
+     *
+     * @param startPosition The startPosition where the double coins power-up should appear.
+     * @param gameSession   The session of the game the power-up is part of
+     */
+    public DoubleCoinsPowerUp(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
 
-        if (persistenceUtil.hasDoubleDurationForCoinPowerUp()) {
+        if (gameSession.getPersistence().hasDoubleDurationForCoinPowerUp()) {
             timeActive = timeActive * 2;
         }
     }
@@ -39,7 +49,7 @@ public class DoubleCoinsPowerUp extends PowerUp {
     }
 
     @Override
-    public void activatePowerUp() {
-        createPowerUpTimer();
+    public void activatePowerUp(GameScheduler gameScheduler) {
+        createPowerUpTimer(gameScheduler);
     }
 }
@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameScheduler;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
 
 import java.awt.geom.Point2D;
@@ -12,8 +14,8 @@ import java.util.*;
  */
 public abstract class PowerUp extends SpaceElement {
     private final Set<PowerUpListener> powerUpListeners = new HashSet<>();
-    private static final Timer powerUpTimer = new Timer("PowerUp Timer");
-    private TimerTask currentPowerUpTimerTask;
+    private GameScheduler gameScheduler;
+    private GameScheduler.ScheduledTask currentPowerUpTimerTask;
     private int multiplier = 1;
 
     /**
@@ -25,6 +27,16 @@ public abstract class PowerUp extends SpaceElement {
         super(startPosition);
     }
 
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the power-up
+     * @param gameSession   The session of the game the power-up is part of
+     */
+    public PowerUp(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
     /**
      * Adds a powerUpManagerListener to powerUpListeners which is set of PowerUpListeners.
      *
@@ -56,31 +68,30 @@ public abstract class PowerUp extends SpaceElement {
     }
 
     /**
-     * Creates a power-up timer.
+     * Creates a power-up timer on the scheduler of the game, so the power-up expires in game time.
+     *
+     * @param gameScheduler scheduler of the game. not null
      */
-    protected synchronized void createPowerUpTimer() {
-        currentPowerUpTimerTask = createPowerUpTimerTask();
-        powerUpTimer.schedule(currentPowerUpTimerTask, getActiveTime());
+    protected synchronized void createPowerUpTimer(GameScheduler gameScheduler) {
+        if (gameScheduler == null) {
+            throw new IllegalArgumentException("gameScheduler can not be null");
+        }
+        this.gameScheduler = gameScheduler;
+        currentPowerUpTimerTask = gameScheduler.schedule(this::finishPowerUp, getActiveTime());
     }
 
     private synchronized void resetPowerUpTimer() {
         if (currentPowerUpTimerTask != null) {
             currentPowerUpTimerTask.cancel();
-            currentPowerUpTimerTask = createPowerUpTimerTask();
-            powerUpTimer.schedule(currentPowerUpTimerTask, getActiveTime());
+            currentPowerUpTimerTask = gameScheduler.schedule(this::finishPowerUp, getActiveTime());
         }
     }
 
-    private TimerTask createPowerUpTimerTask() {
-        PowerUp powerUp = this;
-        return new TimerTask() {
-            @Override
-            public void run() {
-                for (PowerUpListener powerUpListener : powerUpListeners) {
-                    powerUpListener.powerUpFinished(powerUp);
-                }
-            }
-        };
+    private void finishPowerUp() {
+        //copy, because the listeners usually remove themselves
+        for (PowerUpListener powerUpListener : new ArrayList<>(powerUpListeners)) {
+            powerUpListener.powerUpFinished(this);
+        }
     }
 
     /**
@@ -99,8 +110,10 @@ public abstract class PowerUp extends SpaceElement {
 
     /**
      * Is an abstract-method which is implemented by the sub-classes to activate a power up.
+     *
+     * @param gameScheduler scheduler of the game on which the power-up can expire.
      */
-    public abstract void activatePowerUp();
+    public abstract void activatePowerUp(GameScheduler gameScheduler);
 
     Set<PowerUpListener> getPowerUpListeners() {
         return Collections.unmodifiableSet(powerUpListeners);
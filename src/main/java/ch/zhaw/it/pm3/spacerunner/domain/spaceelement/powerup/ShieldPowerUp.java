@@ -1,5 +1,8 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameScheduler;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+
 import java.awt.geom.Point2D;
 
 /**
@@ -20,6 +23,16 @@ public class ShieldPowerUp extends PowerUp {
         super(startPosition);
     }
 
+    /**
+     * Initializes the variable position in the specified game.
+     *
+     * @param startPosition The starting position of the power-up
+     * @param gameSession   The session of the game the power-up is part of
+     */
+    public ShieldPowerUp(Point2D.Double startPosition, GameSession gameSession) {
+        super(startPosition, gameSession);
+    }
+
     @Override
     protected void setActiveTime(int activeTime) {
         throw new IllegalArgumentException("Can't set the active time of a ShieldPowerUp!");
@@ -31,6 +44,6 @@ public class ShieldPowerUp extends PowerUp {
     }
 
     @Override
-    public void activatePowerUp() {
+    public void activatePowerUp(GameScheduler gameScheduler) {
     }
 }
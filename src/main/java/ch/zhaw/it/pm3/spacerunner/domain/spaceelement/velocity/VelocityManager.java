@@ -7,35 +7,63 @@ import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.speed.HorizontalSpeed;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.speed.VerticalSpeed;
 
 import java.awt.geom.Point2D;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is a Manager for the Velocity of the different SpaceElements.
- * It is implemented with the singleton-pattern.
+ * It is implemented with the singleton-pattern. The singleton holds the velocities of the game shown in the UI,
+ * headless games (e.g. balancing runs) create their own VelocityManager, so parallel games don't accelerate each other.
  * The Manager was implemented because for example all Asteroids share the same velocity. {@literal =>} So it would make no sense to have the velocity in every element itself.
  * The Velocity is set per Class of SpaceElement (? extends SpaceElement)
+ * <p>
+ * The velocities are kept in an immutable VelocityTable indexed by a dense ordinal per class.
+ * Changes are made on a copy which is published afterwards, so reading a velocity never blocks and never sees a half changed velocity.
  *
  * @author islermic
  */
 public class VelocityManager {
 
-    private Map<Class<? extends SpaceElement>, Point2D.Double> velocityMap = new HashMap<>();
+    private static final AtomicInteger NEXT_TYPE_ORDINAL = new AtomicInteger(0);
+    private static final ClassValue<Integer> TYPE_ORDINALS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_TYPE_ORDINAL.getAndIncrement();
+        }
+    };
+
+    private volatile VelocityTable velocityTable = VelocityTable.EMPTY;
     private static final VelocityManager VELOCITY_MANAGER = new VelocityManager();
 
     public static VelocityManager getManager() {
         return VELOCITY_MANAGER;
     }
 
-    private VelocityManager() {
+    /**
+     * Creates a VelocityManager for a single game, which is independent from the one of getManager().
+     */
+    public VelocityManager() {
 
     }
 
+    /**
+     * Gets the dense ordinal of the class which is used as index in the VelocityTable.
+     * The ordinal never changes, so the elements can look it up once.
+     *
+     * @param elementClass Class &lt;? extends SpaceElement&gt; to get the ordinal of
+     * @return type ordinal of the class
+     */
+    public static int getTypeOrdinal(Class<? extends SpaceElement> elementClass) {
+        if (elementClass == null) {
+            throw new IllegalArgumentException("Element class can not be null");
+        }
+        return TYPE_ORDINALS.get(elementClass);
+    }
+
     /**
      * Clear the velocity map in the manager. (Reset)
      */
-    public void clear() {
-        velocityMap = new HashMap<>();
+    public synchronized void clear() {
+        velocityTable = VelocityTable.EMPTY;
     }
 
     /**
@@ -43,14 +71,23 @@ public class VelocityManager {
      * If a new element is implemented, add code for the element in this function so it has a velocity at the start.
      */
     public void setupGameElementVelocity() {
-        VELOCITY_MANAGER.setRelativeVelocity(Coin.class, new Point2D.Double(-HorizontalSpeed.COIN.getSpeed(), VerticalSpeed.ZERO.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(UFO.class, new Point2D.Double(-HorizontalSpeed.UFO.getSpeed(), VerticalSpeed.ZERO.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(SpaceShip.class, new Point2D.Double(HorizontalSpeed.ZERO.getSpeed(), VerticalSpeed.SPACE_SHIP.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(Asteroid.class, new Point2D.Double(-HorizontalSpeed.ASTEROID.getSpeed(), VerticalSpeed.ASTEROID.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(ShieldPowerUp.class, new Point2D.Double(-HorizontalSpeed.POWER_UP.getSpeed(), VerticalSpeed.ZERO.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(DoubleCoinsPowerUp.class, new Point2D.Double(-HorizontalSpeed.POWER_UP.getSpeed(), VerticalSpeed.ZERO.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(SpaceWorld.class, new Point2D.Double(-HorizontalSpeed.BACKGROUND.getSpeed(), VerticalSpeed.ZERO.getSpeed()));
-        VELOCITY_MANAGER.setRelativeVelocity(Rocket.class, new Point2D.Double(-HorizontalSpeed.ROCKET.getSpeed(), VerticalSpeed.ZERO.getSpeed()));
+        setupGameElementVelocity(1);
+    }
+
+    /**
+     * Setup velocities for the game elements with all the horizontal speeds multiplied by the factor (for balancing).
+     *
+     * @param horizontalSpeedFactor factor for the HorizontalSpeeds. 1 for the normal game
+     */
+    public void setupGameElementVelocity(double horizontalSpeedFactor) {
+        setRelativeVelocity(Coin.class, new Point2D.Double(-HorizontalSpeed.COIN.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ZERO.getSpeed()));
+        setRelativeVelocity(UFO.class, new Point2D.Double(-HorizontalSpeed.UFO.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ZERO.getSpeed()));
+        setRelativeVelocity(SpaceShip.class, new Point2D.Double(HorizontalSpeed.ZERO.getSpeed() * horizontalSpeedFactor, VerticalSpeed.SPACE_SHIP.getSpeed()));
+        setRelativeVelocity(Asteroid.class, new Point2D.Double(-HorizontalSpeed.ASTEROID.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ASTEROID.getSpeed()));
+        setRelativeVelocity(ShieldPowerUp.class, new Point2D.Double(-HorizontalSpeed.POWER_UP.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ZERO.getSpeed()));
+        setRelativeVelocity(DoubleCoinsPowerUp.class, new Point2D.Double(-HorizontalSpeed.POWER_UP.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ZERO.getSpeed()));
+        setRelativeVelocity(SpaceWorld.class, new Point2D.Double(-HorizontalSpeed.BACKGROUND.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ZERO.getSpeed()));
+        setRelativeVelocity(Rocket.class, new Point2D.Double(-HorizontalSpeed.ROCKET.getSpeed() * horizontalSpeedFactor, VerticalSpeed.ZERO.getSpeed()));
 
     }
 
@@ -67,7 +104,7 @@ public class VelocityManager {
             throw new IllegalArgumentException("velocity can not be null");
         }
 
-        velocityMap.put(elementClass, velocity);
+        velocityTable = velocityTable.withVelocity(getTypeOrdinal(elementClass), velocity.x, velocity.y);
     }
 
     /**
@@ -80,16 +117,7 @@ public class VelocityManager {
             throw new IllegalArgumentException("acceleration can not be null");
         }
 
-        for (Map.Entry<Class<? extends SpaceElement>, Point2D.Double> currentVelocity : velocityMap.entrySet()) {
-            Point2D.Double velocity = currentVelocity.getValue();
-            if (velocity.x != 0) {
-                velocity.x = velocity.x + acceleration.x;
-            }
-            if (velocity.y != 0) {
-                velocity.y = velocity.y + acceleration.y;
-            }
-            velocityMap.put(currentVelocity.getKey(), velocity);
-        }
+        velocityTable = velocityTable.withAllAccelerated(acceleration.x, acceleration.y);
     }
 
     /**
@@ -99,11 +127,7 @@ public class VelocityManager {
      * @param accelerationX acceleration for x-velocity
      */
     public synchronized void accelerateX(Class<? extends SpaceElement> elementClass, double accelerationX) {
-        Point2D.Double velocity = velocityMap.get(elementClass);
-
-        if (velocity != null) {
-            velocityMap.put(elementClass, new Point2D.Double(velocity.x + accelerationX, velocity.y));
-        }
+        accelerate(elementClass, accelerationX, 0);
     }
 
     /**
@@ -113,11 +137,7 @@ public class VelocityManager {
      * @param accelerationY acceleration for y-velocity
      */
     public synchronized void accelerateY(Class<? extends SpaceElement> elementClass, double accelerationY) {
-        Point2D.Double velocity = velocityMap.get(elementClass);
-
-        if (velocity != null) {
-            velocityMap.put(elementClass, new Point2D.Double(velocity.x, velocity.y + accelerationY));
-        }
+        accelerate(elementClass, 0, accelerationY);
     }
 
     /**
@@ -131,31 +151,48 @@ public class VelocityManager {
             throw new IllegalArgumentException("acceleration can not be null");
         }
 
-        Point2D.Double velocity = velocityMap.get(elementClass);
+        accelerate(elementClass, acceleration.x, acceleration.y);
+    }
 
-        if (velocity != null) {
-            velocityMap.put(elementClass, new Point2D.Double(velocity.x + acceleration.x, velocity.y + acceleration.y));
+    private void accelerate(Class<? extends SpaceElement> elementClass, double accelerationX, double accelerationY) {
+        if (elementClass == null) {
+            return;
+        }
+        int typeOrdinal = getTypeOrdinal(elementClass);
+        VelocityTable table = velocityTable;
+        if (table.isSet(typeOrdinal)) {
+            velocityTable = table.withVelocity(typeOrdinal, table.getX(typeOrdinal) + accelerationX, table.getY(typeOrdinal) + accelerationY);
         }
     }
 
+    /**
+     * Gets the current velocities of all classes. The table never changes, so all velocities read from it are consistent.
+     * Doesn't block and doesn't allocate, so it can be called for every element in every frame.
+     *
+     * @return current velocity table
+     */
+    public VelocityTable getVelocityTable() {
+        return velocityTable;
+    }
 
     /**
      * Get the velocity of a specific class.
      *
      * @param elementClass Class &lt;? extends SpaceElement&gt; to get the velocity of
-     * @return velocity of the class
+     * @return copy of the velocity of the class
      * @throws VelocityNotSetException if the velocity was not set
      */
-    public synchronized Point2D.Double getRelativeVelocity(Class<? extends SpaceElement> elementClass) throws VelocityNotSetException {
+    public Point2D.Double getRelativeVelocity(Class<? extends SpaceElement> elementClass) throws VelocityNotSetException {
         if (elementClass == null) {
             throw new IllegalArgumentException("Element class can not be null");
         }
 
-        Point2D.Double velocity = velocityMap.get(elementClass);
-        if (velocity == null) {
+        int typeOrdinal = getTypeOrdinal(elementClass);
+        VelocityTable table = velocityTable;
+        if (!table.isSet(typeOrdinal)) {
             throw new VelocityNotSetException("Velocity for " + elementClass.getSimpleName() + " was not set!");
         }
 
-        return velocity;
+        return new Point2D.Double(table.getX(typeOrdinal), table.getY(typeOrdinal));
     }
 }
@@ -0,0 +1,76 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of the velocities of all element classes, indexed by the type ordinal of the class
+ * (see VelocityManager.getTypeOrdinal).
+ * The VelocityManager never changes a published table, it publishes a changed copy instead.
+ * So the x and y velocity read from the same table always belong together.
+ */
+public final class VelocityTable {
+
+    static final VelocityTable EMPTY = new VelocityTable(new double[0], new double[0], new boolean[0]);
+
+    private final double[] x;
+    private final double[] y;
+    private final boolean[] set;
+
+    private VelocityTable(double[] x, double[] y, boolean[] set) {
+        this.x = x;
+        this.y = y;
+        this.set = set;
+    }
+
+    /**
+     * @param typeOrdinal type ordinal of the element class
+     * @return true if the velocity of the class is set
+     */
+    public boolean isSet(int typeOrdinal) {
+        return typeOrdinal >= 0 && typeOrdinal < set.length && set[typeOrdinal];
+    }
+
+    /**
+     * @param typeOrdinal type ordinal of the element class
+     * @return x velocity of the class or 0 if it's not set
+     */
+    public double getX(int typeOrdinal) {
+        return isSet(typeOrdinal) ? x[typeOrdinal] : 0;
+    }
+
+    /**
+     * @param typeOrdinal type ordinal of the element class
+     * @return y velocity of the class or 0 if it's not set
+     */
+    public double getY(int typeOrdinal) {
+        return isSet(typeOrdinal) ? y[typeOrdinal] : 0;
+    }
+
+    /**
+     * @return copy of this table with the velocity of the class set
+     */
+    VelocityTable withVelocity(int typeOrdinal, double velocityX, double velocityY) {
+        int length = Math.max(set.length, typeOrdinal + 1);
+        VelocityTable table = new VelocityTable(Arrays.copyOf(x, length), Arrays.copyOf(y, length), Arrays.copyOf(set, length));
+        table.x[typeOrdinal] = velocityX;
+        table.y[typeOrdinal] = velocityY;
+        table.set[typeOrdinal] = true;
+        return table;
+    }
+
+    /**
+     * @return copy of this table where all the velocities which are not 0 are accelerated
+     */
+    VelocityTable withAllAccelerated(double accelerationX, double accelerationY) {
+        VelocityTable table = new VelocityTable(x.clone(), y.clone(), set.clone());
+        for (int i = 0; i < set.length; i++) {
+            if (table.x[i] != 0) {
+                table.x[i] += accelerationX;
+            }
+            if (table.y[i] != 0) {
+                table.y[i] += accelerationY;
+            }
+        }
+        return table;
+    }
+}
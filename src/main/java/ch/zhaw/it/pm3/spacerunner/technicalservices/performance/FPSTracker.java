@@ -5,6 +5,8 @@ import java.util.logging.Logger;
 
 /**
  * This class will track the Frames per Second. Call the track method every time you process a frame.
+ * Besides the frame rate, the time between two frames is recorded in a FrameTimeHistogram, so the stutters which an
+ * average hides show up in the percentiles and in the count of late frames.
  *
  * @author islermic
  */
@@ -12,11 +14,40 @@ public class FPSTracker {
 
     private final Logger logger = Logger.getLogger(FPSTracker.class.getName());
 
+    //with the frames bound to the refresh of the screen a frame is only late if at least one refresh was missed
+    private static final double LATE_FRAME_TOLERANCE = 1.5;
+
     private final long[] frameTimes = new long[100];
     private int frameTimeIndex = 0;
     private boolean arrayFilled = false;
     private long lastTimeFPSLogged = System.currentTimeMillis();
 
+    private final FrameTimeHistogram frameTimeHistogram = new FrameTimeHistogram();
+    private final long deadlineNanos;
+    private long lateFrameCount = 0;
+    private long lastFrameNanoTime = 0;
+    private boolean firstFrameTracked = false;
+
+    /**
+     * Creates a tracker without a deadline (no frame counts as late).
+     */
+    public FPSTracker() {
+        deadlineNanos = Long.MAX_VALUE;
+    }
+
+    /**
+     * Creates a tracker which counts the frames that took longer than the frame time of the target frame rate
+     * (incl. a tolerance of half a frame) as late.
+     *
+     * @param targetFps frame rate the game should reach (see PlayerProfile.getFps). has to be greater than 0
+     */
+    public FPSTracker(int targetFps) {
+        if (targetFps <= 0) {
+            throw new IllegalArgumentException("targetFps has to be greater than 0");
+        }
+        deadlineNanos = (long) (1_000_000_000L / targetFps * LATE_FRAME_TOLERANCE);
+    }
+
     /**
      * Tracks the process of a frame. Once the internal buffer (100) is filled, it will start to log the current FPS once per second.
      *
@@ -24,6 +55,8 @@ public class FPSTracker {
      * @return Current Frame rate if buffer is filled. Else returns 0 until buffer filled
      */
     public double track(long currentNanoTime) {
+        recordFrameTime(currentNanoTime);
+
         long oldFrameTime = frameTimes[frameTimeIndex];
         frameTimes[frameTimeIndex] = currentNanoTime;
         frameTimeIndex = (frameTimeIndex + 1) % frameTimes.length;
@@ -37,7 +70,8 @@ public class FPSTracker {
             double frameRate = 1_000_000_000.0 / elapsedNanosPerFrame;
 
             if ((System.currentTimeMillis() - lastTimeFPSLogged > 1000)) {
-                logger.log(Level.INFO, String.format("Current frame rate: %.3f", frameRate));
+                logger.log(Level.INFO, String.format("Current frame rate: %.3f, p99 frame time: %.1f ms",
+                        frameRate, frameTimeHistogram.getValueAtPercentile(99) / 1e6));
                 lastTimeFPSLogged = System.currentTimeMillis();
             }
 
@@ -46,4 +80,40 @@ public class FPSTracker {
             return 0;
         }
     }
+
+    private void recordFrameTime(long currentNanoTime) {
+        if (firstFrameTracked) {
+            long frameNanos = currentNanoTime - lastFrameNanoTime;
+            frameTimeHistogram.record(frameNanos);
+            if (frameNanos > deadlineNanos) {
+                lateFrameCount++;
+            }
+        }
+        lastFrameNanoTime = currentNanoTime;
+        firstFrameTracked = true;
+    }
+
+    /**
+     * @return frame time statistics of the frames tracked since the creation or the last reset
+     */
+    public FrameTimeSnapshot getSnapshot() {
+        return new FrameTimeSnapshot(frameTimeHistogram, lateFrameCount);
+    }
+
+    /**
+     * Resets the frame time statistics (e.g. after a pause, which would count as one long frame).
+     * The next tracked frame only marks the start of the next frame time.
+     */
+    public void reset() {
+        frameTimeHistogram.reset();
+        lateFrameCount = 0;
+        firstFrameTracked = false;
+    }
+
+    /**
+     * @return time in nanoseconds after which a frame counts as late
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
 }
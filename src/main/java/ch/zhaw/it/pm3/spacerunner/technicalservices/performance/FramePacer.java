@@ -0,0 +1,79 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+/**
+ * Caps the frame rate of the render loop. The JavaFX pulse runs with the refresh rate of the screen, the pacer decides
+ * on which pulses a frame is rendered.
+ * <p>
+ * The deadlines of the frames are computed from a fixed start (start + n * frame time) and not from the last rendered
+ * frame, so a pulse which comes a bit late doesn't delay all the following frames and the frame rate doesn't drift
+ * from the target. A pulse which comes a bit early (less than EARLY_TOLERANCE of a frame) still renders the frame,
+ * so a cap which is the same as the refresh rate renders every pulse despite the jitter.
+ * If the loop falls behind by more than a frame (e.g. after a hang), the deadlines start again from the current time
+ * instead of rendering the missed frames in a burst.
+ */
+public class FramePacer {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    //part of the frame time a pulse may come before the deadline
+    private static final double EARLY_TOLERANCE = 0.25;
+
+    private final int targetFps;
+    private final long toleranceNanos;
+    private long startNanos;
+    private long frameIndex;
+    private boolean started = false;
+
+    /**
+     * @param targetFps maximal number of frames per second (see PlayerProfile.getFps). has to be greater than 0
+     */
+    public FramePacer(int targetFps) {
+        if (targetFps <= 0) {
+            throw new IllegalArgumentException("targetFps has to be greater than 0");
+        }
+        this.targetFps = targetFps;
+        this.toleranceNanos = (long) (NANOS_PER_SECOND / targetFps * EARLY_TOLERANCE);
+    }
+
+    /**
+     * Decides if a frame is rendered on the pulse. Has to be called on every pulse.
+     *
+     * @param currentNanoTime timestamp of the pulse in nanoseconds
+     * @return true if a frame should be rendered
+     */
+    public boolean shouldRender(long currentNanoTime) {
+        if (!started) {
+            restartAt(currentNanoTime);
+            started = true;
+            return true;
+        }
+        if (currentNanoTime < getDeadline(frameIndex) - toleranceNanos) {
+            return false;
+        }
+        frameIndex++;
+        if (currentNanoTime >= getDeadline(frameIndex)) {
+            //more than a frame behind
+            restartAt(currentNanoTime);
+        }
+        return true;
+    }
+
+    private void restartAt(long currentNanoTime) {
+        startNanos = currentNanoTime;
+        frameIndex = 1;
+    }
+
+    private long getDeadline(long frame) {
+        return startNanos + frame * NANOS_PER_SECOND / targetFps;
+    }
+
+    /**
+     * Starts the deadlines again with the next pulse (e.g. after a pause of the render loop).
+     */
+    public void reset() {
+        started = false;
+    }
+
+    public int getTargetFps() {
+        return targetFps;
+    }
+}
@@ -0,0 +1,26 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+/**
+ * Phases of a frame which are timed by the FrameProfiler.
+ * The first phases belong to the simulation (GameSimulation), the others to the render pass (GameViewController).
+ */
+public enum FramePhase {
+    TIMED_EVENTS("timed events"),
+    MOVE_SPACE_SHIP("move ship"),
+    DETECT_COLLISION("collision"),
+    GENERATE_PRESET("presets"),
+    MOVE_ELEMENTS("move elements"),
+    READ_SNAPSHOT("read snapshot"),
+    RENDER_ELEMENTS("draw elements"),
+    RENDER_INFO_BAR("draw info bar");
+
+    private final String label;
+
+    FramePhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,27 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event with the time which one frame spent in a FramePhase. Committed by the FrameProfiler at the end of a frame.
+ */
+@Name("ch.zhaw.it.pm3.spacerunner.FramePhase")
+@Label("Frame Phase")
+@Category({"Space Runner", "Frame"})
+@Description("Time which one frame spent in a phase of the simulation or the render pass")
+@StackTrace(false)
+class FramePhaseEvent extends Event {
+
+    @Label("Profiler")
+    String profiler;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Phase Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long phaseDuration;
+
+    @Label("Invocations")
+    int invocations;
+}
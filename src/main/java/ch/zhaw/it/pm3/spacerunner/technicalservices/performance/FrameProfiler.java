@@ -0,0 +1,146 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+import jdk.jfr.EventType;
+
+/**
+ * Times the phases of a frame with System.nanoTime() into preallocated accumulators per FramePhase.
+ * <p>
+ * A phase is timed by chaining begin() and end(): end() returns the current time, so the next phase can start with it
+ * and every phase costs only one call of System.nanoTime(). endFrame() closes a frame. Then the time of every phase is
+ * committed as FramePhaseEvent (if JFR records it) and added to the rolling stats, which are published every
+ * ROLLING_WINDOW_FRAMES frames.
+ * <p>
+ * The events can be recorded and printed on a headless box with
+ * "java -XX:StartFlightRecording=filename=game.jfr ..." and "jfr print --events ch.zhaw.it.pm3.spacerunner.FramePhase game.jfr".
+ * <p>
+ * A profiler has to be used by one thread, only the rolling stats can be read from other threads.
+ */
+public class FrameProfiler {
+
+    static final int ROLLING_WINDOW_FRAMES = 60;
+    private static final FramePhase[] PHASES = FramePhase.values();
+    private static final EventType FRAME_PHASE_EVENT_TYPE = EventType.getEventType(FramePhaseEvent.class);
+
+    private final String name;
+
+    private final long[] frameNanos = new long[PHASES.length];
+    private final int[] frameInvocations = new int[PHASES.length];
+    private final long[] windowNanos = new long[PHASES.length];
+    private final long[] windowMaxNanos = new long[PHASES.length];
+    private int windowFrames = 0;
+
+    private volatile long[] averageNanos = new long[PHASES.length];
+    private volatile long[] maxNanos = new long[PHASES.length];
+
+    /**
+     * @param name name of the profiler in the JFR events (e.g. "simulation"). not null
+     */
+    public FrameProfiler(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("name can not be null");
+        }
+        this.name = name;
+    }
+
+    /**
+     * @return start time of the first phase
+     */
+    public long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends a phase and adds its time to the current frame.
+     *
+     * @param phase      phase which ended
+     * @param startNanos start time of the phase (from begin() or from end() of the previous phase)
+     * @return end time of the phase, which is the start time of the next phase
+     */
+    public long end(FramePhase phase, long startNanos) {
+        long endNanos = System.nanoTime();
+        frameNanos[phase.ordinal()] += endNanos - startNanos;
+        frameInvocations[phase.ordinal()]++;
+        return endNanos;
+    }
+
+    /**
+     * Closes the current frame: commits the JFR events and adds the frame to the rolling stats.
+     */
+    public void endFrame() {
+        boolean recordEvents = FRAME_PHASE_EVENT_TYPE.isEnabled();
+        for (int i = 0; i < PHASES.length; i++) {
+            if (frameInvocations[i] == 0) {
+                continue;
+            }
+            if (recordEvents) {
+                commitEvent(PHASES[i], frameNanos[i], frameInvocations[i]);
+            }
+            windowNanos[i] += frameNanos[i];
+            windowMaxNanos[i] = Math.max(windowMaxNanos[i], frameNanos[i]);
+            frameNanos[i] = 0;
+            frameInvocations[i] = 0;
+        }
+
+        windowFrames++;
+        if (windowFrames >= ROLLING_WINDOW_FRAMES) {
+            publishWindow();
+        }
+    }
+
+    private void commitEvent(FramePhase phase, long phaseNanos, int invocations) {
+        FramePhaseEvent event = new FramePhaseEvent();
+        event.profiler = name;
+        event.phase = phase.getLabel();
+        event.phaseDuration = phaseNanos;
+        event.invocations = invocations;
+        event.commit();
+    }
+
+    private void publishWindow() {
+        long[] windowAverageNanos = new long[PHASES.length];
+        for (int i = 0; i < PHASES.length; i++) {
+            windowAverageNanos[i] = windowNanos[i] / windowFrames;
+            windowNanos[i] = 0;
+        }
+        maxNanos = windowMaxNanos.clone();
+        averageNanos = windowAverageNanos;
+        for (int i = 0; i < PHASES.length; i++) {
+            windowMaxNanos[i] = 0;
+        }
+        windowFrames = 0;
+    }
+
+    /**
+     * @param phase phase to get the time of
+     * @return average time per frame in nanoseconds which was spent in the phase during the last rolling window
+     */
+    public long getAverageNanos(FramePhase phase) {
+        return averageNanos[phase.ordinal()];
+    }
+
+    /**
+     * @param phase phase to get the time of
+     * @return longest time in nanoseconds which one frame of the last rolling window spent in the phase
+     */
+    public long getMaxNanos(FramePhase phase) {
+        return maxNanos[phase.ordinal()];
+    }
+
+    /**
+     * @return average times of the phases which were run in the last rolling window (e.g. "collision 0.12 ms")
+     */
+    @Override
+    public String toString() {
+        long[] currentAverageNanos = averageNanos;
+        StringBuilder stringBuilder = new StringBuilder();
+        for (FramePhase phase : PHASES) {
+            if (currentAverageNanos[phase.ordinal()] > 0) {
+                if (stringBuilder.length() > 0) {
+                    stringBuilder.append(", ");
+                }
+                stringBuilder.append(String.format("%s %.2f ms", phase.getLabel(), currentAverageNanos[phase.ordinal()] / 1e6));
+            }
+        }
+        return stringBuilder.toString();
+    }
+}
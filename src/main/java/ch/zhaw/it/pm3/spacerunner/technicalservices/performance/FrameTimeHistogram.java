@@ -0,0 +1,103 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+/**
+ * Log-linear histogram of frame times. Every power of two (in microseconds) is split into SUB_BUCKETS linear buckets,
+ * so a recorded value is off by at most 1 / SUB_BUCKETS (6.25%) while the whole range of 1 microsecond to minutes
+ * fits into a small fixed array. Recording doesn't allocate, so it can be called every frame.
+ * <p>
+ * The histogram is not thread-safe, it has to be used by the thread which renders the frames.
+ */
+public class FrameTimeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    //values above 2^30 microseconds (about 18 minutes) are counted in the last bucket
+    private static final int MAX_EXPONENT = 30;
+    private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Records the duration of a frame.
+     *
+     * @param frameNanos duration of the frame in nanoseconds. negative values are ignored
+     */
+    public void record(long frameNanos) {
+        if (frameNanos < 0) {
+            return;
+        }
+        counts[getBucketIndex(Math.min(frameNanos / 1000, MAX_MICROS))]++;
+        totalCount++;
+        maxNanos = Math.max(maxNanos, frameNanos);
+    }
+
+    private static int getBucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return highest value in microseconds which is counted in the bucket
+     */
+    private static long getBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKETS) {
+            return bucketIndex;
+        }
+        int exponent = bucketIndex / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucketIndex % SUB_BUCKETS;
+        long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket + 1) * bucketWidth - 1;
+    }
+
+    /**
+     * Gets the frame time which the specified percentage of the frames didn't exceed.
+     * The value is the upper bound of its bucket, but never more than the maximum recorded value.
+     *
+     * @param percentile percentile between 0 and 100 (e.g. 99.9)
+     * @return frame time in nanoseconds or 0 if no frames were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile has to be between 0 and 100");
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(getBucketUpperBound(i) * 1000 + 999, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        totalCount = 0;
+        maxNanos = 0;
+    }
+}
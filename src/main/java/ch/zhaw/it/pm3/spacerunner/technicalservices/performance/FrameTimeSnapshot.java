@@ -0,0 +1,62 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+/**
+ * Frame time statistics of the FPSTracker at one point in time. All the times are in nanoseconds.
+ */
+public class FrameTimeSnapshot {
+
+    private final long frameCount;
+    private final long lateFrameCount;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    FrameTimeSnapshot(FrameTimeHistogram histogram, long lateFrameCount) {
+        this.frameCount = histogram.getTotalCount();
+        this.lateFrameCount = lateFrameCount;
+        this.p50Nanos = histogram.getValueAtPercentile(50);
+        this.p90Nanos = histogram.getValueAtPercentile(90);
+        this.p99Nanos = histogram.getValueAtPercentile(99);
+        this.p999Nanos = histogram.getValueAtPercentile(99.9);
+        this.maxNanos = histogram.getMaxNanos();
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return number of frames which took longer than the deadline of the FPSTracker
+     */
+    public long getLateFrameCount() {
+        return lateFrameCount;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms, late %d/%d",
+                p50Nanos / 1e6, p90Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6, lateFrameCount, frameCount);
+    }
+}
@@ -114,6 +114,11 @@ public interface Persistence {
      */
     void saveProfile(PlayerProfile playerProfile);
 
+    /**
+     * Writes the saved changes which are not persisted yet immediately.
+     */
+    void flush();
+
     /**
      * Loads the shop content list.
      *
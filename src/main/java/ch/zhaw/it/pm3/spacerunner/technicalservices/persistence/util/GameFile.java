@@ -5,7 +5,8 @@ package ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util;
  */
 public enum GameFile {
     PROFILE("profile.json"),
-    SHOP_CONTENT("shop_content.json");
+    SHOP_CONTENT("shop_content.json"),
+    LAST_RUN_RECORDING("last_run.recording");
 
 
     public static boolean TEST = false;
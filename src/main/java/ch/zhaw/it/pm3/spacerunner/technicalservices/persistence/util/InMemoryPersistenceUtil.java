@@ -0,0 +1,136 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util;
+
+import ch.zhaw.it.pm3.spacerunner.domain.ContentId;
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.ShopContent;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persistence which keeps the player profile only in memory and never touches the disk.
+ * Used for games which have to be independent of the real profile (e.g. balancing runs or replays).
+ */
+public class InMemoryPersistenceUtil implements Persistence {
+    private PlayerProfile profile;
+
+    /**
+     * Creates a persistence with a copy of the given profile.
+     *
+     * @param playerProfile profile to start with. Not null
+     */
+    public InMemoryPersistenceUtil(PlayerProfile playerProfile) {
+        if (playerProfile == null) {
+            throw new IllegalArgumentException("playerProfile can not be null");
+        }
+        this.profile = new PlayerProfile(playerProfile);
+    }
+
+    @Override
+    public synchronized boolean hasDoubleDurationForCoinPowerUp() {
+        return profile.getActiveContentIds().contains(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+    }
+
+    @Override
+    public synchronized boolean hasPowerUpChanceMultiplierUpgrade() {
+        return profile.getActiveContentIds().contains(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+    }
+
+    @Override
+    public synchronized void deactivateContent(ContentId contentId) {
+        profile.deactivateContent(contentId);
+    }
+
+    @Override
+    public synchronized void activateContent(ContentId contentId) {
+        if (!profile.getPurchasedContentIds().contains(contentId)) {
+            throw new IllegalArgumentException("The player does not own the content that should be activated");
+        }
+        profile.activateContent(contentId);
+    }
+
+    @Override
+    public synchronized int getAmountOfCoinsNeededToBuyContent(int price) {
+        if (price < 0) {
+            throw new IllegalArgumentException("price to get amount of coins needed to buy has to be 0 or greater");
+        }
+        return Math.max(0, price - profile.getCoins());
+    }
+
+    @Override
+    public synchronized boolean playerHasEnoughCoinsToBuy(int price) {
+        if (price < 0) {
+            throw new IllegalArgumentException("price has to be 0 or greater");
+        }
+        return profile.getCoins() >= price;
+    }
+
+    @Override
+    public synchronized void buyContent(ContentId contentId, int price) {
+        if (contentId == null) {
+            throw new IllegalArgumentException("ContentId can not be null");
+        } else if (price < 0) {
+            throw new IllegalArgumentException("price has to be 0 or greater");
+        } else if (!playerHasEnoughCoinsToBuy(price)) {
+            throw new IllegalArgumentException("player does not have enough coins to buy the content: " + contentId.name());
+        }
+        profile.subtractCoins(price);
+        profile.addContent(contentId);
+    }
+
+    @Override
+    public synchronized boolean isContentActive(ContentId contentId) {
+        return profile.getActiveContentIds().contains(contentId);
+    }
+
+    @Override
+    public synchronized boolean isContentPurchased(ContentId contentId) {
+        return profile.getPurchasedContentIds().contains(contentId);
+    }
+
+    @Override
+    public synchronized void setSoundVolume(int soundVolume) {
+        profile.setVolume(soundVolume);
+    }
+
+    @Override
+    public synchronized int getSoundVolume() {
+        return profile.getVolume();
+    }
+
+    @Override
+    public synchronized boolean isAudioEnabled() {
+        return profile.isAudioEnabled();
+    }
+
+    @Override
+    public synchronized PlayerProfile loadProfile() {
+        return new PlayerProfile(profile);
+    }
+
+    @Override
+    public synchronized void saveProfile(PlayerProfile playerProfile) {
+        if (playerProfile == null) {
+            throw new IllegalArgumentException("null is not a legal argument for a player profile!");
+        }
+        profile = new PlayerProfile(playerProfile);
+    }
+
+    /**
+     * Nothing to write, the profile only lives in memory.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * There is no shop in memory.
+     *
+     * @return empty shop content list
+     */
+    @Override
+    public List<ShopContent> loadShopContent() {
+        return new ArrayList<>();
+    }
+}
@@ -8,14 +8,20 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -23,6 +29,11 @@ import java.util.stream.Collectors;
 /**
  * Utility tool to persist data (load / save) with Gson-library
  * Implemented with the singleton-pattern
+ * <p>
+ * The profile is loaded once and kept in memory, so reading the profile doesn't access the disk.
+ * Saved changes are written behind: several saves within WRITE_BEHIND_DELAY_MILLIS are written to the disk once.
+ * The file is written to a temporary file first and renamed afterwards, so a crash never leaves a half written profile.
+ * Pending changes are written when the application is shut down (or with flush()).
  *
  * @author islermic, kunnuman
  */
@@ -30,14 +41,34 @@ public class JsonPersistenceUtil implements Persistence {
 
     private final Logger logger = Logger.getLogger(JsonPersistenceUtil.class.getName());
 
-    private static final JsonPersistenceUtil JSON_PERSISTENCE_UTIL = new JsonPersistenceUtil();
+    private static final long WRITE_BEHIND_DELAY_MILLIS = 500;
 
     private static final Gson GSON = new Gson();
 
+    private static final JsonPersistenceUtil JSON_PERSISTENCE_UTIL = new JsonPersistenceUtil();
+
+    private final ScheduledExecutorService profileWriter = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "Profile Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    //only one write at a time, so an older profile never overwrites a newer one
+    private final Object writeLock = new Object();
+
+    //authoritative profile, null if not loaded yet
+    private PlayerProfile cachedProfile = null;
+    private String cachedProfilePath = null;
+    private boolean profileDirty = false;
+    private ScheduledFuture<?> pendingWrite = null;
+
+    private List<ShopContent> cachedShopContent = null;
+    private String cachedShopContentPath = null;
+
     /**
      * private constructor for the singleton-pattern
      */
     private JsonPersistenceUtil() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "Profile Flush"));
     }
 
     public static JsonPersistenceUtil getUtil() {
@@ -50,8 +81,8 @@ public class JsonPersistenceUtil implements Persistence {
      * @return if it is activated
      */
     @Override
-    public boolean hasDoubleDurationForCoinPowerUp() {
-        PlayerProfile profile = loadProfile();
+    public synchronized boolean hasDoubleDurationForCoinPowerUp() {
+        PlayerProfile profile = getProfile();
         return profile.getActiveContentIds().stream().anyMatch((activeContent) -> activeContent.equals(ContentId.DOUBLE_DURATION_COIN_UPGRADE));
     }
 
@@ -61,8 +92,8 @@ public class JsonPersistenceUtil implements Persistence {
      * @return if it is activated
      */
     @Override
-    public boolean hasPowerUpChanceMultiplierUpgrade() {
-        PlayerProfile profile = loadProfile();
+    public synchronized boolean hasPowerUpChanceMultiplierUpgrade() {
+        PlayerProfile profile = getProfile();
         return profile.getActiveContentIds().stream().anyMatch((activeContent) -> activeContent.equals(ContentId.POWER_UP_CHANCE_MULTIPLIER));
     }
 
@@ -72,10 +103,10 @@ public class JsonPersistenceUtil implements Persistence {
      * @param contentId id to be deactivated
      */
     @Override
-    public void deactivateContent(ContentId contentId) {
-        PlayerProfile profile = loadProfile();
+    public synchronized void deactivateContent(ContentId contentId) {
+        PlayerProfile profile = getProfile();
         profile.deactivateContent(contentId);
-        saveProfile(profile);
+        profileChanged();
     }
 
     /**
@@ -84,8 +115,8 @@ public class JsonPersistenceUtil implements Persistence {
      * @param contentId id to be activated
      */
     @Override
-    public void activateContent(ContentId contentId) {
-        PlayerProfile profile = loadProfile();
+    public synchronized void activateContent(ContentId contentId) {
+        PlayerProfile profile = getProfile();
 
         boolean ownsContent = profile.getPurchasedContentIds().contains(contentId);
 
@@ -94,7 +125,7 @@ public class JsonPersistenceUtil implements Persistence {
         }
 
         profile.activateContent(contentId);
-        saveProfile(profile);
+        profileChanged();
     }
 
     /**
@@ -104,12 +135,12 @@ public class JsonPersistenceUtil implements Persistence {
      * @return coins needed to be able to buy the content
      */
     @Override
-    public int getAmountOfCoinsNeededToBuyContent(int price) {
+    public synchronized int getAmountOfCoinsNeededToBuyContent(int price) {
         if (price < 0) {
             throw new IllegalArgumentException("price to get amount of coins needed to buy has to be 0 or greater");
         }
 
-        PlayerProfile profile = loadProfile();
+        PlayerProfile profile = getProfile();
         if (profile.getCoins() >= price) {
             return 0;
         }
@@ -123,12 +154,12 @@ public class JsonPersistenceUtil implements Persistence {
      * @return user has enough coins
      */
     @Override
-    public boolean playerHasEnoughCoinsToBuy(int price) {
+    public synchronized boolean playerHasEnoughCoinsToBuy(int price) {
         if (price < 0) {
             throw new IllegalArgumentException("price has to be 0 or greater");
         }
 
-        PlayerProfile profile = loadProfile();
+        PlayerProfile profile = getProfile();
         return profile.getCoins() >= price;
     }
 
@@ -139,7 +170,7 @@ public class JsonPersistenceUtil implements Persistence {
      * @param price     price of content. Has to be higher or equal zero
      */
     @Override
-    public void buyContent(ContentId contentId, int price) {
+    public synchronized void buyContent(ContentId contentId, int price) {
         if (contentId == null) {
             throw new IllegalArgumentException("ContentId can not be null");
         } else if (price < 0) {
@@ -148,10 +179,10 @@ public class JsonPersistenceUtil implements Persistence {
             throw new IllegalArgumentException("player does not have enough coins to buy the content: " + contentId.name());
         }
 
-        PlayerProfile profile = loadProfile();
+        PlayerProfile profile = getProfile();
         profile.subtractCoins(price);
         profile.addContent(contentId);
-        saveProfile(profile);
+        profileChanged();
     }
 
     /**
@@ -161,8 +192,8 @@ public class JsonPersistenceUtil implements Persistence {
      * @return is active
      */
     @Override
-    public boolean isContentActive(ContentId contentId) {
-        PlayerProfile profile = loadProfile();
+    public synchronized boolean isContentActive(ContentId contentId) {
+        PlayerProfile profile = getProfile();
         return profile.getActiveContentIds().contains(contentId);
     }
 
@@ -173,8 +204,8 @@ public class JsonPersistenceUtil implements Persistence {
      * @return is purchased
      */
     @Override
-    public boolean isContentPurchased(ContentId contentId) {
-        PlayerProfile profile = loadProfile();
+    public synchronized boolean isContentPurchased(ContentId contentId) {
+        PlayerProfile profile = getProfile();
         return profile.getPurchasedContentIds().contains(contentId);
     }
 
@@ -182,10 +213,10 @@ public class JsonPersistenceUtil implements Persistence {
      * Set the specified sound volume in the profile.
      */
     @Override
-    public void setSoundVolume(int soundVolume) {
-        PlayerProfile profile = loadProfile();
+    public synchronized void setSoundVolume(int soundVolume) {
+        PlayerProfile profile = getProfile();
         profile.setVolume(soundVolume);
-        saveProfile(profile);
+        profileChanged();
     }
 
     ;
@@ -196,8 +227,8 @@ public class JsonPersistenceUtil implements Persistence {
      * @return sound volume
      */
     @Override
-    public int getSoundVolume() {
-        return loadProfile().getVolume();
+    public synchronized int getSoundVolume() {
+        return getProfile().getVolume();
     }
 
     /**
@@ -206,35 +237,53 @@ public class JsonPersistenceUtil implements Persistence {
      * @return is audio enabled
      */
     @Override
-    public boolean isAudioEnabled() {
-        return loadProfile().isAudioEnabled();
+    public synchronized boolean isAudioEnabled() {
+        return getProfile().isAudioEnabled();
     }
 
     /**
-     * Load the profile of the player from the disk where it is saved in json.
+     * Load the profile of the player. The profile is read from the disk (where it is saved in json) only once and kept in memory.
      * If there is no profile.json found it will return a new default profile!
      *
-     * @return the player's profile (or a default profile if it doesn't exist)
+     * @return copy of the player's profile (or a default profile if it doesn't exist)
      */
     @Override
-    public PlayerProfile loadProfile() {
-        Path path = Path.of(GameFile.PROFILE.getFileName());
-        PlayerProfile playerProfile = null;
+    public synchronized PlayerProfile loadProfile() {
+        return new PlayerProfile(getProfile());
+    }
 
+    /**
+     * Gets the authoritative profile in memory. Has to be called while holding the lock of this util.
+     * Loads the profile from the disk if it is not loaded yet (or the profile file changed, e.g. for tests).
+     */
+    private PlayerProfile getProfile() {
+        String profilePath = GameFile.PROFILE.getFileName();
+        if (cachedProfile != null && profilePath.equals(cachedProfilePath)) {
+            return cachedProfile;
+        }
+        if (profileDirty) {
+            //the changes belong to the previous profile file
+            flushLater(0);
+        }
 
-        if (path != null && Files.exists(path)) {
+        Path path = Path.of(profilePath);
+        PlayerProfile playerProfile = null;
+
+        if (Files.exists(path)) {
             try {
-                playerProfile = loadAndDeserializeData(GameFile.PROFILE.getFileName(), PlayerProfile.class);
+                playerProfile = loadAndDeserializeData(profilePath, PlayerProfile.class);
             } catch (IOException e) {
                 logger.log(Level.SEVERE, "Unable to Load and / or Deserialize Data");
-                playerProfile = new PlayerProfile();
             }
-        } else {
+        }
+        if (playerProfile == null) {
             playerProfile = new PlayerProfile();
         }
 
         playerProfile.setActiveShopContent(loadActiveContent(playerProfile.getActiveContentIds()));
 
+        cachedProfile = playerProfile;
+        cachedProfilePath = profilePath;
         return playerProfile;
     }
 
@@ -258,23 +307,102 @@ public class JsonPersistenceUtil implements Persistence {
     }
 
     /**
-     * Save the player profile in json-format to the disk
+     * Save the player profile in json-format to the disk.
+     * The profile in memory is replaced immediately, the file is written behind (see flush()).
      *
      * @param playerProfile player profile to save
      */
     @Override
-    public void saveProfile(PlayerProfile playerProfile) {
+    public synchronized void saveProfile(PlayerProfile playerProfile) {
         if (playerProfile == null) {
             throw new IllegalArgumentException("null is not a legal argument for a player profile!");
         }
 
-        try {
-            serializeAndSaveData(GameFile.PROFILE.getFileName(), playerProfile);
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Unable to Serialize and / or load Data");
+        PlayerProfile savedProfile = new PlayerProfile(playerProfile);
+        savedProfile.setActiveShopContent(loadActiveContent(savedProfile.getActiveContentIds()));
+
+        //changes of the previous profile file can not be mixed into the new one
+        if (profileDirty && !GameFile.PROFILE.getFileName().equals(cachedProfilePath)) {
+            flushLater(0);
+        }
+        cachedProfile = savedProfile;
+        cachedProfilePath = GameFile.PROFILE.getFileName();
+        profileChanged();
+    }
+
+    /**
+     * Writes the changed profile immediately (and waits until it is written).
+     */
+    @Override
+    public void flush() {
+        synchronized (writeLock) {
+            String profilePath;
+            String profileJson;
+            synchronized (this) {
+                if (pendingWrite != null) {
+                    pendingWrite.cancel(false);
+                    pendingWrite = null;
+                }
+                if (!profileDirty) {
+                    return;
+                }
+                profilePath = cachedProfilePath;
+                profileJson = GSON.toJson(cachedProfile);
+                profileDirty = false;
+            }
+
+            try {
+                writeAtomically(profilePath, profileJson);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Unable to Serialize and / or load Data");
+            }
+        }
+    }
+
+    /**
+     * Discards the profile in memory (including the changes which are not written yet).
+     * The next access loads the profile from the disk again. Used if the file was changed by someone else (e.g. tests).
+     */
+    public synchronized void discardCachedProfile() {
+        if (pendingWrite != null) {
+            pendingWrite.cancel(false);
+            pendingWrite = null;
         }
+        profileDirty = false;
+        cachedProfile = null;
+        cachedProfilePath = null;
     }
 
+    private void profileChanged() {
+        profileDirty = true;
+        if (pendingWrite == null) {
+            flushLater(WRITE_BEHIND_DELAY_MILLIS);
+        }
+    }
+
+    private void flushLater(long delayMillis) {
+        if (pendingWrite != null) {
+            pendingWrite.cancel(false);
+        }
+        if (delayMillis == 0) {
+            //has to be written before the cached profile is replaced
+            pendingWrite = null;
+            String profileJson = GSON.toJson(cachedProfile);
+            String profilePath = cachedProfilePath;
+            profileDirty = false;
+            profileWriter.execute(() -> {
+                synchronized (writeLock) {
+                    try {
+                        writeAtomically(profilePath, profileJson);
+                    } catch (IOException e) {
+                        logger.log(Level.SEVERE, "Unable to Serialize and / or load Data");
+                    }
+                }
+            });
+        } else {
+            pendingWrite = profileWriter.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
 
     /**
      * Serialize the data object of type T and save it as JSON to the path
@@ -285,10 +413,25 @@ public class JsonPersistenceUtil implements Persistence {
      * @throws IOException if there is an error loading the file
      */
     public <T> void serializeAndSaveData(String path, T data) throws IOException {
-        try (FileWriter writer = new FileWriter(path)) {
-            GSON.toJson(data, writer);
-        } catch (IOException e) {
-            throw e;
+        writeAtomically(path, GSON.toJson(data));
+    }
+
+    /**
+     * Writes the content to a temporary file next to the file and renames it afterwards,
+     * so the file contains either the old or the new content.
+     */
+    private void writeAtomically(String path, String content) throws IOException {
+        Path filePath = Path.of(path).toAbsolutePath();
+        Path tempPath = Files.createTempFile(filePath.getParent(), filePath.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(tempPath, content, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
         }
     }
 
@@ -316,16 +459,20 @@ public class JsonPersistenceUtil implements Persistence {
      * @return shop content list
      */
     @Override
-    public List<ShopContent> loadShopContent() {
-        Type listOfShopContentType = new TypeToken<ArrayList<ShopContent>>() {
-        }.getType();
+    public synchronized List<ShopContent> loadShopContent() {
+        String shopContentPath = GameFile.SHOP_CONTENT.getFileName();
+        if (cachedShopContent == null || !shopContentPath.equals(cachedShopContentPath)) {
+            Type listOfShopContentType = new TypeToken<ArrayList<ShopContent>>() {
+            }.getType();
 
-        List<ShopContent> shopContentList = null;
-        try {
-            shopContentList = loadAndDeserializeData(GameFile.SHOP_CONTENT.getFileName(), listOfShopContentType);
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error with Loading and / or Deserializing Data");
+            try {
+                cachedShopContent = loadAndDeserializeData(shopContentPath, listOfShopContentType);
+                cachedShopContentPath = shopContentPath;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Error with Loading and / or Deserializing Data");
+                return null;
+            }
         }
-        return shopContentList;
+        return new ArrayList<>(cachedShopContent);
     }
 }
@@ -17,6 +17,8 @@ import java.net.URL;
 public class GameSoundUtil {
 
     private final SoundUtil soundUtil = SoundUtil.getUtil();
+    private final SoundBank soundBank = SoundBank.getBank();
+    private final SoundMixer soundMixer = SoundMixer.getMixer();
     private static final GameSoundUtil GAME_SOUND_UTIL = new GameSoundUtil();
 
     private GameSoundUtil() {
@@ -42,11 +44,54 @@ public class GameSoundUtil {
         return soundUtil.loadClip(audioFile);
     }
 
+    /**
+     * Decodes all the sound effects into memory, so they can be played without any file access.
+     * The background music is not preloaded because it is played by a looping SoundClip.
+     */
+    public void preloadSounds() {
+        soundBank.preload(GameSound.EXPLOSION, GameSound.GAME_OVER_VOICE, GameSound.GAME_OVER_1,
+                GameSound.GAME_OVER_2, GameSound.POWER_UP_PICKUP, GameSound.COIN_PICKUP);
+    }
+
+    /**
+     * Plays the sound effect through the SoundMixer. The call doesn't block.
+     *
+     * @param gameSound Sound to play
+     * @throws IOException if there is an issue with loading the file
+     * @throws UnsupportedAudioFileException if the audio format of the file is not supported
+     */
+    public void playSound(GameSound gameSound) throws IOException, UnsupportedAudioFileException {
+        playSound(gameSound, 0);
+    }
+
+    /**
+     * Plays the sound effect through the SoundMixer after the delay. The call doesn't block.
+     *
+     * @param gameSound Sound to play
+     * @param delayMillis time to wait before the sound starts
+     * @throws IOException if there is an issue with loading the file
+     * @throws UnsupportedAudioFileException if the audio format of the file is not supported
+     */
+    public void playSound(GameSound gameSound, long delayMillis) throws IOException, UnsupportedAudioFileException {
+        soundMixer.play(soundBank.getSound(gameSound), delayMillis);
+    }
+
+    /**
+     * @param gameSound Sound to get the duration of
+     * @return playing time of the sound in milliseconds
+     * @throws IOException if there is an issue with loading the file
+     * @throws UnsupportedAudioFileException if the audio format of the file is not supported
+     */
+    public long getSoundDurationMillis(GameSound gameSound) throws IOException, UnsupportedAudioFileException {
+        return soundBank.getSound(gameSound).getDurationMillis();
+    }
+
     public int getVolume() {
         return soundUtil.getVolume();
     }
 
     public void setVolume(int volume) {
         soundUtil.setVolume(volume);
+        soundMixer.setVolume(volume);
     }
 }
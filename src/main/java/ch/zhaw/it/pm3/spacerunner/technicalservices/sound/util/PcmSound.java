@@ -0,0 +1,37 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util;
+
+/**
+ * Decoded sound in the format of the SoundMixer (16 bit signed samples, interleaved stereo, 44100 Hz).
+ */
+public class PcmSound {
+
+    private final short[] samples;
+
+    /**
+     * @param samples interleaved stereo samples (left, right, left, ...). not null
+     */
+    public PcmSound(short[] samples) {
+        if (samples == null) {
+            throw new IllegalArgumentException("samples can not be null");
+        }
+        this.samples = samples;
+    }
+
+    short[] getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return number of frames (one frame contains the sample of every channel)
+     */
+    public int getFrameCount() {
+        return samples.length / SoundMixer.CHANNELS;
+    }
+
+    /**
+     * @return playing time of the sound in milliseconds
+     */
+    public long getDurationMillis() {
+        return (long) (getFrameCount() * 1000L / SoundMixer.FORMAT.getSampleRate());
+    }
+}
@@ -0,0 +1,145 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util;
+
+import ch.zhaw.it.pm3.spacerunner.SpaceRunnerApp;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the decoded sounds of the game in memory, so a sound is read and decoded only once.
+ * Implemented with the singleton-pattern.
+ */
+public class SoundBank {
+
+    private final Logger logger = Logger.getLogger(SoundBank.class.getName());
+
+    private static final SoundBank SOUND_BANK = new SoundBank();
+
+    private final Map<GameSound, PcmSound> sounds = new EnumMap<>(GameSound.class);
+
+    /**
+     * private constructor for the singleton-pattern
+     */
+    private SoundBank() {
+    }
+
+    public static SoundBank getBank() {
+        return SOUND_BANK;
+    }
+
+    /**
+     * Decodes the sounds into memory. Sounds which can't be loaded are logged and skipped.
+     *
+     * @param gameSounds sounds to load
+     */
+    public void preload(GameSound... gameSounds) {
+        for (GameSound gameSound : gameSounds) {
+            try {
+                getSound(gameSound);
+            } catch (IOException | UnsupportedAudioFileException e) {
+                logger.log(Level.WARNING, "Sound {0} couldn't be loaded", gameSound);
+            }
+        }
+    }
+
+    /**
+     * Gets the decoded sound. If the sound was not loaded yet, it is decoded now.
+     *
+     * @param gameSound sound to get. not null
+     * @return decoded sound
+     * @throws IOException                   if there is an issue with loading the file
+     * @throws UnsupportedAudioFileException if the audio format of the file is not supported
+     */
+    public synchronized PcmSound getSound(GameSound gameSound) throws IOException, UnsupportedAudioFileException {
+        if (gameSound == null) {
+            throw new IllegalArgumentException("gameSound can not be null");
+        }
+
+        PcmSound sound = sounds.get(gameSound);
+        if (sound == null) {
+            URL soundURL = SpaceRunnerApp.class.getResource(gameSound.getFileName());
+            if (soundURL == null) {
+                throw new IOException("Sound file " + gameSound.getFileName() + " not found");
+            }
+            sound = decode(soundURL);
+            sounds.put(gameSound, sound);
+        }
+        return sound;
+    }
+
+    /**
+     * Decodes the audio file into the format of the SoundMixer.
+     */
+    private PcmSound decode(URL soundURL) throws IOException, UnsupportedAudioFileException {
+        try (InputStream inputStream = new BufferedInputStream(soundURL.openStream());
+             AudioInputStream sourceStream = AudioSystem.getAudioInputStream(inputStream)) {
+            AudioFormat sourceFormat = sourceStream.getFormat();
+            AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, sourceFormat.getSampleRate(), 16,
+                    sourceFormat.getChannels(), sourceFormat.getChannels() * 2, sourceFormat.getSampleRate(), false);
+
+            try (AudioInputStream pcmStream = AudioSystem.getAudioInputStream(pcmFormat, sourceStream)) {
+                byte[] bytes = pcmStream.readAllBytes();
+                short[] samples = new short[bytes.length / 2];
+                ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+                samples = toStereo(samples, pcmFormat.getChannels());
+                samples = resample(samples, pcmFormat.getSampleRate());
+                return new PcmSound(samples);
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedAudioFileException("Can't convert " + sourceFormat + " to PCM");
+            }
+        }
+    }
+
+    private short[] toStereo(short[] samples, int channels) throws UnsupportedAudioFileException {
+        if (channels == SoundMixer.CHANNELS) {
+            return samples;
+        } else if (channels != 1) {
+            throw new UnsupportedAudioFileException("Only mono and stereo sounds are supported");
+        }
+
+        short[] stereoSamples = new short[samples.length * 2];
+        for (int i = 0; i < samples.length; i++) {
+            stereoSamples[i * 2] = samples[i];
+            stereoSamples[i * 2 + 1] = samples[i];
+        }
+        return stereoSamples;
+    }
+
+    /**
+     * Converts the sample rate with linear interpolation.
+     */
+    private short[] resample(short[] samples, float sampleRate) {
+        float targetRate = SoundMixer.FORMAT.getSampleRate();
+        if (sampleRate == targetRate) {
+            return samples;
+        }
+
+        int frames = samples.length / SoundMixer.CHANNELS;
+        int targetFrames = (int) ((long) frames * targetRate / sampleRate);
+        short[] resampled = new short[targetFrames * SoundMixer.CHANNELS];
+        for (int frame = 0; frame < targetFrames; frame++) {
+            double sourcePosition = frame * (double) sampleRate / targetRate;
+            int sourceFrame = Math.min((int) sourcePosition, frames - 1);
+            int nextFrame = Math.min(sourceFrame + 1, frames - 1);
+            double fraction = sourcePosition - sourceFrame;
+            for (int channel = 0; channel < SoundMixer.CHANNELS; channel++) {
+                double sample = samples[sourceFrame * SoundMixer.CHANNELS + channel] * (1 - fraction)
+                        + samples[nextFrame * SoundMixer.CHANNELS + channel] * fraction;
+                resampled[frame * SoundMixer.CHANNELS + channel] = (short) Math.round(sample);
+            }
+        }
+        return resampled;
+    }
+}
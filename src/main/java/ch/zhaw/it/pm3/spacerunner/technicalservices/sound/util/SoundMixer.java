@@ -0,0 +1,225 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays decoded sounds through one shared audio line.
+ * A single mixer thread adds up the active voices block by block. If all voices are busy the oldest voice is stolen.
+ * Implemented with the singleton-pattern.
+ */
+public class SoundMixer {
+
+    static final int CHANNELS = 2;
+    static final AudioFormat FORMAT = new AudioFormat(44100, 16, CHANNELS, true, false);
+    static final int BLOCK_FRAMES = 512;
+    static final int MAX_VOICES = 16;
+
+    private static final int MAX_PENDING_TRIGGERS = 64;
+    private static final int LINE_BUFFER_BLOCKS = 4;
+
+    private final Logger logger = Logger.getLogger(SoundMixer.class.getName());
+
+    private static final SoundMixer SOUND_MIXER = new SoundMixer(MAX_VOICES);
+
+    private final BlockingQueue<SoundTrigger> triggers = new ArrayBlockingQueue<>(MAX_PENDING_TRIGGERS);
+
+    // voice state, only accessed by the mixing thread
+    private final short[][] voiceSamples;
+    private final int[] voicePositions;
+    private final long[] voiceDelays;
+    private final long[] voiceStarts;
+    private long startedVoices = 0;
+    private int activeVoices = 0;
+    private int[] mixed = new int[0];
+
+    private volatile float gain = 1;
+    private boolean started = false;
+    private boolean disabled = false;
+
+    SoundMixer(int maxVoices) {
+        voiceSamples = new short[maxVoices][];
+        voicePositions = new int[maxVoices];
+        voiceDelays = new long[maxVoices];
+        voiceStarts = new long[maxVoices];
+    }
+
+    public static SoundMixer getMixer() {
+        return SOUND_MIXER;
+    }
+
+    /**
+     * Sets the volume of all the sounds played by the mixer.
+     * The volume is scaled like in SoundClip (-30 to 0 decibel).
+     *
+     * @param volume desired volume from 0 - 100
+     */
+    public void setVolume(int volume) {
+        if (volume < 0 || volume > 100) {
+            throw new IllegalArgumentException("Invalid volume. Volume must me between 0 - 100");
+        }
+        gain = volume == 0 ? 0 : (float) Math.pow(10, (volume - 100) * 0.3 / 20);
+    }
+
+    /**
+     * Plays the sound after the delay. The call doesn't block, the sound is mixed by the mixer thread.
+     *
+     * @param sound       sound to play. not null
+     * @param delayMillis time to wait before the sound starts
+     */
+    public void play(PcmSound sound, long delayMillis) {
+        if (sound == null) {
+            throw new IllegalArgumentException("sound can not be null");
+        }
+        if (!startMixingThread()) {
+            return;
+        }
+
+        long delayFrames = (long) (Math.max(0, delayMillis) * FORMAT.getSampleRate() / 1000);
+        if (!triggers.offer(new SoundTrigger(sound, delayFrames))) {
+            logger.log(Level.FINE, "Too many pending sounds, sound dropped");
+        }
+    }
+
+    private synchronized boolean startMixingThread() {
+        if (!started && !disabled) {
+            try {
+                SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+                line.open(FORMAT, BLOCK_FRAMES * FORMAT.getFrameSize() * LINE_BUFFER_BLOCKS);
+                line.start();
+
+                Thread mixingThread = new Thread(() -> mix(line), "Sound Mixer");
+                mixingThread.setDaemon(true);
+                mixingThread.start();
+                started = true;
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                logger.log(Level.WARNING, "No audio line available, sounds are disabled");
+                disabled = true;
+            }
+        }
+        return started;
+    }
+
+    private void mix(SourceDataLine line) {
+        short[] block = new short[BLOCK_FRAMES * CHANNELS];
+        byte[] bytes = new byte[block.length * 2];
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (activeVoices == 0) {
+                    startVoice(triggers.take());
+                }
+                render(block);
+                for (int i = 0; i < block.length; i++) {
+                    bytes[i * 2] = (byte) block[i];
+                    bytes[i * 2 + 1] = (byte) (block[i] >> 8);
+                }
+                line.write(bytes, 0, bytes.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            line.close();
+        }
+    }
+
+    /**
+     * Starts the pending sounds and mixes the next block of all the active voices.
+     *
+     * @param block interleaved stereo samples to fill
+     */
+    void render(short[] block) {
+        SoundTrigger trigger;
+        while ((trigger = triggers.poll()) != null) {
+            startVoice(trigger);
+        }
+
+        int frames = block.length / CHANNELS;
+        if (mixed.length != block.length) {
+            mixed = new int[block.length];
+        } else {
+            Arrays.fill(mixed, 0);
+        }
+        for (int voice = 0; voice < voiceSamples.length; voice++) {
+            short[] samples = voiceSamples[voice];
+            if (samples == null) {
+                continue;
+            }
+
+            int startFrame = (int) Math.min(voiceDelays[voice], frames);
+            voiceDelays[voice] -= startFrame;
+
+            int position = voicePositions[voice];
+            int length = Math.min((frames - startFrame) * CHANNELS, samples.length - position);
+            int offset = startFrame * CHANNELS;
+            for (int i = 0; i < length; i++) {
+                mixed[offset + i] += samples[position + i];
+            }
+            voicePositions[voice] = position + length;
+
+            if (voicePositions[voice] >= samples.length) {
+                voiceSamples[voice] = null;
+                activeVoices--;
+            }
+        }
+
+        float currentGain = gain;
+        for (int i = 0; i < block.length; i++) {
+            int sample = Math.round(mixed[i] * currentGain);
+            block[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+        }
+    }
+
+    /**
+     * Queues the sound without starting the mixer thread. The sound starts with the next rendered block.
+     */
+    void queue(PcmSound sound, long delayFrames) {
+        triggers.offer(new SoundTrigger(sound, delayFrames));
+    }
+
+    int getActiveVoices() {
+        return activeVoices;
+    }
+
+    private void startVoice(SoundTrigger trigger) {
+        int voice = findFreeVoice();
+        if (voiceSamples[voice] == null) {
+            activeVoices++;
+        }
+        voiceSamples[voice] = trigger.sound.getSamples();
+        voicePositions[voice] = 0;
+        voiceDelays[voice] = trigger.delayFrames;
+        voiceStarts[voice] = startedVoices++;
+    }
+
+    /**
+     * @return index of a free voice or of the oldest voice if all are busy
+     */
+    private int findFreeVoice() {
+        int oldestVoice = 0;
+        for (int voice = 0; voice < voiceSamples.length; voice++) {
+            if (voiceSamples[voice] == null) {
+                return voice;
+            } else if (voiceStarts[voice] < voiceStarts[oldestVoice]) {
+                oldestVoice = voice;
+            }
+        }
+        return oldestVoice;
+    }
+
+    private static class SoundTrigger {
+        private final PcmSound sound;
+        private final long delayFrames;
+
+        private SoundTrigger(PcmSound sound, long delayFrames) {
+            this.sound = sound;
+            this.delayFrames = delayFrames;
+        }
+    }
+}
@@ -2,25 +2,35 @@ package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager;
 
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGAnimationFiles;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 /**
  * Container for multiple visuals which represent an animated visual.
+ * The current frame only depends on the time, so reading it (e.g. for the dimensions) doesn't advance the animation.
+ * The visual manager doesn't set the frames on the specified animated visual, it publishes a copy with the loaded frames.
  *
  * @author islermic
  */
 public class AnimatedVisual {
-    private long animationTimeStamp = 0;
-    private final AtomicInteger animationPointer = new AtomicInteger(0);
     private final VisualSVGAnimationFiles visualSVGAnimationFiles;
-    private Visual[] visuals;
+    private final Visual[] visuals;
     private VisualScaling visualScaling;
 
 
     public AnimatedVisual(VisualSVGAnimationFiles visualSVGAnimationFiles, VisualScaling visualScaling) {
-        this.animationPointer.set(0);
         this.visualSVGAnimationFiles = visualSVGAnimationFiles;
         this.visualScaling = visualScaling;
+        this.visuals = null;
+    }
+
+    /**
+     * Creates a copy of the animated visual with the loaded frames.
+     *
+     * @param animatedVisual animated visual to copy
+     * @param visuals        loaded visual of every frame
+     */
+    AnimatedVisual(AnimatedVisual animatedVisual, Visual[] visuals) {
+        this.visualSVGAnimationFiles = animatedVisual.visualSVGAnimationFiles;
+        this.visualScaling = animatedVisual.visualScaling;
+        this.visuals = visuals;
     }
 
     public VisualSVGAnimationFiles getVisualSVGFiles() {
@@ -31,27 +41,34 @@ public class AnimatedVisual {
         return visuals;
     }
 
-    public void setVisuals(Visual[] visuals) {
-        this.visuals = visuals;
-    }
-
     /**
-     * Gets the current visual depending on the animation pointer.
+     * Gets the visual of the animation at the current time.
      *
      * @return the current visual which represents this animation
      */
     public Visual getCurrentVisual() {
-        long currentTime = System.currentTimeMillis();
+        return getVisualAt(System.currentTimeMillis());
+    }
 
-        if (currentTime - animationTimeStamp > visualSVGAnimationFiles.getAnimationStepTime()) {
-            if (animationPointer.get() < visuals.length - 1) {
-                animationPointer.incrementAndGet();
-            } else {
-                animationPointer.set(0);
-            }
-            animationTimeStamp = System.currentTimeMillis();
-        }
-        return this.visuals[animationPointer.get()];
+    /**
+     * Gets the visual of the animation at the specified time. Every frame is shown for the animation step time.
+     *
+     * @param timeMillis time in milliseconds
+     * @return the visual which represents this animation at the time
+     */
+    public Visual getVisualAt(long timeMillis) {
+        return this.visuals[getFrameIndexAt(timeMillis)];
+    }
+
+    /**
+     * Gets the index of the frame of the animation at the specified time (see getVisualAt).
+     *
+     * @param timeMillis time in milliseconds
+     * @return index of the frame in getVisuals()
+     */
+    public int getFrameIndexAt(long timeMillis) {
+        long frame = Math.floorDiv(timeMillis, visualSVGAnimationFiles.getAnimationStepTime());
+        return (int) Math.floorMod(frame, (long) visuals.length);
     }
 
     public VisualScaling getVisualScaling() {
@@ -0,0 +1,145 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable table of the relative dimensions (0 - 1 of the viewport) of every VisualElement type for one viewport.
+ * The VisualManager computes a new table whenever the visuals or the viewport change and publishes it together with
+ * the new visuals, so the game logic can read the dimensions without locks and without touching the images.
+ * Two tables are equal if they have the same viewport and the same dimensions (e.g. after the same visuals were loaded
+ * again).
+ */
+public class ElementDimensions {
+
+    private final int viewportWidth;
+    private final int viewportHeight;
+    private final Map<Class<? extends VisualElement>, double[]> dimensions;
+
+    private ElementDimensions(int viewportWidth, int viewportHeight, Map<Class<? extends VisualElement>, double[]> dimensions) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.dimensions = dimensions;
+    }
+
+    /**
+     * Creates a table without dimensions (before any visual is loaded).
+     *
+     * @param viewportWidth  width of the viewport in px
+     * @param viewportHeight height of the viewport in px
+     * @return empty table
+     */
+    static ElementDimensions empty(int viewportWidth, int viewportHeight) {
+        return new ElementDimensions(viewportWidth, viewportHeight, Map.of());
+    }
+
+    /**
+     * Computes the dimensions of the loaded visuals. The height is the scaling of the visual, the width is the width of
+     * the image relative to the viewport. Animations use their widest frame, so the dimension doesn't depend on the
+     * frame which is shown at the moment. An animated visual is preferred to the visual of the same type.
+     *
+     * @param viewportWidth   width of the viewport in px
+     * @param viewportHeight  height of the viewport in px
+     * @param visuals         loaded visuals per type
+     * @param animatedVisuals loaded animated visuals per type
+     * @return table with the dimensions of all the types with a loaded image
+     */
+    static ElementDimensions compute(int viewportWidth, int viewportHeight, Map<Class<? extends VisualElement>, Visual> visuals,
+                                     Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals) {
+        Map<Class<? extends VisualElement>, double[]> dimensions = new HashMap<>();
+        for (Map.Entry<Class<? extends VisualElement>, Visual> visualEntry : visuals.entrySet()) {
+            Visual visual = visualEntry.getValue();
+            putDimension(dimensions, visualEntry.getKey(), visual.getVisualScaling(), visual.getBufferedImage(), viewportWidth, viewportHeight);
+        }
+        for (Map.Entry<Class<? extends VisualElement>, AnimatedVisual> animatedVisualEntry : animatedVisuals.entrySet()) {
+            AnimatedVisual animatedVisual = animatedVisualEntry.getValue();
+            BufferedImage widestImage = null;
+            for (Visual visual : animatedVisual.getVisuals()) {
+                BufferedImage image = visual.getBufferedImage();
+                if (image != null && (widestImage == null || image.getWidth() > widestImage.getWidth())) {
+                    widestImage = image;
+                }
+            }
+            putDimension(dimensions, animatedVisualEntry.getKey(), animatedVisual.getVisualScaling(), widestImage, viewportWidth, viewportHeight);
+        }
+        return new ElementDimensions(viewportWidth, viewportHeight, dimensions);
+    }
+
+    private static void putDimension(Map<Class<? extends VisualElement>, double[]> dimensions, Class<? extends VisualElement> elementClass,
+                                      VisualScaling visualScaling, BufferedImage image, int viewportWidth, int viewportHeight) {
+        if (image == null) {
+            return;
+        }
+        double relativeHeight = visualScaling == null ? image.getHeight() / (double) viewportHeight : visualScaling.getScaling();
+        dimensions.put(elementClass, new double[]{image.getWidth() / (double) viewportWidth, relativeHeight});
+    }
+
+    /**
+     * @param elementClass type of the element
+     * @return relative width of the type
+     * @throws VisualNotSetException if no visual of the type was loaded
+     */
+    public double getRelativeWidth(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
+        return getDimension(elementClass)[0];
+    }
+
+    /**
+     * @param elementClass type of the element
+     * @return relative height of the type
+     * @throws VisualNotSetException if no visual of the type was loaded
+     */
+    public double getRelativeHeight(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
+        return getDimension(elementClass)[1];
+    }
+
+    private double[] getDimension(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
+        double[] dimension = dimensions.get(elementClass);
+        if (dimension == null) {
+            throw new VisualNotSetException("Visual for " + elementClass.toString() + " was not set!");
+        }
+        return dimension;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ElementDimensions that = (ElementDimensions) o;
+        if (viewportWidth != that.viewportWidth || viewportHeight != that.viewportHeight
+                || !dimensions.keySet().equals(that.dimensions.keySet())) {
+            return false;
+        }
+        for (Map.Entry<Class<? extends VisualElement>, double[]> dimension : dimensions.entrySet()) {
+            if (!Arrays.equals(dimension.getValue(), that.dimensions.get(dimension.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(viewportWidth, viewportHeight, dimensions.keySet());
+    }
+
+    /**
+     * @return width in px of the viewport the dimensions were computed for
+     */
+    public int getViewportWidth() {
+        return viewportWidth;
+    }
+
+    /**
+     * @return height in px of the viewport the dimensions were computed for
+     */
+    public int getViewportHeight() {
+        return viewportHeight;
+    }
+}
@@ -0,0 +1,99 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable state of the VisualManager: the loaded visuals and animated visuals per class together with their
+ * dimensions. The VisualManager never changes a published state, it creates a new one with new Visual and
+ * AnimatedVisual instances and replaces the old one with a single write. So a reader which keeps a state sees the
+ * images and the dimensions of one loading without taking a lock.
+ */
+public class LoadedVisuals {
+
+    private final Map<Class<? extends VisualElement>, Visual> visuals;
+    private final Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals;
+    private final ElementDimensions elementDimensions;
+
+    LoadedVisuals(Map<Class<? extends VisualElement>, Visual> visuals, Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals,
+                  ElementDimensions elementDimensions) {
+        this.visuals = Collections.unmodifiableMap(new HashMap<>(visuals));
+        this.animatedVisuals = Collections.unmodifiableMap(new HashMap<>(animatedVisuals));
+        this.elementDimensions = elementDimensions;
+    }
+
+    /**
+     * Creates a state without visuals (before any visual is loaded).
+     *
+     * @param viewportWidth  width of the viewport in px
+     * @param viewportHeight height of the viewport in px
+     * @return empty state
+     */
+    static LoadedVisuals empty(int viewportWidth, int viewportHeight) {
+        return new LoadedVisuals(Map.of(), Map.of(), ElementDimensions.empty(viewportWidth, viewportHeight));
+    }
+
+    /**
+     * @param elementClass class to get the visual for
+     * @return loaded visual of the class or null if none is loaded
+     */
+    public Visual getVisual(Class<? extends VisualElement> elementClass) {
+        return visuals.get(elementClass);
+    }
+
+    /**
+     * @param elementClass class to get the animated visual for
+     * @return loaded animated visual of the class or null if none is loaded
+     */
+    public AnimatedVisual getAnimatedVisual(Class<? extends VisualElement> elementClass) {
+        return animatedVisuals.get(elementClass);
+    }
+
+    /**
+     * @return loaded visuals per class (unmodifiable)
+     */
+    public Map<Class<? extends VisualElement>, Visual> getVisuals() {
+        return visuals;
+    }
+
+    /**
+     * @return loaded animated visuals per class (unmodifiable)
+     */
+    public Map<Class<? extends VisualElement>, AnimatedVisual> getAnimatedVisuals() {
+        return animatedVisuals;
+    }
+
+    /**
+     * Gets all the loaded images (the images of the visuals and every frame of the animated visuals).
+     * The backgrounds are left out, they are drawn as tiles of their own.
+     *
+     * @return loaded images
+     */
+    public List<BufferedImage> getImages() {
+        List<BufferedImage> images = new ArrayList<>();
+        for (Visual visual : visuals.values()) {
+            if (visual.getBufferedImage() != null && !visual.isBackground()) {
+                images.add(visual.getBufferedImage());
+            }
+        }
+        for (AnimatedVisual animatedVisual : animatedVisuals.values()) {
+            for (Visual visual : animatedVisual.getVisuals()) {
+                if (visual.getBufferedImage() != null) {
+                    images.add(visual.getBufferedImage());
+                }
+            }
+        }
+        return images;
+    }
+
+    /**
+     * @return relative dimensions of the loaded visuals
+     */
+    public ElementDimensions getElementDimensions() {
+        return elementDimensions;
+    }
+}
@@ -8,11 +8,12 @@ import java.awt.image.BufferedImage;
 /**
  * This class is used to specify a visual and load it with the visual manager.
  * A Visual which contains the image file, scaling and properties like resize, isBackground... etc.
+ * The visual manager doesn't set the image on the specified visual, it publishes a copy with the loaded image.
  *
  * @author islermic
  */
 public class Visual {
-    private BufferedImage bufferedImage;
+    private final BufferedImage bufferedImage;
     private VisualSVGFile visualSVGFile;
     private VisualFile visualFile;
     private VisualScaling visualScaling;
@@ -25,16 +26,19 @@ public class Visual {
 
 
     public Visual(VisualFile visualFile, boolean flipHorizontally, boolean flipVertically) {
+        this.bufferedImage = null;
         this.visualFile = visualFile;
         this.flipVertically = flipVertically;
         this.flipHorizontally = flipHorizontally;
     }
 
     public Visual(VisualFile visualFile) {
+        this.bufferedImage = null;
         this.visualFile = visualFile;
     }
 
     public Visual(VisualSVGFile visualSVGFile, VisualScaling visualScaling, boolean flipHorizontally, boolean flipVertically) {
+        this.bufferedImage = null;
         this.visualSVGFile = visualSVGFile;
         this.visualScaling = visualScaling;
         this.flipVertically = flipVertically;
@@ -42,10 +46,30 @@ public class Visual {
     }
 
     public Visual(VisualSVGFile visualSVGFile, VisualScaling visualScaling) {
+        this.bufferedImage = null;
         this.visualSVGFile = visualSVGFile;
         this.visualScaling = visualScaling;
     }
 
+    /**
+     * Creates a copy of the visual with the loaded image.
+     *
+     * @param visual        visual to copy
+     * @param bufferedImage loaded image of the visual
+     */
+    Visual(Visual visual, BufferedImage bufferedImage) {
+        this.bufferedImage = bufferedImage;
+        this.visualSVGFile = visual.visualSVGFile;
+        this.visualFile = visual.visualFile;
+        this.visualScaling = visual.visualScaling;
+        this.flipVertically = visual.flipVertically;
+        this.flipHorizontally = visual.flipHorizontally;
+        this.resize = visual.resize;
+        this.isBackground = visual.isBackground;
+        this.resizeWidth = visual.resizeWidth;
+        this.resizeHeight = visual.resizeHeight;
+    }
+
     public void setResize(int resizeHeight, int resizeWidth) {
         this.resize = true;
         this.resizeHeight = resizeHeight;
@@ -77,10 +101,6 @@ public class Visual {
         return bufferedImage;
     }
 
-    public void setBufferedImage(BufferedImage bufferedImage) {
-        this.bufferedImage = bufferedImage;
-    }
-
     public void setVisualFile(VisualSVGFile visualFile) {
         this.visualSVGFile = visualFile;
         this.visualFile = null;
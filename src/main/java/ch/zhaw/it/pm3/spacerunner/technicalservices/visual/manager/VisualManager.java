@@ -9,6 +9,7 @@ import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.DoubleCoinsPowerUp
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ShieldPowerUp;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.RasterCache;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualFile;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGAnimationFiles;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
@@ -17,28 +18,49 @@ import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualUtil;
 import java.awt.image.BufferedImage;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * This is a Manager for the Visuals of the different VisualElement's.
  * It is implemented with the singleton-pattern.
  * The Manager was implemented because for example all Asteroids share the same image. {@literal =>} So it would make no sense to have the image in every element itself.
  * The image is set per Class of VisualElement (? extends VisualElement)
+ * The visuals are published as immutable LoadedVisuals together with their dimensions (ElementDimensions), which are
+ * replaced as a whole when visuals are loaded, so the game logic and the UI read them without locks.
  *
  * @author islermic
  */
 public class VisualManager {
 
+    private final Logger logger = Logger.getLogger(VisualManager.class.getName());
+
     private final VisualUtil visualUtil = VisualUtil.getUtil();
+    private final RasterCache rasterCache = RasterCache.getCache();
     private final Persistence persistenceUtil = JsonPersistenceUtil.getUtil();
 
+    //has to be initialized before VISUAL_MANAGER
+    private static final int LOADING_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
     private static final VisualManager VISUAL_MANAGER = new VisualManager();
 
-    private int height = 500;
-    private int width = 500;
-    private Map<Class<? extends VisualElement>, Visual> visualList = new HashMap<>();
-    private Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisualList = new HashMap<>();
+    private final ExecutorService loadingExecutor = Executors.newFixedThreadPool(LOADING_THREADS, (runnable) -> {
+        Thread thread = new Thread(runnable, "Visual Loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    //only one loading at a time, so an older loading can't overwrite a newer one
+    private final Object loadingLock = new Object();
 
-    private final Set<VisualManagerListener> visualManagerListeners = new HashSet<>();
+    private volatile int height = 500;
+    private volatile int width = 500;
+    private volatile LoadedVisuals loadedVisuals = LoadedVisuals.empty(width, height);
+    //spaceship of the loaded game element visuals, null if they aren't loaded (or another visual was loaded since)
+    private volatile VisualSVGFile loadedGameElementSpaceShip = null;
+
+    private final Set<VisualManagerListener> visualManagerListeners = new CopyOnWriteArraySet<>();
 
     public static VisualManager getManager() {
         return VISUAL_MANAGER;
@@ -53,42 +75,81 @@ public class VisualManager {
      * Clears the data of the manager. (reset)
      */
     public synchronized void clear() {
-        visualList = new HashMap<>();
-        animatedVisualList = new HashMap<>();
+        loadedGameElementSpaceShip = null;
+        loadedVisuals = LoadedVisuals.empty(width, height);
     }
 
     /**
      * Setup visuals for the game.
      * If a new element is implemented, add code for the element in this function so it has an image at the start.
+     * The visuals are loaded in parallel (see loadAndSetVisuals).
+     * If the same visuals are already loaded, nothing is loaded and no new dimension table is published (setViewport
+     * keeps them loaded for the current viewport), so starting a game doesn't republish the visuals of the running ones.
      */
     public void loadGameElementVisuals() {
-        visualManagerListeners.forEach(VisualManagerListener::clear);
-
+        loadGameElementVisuals(persistenceUtil);
+    }
 
-        PlayerProfile playerProfile = persistenceUtil.loadProfile();
-        Set<ShopContent> activeShopContents = playerProfile.getActiveShopContent();
+    /**
+     * Setup visuals for the game with the space ship skin of the profile of the given persistence (see loadGameElementVisuals()).
+     *
+     * @param persistence persistence with the profile of the game. Not null
+     * @return dimensions of the loaded visuals
+     */
+    public ElementDimensions loadGameElementVisuals(Persistence persistence) {
+        if (persistence == null) {
+            throw new IllegalArgumentException("persistence can not be null");
+        }
+        VisualSVGFile spaceShipFile = getSpaceShipFile(persistence.loadProfile());
 
-        VISUAL_MANAGER.loadAndSetVisual(SpaceShip.class, new Visual(VisualSVGFile.SPACE_SHIP_1, VisualScaling.SPACE_SHIP, true, false));
+        synchronized (loadingLock) {
+            if (spaceShipFile != loadedGameElementSpaceShip) {
+                loadGameElementVisuals(spaceShipFile);
+                loadedGameElementSpaceShip = spaceShipFile;
+            }
+            return loadedVisuals.getElementDimensions();
+        }
+    }
 
-        for (ShopContent activeShopContent : activeShopContents) {
+    /**
+     * @param playerProfile profile of the game. Not null
+     * @return visual of the space ship skin which is active in the profile (the default space ship if none is active)
+     */
+    public VisualSVGFile getSpaceShipFile(PlayerProfile playerProfile) {
+        if (playerProfile == null) {
+            throw new IllegalArgumentException("playerProfile can not be null");
+        }
+        VisualSVGFile spaceShipFile = VisualSVGFile.SPACE_SHIP_1;
+        for (ShopContent activeShopContent : playerProfile.getActiveShopContent()) {
             if (activeShopContent.getItemType() == ItemType.PLAYER_MODEL) {
-                VISUAL_MANAGER.loadAndSetVisual(SpaceShip.class, new Visual(activeShopContent.getImageId(), VisualScaling.SPACE_SHIP, true, false));
+                spaceShipFile = activeShopContent.getImageId();
             }
         }
+        return spaceShipFile;
+    }
+
+    private void loadGameElementVisuals(VisualSVGFile spaceShipFile) {
+        visualManagerListeners.forEach(VisualManagerListener::clear);
 
-        VISUAL_MANAGER.loadAndSetVisual(UFO.class, new Visual(VisualSVGFile.UFO_1, VisualScaling.UFO));
-        VISUAL_MANAGER.loadAndSetVisual(Asteroid.class, new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID));
-        VISUAL_MANAGER.loadAndSetVisual(DoubleCoinsPowerUp.class, new Visual(VisualSVGFile.DOUBLE_COIN_POWER_UP, VisualScaling.POWER_UP));
-        VISUAL_MANAGER.loadAndSetVisual(ShieldPowerUp.class, new Visual(VisualSVGFile.SHIELD_POWER_UP, VisualScaling.POWER_UP));
-        VISUAL_MANAGER.loadAndSetVisual(Rocket.class, new Visual(VisualSVGFile.ROCKET_1, VisualScaling.ROCKET));
+        Map<Class<? extends VisualElement>, Visual> visuals = new LinkedHashMap<>();
+
+        visuals.put(SpaceShip.class, new Visual(spaceShipFile, VisualScaling.SPACE_SHIP, true, false));
+
+        visuals.put(UFO.class, new Visual(VisualSVGFile.UFO_1, VisualScaling.UFO));
+        visuals.put(Asteroid.class, new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID));
+        visuals.put(DoubleCoinsPowerUp.class, new Visual(VisualSVGFile.DOUBLE_COIN_POWER_UP, VisualScaling.POWER_UP));
+        visuals.put(ShieldPowerUp.class, new Visual(VisualSVGFile.SHIELD_POWER_UP, VisualScaling.POWER_UP));
+        visuals.put(Rocket.class, new Visual(VisualSVGFile.ROCKET_1, VisualScaling.ROCKET));
 
         Visual background = new Visual(VisualFile.BACKGROUND_STARS);
         background.setIsBackground(true);
-        VISUAL_MANAGER.loadAndSetVisual(SpaceWorld.class, background);
-        VISUAL_MANAGER.loadAndSetVisual(Coin.class, new Visual(VisualSVGFile.SHINY_COIN_1, VisualScaling.COIN));
+        visuals.put(SpaceWorld.class, background);
+        visuals.put(Coin.class, new Visual(VisualSVGFile.SHINY_COIN_1, VisualScaling.COIN));
 
-        AnimatedVisual coinAnimation = new AnimatedVisual(VisualSVGAnimationFiles.COIN_ANIMATION, VisualScaling.COIN);
-        VISUAL_MANAGER.loadAndSetAnimatedVisual(Coin.class, coinAnimation);
+        Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals = new LinkedHashMap<>();
+        animatedVisuals.put(Coin.class, new AnimatedVisual(VisualSVGAnimationFiles.COIN_ANIMATION, VisualScaling.COIN));
+
+        loadAndSetVisuals(visuals, animatedVisuals);
     }
 
     /**
@@ -99,7 +160,7 @@ public class VisualManager {
      * @throws VisualNotSetException if no visual set
      */
     public double getElementRelativeHeight(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
-        return getVisual(elementClass).getVisualScaling().getScaling();
+        return loadedVisuals.getElementDimensions().getRelativeHeight(elementClass);
     }
 
     /**
@@ -110,7 +171,27 @@ public class VisualManager {
      * @throws VisualNotSetException if no visual set
      */
     public double getElementRelativeWidth(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
-        return getImage(elementClass).getWidth() / ((double) width);
+        return loadedVisuals.getElementDimensions().getRelativeWidth(elementClass);
+    }
+
+    /**
+     * Gets the dimensions of all the elements for the current viewport. The table is immutable and replaced on every
+     * change of the visuals or the viewport, so a caller can keep it to compare it with the next one.
+     *
+     * @return relative dimensions of the loaded visuals
+     */
+    public ElementDimensions getElementDimensions() {
+        return loadedVisuals.getElementDimensions();
+    }
+
+    /**
+     * Gets the loaded visuals. The state is immutable and replaced on every change of the visuals or the viewport, so a
+     * caller can keep it to read images and dimensions of the same loading.
+     *
+     * @return loaded visuals with their dimensions
+     */
+    public LoadedVisuals getLoadedVisuals() {
+        return loadedVisuals;
     }
 
     /**
@@ -120,35 +201,159 @@ public class VisualManager {
      * @param visual       visual to load and set
      */
     public void loadAndSetVisual(Class<? extends VisualElement> elementClass, Visual visual) {
+        loadAndSetVisuals(Collections.singletonMap(elementClass, visual), Collections.emptyMap());
+    }
+
+    /**
+     * Loads the specified animated visual for the class.
+     *
+     * @param elementClass   class to add visual animation
+     * @param animatedVisual animation to load and set
+     */
+    public void loadAndSetAnimatedVisual(Class<? extends VisualElement> elementClass, AnimatedVisual animatedVisual) {
+        loadAndSetVisuals(Collections.emptyMap(), Collections.singletonMap(elementClass, animatedVisual));
+    }
+
+    /**
+     * Loads the visuals and animated visuals for the classes.
+     * Every image (also every frame of an animation) is loaded as an independent job on the loading threads.
+     * The listeners are notified about the progress (from the loading threads).
+     * When all jobs are finished, new instances of the visuals with the loaded images are published at once (see
+     * LoadedVisuals), so the visuals never have mixed sizes. The specified visuals are not changed.
+     *
+     * @param visuals         visuals to load and set per class
+     * @param animatedVisuals animated visuals to load and set per class
+     */
+    public void loadAndSetVisuals(Map<Class<? extends VisualElement>, Visual> visuals, Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals) {
+        synchronized (loadingLock) {
+            //the visuals may replace game element visuals
+            loadedGameElementSpaceShip = null;
+            loadAndPublishVisuals(visuals, animatedVisuals, width, height);
+        }
+    }
+
+    private void loadAndPublishVisuals(Map<Class<? extends VisualElement>, Visual> visuals, Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals,
+                                       int viewportWidth, int viewportHeight) {
+        List<Map.Entry<Class<? extends VisualElement>, Visual>> visualEntries = new ArrayList<>(visuals.entrySet());
+        List<Map.Entry<Class<? extends VisualElement>, AnimatedVisual>> animatedVisualEntries = new ArrayList<>(animatedVisuals.entrySet());
+
+        List<Callable<BufferedImage>> jobs = new ArrayList<>();
+        for (Map.Entry<Class<? extends VisualElement>, Visual> visualEntry : visualEntries) {
+            Visual visual = visualEntry.getValue();
+            jobs.add(() -> loadVisualImage(visual, viewportWidth, viewportHeight));
+        }
+        for (Map.Entry<Class<? extends VisualElement>, AnimatedVisual> animatedVisualEntry : animatedVisualEntries) {
+            AnimatedVisual animatedVisual = animatedVisualEntry.getValue();
+            for (VisualSVGFile svgFile : animatedVisual.getVisualSVGFiles().getAnimationVisuals()) {
+                jobs.add(() -> getSVGBufferedImage(svgFile, animatedVisual.getVisualScaling(), false, false, viewportHeight));
+            }
+        }
+
+        List<BufferedImage> images = runLoadingJobs(jobs);
+        if (images == null) {
+            return;
+        }
+
+        Iterator<BufferedImage> imageIterator = images.iterator();
+        Map<Class<? extends VisualElement>, Visual> loadedVisualMap = new HashMap<>();
+        for (Map.Entry<Class<? extends VisualElement>, Visual> visualEntry : visualEntries) {
+            loadedVisualMap.put(visualEntry.getKey(), new Visual(visualEntry.getValue(), imageIterator.next()));
+        }
+        Map<Class<? extends VisualElement>, AnimatedVisual> loadedAnimatedVisualMap = new HashMap<>();
+        for (Map.Entry<Class<? extends VisualElement>, AnimatedVisual> animatedVisualEntry : animatedVisualEntries) {
+            AnimatedVisual animatedVisual = animatedVisualEntry.getValue();
+            VisualSVGFile[] svgFiles = animatedVisual.getVisualSVGFiles().getAnimationVisuals();
+            Visual[] animationVisuals = new Visual[svgFiles.length];
+            for (int i = 0; i < svgFiles.length; i++) {
+                animationVisuals[i] = new Visual(new Visual(svgFiles[i], animatedVisual.getVisualScaling()), imageIterator.next());
+            }
+            loadedAnimatedVisualMap.put(animatedVisualEntry.getKey(), new AnimatedVisual(animatedVisual, animationVisuals));
+        }
+
+        synchronized (this) {
+            //the visuals which weren't loaded again stay
+            Map<Class<? extends VisualElement>, Visual> visualMap = new HashMap<>(loadedVisuals.getVisuals());
+            visualMap.putAll(loadedVisualMap);
+            Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisualMap = new HashMap<>(loadedVisuals.getAnimatedVisuals());
+            animatedVisualMap.putAll(loadedAnimatedVisualMap);
+
+            width = viewportWidth;
+            height = viewportHeight;
+            loadedVisuals = new LoadedVisuals(visualMap, animatedVisualMap,
+                    ElementDimensions.compute(viewportWidth, viewportHeight, visualMap, animatedVisualMap));
+        }
+
+        for (BufferedImage changedImage : images) {
+            if (changedImage != null) {
+                visualManagerListeners.forEach((visualManagerListener) -> {
+                    visualManagerListener.bufferedImageChanged(changedImage);
+                });
+            }
+        }
+    }
+
+    /**
+     * Runs the jobs on the loading threads and waits until all are finished.
+     *
+     * @param jobs jobs which load an image
+     * @return the loaded images in the order of the jobs (null if a job failed) or null if the loading was interrupted
+     */
+    private List<BufferedImage> runLoadingJobs(List<Callable<BufferedImage>> jobs) {
+        int totalJobs = jobs.size();
+        AtomicInteger finishedJobs = new AtomicInteger(0);
+
+        List<Callable<BufferedImage>> reportingJobs = new ArrayList<>(totalJobs);
+        for (Callable<BufferedImage> job : jobs) {
+            reportingJobs.add(() -> {
+                try {
+                    return job.call();
+                } finally {
+                    int finished = finishedJobs.incrementAndGet();
+                    visualManagerListeners.forEach((visualManagerListener) -> {
+                        visualManagerListener.loadingProgressChanged(finished, totalJobs);
+                    });
+                }
+            });
+        }
+
+        List<BufferedImage> images = new ArrayList<>(totalJobs);
+        try {
+            for (Future<BufferedImage> future : loadingExecutor.invokeAll(reportingJobs)) {
+                try {
+                    images.add(future.get());
+                } catch (ExecutionException e) {
+                    logger.log(Level.SEVERE, "Error loading visual", e.getCause());
+                    images.add(null);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.log(Level.WARNING, "Loading of the visuals was interrupted");
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return images;
+    }
+
+    private BufferedImage loadVisualImage(Visual visual, int viewportWidth, int viewportHeight) {
         BufferedImage image;
         if (visual.getVisualFile() == null) {
-            //load SVG
-            image = getSVGBufferedImage(visual.getVisualSVGFile(), visual.getVisualScaling());
+            //load SVG (already flipped)
+            image = getSVGBufferedImage(visual.getVisualSVGFile(), visual.getVisualScaling(), visual.isFlipHorizontally(), visual.isFlipVertically(), viewportHeight);
         } else {
             //load image file
             image = getBufferedImage(visual.getVisualFile());
+            image = flipVisual(visual.isFlipHorizontally(), visual.isFlipVertically(), image);
         }
 
-        image = flipVisual(visual.isFlipHorizontally(), visual.isFlipVertically(), image);
         if (visual.shouldResize()) {
             if (visual.isBackground()) {
-                image = visualUtil.generateBackground(image, width, height);
+                //only one tile, the UI repeats and mirrors it while drawing
+                image = visualUtil.resizeImage(image, viewportWidth, viewportHeight);
             } else {
                 image = visualUtil.resizeImage(image, visual.getResizeWidth(), visual.getResizeHeight());
             }
         }
-
-
-        visual.setBufferedImage(image);
-
-        BufferedImage changedImage = image;
-        visualManagerListeners.forEach((visualManagerListener) -> {
-            visualManagerListener.bufferedImageChanged(changedImage);
-        });
-
-        synchronized (this) {
-            visualList.put(elementClass, visual);
-        }
+        return image;
     }
 
     private BufferedImage flipVisual(boolean flipHorizontally, boolean flipVertically, BufferedImage image) {
@@ -161,9 +366,22 @@ public class VisualManager {
         return image;
     }
 
-    private BufferedImage getSVGBufferedImage(VisualSVGFile imagePath, VisualScaling visualScaling) {
+    /**
+     * Loads the rasterized and flipped SVG from the raster cache. Only if it's not cached yet, the SVG is rasterized.
+     */
+    private BufferedImage getSVGBufferedImage(VisualSVGFile imagePath, VisualScaling visualScaling, boolean flipHorizontally, boolean flipVertically, int viewportHeight) {
         URL imageURL = SpaceRunnerApp.class.getResource(imagePath.getFileName());
-        return visualUtil.loadSVGImage(imageURL, (float) (height * visualScaling.getScaling()));
+        float imageHeight = (float) (viewportHeight * visualScaling.getScaling());
+
+        BufferedImage image = rasterCache.get(imageURL, imageHeight, flipHorizontally, flipVertically);
+        if (image == null) {
+            image = visualUtil.loadSVGImage(imageURL, imageHeight);
+            if (image != null) {
+                image = flipVisual(flipHorizontally, flipVertically, image);
+                rasterCache.put(imageURL, imageHeight, flipHorizontally, flipVertically, image);
+            }
+        }
+        return image;
     }
 
     private BufferedImage getBufferedImage(VisualFile imagePath) {
@@ -171,31 +389,6 @@ public class VisualManager {
         return visualUtil.loadImage(imageURL);
     }
 
-    /**
-     * Loads the specified animated visual for the class.
-     *
-     * @param elementClass   class to add visual animation
-     * @param animatedVisual animation to load and set
-     */
-    public void loadAndSetAnimatedVisual(Class<? extends VisualElement> elementClass, AnimatedVisual animatedVisual) {
-        VisualSVGFile[] svgFiles = animatedVisual.getVisualSVGFiles().getAnimationVisuals();
-
-        List<Visual> visuals = new ArrayList<>();
-        for (VisualSVGFile svgFile : svgFiles) {
-            Visual currentVisual = new Visual(svgFile, animatedVisual.getVisualScaling());
-            currentVisual.setBufferedImage(getSVGBufferedImage(svgFile, animatedVisual.getVisualScaling()));
-            BufferedImage changedImage = currentVisual.getBufferedImage();
-            visualManagerListeners.forEach((visualManagerListener) -> {
-                visualManagerListener.bufferedImageChanged(changedImage);
-            });
-            visuals.add(currentVisual);
-        }
-        animatedVisual.setVisuals(visuals.toArray(Visual[]::new));
-        synchronized (this) {
-            animatedVisualList.put(elementClass, animatedVisual);
-        }
-    }
-
     /**
      * Gets the image of the class.
      *
@@ -216,32 +409,30 @@ public class VisualManager {
      * @throws VisualNotSetException if no visual set
      */
     private Visual getVisual(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
-        Visual animatedVisual = getAnimatedVisual(elementClass);
-        if (animatedVisual != null) {
-            return animatedVisual;
-        } else {
-            synchronized (this) {
-                Visual visual = visualList.get(elementClass);
+        LoadedVisuals currentVisuals = loadedVisuals;
+        AnimatedVisual visualsForAnimation = currentVisuals.getAnimatedVisual(elementClass);
+        if (visualsForAnimation != null) {
+            return visualsForAnimation.getCurrentVisual();
+        }
 
-                if (visual == null) {
-                    throw new VisualNotSetException("Visual for " + elementClass.toString() + " was not set!");
-                }
-                return visual;
-            }
+        Visual visual = currentVisuals.getVisual(elementClass);
+        if (visual == null) {
+            throw new VisualNotSetException("Visual for " + elementClass.toString() + " was not set!");
         }
+        return visual;
     }
 
-    private synchronized Visual getAnimatedVisual(Class<? extends VisualElement> elementClass) {
-        AnimatedVisual visualsForAnimation = animatedVisualList.get(elementClass);
 
-        if (visualsForAnimation == null) {
-            return null;
-        } else {
-            return visualsForAnimation.getCurrentVisual();
-        }
+    /**
+     * Gets all the loaded images (the images of the visuals and every frame of the animated visuals).
+     * The backgrounds are left out, they are drawn as tiles of their own.
+     *
+     * @return loaded images
+     */
+    public List<BufferedImage> getImages() {
+        return loadedVisuals.getImages();
     }
 
-
     public int getHeight() {
         return height;
     }
@@ -252,20 +443,15 @@ public class VisualManager {
 
     /**
      * Sets the height and with managed by the manager.
-     * All visuals will be reloaded with the new sizes.
+     * All visuals will be reloaded (in parallel) with the new sizes and published together with the new sizes.
      *
      * @param width  width in px
      * @param height height in px
      */
-    public synchronized void setViewport(int width, int height) {
-        this.width = width;
-        this.height = height;
-        for (Map.Entry<Class<? extends VisualElement>, Visual> classVisualEntry : visualList.entrySet()) {
-            loadAndSetVisual(classVisualEntry.getKey(), classVisualEntry.getValue());
-        }
-
-        for (Map.Entry<Class<? extends VisualElement>, AnimatedVisual> classVisualEntry : animatedVisualList.entrySet()) {
-            loadAndSetAnimatedVisual(classVisualEntry.getKey(), classVisualEntry.getValue());
+    public void setViewport(int width, int height) {
+        synchronized (loadingLock) {
+            LoadedVisuals currentVisuals = loadedVisuals;
+            loadAndPublishVisuals(currentVisuals.getVisuals(), currentVisuals.getAnimatedVisuals(), width, height);
         }
     }
 
@@ -19,4 +19,14 @@ public interface VisualManagerListener {
      * @param bufferedImage image that changed
      */
     void bufferedImageChanged(BufferedImage bufferedImage);
+
+    /**
+     * Notifies about the progress while the visuals are loading.
+     * Is called from the loading threads.
+     *
+     * @param loadedVisuals number of images which are loaded
+     * @param totalVisuals  number of images to load
+     */
+    default void loadingProgressChanged(int loadedVisuals, int totalVisuals) {
+    }
 }
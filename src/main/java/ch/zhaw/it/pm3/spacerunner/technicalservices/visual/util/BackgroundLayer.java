@@ -0,0 +1,123 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util;
+
+/**
+ * One layer of the scrolling background. The layer repeats one tile endlessly, every second tile mirrored
+ * (tile, mirror, tile, ...), so the seams fit without a special image.
+ * <p>
+ * For a scroll position the layer computes the slices which cover the viewport: the visible part of every tile, with
+ * its source rectangle in the (not mirrored) tile and its position on the screen. Mirrored slices have to be drawn
+ * flipped horizontally. A layer with a parallax factor below 1 scrolls slower than the game (e.g. distant stars).
+ * <p>
+ * The slices are kept in the layer and overwritten by the next update, so drawing a frame doesn't allocate.
+ * The layer is not thread-safe, it has to be used by the thread which renders the frames.
+ */
+public class BackgroundLayer {
+
+    //a tile which isn't aligned to the viewport covers parts of at most 3 tiles
+    private static final int MAX_SLICES = 3;
+
+    private final double parallaxFactor;
+    private final boolean mirrored;
+
+    private final double[] sourceX = new double[MAX_SLICES];
+    private final double[] width = new double[MAX_SLICES];
+    private final double[] destinationX = new double[MAX_SLICES];
+    private final boolean[] sliceMirrored = new boolean[MAX_SLICES];
+    private int sliceCount = 0;
+
+    /**
+     * Creates a layer.
+     *
+     * @param parallaxFactor speed of the layer relative to the scroll position (1 moves with the game). has to be 0 or higher
+     * @param mirrored       true if every second tile is mirrored, false if the tile repeats as it is
+     */
+    public BackgroundLayer(double parallaxFactor, boolean mirrored) {
+        if (parallaxFactor < 0) {
+            throw new IllegalArgumentException("parallaxFactor has to be 0 or higher");
+        }
+        this.parallaxFactor = parallaxFactor;
+        this.mirrored = mirrored;
+    }
+
+    /**
+     * Computes the slices of the tiles which are visible at the scroll position.
+     *
+     * @param scrollX       distance in px the background has scrolled to the left
+     * @param tileWidth     width of the tile in px. has to be higher than 0 (positive)
+     * @param viewportWidth width of the viewport in px. not higher than the tile width
+     */
+    public void updateSlices(double scrollX, double tileWidth, double viewportWidth) {
+        if (tileWidth <= 0) {
+            throw new IllegalArgumentException("tileWidth has to be higher than 0");
+        } else if (viewportWidth > tileWidth) {
+            throw new IllegalArgumentException("viewportWidth can not be higher than tileWidth");
+        }
+
+        double period = mirrored ? 2 * tileWidth : tileWidth;
+        double offset = scrollX * parallaxFactor % period;
+        if (offset < 0) {
+            offset += period;
+        }
+
+        sliceCount = 0;
+        //left edge of the tile which contains the left edge of the viewport
+        int tileIndex = (int) (offset / tileWidth);
+        double tileX = tileIndex * tileWidth - offset;
+        while (tileX < viewportWidth && sliceCount < MAX_SLICES) {
+            double visibleStart = Math.max(0, tileX);
+            double visibleEnd = Math.min(viewportWidth, tileX + tileWidth);
+            if (visibleEnd > visibleStart) {
+                boolean tileMirrored = mirrored && tileIndex % 2 == 1;
+                double localStart = visibleStart - tileX;
+                double localEnd = visibleEnd - tileX;
+
+                sourceX[sliceCount] = tileMirrored ? tileWidth - localEnd : localStart;
+                width[sliceCount] = visibleEnd - visibleStart;
+                destinationX[sliceCount] = visibleStart;
+                sliceMirrored[sliceCount] = tileMirrored;
+                sliceCount++;
+            }
+            tileIndex++;
+            tileX += tileWidth;
+        }
+    }
+
+    /**
+     * @return number of slices of the last update
+     */
+    public int getSliceCount() {
+        return sliceCount;
+    }
+
+    /**
+     * @return left edge of the slice in the (not mirrored) tile in px
+     */
+    public double getSourceX(int slice) {
+        return sourceX[slice];
+    }
+
+    /**
+     * @return width of the slice in px (the same in the tile and on the screen)
+     */
+    public double getWidth(int slice) {
+        return width[slice];
+    }
+
+    /**
+     * @return left edge of the slice on the screen in px
+     */
+    public double getDestinationX(int slice) {
+        return destinationX[slice];
+    }
+
+    /**
+     * @return true if the slice has to be drawn flipped horizontally
+     */
+    public boolean isMirrored(int slice) {
+        return sliceMirrored[slice];
+    }
+
+    public double getParallaxFactor() {
+        return parallaxFactor;
+    }
+}
@@ -0,0 +1,171 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pre-rendered glyphs of a font in one image, so the UI can draw numbers and fixed texts by copying rectangles of the
+ * image instead of laying out text every frame.
+ * Every character is rendered with its advance width, so the glyphs of a number can be placed next to each other.
+ * Whole texts (e.g. the information of the info bar) are rendered as one region each.
+ * <p>
+ * Numbers are formatted into a char buffer of the caller with formatNumber, so drawing a number doesn't allocate.
+ */
+public class GlyphAtlas {
+
+    /**
+     * Length of a buffer which fits every int formatted by formatNumber.
+     */
+    public static final int NUMBER_BUFFER_LENGTH = 11;
+
+    //transparent space between the glyphs, so smoothing doesn't take pixels of the neighbour
+    private static final int PADDING = 1;
+    //only characters below this are supported as single glyphs
+    private static final int MAX_CHAR = 128;
+
+    private final BufferedImage atlasImage;
+    private final Rectangle[] charRegions = new Rectangle[MAX_CHAR];
+    private final Map<String, Rectangle> textRegions = new HashMap<>();
+    private final int lineHeight;
+
+    /**
+     * Renders the characters and texts with the font into a new atlas.
+     *
+     * @param font       font to render. not null
+     * @param color      color of the glyphs. not null
+     * @param characters characters which can be drawn one by one (e.g. the digits). not null, only ASCII
+     * @param texts      texts which are drawn as a whole. not null
+     */
+    public GlyphAtlas(Font font, Color color, String characters, Collection<String> texts) {
+        if (font == null) {
+            throw new IllegalArgumentException("font can not be null");
+        } else if (color == null) {
+            throw new IllegalArgumentException("color can not be null");
+        } else if (characters == null) {
+            throw new IllegalArgumentException("characters can not be null");
+        } else if (texts == null) {
+            throw new IllegalArgumentException("texts can not be null");
+        }
+
+        //the metrics are taken from a scratch image, because the size of the atlas isn't known yet
+        Graphics2D scratchGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        scratchGraphics.setFont(font);
+        FontMetrics fontMetrics = scratchGraphics.getFontMetrics();
+        scratchGraphics.dispose();
+
+        lineHeight = Math.max(1, fontMetrics.getAscent() + fontMetrics.getDescent());
+
+        Set<String> entries = new LinkedHashSet<>();
+        for (char character : characters.toCharArray()) {
+            if (character >= MAX_CHAR) {
+                throw new IllegalArgumentException("character " + character + " is not supported");
+            }
+            entries.add(String.valueOf(character));
+        }
+        entries.addAll(texts);
+
+        Map<String, Rectangle> regions = new HashMap<>();
+        int atlasWidth = 0;
+        for (String entry : entries) {
+            int width = Math.max(1, fontMetrics.stringWidth(entry));
+            regions.put(entry, new Rectangle(atlasWidth, 0, width, lineHeight));
+            atlasWidth += width + PADDING;
+        }
+
+        atlasImage = new BufferedImage(Math.max(1, atlasWidth), lineHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = atlasImage.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        graphics.setFont(font);
+        graphics.setColor(color);
+        for (String entry : entries) {
+            Rectangle region = regions.get(entry);
+            //clipped, so a glyph which is wider than its advance doesn't paint into the neighbour
+            graphics.setClip(region);
+            graphics.drawString(entry, region.x, fontMetrics.getAscent());
+        }
+        graphics.dispose();
+
+        for (char character : characters.toCharArray()) {
+            charRegions[character] = regions.get(String.valueOf(character));
+        }
+        for (String text : texts) {
+            textRegions.put(text, regions.get(text));
+        }
+    }
+
+    /**
+     * Writes the decimal digits of the value right-aligned into the buffer.
+     *
+     * @param value  value to format
+     * @param buffer buffer with at least NUMBER_BUFFER_LENGTH chars
+     * @return index of the first char of the number in the buffer (the number ends at the end of the buffer)
+     */
+    public static int formatNumber(int value, char[] buffer) {
+        if (buffer == null || buffer.length < NUMBER_BUFFER_LENGTH) {
+            throw new IllegalArgumentException("buffer needs at least " + NUMBER_BUFFER_LENGTH + " chars");
+        }
+        int index = buffer.length;
+        //negative, so Integer.MIN_VALUE has no special case
+        int remaining = value > 0 ? -value : value;
+        do {
+            buffer[--index] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--index] = '-';
+        }
+        return index;
+    }
+
+    /**
+     * Sums up the widths of the glyphs. Characters without glyph have no width.
+     *
+     * @param chars buffer with the characters
+     * @param start index of the first character
+     * @param end   index after the last character
+     * @return width in px
+     */
+    public int getWidth(char[] chars, int start, int end) {
+        int width = 0;
+        for (int i = start; i < end; i++) {
+            Rectangle region = getCharRegion(chars[i]);
+            if (region != null) {
+                width += region.width;
+            }
+        }
+        return width;
+    }
+
+    /**
+     * @param character character to get the glyph of
+     * @return region of the glyph in the atlas image or null if the character wasn't rendered
+     */
+    public Rectangle getCharRegion(char character) {
+        return character < MAX_CHAR ? charRegions[character] : null;
+    }
+
+    /**
+     * @param text text which was rendered as a whole
+     * @return region of the text in the atlas image or null if the text wasn't rendered
+     */
+    public Rectangle getTextRegion(String text) {
+        return textRegions.get(text);
+    }
+
+    /**
+     * @return height of every region in px (ascent and descent of the font)
+     */
+    public int getLineHeight() {
+        return lineHeight;
+    }
+
+    public BufferedImage getAtlasImage() {
+        return atlasImage;
+    }
+}
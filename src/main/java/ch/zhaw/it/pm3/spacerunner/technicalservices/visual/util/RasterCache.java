@@ -0,0 +1,368 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache for rasterized SVG images, so repeated launches and resizes to a known size don't have to run Batik.
+ * Implemented with the singleton-pattern.
+ * <p>
+ * The entries are content-addressed: the key is the hash of the SVG file together with the target height and the flip flags.
+ * Every entry is a file with the raw ARGB pixels, which is memory-mapped when it is read.
+ * When the cache grows beyond its maximum size, the least recently used entries are deleted.
+ * <p>
+ * The cache is only an optimization: all IO errors are logged and the caller rasterizes the image itself.
+ * The shared cache is disabled until the game enables it, so tests, benchmarks and balancing runs don't fill (or depend
+ * on) the cache of the player.
+ */
+public class RasterCache {
+
+    private static final int MAGIC_NUMBER = 0x53524331;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    private static final String ENTRY_SUFFIX = ".argb";
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final Path DEFAULT_DIRECTORY = Paths.get(System.getProperty("user.home"), ".space-runner", "raster-cache");
+
+    private static final RasterCache RASTER_CACHE = new RasterCache(DEFAULT_DIRECTORY, DEFAULT_MAX_BYTES, false);
+
+    private final Logger logger = Logger.getLogger(RasterCache.class.getName());
+
+    private final Path directory;
+    private final long maxBytes;
+    private volatile boolean enabled;
+    private final Map<String, String> svgHashes = new ConcurrentHashMap<>();
+
+    //key -> size in bytes, in access order (least recently used first)
+    private LinkedHashMap<String, Long> entries;
+    private long totalBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates a cache in the specified directory (e.g. for tests). The game uses the shared cache of getCache().
+     *
+     * @param directory directory for the entries. not null
+     * @param maxBytes  maximum size of all entries. has to be higher than 0 (positive)
+     */
+    public RasterCache(Path directory, long maxBytes) {
+        this(directory, maxBytes, true);
+    }
+
+    private RasterCache(Path directory, long maxBytes, boolean enabled) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory can not be null");
+        } else if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes has to be higher than 0");
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.enabled = enabled;
+    }
+
+    public static RasterCache getCache() {
+        return RASTER_CACHE;
+    }
+
+    /**
+     * Enables or disables the cache. A disabled cache doesn't find any image, doesn't store any image and doesn't touch
+     * its directory.
+     *
+     * @param enabled true if the cache should be used
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the cached image.
+     *
+     * @param svgURL           URL of the SVG file. not null
+     * @param height           height of the rasterized image in px
+     * @param flipHorizontally was the image flipped horizontally
+     * @param flipVertically   was the image flipped vertically
+     * @return cached image or null if it's not in the cache or the cache is disabled
+     */
+    public BufferedImage get(URL svgURL, float height, boolean flipHorizontally, boolean flipVertically) {
+        if (!enabled) {
+            return null;
+        }
+        String key = getKey(svgURL, height, flipHorizontally, flipVertically);
+        if (key == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            loadIndex();
+            if (!entries.containsKey(key)) {
+                misses++;
+                return null;
+            }
+            //moves the entry to the end of the access order
+            entries.get(key);
+        }
+
+        Path entryPath = directory.resolve(key + ENTRY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(entryPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            BufferedImage image = readImage(buffer, channel.size());
+            Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+            synchronized (this) {
+                hits++;
+            }
+            return image;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Couldn't read raster cache entry {0}", entryPath);
+            removeEntry(key);
+            synchronized (this) {
+                misses++;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Puts the image into the cache and evicts the least recently used entries if the cache is too big.
+     *
+     * @param svgURL           URL of the SVG file. not null
+     * @param height           height of the rasterized image in px
+     * @param flipHorizontally was the image flipped horizontally
+     * @param flipVertically   was the image flipped vertically
+     * @param image            rasterized image. if null nothing is cached
+     */
+    public void put(URL svgURL, float height, boolean flipHorizontally, boolean flipVertically, BufferedImage image) {
+        if (image == null || !enabled) {
+            return;
+        }
+        String key = getKey(svgURL, height, flipHorizontally, flipVertically);
+        if (key == null) {
+            return;
+        }
+
+        long entryBytes = HEADER_BYTES + (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+        if (entryBytes > maxBytes) {
+            return;
+        }
+
+        Path entryPath = directory.resolve(key + ENTRY_SUFFIX);
+        Path tempPath = null;
+        try {
+            Files.createDirectories(directory);
+            tempPath = Files.createTempFile(directory, key, ".tmp");
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) entryBytes).order(ByteOrder.BIG_ENDIAN);
+                writeImage(buffer, image);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            //other readers never see a half written entry
+            Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Couldn't write raster cache entry {0}", entryPath);
+            deleteTempFile(tempPath);
+            return;
+        }
+
+        synchronized (this) {
+            loadIndex();
+            Long previousBytes = entries.put(key, entryBytes);
+            totalBytes += entryBytes - (previousBytes == null ? 0 : previousBytes);
+            evict();
+        }
+    }
+
+    /**
+     * Deletes all entries of the cache.
+     */
+    public synchronized void clear() {
+        if (!enabled) {
+            return;
+        }
+        loadIndex();
+        for (String key : new ArrayList<>(entries.keySet())) {
+            removeEntry(key);
+        }
+    }
+
+    /**
+     * @return number of get calls which found the image in the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of get calls which didn't find the image in the cache
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return size of all entries in bytes
+     */
+    public synchronized long getTotalBytes() {
+        loadIndex();
+        return totalBytes;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            deleteEntryFile(eldest.getKey());
+        }
+    }
+
+    private synchronized void removeEntry(String key) {
+        loadIndex();
+        Long entryBytes = entries.remove(key);
+        if (entryBytes != null) {
+            totalBytes -= entryBytes;
+        }
+        deleteEntryFile(key);
+    }
+
+    private void deleteTempFile(Path tempPath) {
+        if (tempPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Couldn't delete {0}", tempPath);
+        }
+    }
+
+    private void deleteEntryFile(String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key + ENTRY_SUFFIX));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Couldn't delete raster cache entry {0}", key);
+        }
+    }
+
+    /**
+     * Reads the existing entries from the directory, ordered by their last access (last modified time).
+     */
+    private void loadIndex() {
+        if (entries != null) {
+            return;
+        }
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        totalBytes = 0;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter((path) -> path.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .sorted(Comparator.comparing(this::getLastModified))
+                    .forEach((path) -> {
+                        String fileName = path.getFileName().toString();
+                        long entryBytes = path.toFile().length();
+                        entries.put(fileName.substring(0, fileName.length() - ENTRY_SUFFIX.length()), entryBytes);
+                        totalBytes += entryBytes;
+                    });
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Couldn't read raster cache directory {0}", directory);
+        }
+    }
+
+    private FileTime getLastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private String getKey(URL svgURL, float height, boolean flipHorizontally, boolean flipVertically) {
+        if (svgURL == null) {
+            throw new IllegalArgumentException("svgURL can not be null");
+        }
+
+        String svgHash = svgHashes.get(svgURL.toString());
+        if (svgHash == null) {
+            svgHash = hash(svgURL);
+            if (svgHash == null) {
+                return null;
+            }
+            svgHashes.put(svgURL.toString(), svgHash);
+        }
+        return svgHash + "-" + Float.floatToIntBits(height) + "-" + (flipHorizontally ? "h" : "") + (flipVertically ? "v" : "");
+    }
+
+    private String hash(URL svgURL) {
+        try (InputStream inputStream = svgURL.openStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+
+            StringBuilder hash = new StringBuilder();
+            for (byte hashByte : digest.digest()) {
+                hash.append(String.format("%02x", hashByte));
+            }
+            return hash.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.log(Level.WARNING, "Couldn't hash {0}", svgURL);
+            return null;
+        }
+    }
+
+    private void writeImage(ByteBuffer buffer, BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        buffer.putInt(MAGIC_NUMBER);
+        buffer.putInt(width);
+        buffer.putInt(height);
+
+        //getRGB converts every image type to ARGB
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        buffer.asIntBuffer().put(pixels);
+        buffer.position(buffer.position() + pixels.length * Integer.BYTES);
+    }
+
+    private BufferedImage readImage(ByteBuffer buffer, long size) throws IOException {
+        if (size < HEADER_BYTES || buffer.getInt() != MAGIC_NUMBER) {
+            throw new IOException("Invalid raster cache entry");
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        if (width <= 0 || height <= 0 || size != HEADER_BYTES + (long) width * height * Integer.BYTES) {
+            throw new IOException("Invalid raster cache entry");
+        }
+
+        int[] pixels = new int[width * height];
+        buffer.asIntBuffer().get(pixels);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
+        return image;
+    }
+}
@@ -0,0 +1,101 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs multiple images into one image (texture atlas), so the UI can draw all of them from one texture.
+ * The images are placed in rows (shelf packing), sorted by their height.
+ * Every packed image is found by its source rectangle in the atlas image.
+ * <p>
+ * Images which don't fit into the maximum size of the atlas (e.g. the background) are not packed.
+ */
+public class TextureAtlas {
+
+    //transparent space between the images, so smoothing doesn't take pixels of the neighbour
+    private static final int PADDING = 1;
+
+    private final BufferedImage atlasImage;
+    private final Map<BufferedImage, Rectangle> regions = new IdentityHashMap<>();
+
+    /**
+     * Packs the images into a new atlas.
+     *
+     * @param images  images to pack. not null, null elements are ignored
+     * @param maxSize maximum width and height of the atlas in px. has to be higher than 0 (positive)
+     */
+    public TextureAtlas(Collection<BufferedImage> images, int maxSize) {
+        if (images == null) {
+            throw new IllegalArgumentException("images can not be null");
+        } else if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize has to be higher than 0");
+        }
+
+        List<BufferedImage> sortedImages = new ArrayList<>();
+        for (BufferedImage image : images) {
+            if (image != null && image.getWidth() + PADDING <= maxSize && image.getHeight() + PADDING <= maxSize
+                    && !sortedImages.contains(image)) {
+                sortedImages.add(image);
+            }
+        }
+        sortedImages.sort(Comparator.comparingInt((BufferedImage image) -> image.getHeight()).reversed());
+
+        int rowX = 0;
+        int rowY = 0;
+        int rowHeight = 0;
+        int atlasWidth = 0;
+        for (BufferedImage image : sortedImages) {
+            if (rowX + image.getWidth() + PADDING > maxSize) {
+                rowY += rowHeight;
+                rowX = 0;
+                rowHeight = 0;
+            }
+            if (rowY + image.getHeight() + PADDING > maxSize) {
+                //atlas is full, the remaining images are drawn by themselves
+                break;
+            }
+            regions.put(image, new Rectangle(rowX, rowY, image.getWidth(), image.getHeight()));
+            rowX += image.getWidth() + PADDING;
+            rowHeight = Math.max(rowHeight, image.getHeight() + PADDING);
+            atlasWidth = Math.max(atlasWidth, rowX);
+        }
+        int atlasHeight = rowY + rowHeight;
+
+        atlasImage = new BufferedImage(Math.max(1, atlasWidth), Math.max(1, atlasHeight), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = atlasImage.createGraphics();
+        for (Map.Entry<BufferedImage, Rectangle> region : regions.entrySet()) {
+            g2d.drawImage(region.getKey(), region.getValue().x, region.getValue().y, null);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * @return image which contains all the packed images
+     */
+    public BufferedImage getAtlasImage() {
+        return atlasImage;
+    }
+
+    /**
+     * Gets the source rectangle of the image in the atlas image.
+     *
+     * @param image packed image
+     * @return source rectangle or null if the image is not packed
+     */
+    public Rectangle getRegion(BufferedImage image) {
+        return regions.get(image);
+    }
+
+    /**
+     * @return number of packed images
+     */
+    public int size() {
+        return regions.size();
+    }
+}
@@ -1,23 +1,30 @@
 package ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util;
 
+import org.apache.batik.anim.dom.SAXSVGDocumentFactory;
 import org.apache.batik.anim.dom.SVGDOMImplementation;
+import org.apache.batik.dom.util.DOMUtilities;
 import org.apache.batik.transcoder.TranscoderException;
 import org.apache.batik.transcoder.TranscoderInput;
 import org.apache.batik.transcoder.TranscoderOutput;
 import org.apache.batik.transcoder.TranscodingHints;
 import org.apache.batik.transcoder.image.ImageTranscoder;
 import org.apache.batik.util.SVGConstants;
-import org.apache.commons.io.FileUtils;
+import org.apache.batik.util.XMLResourceDescriptor;
+import org.w3c.dom.Document;
+import org.w3c.dom.svg.SVGDocument;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,8 +39,26 @@ import java.util.logging.Logger;
  */
 public class VisualUtil {
 
+    // Rendering hints can't be set programatically, so
+    // we override defaults with a user stylesheet.
+    // These defaults emphasize quality and precision, and
+    // are more similar to the defaults of other SVG viewers.
+    // SVG documents can still override these defaults.
+    private static final String USER_STYLESHEET = "svg {"
+            + "shape-rendering: geometricPrecision;"
+            + "text-rendering:  geometricPrecision;"
+            + "color-rendering: optimizeQuality;"
+            + "image-rendering: optimizeQuality;"
+            + "}";
+    // the stylesheet is served from memory as data URI, so no temporary file is needed
+    private static final String USER_STYLESHEET_URI = "data:text/css;base64,"
+            + Base64.getEncoder().encodeToString(USER_STYLESHEET.getBytes(StandardCharsets.UTF_8));
+
     private final Logger logger = Logger.getLogger(VisualUtil.class.getName());
 
+    private final Map<String, SVGDocument> svgDocuments = new ConcurrentHashMap<>();
+    private final ThreadLocal<SVGRasterizer> rasterizers = ThreadLocal.withInitial(SVGRasterizer::new);
+
     private static final VisualUtil VISUAL_UTIL = new VisualUtil();
 
     /**
@@ -146,7 +171,8 @@ public class VisualUtil {
     }
 
     /**
-     * Loads the SVG image from the URL provided
+     * Loads the SVG image from the URL provided.
+     * The parsed SVG document is cached, so loading the same SVG at another height only renders it again.
      *
      * @param imageURL URL of the image to load. not null
      * @param height   height for the image in px. higher than 0 (positive)
@@ -161,7 +187,7 @@ public class VisualUtil {
 
         BufferedImage loadedImage = null;
         try {
-            loadedImage = rasterize(new File(imageURL.getFile().replace("%20", " ")), height);
+            loadedImage = rasterize(getSVGDocument(imageURL), height);
         } catch (Exception e) {
             e.printStackTrace();
             logger.log(Level.SEVERE, "Error Rasterizing File");
@@ -170,28 +196,54 @@ public class VisualUtil {
         return loadedImage;
     }
 
+    /**
+     * Removes all parsed SVG documents from the cache (e.g. if the SVG files changed).
+     */
+    public void clearSVGDocumentCache() {
+        svgDocuments.clear();
+    }
+
+    private SVGDocument getSVGDocument(URL imageURL) throws IOException {
+        String uri = imageURL.toString();
+        SVGDocument svgDocument = svgDocuments.get(uri);
+        if (svgDocument == null) {
+            SAXSVGDocumentFactory documentFactory = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
+            try (InputStream inputStream = imageURL.openStream()) {
+                svgDocument = documentFactory.createSVGDocument(uri, inputStream);
+            }
+            svgDocuments.putIfAbsent(uri, svgDocument);
+        }
+        return svgDocument;
+    }
 
     /**
      * @author Code is from stackoverflow https://stackoverflow.com/questions/11435671/how-to-get-a-bufferedimage-from-a-svg and optimized by islermic
      */
-    private BufferedImage rasterize(File svgFile, float height) throws IOException {
-
-        final BufferedImage[] imagePointer = new BufferedImage[1];
-
-        // Rendering hints can't be set programatically, so
-        // we override defaults with a temporary stylesheet.
-        // These defaults emphasize quality and precision, and
-        // are more similar to the defaults of other SVG viewers.
-        // SVG documents can still override these defaults.
-        String css = "svg {"
-                + "shape-rendering: geometricPrecision;"
-                + "text-rendering:  geometricPrecision;"
-                + "color-rendering: optimizeQuality;"
-                + "image-rendering: optimizeQuality;"
-                + "}";
-        File cssFile = File.createTempFile("batik-default-override-", ".css");
-        FileUtils.writeStringToFile(cssFile, css);
+    private BufferedImage rasterize(SVGDocument svgDocument, float height) throws IOException {
+        // The transcoder builds its rendering state into the document (CSS engine, computed styles),
+        // so every rendering gets its own copy of the cached document.
+        Document document;
+        synchronized (svgDocument) {
+            document = DOMUtilities.deepCloneDocument(svgDocument, SVGDOMImplementation.getDOMImplementation());
+        }
+        document.setDocumentURI(svgDocument.getURL());
 
+        SVGRasterizer rasterizer = rasterizers.get();
+        rasterizer.addTranscodingHint(ImageTranscoder.KEY_HEIGHT, height);
+        try {
+            TranscoderInput input = new TranscoderInput(document);
+            input.setURI(svgDocument.getURL());
+            rasterizer.transcode(input, null);
+            return rasterizer.takeImage();
+        } catch (TranscoderException ex) {
+            logger.log(Level.SEVERE, "Couldn't convert {0}", svgDocument.getURL());
+            // Requires Java 6
+            ex.printStackTrace();
+            throw new IOException("Couldn't convert " + svgDocument.getURL());
+        }
+    }
+
+    private static TranscodingHints createTranscodingHints() {
         TranscodingHints transcoderHints = new TranscodingHints();
         transcoderHints.put(ImageTranscoder.KEY_XML_PARSER_VALIDATING, Boolean.FALSE);
         transcoderHints.put(ImageTranscoder.KEY_DOM_IMPLEMENTATION,
@@ -199,38 +251,37 @@ public class VisualUtil {
         transcoderHints.put(ImageTranscoder.KEY_DOCUMENT_ELEMENT_NAMESPACE_URI,
                 SVGConstants.SVG_NAMESPACE_URI);
         transcoderHints.put(ImageTranscoder.KEY_DOCUMENT_ELEMENT, "svg");
-        transcoderHints.put(ImageTranscoder.KEY_USER_STYLESHEET_URI, cssFile.toURI().toString());
-        transcoderHints.put(ImageTranscoder.KEY_HEIGHT, height);
-
-        try {
+        transcoderHints.put(ImageTranscoder.KEY_USER_STYLESHEET_URI, USER_STYLESHEET_URI);
+        return transcoderHints;
+    }
 
-            TranscoderInput input = new TranscoderInput(new FileInputStream(svgFile));
+    /**
+     * Transcoder which keeps the rendered image instead of writing it to an output.
+     * The transcoder is not thread-safe, so every thread gets its own (see rasterizers).
+     * Every transcoder also gets its own hints, because the height of every rendering is set as hint.
+     */
+    private static class SVGRasterizer extends ImageTranscoder {
+        private BufferedImage image;
 
-            ImageTranscoder t = new ImageTranscoder() {
+        SVGRasterizer() {
+            setTranscodingHints(createTranscodingHints());
+        }
 
-                @Override
-                public BufferedImage createImage(int w, int h) {
-                    return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-                }
+        @Override
+        public BufferedImage createImage(int w, int h) {
+            return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        }
 
-                @Override
-                public void writeImage(BufferedImage image, TranscoderOutput out)
-                        throws TranscoderException {
-                    imagePointer[0] = image;
-                }
-            };
-            t.setTranscodingHints(transcoderHints);
-            t.transcode(input, null);
-        } catch (TranscoderException ex) {
-            logger.log(Level.SEVERE, "Couldn't convert {0}", svgFile);
-            // Requires Java 6
-            ex.printStackTrace();
-            throw new IOException("Couldn't convert " + svgFile);
-        } finally {
-            cssFile.delete();
+        @Override
+        public void writeImage(BufferedImage image, TranscoderOutput out) {
+            this.image = image;
         }
 
-        return imagePointer[0];
+        BufferedImage takeImage() {
+            BufferedImage renderedImage = image;
+            image = null;
+            return renderedImage;
+        }
     }
 
     /**
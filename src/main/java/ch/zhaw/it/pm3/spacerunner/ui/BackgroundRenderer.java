@@ -0,0 +1,71 @@
+package ch.zhaw.it.pm3.spacerunner.ui;
+
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualElement;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.BackgroundLayer;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws the scrolling background from one viewport-sized tile per layer instead of a pre-composed image.
+ * Every frame only the visible slices of the tiles are drawn (see BackgroundLayer). The mirrored tiles are drawn with a
+ * flipped transform, so the mirror image doesn't have to be kept in memory.
+ * The layers are drawn in the order they were added (the first one is the farthest).
+ */
+public class BackgroundRenderer {
+
+    private final FXMLImageProxy fxmlImageProxy = FXMLImageProxy.getProxy();
+
+    private final List<Class<? extends VisualElement>> layerClasses = new ArrayList<>();
+    private final List<BackgroundLayer> layers = new ArrayList<>();
+
+    /**
+     * Adds a layer on top of the existing layers.
+     *
+     * @param elementClass   class of the visual with the tile of the layer. not null
+     * @param parallaxFactor speed of the layer relative to the scroll position (1 moves with the game)
+     * @param mirrored       true if every second tile is mirrored
+     */
+    public void addLayer(Class<? extends VisualElement> elementClass, double parallaxFactor, boolean mirrored) {
+        if (elementClass == null) {
+            throw new IllegalArgumentException("elementClass can not be null");
+        }
+        layerClasses.add(elementClass);
+        layers.add(new BackgroundLayer(parallaxFactor, mirrored));
+    }
+
+    /**
+     * Draws all the layers at the scroll position.
+     *
+     * @param graphicsContext context of the canvas to draw on
+     * @param scrollX         distance in px the background has scrolled to the left
+     * @param viewportWidth   width of the viewport in px
+     * @throws VisualNotSetException if the visual of a layer wasn't set
+     */
+    public void draw(GraphicsContext graphicsContext, double scrollX, double viewportWidth) throws VisualNotSetException {
+        for (int i = 0; i < layers.size(); i++) {
+            Image tile = fxmlImageProxy.getFXMLImage(layerClasses.get(i));
+            BackgroundLayer layer = layers.get(i);
+            layer.updateSlices(scrollX, tile.getWidth(), Math.min(viewportWidth, tile.getWidth()));
+
+            double height = tile.getHeight();
+            for (int slice = 0; slice < layer.getSliceCount(); slice++) {
+                double sourceX = layer.getSourceX(slice);
+                double width = layer.getWidth(slice);
+                double destinationX = layer.getDestinationX(slice);
+                if (layer.isMirrored(slice)) {
+                    graphicsContext.save();
+                    graphicsContext.translate(destinationX + width, 0);
+                    graphicsContext.scale(-1, 1);
+                    graphicsContext.drawImage(tile, sourceX, 0, width, height, 0, 0, width, height);
+                    graphicsContext.restore();
+                } else {
+                    graphicsContext.drawImage(tile, sourceX, 0, width, height, destinationX, 0, width, height);
+                }
+            }
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package ch.zhaw.it.pm3.spacerunner.ui;
 
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.AnimatedVisual;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.LoadedVisuals;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.Visual;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualElement;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManagerListener;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.TextureAtlas;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.scene.image.Image;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,15 +23,26 @@ import java.util.Map;
  * Image proxy for FXML-Images.
  * Used the VisualManager to get the images and converts them into fxml images.
  * Also creates a cache for fxml images.
+ * <p>
+ * For the game canvas all loaded visuals are packed into one texture atlas, which is built again when the VisualManager
+ * has published other visuals (e.g. new viewport). The elements are drawn as regions of the atlas, so the canvas uses
+ * the same texture for all of them. The regions are resolved when the atlas is built and looked up by the type ordinal
+ * of the element (see VelocityManager.getTypeOrdinal), so drawing an element doesn't touch the VisualManager.
  *
  * @author islermic
  */
 public class FXMLImageProxy implements VisualManagerListener {
 
+    //maximum texture size which is supported by all Prism pipelines
+    private static final int ATLAS_MAX_SIZE = 4096;
+
     private static final FXMLImageProxy FXML_IMAGE_PROXY = new FXMLImageProxy();
     private final VisualManager visualManager = VisualManager.getManager();
     private Map<BufferedImage, Image> fxmlImageCache = new HashMap<>();
 
+    //null if the atlas has to be built, it is never changed after it was published
+    private volatile AtlasRegions atlasRegions = null;
+
     private FXMLImageProxy() {
         visualManager.addListener(this);
     }
@@ -38,6 +57,7 @@ public class FXMLImageProxy implements VisualManagerListener {
     @Override
     public void clear() {
         fxmlImageCache = new HashMap<>();
+        atlasRegions = null;
     }
 
     /**
@@ -49,7 +69,10 @@ public class FXMLImageProxy implements VisualManagerListener {
      * @throws VisualNotSetException if no image set for this class
      */
     public Image getFXMLImage(Class<? extends VisualElement> elementClass) throws VisualNotSetException {
-        BufferedImage bufferedImage = visualManager.getImage(elementClass);
+        return getFXMLImage(visualManager.getImage(elementClass));
+    }
+
+    private Image getFXMLImage(BufferedImage bufferedImage) {
         Image image = fxmlImageCache.get(bufferedImage);
 
         if (image != null) {
@@ -61,9 +84,78 @@ public class FXMLImageProxy implements VisualManagerListener {
         }
     }
 
+    /**
+     * Gets the region of the image of the type in the texture atlas. Animated types get the region of the frame which is
+     * shown at the specified time.
+     * If the image is not packed into the atlas (e.g. the background), the region covers the whole fxml image.
+     *
+     * @param typeOrdinal     type ordinal of the element class (see VelocityManager.getTypeOrdinal)
+     * @param frameTimeMillis time of the frame which is drawn in milliseconds
+     * @return region of the fxml image
+     * @throws VisualNotSetException if no image set for this type
+     */
+    public FXMLImageRegion getFXMLImageRegion(int typeOrdinal, long frameTimeMillis) throws VisualNotSetException {
+        AtlasRegions regions = atlasRegions;
+        if (regions == null || regions.loadedVisuals != visualManager.getLoadedVisuals()) {
+            regions = buildAtlas();
+        }
+
+        FXMLImageRegion region = regions.getRegion(typeOrdinal, frameTimeMillis);
+        if (region == null) {
+            throw new VisualNotSetException("Visual for type ordinal " + typeOrdinal + " was not set!");
+        }
+        return region;
+    }
+
+    private AtlasRegions buildAtlas() {
+        LoadedVisuals loadedVisuals = visualManager.getLoadedVisuals();
+        TextureAtlas textureAtlas = new TextureAtlas(loadedVisuals.getImages(), ATLAS_MAX_SIZE);
+        Image atlasImage = SwingFXUtils.toFXImage(textureAtlas.getAtlasImage(), null);
+
+        AtlasRegions regions = new AtlasRegions(loadedVisuals);
+        for (Map.Entry<Class<? extends VisualElement>, Visual> visualEntry : loadedVisuals.getVisuals().entrySet()) {
+            if (SpaceElement.class.isAssignableFrom(visualEntry.getKey())) {
+                FXMLImageRegion region = createRegion(visualEntry.getValue().getBufferedImage(), textureAtlas, atlasImage);
+                regions.put(getTypeOrdinal(visualEntry.getKey()), new FXMLImageRegion[]{region}, null);
+            }
+        }
+        //an animation is preferred to the visual of the same type
+        for (Map.Entry<Class<? extends VisualElement>, AnimatedVisual> animatedVisualEntry : loadedVisuals.getAnimatedVisuals().entrySet()) {
+            if (SpaceElement.class.isAssignableFrom(animatedVisualEntry.getKey())) {
+                AnimatedVisual animatedVisual = animatedVisualEntry.getValue();
+                Visual[] frames = animatedVisual.getVisuals();
+                FXMLImageRegion[] frameRegions = new FXMLImageRegion[frames.length];
+                for (int i = 0; i < frames.length; i++) {
+                    frameRegions[i] = createRegion(frames[i].getBufferedImage(), textureAtlas, atlasImage);
+                }
+                regions.put(getTypeOrdinal(animatedVisualEntry.getKey()), frameRegions, animatedVisual);
+            }
+        }
+        atlasRegions = regions;
+        return regions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int getTypeOrdinal(Class<? extends VisualElement> elementClass) {
+        return VelocityManager.getTypeOrdinal((Class<? extends SpaceElement>) elementClass);
+    }
+
+    private FXMLImageRegion createRegion(BufferedImage bufferedImage, TextureAtlas textureAtlas, Image atlasImage) {
+        if (bufferedImage == null) {
+            return null;
+        }
+        Rectangle rectangle = textureAtlas.getRegion(bufferedImage);
+        if (rectangle != null) {
+            return new FXMLImageRegion(atlasImage, rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        }
+        Image image = getFXMLImage(bufferedImage);
+        return new FXMLImageRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
     /**
      * Method implemented for VisualManagerListener.
      * Will be called when an image should be removed from cache and reloaded.
+     * The atlas is built again on the next lookup of a region, because the VisualManager has published other visuals.
      *
      * @param bufferedImage image that changed
      */
@@ -72,4 +164,36 @@ public class FXMLImageProxy implements VisualManagerListener {
         Image fxmlImage = SwingFXUtils.toFXImage(bufferedImage, null);
         fxmlImageCache.put(bufferedImage, fxmlImage);
     }
+
+    /**
+     * Regions of the images of the loaded visuals in one atlas, indexed by type ordinal.
+     */
+    private static class AtlasRegions {
+        private final LoadedVisuals loadedVisuals;
+        //one region per frame, only animations have more than one
+        private FXMLImageRegion[][] frameRegions = new FXMLImageRegion[0][];
+        //animation of the type, null if the type isn't animated
+        private AnimatedVisual[] animations = new AnimatedVisual[0];
+
+        private AtlasRegions(LoadedVisuals loadedVisuals) {
+            this.loadedVisuals = loadedVisuals;
+        }
+
+        private void put(int typeOrdinal, FXMLImageRegion[] regions, AnimatedVisual animation) {
+            if (typeOrdinal >= frameRegions.length) {
+                frameRegions = Arrays.copyOf(frameRegions, typeOrdinal + 1);
+                animations = Arrays.copyOf(animations, typeOrdinal + 1);
+            }
+            frameRegions[typeOrdinal] = regions;
+            animations[typeOrdinal] = animation;
+        }
+
+        private FXMLImageRegion getRegion(int typeOrdinal, long frameTimeMillis) {
+            if (typeOrdinal < 0 || typeOrdinal >= frameRegions.length || frameRegions[typeOrdinal] == null) {
+                return null;
+            }
+            AnimatedVisual animation = animations[typeOrdinal];
+            return frameRegions[typeOrdinal][animation == null ? 0 : animation.getFrameIndexAt(frameTimeMillis)];
+        }
+    }
 }
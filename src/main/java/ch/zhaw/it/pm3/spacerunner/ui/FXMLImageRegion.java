@@ -0,0 +1,43 @@
+package ch.zhaw.it.pm3.spacerunner.ui;
+
+import javafx.scene.image.Image;
+
+/**
+ * Source rectangle of a visual in a fxml image (e.g. in the texture atlas).
+ * Draw it with the sub-image drawImage of the GraphicsContext.
+ */
+public class FXMLImageRegion {
+    private final Image image;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+
+    public FXMLImageRegion(Image image, double x, double y, double width, double height) {
+        this.image = image;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
@@ -3,14 +3,19 @@ package ch.zhaw.it.pm3.spacerunner.ui;
 import ch.zhaw.it.pm3.spacerunner.SpaceRunnerApp;
 import ch.zhaw.it.pm3.spacerunner.domain.GameController;
 import ch.zhaw.it.pm3.spacerunner.domain.GameDataCache;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.RenderSnapshot;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceWorld;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.DoubleCoinsPowerUp;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.PowerUp;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ShieldPowerUp;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FPSTracker;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FramePacer;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FramePhase;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.performance.FrameProfiler;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.*;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.*;
 import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -28,19 +33,25 @@ import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
+import javafx.util.Duration;
 
-import java.awt.geom.Point2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Visual appearance of the game. Receives I/O inputs, hands them over to GameController which performs logic actions
  * and display the result on a canvas.
+ * The logic runs on the simulation thread of the GameController. A frame only draws the latest RenderSnapshot, so
+ * rendering never waits for the logic. The elements are drawn between their positions before and after the last tick,
+ * so the motion is smooth with any refresh rate. The FramePacer caps the frames at the fps of the player profile.
+ * The info bar is drawn on a canvas of its own on top of the game canvas. It is only redrawn when its content changes,
+ * so a frame only redraws the playfield.
  * <p>
  * ViewController of Game.fxml
  *
@@ -53,7 +64,10 @@ public class GameViewController extends ViewController {
 
     @FXML
     private Canvas gameCanvas;
+    @FXML
+    private Canvas hudCanvas;
     private GraphicsContext graphicsContext;
+    private GraphicsContext hudGraphicsContext;
     private GameViewPort gameViewPort = null;
     private final GameRatioUtil gameRatioUtil = GameRatioUtil.getUtil();
 
@@ -82,30 +96,76 @@ public class GameViewController extends ViewController {
             }
         }
     };
+    private final EventHandler<KeyEvent> frameTimeOverlayKeyHandler = event -> {
+        if (event.getCode() == KeyCode.F3) {
+            toggleFrameTimeOverlay();
+        }
+    };
 
     private boolean wasPausedBeforeResize = false;
     private boolean isResizing = false;
 
     private final FXMLImageProxy fxmlImageProxy = FXMLImageProxy.getProxy();
+    private final BackgroundRenderer backgroundRenderer = new BackgroundRenderer();
 
     private AnimationTimer gameLoop;
+    private FramePacer framePacer;
+    private FPSTracker fpsTracker;
+    private final FrameProfiler frameProfiler = new FrameProfiler("render");
+    private boolean showFrameTimeOverlay = false;
+    private String frameTimeOverlayText = "";
+    private long lastFrameTimeOverlayUpdate = 0;
     private AnimationTimer loadingAnimation;
 
-    private final Timer resizeTimer = new Timer("ResizeTimer");
-    private TimerTask resizeTask = null;
+    //runs on the JavaFX thread, so resizing needs no timer thread (the game is paused while resizing)
+    private final PauseTransition resizeDelay = new PauseTransition(Duration.millis(300));
+    //the last frame of the game stays visible for a moment before the game ended view is shown
+    private final PauseTransition gameEndedDelay = new PauseTransition(Duration.millis(500));
 
 
     private boolean isLoaded = false;
+    //progress of the visual loading, only changed on the JavaFX thread
+    private String loadingProgress = "";
+    private final VisualManagerListener loadingProgressListener = new VisualManagerListener() {
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void bufferedImageChanged(BufferedImage bufferedImage) {
+        }
+
+        @Override
+        public void loadingProgressChanged(int loadedVisuals, int totalVisuals) {
+            String progress = " " + loadedVisuals * 100 / totalVisuals + "%";
+            Platform.runLater(() -> loadingProgress = progress);
+        }
+    };
+
+    //content of the info bar when it was drawn the last time
+    private boolean infoBarInvalid = true;
+    private int infoBarCoins;
+    private int infoBarScore;
+    private final Set<Class<? extends PowerUp>> infoBarPowerUps = new HashSet<>();
+    private Image infoBarCoinImage;
+    private String infoBarInformation;
+    //digits and texts of the info bar, rendered once per size of the info bar
+    private GlyphAtlas infoBarGlyphs;
+    private Image infoBarGlyphImage;
+    private final char[] numberBuffer = new char[GlyphAtlas.NUMBER_BUFFER_LENGTH];
+    private Font frameTimeOverlayFont;
 
     private static final double FONT_SIZE_IN_PERCENT_OF_INFO_BAR = 0.8;
     private static final double INFO_BAR_IMAGE_MARGIN = 10;
     private static final double INFO_BAR_TEXT_MARGIN = 30;
+    private static final String INFO_BAR_CHARACTERS = "0123456789";
+    private static final String LOADING_INFORMATION = "Game is loading...";
+    private static final String START_INFORMATION = "Press SPACE to start";
+    private static final String CONTINUE_INFORMATION = "Press P to continue";
+    private static final double FRAME_TIME_OVERLAY_FONT_SIZE_IN_PERCENT_OF_INFO_BAR = 0.4;
+    private static final long FRAME_TIME_OVERLAY_UPDATE_NANOS = 500_000_000;
     private final VisualManager visualManager = VisualManager.getManager();
 
-    private long lastUpdate = 0;
-    //Used to overperform a little bit. if we dont have this we dont reach the required fps (has to do with some internal AnimationTimer stuff)
-    private static final long FRAME_TIME_DELTA = 2_000_000;
-
     /**
      * Initialisation of the UI related component such as scaling of displayed contents and initialisation of I/O related
      * handlers. Contains ApplicationTimer, which is the game loop, who updates the appearance according to an input.
@@ -124,6 +184,9 @@ public class GameViewController extends ViewController {
 
 
         graphicsContext = gameCanvas.getGraphicsContext2D();
+        hudGraphicsContext = hudCanvas.getGraphicsContext2D();
+        updateFonts();
+        backgroundRenderer.addLayer(SpaceWorld.class, 1, true);
 
         pressedHandler = createPressReleaseKeyHandler(true);
         releasedHandler = createPressReleaseKeyHandler(false);
@@ -131,45 +194,34 @@ public class GameViewController extends ViewController {
         primaryStage.addEventHandler(KeyEvent.KEY_PRESSED, pressedHandler);
         primaryStage.addEventHandler(KeyEvent.KEY_RELEASED, releasedHandler);
         primaryStage.addEventHandler(KeyEvent.KEY_PRESSED, pauseGameKeyHandler);
+        primaryStage.addEventHandler(KeyEvent.KEY_PRESSED, frameTimeOverlayKeyHandler);
         primaryStage.setOnCloseRequest(handleCloseWindowEvent());
 
         showLoadingScreen();
 
         new Thread(() -> {
             gameController.initialize();
+            gameController.togglePause();
+            gameController.startSimulation();
 
-
-
+            visualManager.removeListener(loadingProgressListener);
             isLoaded = true;
 
-            updateGameFrame();
-            gameController.togglePause();
-
             primaryStage.addEventHandler(KeyEvent.KEY_RELEASED, startGameKeyHandler);
 
-            lastUpdate = System.nanoTime();
-
             int fpsConfig = gameController.getFps();
-            long timeForFrameNano = (1_000_000_000 / fpsConfig) - FRAME_TIME_DELTA;
+            framePacer = new FramePacer(fpsConfig);
+            fpsTracker = new FPSTracker(fpsConfig);
 
             gameLoop = new AnimationTimer() {
-                private FPSTracker fpsTracker = new FPSTracker();
-
                 public void handle(long currentNanoTime) {
-                    if (currentNanoTime - lastUpdate >= timeForFrameNano) {
-                        updateGameFrame();
-
-                        if (gameController.isPaused()) {
-                            if (gameController.getScore() == 0) {
-                                displayInformation("Press SPACE to start");
-                            } else {
-                                displayInformation("Press P to continue");
-                            }
-                        }
+                    if (framePacer.shouldRender(currentNanoTime)) {
+                        updateGameFrame(currentNanoTime);
 
                         fpsTracker.track(currentNanoTime);
-
-                        lastUpdate = System.nanoTime();
+                        if (showFrameTimeOverlay) {
+                            displayFrameTimeOverlay(currentNanoTime);
+                        }
                     }
                 }
             };
@@ -179,26 +231,36 @@ public class GameViewController extends ViewController {
 
 
     /**
-     * Updates game view by processing input, updating displayed space elements and game info bar and is responsible
-     * to close the game (loop, handlers and persistence) properly.
+     * Updates game view by drawing the latest state of the simulation (space elements and game info bar) and is
+     * responsible to close the game (loop, handlers and persistence) properly.
+     *
+     * @param currentNanoTime timestamp of the frame, the elements are drawn where they are at this time
      */
-    private void updateGameFrame() {
-        gameController.processFrame(upPressed, downPressed);
-        clearCanvas();
-        displayUpdatedSpaceElements(gameController.getGameElements());
-        displayCoinsAndScore(gameController.getCollectedCoins(), gameController.getScore());
-        displayActivatedPowerUps(gameController.getActivePowerUps());
-
-        boolean gameOver = gameController.isGameOver();
-
-        if (gameOver) {
+    private void updateGameFrame(long currentNanoTime) {
+        long phaseStart = frameProfiler.begin();
+        RenderSnapshot snapshot = gameController.getRenderSnapshot();
+        if (snapshot == null) {
+            //the simulation hasn't published its first state yet
+            return;
+        }
+        phaseStart = frameProfiler.end(FramePhase.READ_SNAPSHOT, phaseStart);
+        clearPlayfield();
+        displayUpdatedSpaceElements(snapshot, snapshot.getInterpolationFactor(currentNanoTime));
+        phaseStart = frameProfiler.end(FramePhase.RENDER_ELEMENTS, phaseStart);
+        updateInfoBar(snapshot.getCollectedCoins(), snapshot.getScore(), snapshot.getActivePowerUps(), getInformation(snapshot));
+        frameProfiler.end(FramePhase.RENDER_INFO_BAR, phaseStart);
+        frameProfiler.endFrame();
+
+        if (snapshot.isGameOver()) {
             removeKeyHandlers();
             removeWindowSizeListeners();
+            resizeDelay.stop();
             if (gameLoop != null) {
                 gameLoop.stop();
-                setGameDataCache(new GameDataCache(gameController.getCollectedCoins(), gameController.getScore()));
+                setGameDataCache(new GameDataCache(snapshot.getCollectedCoins(), snapshot.getScore()));
                 gameController.terminate();
-                getMain().setFXMLView(FXMLFile.GAME_ENDED);
+                gameEndedDelay.setOnFinished(event -> getMain().setFXMLView(FXMLFile.GAME_ENDED));
+                gameEndedDelay.playFromStart();
             }
         }
     }
@@ -236,37 +298,31 @@ public class GameViewController extends ViewController {
             }
         }
 
-        if (resizeTask != null) {
-            resizeTask.cancel();
-        }
+        resizeDelay.stop();
 
         double appBarHeight = 40;
 
         gameViewPort = gameRatioUtil.calcRatio(primaryStage.getWidth(), primaryStage.getHeight() - appBarHeight);
 
-        //needed for scheduler
+        //needed for the resize delay
         double finalWidth = gameViewPort.getGameWidth();
         double finalHeight = gameViewPort.getGameHeight();
 
-        resizeTask = new TimerTask() {
-            @Override
-            public void run() {
-                Platform.runLater(() -> {
-                    gameCanvas.setWidth(finalWidth);
-                    gameCanvas.setHeight(finalHeight + gameViewPort.getInfoBarHeight());
-                    gameController.setViewport((int) finalWidth, (int) finalHeight);
-                    if (!wasPausedBeforeResize) {
-                        gameController.togglePause();
-                    }
-                    isResizing = false;
-                    wasPausedBeforeResize = false;
-                });
+        resizeDelay.setOnFinished(event -> {
+            gameCanvas.setWidth(finalWidth);
+            gameCanvas.setHeight(finalHeight + gameViewPort.getInfoBarHeight());
+            hudCanvas.setWidth(finalWidth);
+            hudCanvas.setHeight(finalHeight + gameViewPort.getInfoBarHeight());
+            updateFonts();
+            infoBarInvalid = true;
+            gameController.setViewport((int) finalWidth, (int) finalHeight);
+            if (!wasPausedBeforeResize) {
+                gameController.togglePause();
             }
-
-
-        };
-
-        resizeTimer.schedule(resizeTask, 300);
+            isResizing = false;
+            wasPausedBeforeResize = false;
+        });
+        resizeDelay.playFromStart();
     }
 
     /**
@@ -283,6 +339,7 @@ public class GameViewController extends ViewController {
             if (event.getCode() == KeyCode.DOWN) {
                 downPressed = isPressedHandler;
             }
+            gameController.setInput(upPressed, downPressed);
         };
     }
 
@@ -294,9 +351,11 @@ public class GameViewController extends ViewController {
     }
 
     /**
-     * While the game is loading this method will display a loading animation by rotating it continuously.
+     * While the game is loading this method will display a loading animation by rotating it continuously and the
+     * progress of the visual loading.
      */
     private void showLoadingScreen() {
+        visualManager.addListener(loadingProgressListener);
         graphicsContext.setFill(Color.WHITE);
         graphicsContext.setFont(new Font(DEFAULT_FONT, gameRatioUtil.getFontSize(gameViewPort.getInfoBarHeight(), FONT_SIZE_IN_PERCENT_OF_INFO_BAR)));
         graphicsContext.setTextAlign(TextAlignment.CENTER);
@@ -314,7 +373,7 @@ public class GameViewController extends ViewController {
                 } else if (l - lastLoadingAnimation >= framerate) {
                     lastLoadingAnimation = l;
                     clearCanvas();
-                    graphicsContext.fillText("Game is loading...", gameCanvas.getWidth() / 2,
+                    graphicsContext.fillText(LOADING_INFORMATION + loadingProgress, gameCanvas.getWidth() / 2,
                             (gameCanvas.getHeight() + 80) / 2, gameCanvas.getWidth());
                     img = visualUtil.rotateImage(img, -1);
                     graphicsContext.drawImage(SwingFXUtils.toFXImage(img, null), (gameCanvas.getWidth() - 80) / 2, (gameCanvas.getHeight() - 160) / 2, 80, 80);
@@ -331,77 +390,175 @@ public class GameViewController extends ViewController {
         graphicsContext.clearRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
     }
 
+    /**
+     * Clears the playfield of the game canvas (the info bar is on its own canvas).
+     */
+    private void clearPlayfield() {
+        graphicsContext.clearRect(0, 0, gameViewPort.getGameWidth(), gameViewPort.getGameHeight());
+    }
+
+    /**
+     * Creates the fonts and renders the glyphs of the info bar for the current size of the info bar, so they aren't
+     * created again every frame.
+     */
+    private void updateFonts() {
+        float infoBarFontSize = (float) Math.max(1, gameRatioUtil.getFontSize(gameViewPort.getInfoBarHeight(), FONT_SIZE_IN_PERCENT_OF_INFO_BAR));
+        java.awt.Font glyphFont = new java.awt.Font(DEFAULT_FONT, java.awt.Font.PLAIN, 1).deriveFont(infoBarFontSize);
+        infoBarGlyphs = new GlyphAtlas(glyphFont, java.awt.Color.WHITE, INFO_BAR_CHARACTERS, List.of(START_INFORMATION, CONTINUE_INFORMATION));
+        infoBarGlyphImage = SwingFXUtils.toFXImage(infoBarGlyphs.getAtlasImage(), null);
+        frameTimeOverlayFont = new Font(DEFAULT_FONT, gameRatioUtil.getFontSize(gameViewPort.getInfoBarHeight(), FRAME_TIME_OVERLAY_FONT_SIZE_IN_PERCENT_OF_INFO_BAR));
+    }
+
     /**
      * Displays the space elements according to their new position, relative to the scene (responsive design).
+     * The background is drawn first by the BackgroundRenderer, its position is the scroll position of the background.
      *
-     * @param spaceElements all SpaceElements which are displayed on the screen
+     * @param snapshot            state of the game to draw
+     * @param interpolationFactor part of the tick after the snapshot which has elapsed (0 - 1)
      */
-    private void displayUpdatedSpaceElements(List<SpaceElement> spaceElements) {
-        for (SpaceElement spaceElement : spaceElements) {
-            Point2D.Double position = spaceElement.getRelativePosition();
-            Image image = null;
+    private void displayUpdatedSpaceElements(RenderSnapshot snapshot, double interpolationFactor) {
+        int width = visualManager.getWidth();
+        int height = visualManager.getHeight();
+        try {
+            backgroundRenderer.draw(graphicsContext, -snapshot.getInterpolatedBackgroundX(interpolationFactor) * width, width);
+        } catch (VisualNotSetException e) {
+            logger.log(Level.SEVERE, "Visual for {0} wasn't set", SpaceWorld.class);
+        }
+        long frameTimeMillis = System.currentTimeMillis();
+        for (int i = 0; i < snapshot.getElementCount(); i++) {
             try {
-                image = fxmlImageProxy.getFXMLImage(spaceElement.getClass());
+                FXMLImageRegion region = fxmlImageProxy.getFXMLImageRegion(snapshot.getTypeOrdinal(i), frameTimeMillis);
+                graphicsContext.drawImage(region.getImage(), region.getX(), region.getY(), region.getWidth(), region.getHeight(),
+                        snapshot.getInterpolatedX(i, interpolationFactor) * width, snapshot.getInterpolatedY(i, interpolationFactor) * height,
+                        region.getWidth(), region.getHeight());
             } catch (VisualNotSetException e) {
-                logger.log(Level.SEVERE, "Visual for {0} wasn't set", spaceElement.getClass());
+                logger.log(Level.SEVERE, "Visual for {0} wasn't set", snapshot.getType(i));
             }
-            graphicsContext.drawImage(image, position.x * visualManager.getWidth(), position.y * visualManager.getHeight());
+        }
+    }
+
+    /**
+     * @param snapshot state of the game
+     * @return text which is shown on the info bar while the game is paused or null
+     */
+    private String getInformation(RenderSnapshot snapshot) {
+        if (!snapshot.isPaused()) {
+            return null;
+        } else if (snapshot.getScore() == 0) {
+            return START_INFORMATION;
+        } else {
+            return CONTINUE_INFORMATION;
+        }
+    }
+
+    /**
+     * Redraws the info bar if its content has changed since it was drawn the last time or the canvas was resized.
+     * The coin icon is animated, so a new frame of the animation is a change too.
+     *
+     * @param coins          collected coins in game
+     * @param score          achieved score in game
+     * @param activePowerUps classes of the activated power ups
+     * @param information    text to display in the center of the info bar or null
+     */
+    private void updateInfoBar(int coins, int score, List<Class<? extends PowerUp>> activePowerUps, String information) {
+        Image coinImage = null;
+        try {
+            coinImage = fxmlImageProxy.getFXMLImage(UIVisualElement.COIN_COUNT);
+        } catch (VisualNotSetException e) {
+            logger.log(Level.SEVERE, "Visual for {0} wasn't set", UIVisualElement.COIN_COUNT.getClass());
+        }
+
+        if (!infoBarInvalid && coins == infoBarCoins && score == infoBarScore && coinImage == infoBarCoinImage
+                && activePowerUps.size() == infoBarPowerUps.size() && infoBarPowerUps.containsAll(activePowerUps)
+                && Objects.equals(information, infoBarInformation)) {
+            return;
+        }
+        infoBarInvalid = false;
+        infoBarCoins = coins;
+        infoBarScore = score;
+        infoBarCoinImage = coinImage;
+        infoBarPowerUps.clear();
+        infoBarPowerUps.addAll(activePowerUps);
+        infoBarInformation = information;
+
+        hudGraphicsContext.clearRect(0, 0, hudCanvas.getWidth(), hudCanvas.getHeight());
+        displayCoinsAndScore(coins, score, coinImage);
+        displayActivatedPowerUps(activePowerUps);
+        if (information != null) {
+            displayInformation(information);
         }
     }
 
     /**
      * Display coins, coin animation and score to the info bar.
      *
-     * @param coins collected coins in game
-     * @param score achieved score in game
+     * @param coins     collected coins in game
+     * @param score     achieved score in game
+     * @param coinImage current frame of the coin animation or null if it wasn't set
      */
-    private void displayCoinsAndScore(int coins, int score) {
+    private void displayCoinsAndScore(int coins, int score, Image coinImage) {
         double positionXReference = gameViewPort.getGameWidth();
         double infoBarYPosition = gameViewPort.getGameHeight();
 
 
-        graphicsContext.setFill(Color.DARKGRAY);
-        graphicsContext.fillRect(0, infoBarYPosition, gameViewPort.getGameWidth(), gameViewPort.getInfoBarHeight());
-
-        Image image = null;
+        hudGraphicsContext.setFill(Color.DARKGRAY);
+        hudGraphicsContext.fillRect(0, infoBarYPosition, gameViewPort.getGameWidth(), gameViewPort.getInfoBarHeight());
 
-        try {
-            image = fxmlImageProxy.getFXMLImage(UIVisualElement.COIN_COUNT);
-            positionXReference -= image.getWidth();
-            graphicsContext.drawImage(image, (gameViewPort.getGameWidth() - image.getWidth() - INFO_BAR_IMAGE_MARGIN),
-                    infoBarYPosition + (gameViewPort.getInfoBarHeight() - image.getHeight()) / 2, image.getWidth(), image.getHeight());
-        } catch (VisualNotSetException e) {
-            logger.log(Level.SEVERE, "Visual for {0} wasn't set", UIVisualElement.COIN_COUNT.getClass());
+        if (coinImage != null) {
+            positionXReference -= coinImage.getWidth();
+            hudGraphicsContext.drawImage(coinImage, (gameViewPort.getGameWidth() - coinImage.getWidth() - INFO_BAR_IMAGE_MARGIN),
+                    infoBarYPosition + (gameViewPort.getInfoBarHeight() - coinImage.getHeight()) / 2, coinImage.getWidth(), coinImage.getHeight());
         }
 
-        graphicsContext.setFill(Color.WHITE);
-        graphicsContext.setFont(new Font(DEFAULT_FONT, gameRatioUtil.getFontSize(gameViewPort.getInfoBarHeight(), FONT_SIZE_IN_PERCENT_OF_INFO_BAR)));
-        graphicsContext.setTextAlign(TextAlignment.RIGHT);
-        graphicsContext.setTextBaseline(VPos.TOP);
         positionXReference -= INFO_BAR_TEXT_MARGIN;
 
 
         double textWidth = gameRatioUtil.getTextWidth(gameViewPort.getInfoBarHeight(), FONT_SIZE_IN_PERCENT_OF_INFO_BAR);
-        graphicsContext.fillText(String.valueOf(coins), positionXReference, infoBarYPosition, textWidth);
+        displayNumber(coins, positionXReference, infoBarYPosition, textWidth);
         positionXReference -= (INFO_BAR_TEXT_MARGIN + textWidth);
-        graphicsContext.fillText(String.valueOf(score), positionXReference, infoBarYPosition, textWidth);
+        displayNumber(score, positionXReference, infoBarYPosition, textWidth);
+    }
+
+    /**
+     * Draws the number right-aligned from the glyphs of the info bar. Like fillText with a maximum width, the number is
+     * narrowed if it is wider than the maximum width.
+     *
+     * @param value    number to display
+     * @param rightX   right edge of the number
+     * @param topY     top edge of the number
+     * @param maxWidth maximum width of the number
+     */
+    private void displayNumber(int value, double rightX, double topY, double maxWidth) {
+        int start = GlyphAtlas.formatNumber(value, numberBuffer);
+        int width = infoBarGlyphs.getWidth(numberBuffer, start, numberBuffer.length);
+        double scale = width > maxWidth ? maxWidth / width : 1;
+
+        double x = rightX - width * scale;
+        for (int i = start; i < numberBuffer.length; i++) {
+            Rectangle region = infoBarGlyphs.getCharRegion(numberBuffer[i]);
+            if (region != null) {
+                hudGraphicsContext.drawImage(infoBarGlyphImage, region.x, region.y, region.width, region.height,
+                        x, topY, region.width * scale, region.height);
+                x += region.width * scale;
+            }
+        }
     }
 
     /**
      * Display icons of collected power ups on the info bar.
      *
-     * @param activePowerUps Map of activated power ups
+     * @param activePowerUps classes of the activated power ups
      */
-    private void displayActivatedPowerUps(Map<Class<? extends PowerUp>, PowerUp> activePowerUps) {
+    private void displayActivatedPowerUps(List<Class<? extends PowerUp>> activePowerUps) {
         double positionXReference = INFO_BAR_IMAGE_MARGIN;
         double infoBarYPosition = gameViewPort.getGameHeight();
 
         Image image = null;
-        for (Map.Entry<Class<? extends PowerUp>, PowerUp> classPowerUpEntry : activePowerUps.entrySet()) {
+        for (Class<? extends PowerUp> powerUpClass : activePowerUps) {
             Class<? extends VisualElement> uiVisualElementClass = null;
-            if (DoubleCoinsPowerUp.class.equals(classPowerUpEntry.getKey())) {
+            if (DoubleCoinsPowerUp.class.equals(powerUpClass)) {
                 uiVisualElementClass = UIVisualElement.DOUBLE_COIN_POWER_UP;
-            } else if (ShieldPowerUp.class.equals(classPowerUpEntry.getKey())) {
+            } else if (ShieldPowerUp.class.equals(powerUpClass)) {
                 uiVisualElementClass = UIVisualElement.SHIELD_POWER_UP;
             }
 
@@ -410,7 +567,7 @@ public class GameViewController extends ViewController {
             }
             try {
                 image = fxmlImageProxy.getFXMLImage(uiVisualElementClass);
-                graphicsContext.drawImage(image, positionXReference,
+                hudGraphicsContext.drawImage(image, positionXReference,
                         infoBarYPosition + (gameViewPort.getInfoBarHeight() - image.getHeight()) / 2, image.getWidth(), image.getHeight());
                 positionXReference += image.getWidth() + INFO_BAR_IMAGE_MARGIN;
             } catch (VisualNotSetException e) {
@@ -420,21 +577,62 @@ public class GameViewController extends ViewController {
     }
 
     /**
-     * Displays a text centered on the info bar.
+     * Displays a text centered on the info bar. The texts of the glyph atlas are copied from it, other texts are laid out.
      *
      * @param info text to display
      */
     private void displayInformation(String info) {
-        graphicsContext.setFill(Color.WHITE);
-        graphicsContext.setFont(new Font(DEFAULT_FONT, gameRatioUtil.getFontSize(gameViewPort.getInfoBarHeight(), FONT_SIZE_IN_PERCENT_OF_INFO_BAR)));
-        graphicsContext.setTextAlign(TextAlignment.CENTER);
-        graphicsContext.fillText(info, gameViewPort.getGameWidth() / 2, gameViewPort.getGameHeight());
+        Rectangle region = infoBarGlyphs.getTextRegion(info);
+        if (region == null) {
+            hudGraphicsContext.setFill(Color.WHITE);
+            hudGraphicsContext.setFont(new Font(DEFAULT_FONT, gameRatioUtil.getFontSize(gameViewPort.getInfoBarHeight(), FONT_SIZE_IN_PERCENT_OF_INFO_BAR)));
+            hudGraphicsContext.setTextAlign(TextAlignment.CENTER);
+            hudGraphicsContext.setTextBaseline(VPos.TOP);
+            hudGraphicsContext.fillText(info, gameViewPort.getGameWidth() / 2, gameViewPort.getGameHeight());
+        } else {
+            hudGraphicsContext.drawImage(infoBarGlyphImage, region.x, region.y, region.width, region.height,
+                    (gameViewPort.getGameWidth() - region.width) / 2, gameViewPort.getGameHeight(), region.width, region.height);
+        }
+    }
+
+    /**
+     * Shows or hides the frame time statistics. The statistics are reset when the overlay is shown, so they
+     * only contain the frames which are measured.
+     */
+    private void toggleFrameTimeOverlay() {
+        showFrameTimeOverlay = !showFrameTimeOverlay;
+        if (showFrameTimeOverlay && fpsTracker != null) {
+            fpsTracker.reset();
+            frameTimeOverlayText = "";
+            lastFrameTimeOverlayUpdate = 0;
+        }
+    }
+
+    /**
+     * Displays the frame time percentiles, the late frames and the average time of the frame phases in the top left
+     * corner of the game.
+     * The text is updated every FRAME_TIME_OVERLAY_UPDATE_NANOS, so it stays readable.
+     *
+     * @param currentNanoTime timestamp of the current frame
+     */
+    private void displayFrameTimeOverlay(long currentNanoTime) {
+        if (currentNanoTime - lastFrameTimeOverlayUpdate >= FRAME_TIME_OVERLAY_UPDATE_NANOS) {
+            frameTimeOverlayText = fpsTracker.getSnapshot() + "\n" + gameController.getFrameProfiler() + "\n" + frameProfiler;
+            lastFrameTimeOverlayUpdate = currentNanoTime;
+        }
+
+        graphicsContext.setFill(Color.LIMEGREEN);
+        graphicsContext.setFont(frameTimeOverlayFont);
+        graphicsContext.setTextAlign(TextAlignment.LEFT);
+        graphicsContext.setTextBaseline(VPos.TOP);
+        graphicsContext.fillText(frameTimeOverlayText, INFO_BAR_IMAGE_MARGIN, INFO_BAR_IMAGE_MARGIN);
     }
 
     private void removeKeyHandlers() {
         primaryStage.removeEventHandler(KeyEvent.KEY_PRESSED, pressedHandler);
         primaryStage.removeEventHandler(KeyEvent.KEY_RELEASED, releasedHandler);
         primaryStage.removeEventHandler(KeyEvent.KEY_PRESSED, pauseGameKeyHandler);
+        primaryStage.removeEventHandler(KeyEvent.KEY_PRESSED, frameTimeOverlayKeyHandler);
     }
 
     /**
@@ -1,10 +1,10 @@
 package ch.zhaw.it.pm3.spacerunner.domain;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.RenderSnapshot;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceShip;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceWorld;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.UFO;
-import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityNotSetException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,7 +17,6 @@ import static org.junit.jupiter.api.Assertions.*;
 public class GameControllerTest {
 
     private GameController controller;
-    private VelocityManager velocityManager = VelocityManager.getManager();
 
     @BeforeEach
     void setUp() {
@@ -51,7 +50,7 @@ public class GameControllerTest {
 
 
         controller.processFrame(false, false);
-        Point2D.Double velocity = velocityManager.getRelativeVelocity(spaceElement.get().getClass());
+        Point2D.Double velocity = spaceElement.get().getGameSession().getVelocityManager().getRelativeVelocity(spaceElement.get().getClass());
         Point2D.Double positionBefore = new Point2D.Double(spaceElement.get().getRelativePosition().x, spaceElement.get().getRelativePosition().y);
         Thread.sleep(1000);
         controller.processFrame(false, false);
@@ -75,6 +74,30 @@ public class GameControllerTest {
 
     }
 
+    /**
+     * Tests that the simulation thread publishes snapshots of the running game and stops when the game is terminated.
+     */
+    @Test
+    void simulationThreadPublishesSnapshots() throws InterruptedException {
+        controller.initialize();
+        assertThrows(IllegalStateException.class, () -> new GameController().startSimulation());
+        controller.startSimulation();
+
+        RenderSnapshot renderSnapshot = null;
+        for (int i = 0; i < 100 && (renderSnapshot == null || renderSnapshot.getScore() == 0); i++) {
+            Thread.sleep(20);
+            renderSnapshot = controller.getRenderSnapshot();
+        }
+        assertNotNull(renderSnapshot);
+        assertTrue(renderSnapshot.getScore() > 0);
+        assertEquals(SpaceShip.class, renderSnapshot.getType(renderSnapshot.getElementCount() - 1));
+
+        controller.terminate();
+        int scoreAfterTerminate = controller.getScore();
+        Thread.sleep(50);
+        assertEquals(scoreAfterTerminate, controller.getScore());
+    }
+
     /**
      * Find first Element which is not SpaceShip, SpaceWorld or UFO because they have special movement.
      *
@@ -0,0 +1,118 @@
+package ch.zhaw.it.pm3.spacerunner.domain.preset;
+
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSession;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the generation of the chunks ahead of time and their spawning.
+ */
+class WorldChunkStreamTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final VisualManager visualManager = VisualManager.getManager();
+    private GameSession gameSession;
+
+    @BeforeEach
+    void setUp() {
+        visualManager.setViewport(1000, 1000);
+        visualManager.loadGameElementVisuals();
+        gameSession = new GameSession(2020L);
+        gameSession.getVelocityManager().setupGameElementVelocity();
+    }
+
+    /**
+     * Tests that the lookahead doesn't grow beyond LOOKAHEAD_CHUNKS and that next takes the chunks in the order they
+     * were generated.
+     */
+    @Test
+    void lookaheadIsBoundedTest() {
+        WorldChunkStream worldChunkStream = new WorldChunkStream(gameSession.getPresetGenerator());
+        for (int i = 0; i < WorldChunkStream.LOOKAHEAD_CHUNKS; i++) {
+            assertTrue(worldChunkStream.produce());
+        }
+        assertFalse(worldChunkStream.produce());
+        assertEquals(WorldChunkStream.LOOKAHEAD_CHUNKS, worldChunkStream.getLookaheadSize());
+
+        assertNotNull(worldChunkStream.next());
+        assertEquals(WorldChunkStream.LOOKAHEAD_CHUNKS - 1, worldChunkStream.getLookaheadSize());
+    }
+
+    /**
+     * Tests that clear drops the lookahead and that the stream generates the next chunks afterwards.
+     */
+    @Test
+    void clearTest() {
+        WorldChunkStream worldChunkStream = new WorldChunkStream(gameSession.getPresetGenerator());
+        for (int i = 0; i < WorldChunkStream.LOOKAHEAD_CHUNKS; i++) {
+            worldChunkStream.produce();
+        }
+
+        worldChunkStream.clear();
+        assertEquals(0, worldChunkStream.getLookaheadSize());
+        assertNotNull(worldChunkStream.next());
+        assertTrue(worldChunkStream.produce());
+    }
+
+    /**
+     * Tests that the chunks only depend on the seed and not on how far ahead they were generated.
+     */
+    @Test
+    void chunksDependOnlyOnSeedTest() {
+        GameSession otherSession = new GameSession(2020L);
+        WorldChunkStream aheadStream = new WorldChunkStream(gameSession.getPresetGenerator());
+        WorldChunkStream onDemandStream = new WorldChunkStream(otherSession.getPresetGenerator());
+
+        for (int i = 0; i < 50; i++) {
+            aheadStream.produce();
+            WorldChunk aheadChunk = aheadStream.next();
+            WorldChunk onDemandChunk = onDemandStream.next();
+
+            assertEquals(onDemandChunk.getPresetType(), aheadChunk.getPresetType());
+            assertEquals(onDemandChunk.getElementCount(), aheadChunk.getElementCount());
+            for (int element = 0; element < aheadChunk.getElementCount(); element++) {
+                assertEquals(onDemandChunk.getOffsetX(element), aheadChunk.getOffsetX(element));
+                assertEquals(onDemandChunk.getY(element), aheadChunk.getY(element));
+            }
+        }
+    }
+
+    /**
+     * Tests that the extent of a chunk contains all its elements and that spawning places the elements relative to the
+     * spawn position.
+     */
+    @Test
+    void spawnAndExtentTest() throws VisualNotSetException {
+        WorldChunkStream worldChunkStream = new WorldChunkStream(gameSession.getPresetGenerator());
+        for (int i = 0; i < 50; i++) {
+            WorldChunk worldChunk = worldChunkStream.next();
+            Preset preset = worldChunk.spawn(gameSession.getSpaceElementPools(), 1.5);
+            SpaceElement[] spaceElements = preset.getElementsInPreset();
+
+            assertEquals(worldChunk.getElementCount(), spaceElements.length);
+            for (int element = 0; element < spaceElements.length; element++) {
+                SpaceElement spaceElement = spaceElements[element];
+                assertEquals(worldChunk.getType(element), spaceElement.getClass());
+                assertEquals(1.5 + worldChunk.getOffsetX(element), spaceElement.getRelativeX(), DELTA);
+                assertTrue(worldChunk.getOffsetX(element) + gameSession.getElementRelativeWidth(spaceElement.getClass())
+                        <= worldChunk.getWidth() + DELTA);
+                assertTrue(worldChunk.getY(element) >= worldChunk.getMinY() - DELTA);
+                assertTrue(worldChunk.getY(element) + gameSession.getElementRelativeHeight(spaceElement.getClass())
+                        <= worldChunk.getMaxY() + DELTA);
+            }
+        }
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new WorldChunkStream(null));
+        WorldChunk worldChunk = new WorldChunkStream(gameSession.getPresetGenerator()).next();
+        assertThrows(IllegalArgumentException.class, () -> worldChunk.spawn(null, 1));
+    }
+}
@@ -0,0 +1,140 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.ContentId;
+import ch.zhaw.it.pm3.spacerunner.domain.ItemType;
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.ShopContent;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.InMemoryPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a recorded run is reproduced by the GameReplay.
+ */
+class GameReplayTest {
+
+    private static final int TICKS = 3000;
+
+    private final VisualManager visualManager = VisualManager.getManager();
+
+    private Path recordingFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        visualManager.setViewport(1000, 1000);
+        recordingFile = Files.createTempFile("run", ".recording");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(recordingFile);
+    }
+
+    /**
+     * Tests that the same seed gives the same sequence of random numbers.
+     */
+    @Test
+    void gameRandomIsSeededTest() {
+        GameRandom first = new GameRandom(7);
+        GameRandom second = new GameRandom(7);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+            double value = first.nextDouble();
+            assertEquals(value, second.nextDouble());
+            assertTrue(value >= 0 && value < 1);
+            int bounded = first.nextInt(10);
+            assertEquals(bounded, second.nextInt(10));
+            assertTrue(bounded >= 0 && bounded < 10);
+        }
+        assertEquals(7, first.getSeed());
+    }
+
+    /**
+     * Tests that the replay of a written and read recording reaches the same score, coins and collisions on the same
+     * ticks as the original run. The run is played with a skin and upgrades in a profile in memory, so the replay only
+     * matches if it takes them from the recording and not from the profile of the player.
+     */
+    @Test
+    void replayReproducesRunTest() throws IOException {
+        PlayerProfile playerProfile = new PlayerProfile();
+        playerProfile.addContent(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+        playerProfile.addContent(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+        playerProfile.activateContent(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+        playerProfile.activateContent(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+        playerProfile.setActiveShopContent(Set.of(new ShopContent(ContentId.SHIP_SKIN_2, "Ship skin 2", "Ship skin 2", 1000,
+                VisualSVGFile.SPACE_SHIP_SKIN_2, ItemType.PLAYER_MODEL)));
+        GameSimulation gameSimulation = new GameSimulation(new ManualGameClock(), new GameSession(new VelocityManager(),
+                new InMemoryPersistenceUtil(playerProfile), 2020L, GameBalance.getDefault()));
+        gameSimulation.initialize();
+        List<String> collisionEvents = new ArrayList<>();
+        int[] currentTick = new int[1];
+        gameSimulation.addListener(new GameSimulationListener() {
+            @Override
+            public void coinCollected() {
+                collisionEvents.add(currentTick[0] + " coin");
+            }
+
+            @Override
+            public void powerUpCollected() {
+                collisionEvents.add(currentTick[0] + " power-up");
+            }
+
+            @Override
+            public void gameOver() {
+                collisionEvents.add(currentTick[0] + " game over");
+            }
+        });
+        for (currentTick[0] = 0; currentTick[0] < TICKS; currentTick[0]++) {
+            int tick = currentTick[0];
+            gameSimulation.tick(tick % 400 < 150, tick % 400 > 250);
+        }
+        gameSimulation.terminate();
+
+        gameSimulation.getInputRecording().write(recordingFile);
+        InputRecording recording = InputRecording.read(recordingFile);
+        assertEquals(VisualSVGFile.SPACE_SHIP_SKIN_2, recording.getSpaceShipFile());
+        assertTrue(recording.hasPowerUpChanceMultiplierUpgrade());
+        assertTrue(recording.hasDoubleDurationForCoinPowerUp());
+
+        GameReplay.ReplayResult result = new GameReplay(recording).run();
+
+        assertTrue(result.matches(recording));
+        assertEquals(gameSimulation.getScore(), result.getScore());
+        assertEquals(gameSimulation.getCollectedCoins(), result.getCollectedCoins());
+        assertEquals(TICKS, result.getTickCount());
+        assertFalse(collisionEvents.isEmpty());
+        assertEquals(collisionEvents, result.getCollisionEvents());
+
+        GameReplay.ReplayResult secondResult = new GameReplay(recording).run();
+        assertEquals(result.getCollisionEvents(), secondResult.getCollisionEvents());
+        assertEquals(result.getScore(), secondResult.getScore());
+    }
+
+    /**
+     * Tests that the replay restores the viewport of the VisualManager.
+     */
+    @Test
+    void replayRestoresViewportTest() {
+        InputRecording recording = new InputRecording(1L);
+        recording.recordViewport(640, 480);
+        recording.recordInput(true, false);
+
+        new GameReplay(recording).run();
+
+        assertEquals(1000, visualManager.getWidth());
+        assertEquals(1000, visualManager.getHeight());
+    }
+}
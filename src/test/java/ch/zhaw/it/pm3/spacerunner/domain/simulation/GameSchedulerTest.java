@@ -0,0 +1,98 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSchedulerTest {
+
+    private void tick(GameScheduler gameScheduler, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            gameScheduler.tick();
+        }
+    }
+
+    /**
+     * Tests if a task runs exactly on the tick of its delay, also if the delay is longer than one round of the wheel.
+     */
+    @Test
+    void scheduleTest() {
+        GameScheduler gameScheduler = new GameScheduler(8);
+        List<String> runs = new ArrayList<>();
+        gameScheduler.schedule(() -> runs.add("short"), 80);
+        gameScheduler.schedule(() -> runs.add("long"), 10000);
+
+        tick(gameScheduler, 10);
+        assertTrue(runs.isEmpty());
+        gameScheduler.tick();
+        assertEquals(List.of("short"), runs);
+
+        tick(gameScheduler, 10000 / 8 - 11);
+        assertEquals(1, runs.size());
+        gameScheduler.tick();
+        assertEquals(List.of("short", "long"), runs);
+        assertEquals(0, gameScheduler.getPendingTasks());
+    }
+
+    /**
+     * Tests if a repeating task runs with its period and stops after it was cancelled.
+     */
+    @Test
+    void scheduleAtFixedRateTest() {
+        GameScheduler gameScheduler = new GameScheduler(8);
+        int[] runs = {0};
+        GameScheduler.ScheduledTask task = gameScheduler.scheduleAtFixedRate(() -> runs[0]++, 0, 1000);
+
+        gameScheduler.tick();
+        assertEquals(1, runs[0]);
+
+        tick(gameScheduler, 250);
+        assertEquals(3, runs[0]);
+
+        task.cancel();
+        tick(gameScheduler, 1000);
+        assertEquals(3, runs[0]);
+        assertTrue(task.isCancelled());
+    }
+
+    /**
+     * Tests if a task scheduled without delay while the tasks of a tick run is run on the next tick.
+     */
+    @Test
+    void scheduleWhileTickingTest() {
+        GameScheduler gameScheduler = new GameScheduler(8);
+        int[] runs = {0};
+        gameScheduler.schedule(() -> gameScheduler.schedule(() -> runs[0]++, 0), 0);
+
+        gameScheduler.tick();
+        assertEquals(0, runs[0]);
+        gameScheduler.tick();
+        assertEquals(1, runs[0]);
+    }
+
+    @Test
+    void cancelAllTest() {
+        GameScheduler gameScheduler = new GameScheduler(8);
+        int[] runs = {0};
+        gameScheduler.schedule(() -> runs[0]++, 8);
+        gameScheduler.scheduleAtFixedRate(() -> runs[0]++, 0, 8);
+
+        gameScheduler.cancelAll();
+        tick(gameScheduler, 10);
+
+        assertEquals(0, runs[0]);
+        assertEquals(0, gameScheduler.getPendingTasks());
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new GameScheduler(0));
+        GameScheduler gameScheduler = new GameScheduler(8);
+        assertThrows(IllegalArgumentException.class, () -> gameScheduler.schedule(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> gameScheduler.schedule(() -> {}, -1));
+        assertThrows(IllegalArgumentException.class, () -> gameScheduler.scheduleAtFixedRate(() -> {}, 0, 0));
+    }
+}
@@ -0,0 +1,98 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityNotSetException;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that games with their own GameSession don't influence each other.
+ */
+class GameSessionTest {
+
+    private static final int TICKS = 3000;
+
+    private final VisualManager visualManager = VisualManager.getManager();
+
+    @BeforeEach
+    void setUp() {
+        visualManager.setViewport(1000, 1000);
+    }
+
+    /**
+     * Tests that the elements of a session move with the velocities of their session.
+     */
+    @Test
+    void sessionsHaveOwnVelocitiesTest() throws VelocityNotSetException {
+        GameSimulation first = new GameSimulation(new ManualGameClock(), 1L);
+        GameSimulation second = new GameSimulation(new ManualGameClock(), 1L);
+        first.initialize();
+        second.initialize();
+
+        for (int i = 0; i < TICKS; i++) {
+            first.tick(false, false);
+        }
+
+        SpaceElement firstAsteroid = new Asteroid(new Point2D.Double(1, 0), first.getGameSession());
+        SpaceElement secondAsteroid = new Asteroid(new Point2D.Double(1, 0), second.getGameSession());
+        assertSame(first.getGameSession(), firstAsteroid.getGameSession());
+        assertTrue(firstAsteroid.getGameSession().getVelocityManager().getRelativeVelocity(Asteroid.class).x
+                < secondAsteroid.getGameSession().getVelocityManager().getRelativeVelocity(Asteroid.class).x);
+        assertEquals(first.getSeed(), second.getSeed());
+    }
+
+    /**
+     * Tests that a session keeps its dimensions when the viewport of the VisualManager changes, until its game hands
+     * it the new ones.
+     */
+    @Test
+    void sessionsHaveOwnDimensionsTest() throws VisualNotSetException {
+        GameSimulation gameSimulation = new GameSimulation(new ManualGameClock(), 1L);
+        gameSimulation.initialize();
+        GameSession gameSession = gameSimulation.getGameSession();
+        double asteroidWidth = gameSession.getElementRelativeWidth(Asteroid.class);
+
+        visualManager.setViewport(2000, 1000);
+        assertEquals(asteroidWidth, gameSession.getElementRelativeWidth(Asteroid.class));
+        assertEquals(1000, gameSession.getElementDimensions().getViewportWidth());
+
+        gameSession.setElementDimensions(visualManager.getElementDimensions());
+        assertEquals(asteroidWidth / 2, gameSession.getElementRelativeWidth(Asteroid.class), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> gameSession.setElementDimensions(null));
+    }
+
+    /**
+     * Tests that two simulations which run at the same time end like two simulations which run one after the other.
+     */
+    @Test
+    void concurrentSimulationsTest() throws ExecutionException, InterruptedException {
+        long[] sequential = {simulate(3L), simulate(4L)};
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> simulate(3L));
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> simulate(4L));
+
+        assertEquals(sequential[0], (long) first.get());
+        assertEquals(sequential[1], (long) second.get());
+    }
+
+    /**
+     * @return score and coins of the run, combined into one number
+     */
+    private long simulate(long seed) {
+        GameSimulation gameSimulation = new GameSimulation(new ManualGameClock(), seed);
+        gameSimulation.initialize();
+        for (int i = 0; i < TICKS && !gameSimulation.isGameOver(); i++) {
+            gameSimulation.tick(i % 200 < 100, i % 200 >= 100);
+        }
+        return (long) gameSimulation.getScore() << 32 | gameSimulation.getCollectedCoins();
+    }
+}
@@ -0,0 +1,264 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.domain.preset.WorldChunkStream;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Coin;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceShip;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the headless GameSimulation with a manually advanced clock.
+ */
+class GameSimulationTest {
+
+    //fixed seed, so the generated chunks and power-ups are the same in every run
+    private static final long SEED = 1L;
+
+    private final VisualManager visualManager = VisualManager.getManager();
+    private ManualGameClock gameClock;
+    private GameSimulation gameSimulation;
+
+    @BeforeEach
+    void setUp() {
+        visualManager.setViewport(1000, 1000);
+        gameClock = new ManualGameClock();
+        gameSimulation = new GameSimulation(gameClock, SEED);
+        gameSimulation.initialize();
+    }
+
+    /**
+     * Tests that advance runs one tick per TICK_MILLIS which elapsed on the clock and keeps the remaining time.
+     */
+    @Test
+    void advanceRunsTicksForElapsedTime() {
+        assertEquals(0, gameSimulation.advance(false, false));
+
+        gameClock.advanceMillis(10 * GameSimulation.TICK_MILLIS);
+        assertEquals(10, gameSimulation.advance(false, false));
+
+        gameClock.advanceMillis(GameSimulation.TICK_MILLIS / 2);
+        assertEquals(0, gameSimulation.advance(false, false));
+        gameClock.advanceMillis(GameSimulation.TICK_MILLIS / 2);
+        assertEquals(1, gameSimulation.advance(false, false));
+
+        assertEquals(11 * GameSimulation.TICK_MILLIS, gameSimulation.getSimulatedMillis());
+    }
+
+    /**
+     * Tests that the time which elapsed before synchronizeClock (e.g. during a pause) is not simulated.
+     */
+    @Test
+    void synchronizeClockDropsElapsedTime() {
+        gameSimulation.advance(false, false);
+        gameClock.advanceMillis(5000);
+        gameSimulation.synchronizeClock();
+
+        assertEquals(0, gameSimulation.advance(false, false));
+        assertEquals(0, gameSimulation.getSimulatedMillis());
+    }
+
+    /**
+     * Tests that a run can be simulated without a clock and that the score follows the simulated time.
+     */
+    @Test
+    void tickSimulatesWithoutClock() {
+        int ticksPerSecond = (int) (1000 / GameSimulation.TICK_MILLIS);
+        for (int i = 0; i < ticksPerSecond && !gameSimulation.isGameOver(); i++) {
+            gameSimulation.tick(false, false);
+        }
+
+        assertFalse(gameSimulation.getGameElements().isEmpty());
+        assertTrue(gameSimulation.getScore() >= gameSimulation.getSimulatedMillis() / 10);
+    }
+
+    /**
+     * Tests that the snapshot contains the elements in drawing order with the spaceship on top and the background
+     * separately and that a second write replaces the content of the first one.
+     */
+    @Test
+    void writeRenderSnapshotTest() {
+        for (int i = 0; i < 200 && !gameSimulation.isGameOver(); i++) {
+            gameSimulation.tick(false, false);
+        }
+        List<SpaceElement> gameElements = gameSimulation.getGameElements();
+        RenderSnapshot renderSnapshot = new RenderSnapshot();
+        gameSimulation.writeRenderSnapshot(renderSnapshot, true);
+        gameSimulation.writeRenderSnapshot(renderSnapshot, true);
+
+        //the background is the first game element, but not an element of the snapshot
+        assertEquals(gameElements.size() - 1, renderSnapshot.getElementCount());
+        assertEquals(gameElements.get(0).getRelativeX(), renderSnapshot.getBackgroundX());
+        for (int i = 0; i < renderSnapshot.getElementCount(); i++) {
+            SpaceElement spaceElement = gameElements.get(i + 1);
+            assertEquals(spaceElement.getClass(), renderSnapshot.getType(i));
+            assertEquals(VelocityManager.getTypeOrdinal(spaceElement.getClass()), renderSnapshot.getTypeOrdinal(i));
+            assertEquals(spaceElement.getRelativeX(), renderSnapshot.getX(i));
+            assertEquals(spaceElement.getRelativeY(), renderSnapshot.getY(i));
+        }
+        assertEquals(SpaceShip.class, renderSnapshot.getType(renderSnapshot.getElementCount() - 1));
+        assertEquals(gameSimulation.getScore(), renderSnapshot.getScore());
+        assertTrue(renderSnapshot.isPaused());
+        assertThrows(IndexOutOfBoundsException.class, () -> renderSnapshot.getType(renderSnapshot.getElementCount()));
+    }
+
+    /**
+     * Tests that the snapshot interpolates between the positions before and after the last tick with the part of the
+     * next tick which has elapsed on the clock.
+     */
+    @Test
+    void renderSnapshotInterpolationTest() {
+        gameSimulation.advance(false, false);
+        gameClock.advanceMillis(GameSimulation.TICK_MILLIS + GameSimulation.TICK_MILLIS / 2);
+        assertEquals(1, gameSimulation.advance(false, false));
+
+        RenderSnapshot renderSnapshot = new RenderSnapshot();
+        gameSimulation.writeRenderSnapshot(renderSnapshot, false);
+        long tickNanos = GameSimulation.TICK_MILLIS * 1_000_000L;
+        long nanoTime = gameClock.nanoTime();
+        assertEquals(0.5, renderSnapshot.getInterpolationFactor(nanoTime), 1e-9);
+        assertEquals(1, renderSnapshot.getInterpolationFactor(nanoTime + tickNanos));
+        assertEquals(0, renderSnapshot.getInterpolationFactor(nanoTime - tickNanos));
+
+        double previousBackgroundX = renderSnapshot.getInterpolatedBackgroundX(0);
+        double backgroundX = renderSnapshot.getBackgroundX();
+        assertTrue(backgroundX < previousBackgroundX);
+        assertEquals((previousBackgroundX + backgroundX) / 2, renderSnapshot.getInterpolatedBackgroundX(0.5), 1e-12);
+        int last = renderSnapshot.getElementCount() - 1;
+        assertEquals(renderSnapshot.getX(last), renderSnapshot.getInterpolatedX(last, 1));
+
+        gameSimulation.writeRenderSnapshot(renderSnapshot, true);
+        assertEquals(1, renderSnapshot.getInterpolationFactor(nanoTime));
+    }
+
+    /**
+     * Tests that the background moves by the same distance in every tick, also in the tick in which it wraps around.
+     */
+    @Test
+    void backgroundInterpolationAcrossWrapTest() {
+        RenderSnapshot renderSnapshot = new RenderSnapshot();
+        gameSimulation.tick(false, false);
+        gameSimulation.writeRenderSnapshot(renderSnapshot, false);
+        double distancePerTick = renderSnapshot.getBackgroundX() - renderSnapshot.getInterpolatedBackgroundX(0);
+
+        boolean wrapped = false;
+        for (int i = 0; i < 10_000 && !wrapped; i++) {
+            double backgroundXBefore = renderSnapshot.getBackgroundX();
+            gameSimulation.tick(false, false);
+            gameSimulation.writeRenderSnapshot(renderSnapshot, false);
+            wrapped = renderSnapshot.getBackgroundX() > backgroundXBefore;
+            double distance = renderSnapshot.getBackgroundX() - renderSnapshot.getInterpolatedBackgroundX(0);
+            assertTrue(distance < 0);
+            assertTrue(Math.abs(distance) < 2 * Math.abs(distancePerTick));
+        }
+        assertTrue(wrapped);
+    }
+
+    /**
+     * Tests that the chunks generated ahead are dropped when the viewport changes, so no chunk is spawned with the
+     * dimensions of the old viewport.
+     */
+    @Test
+    void viewportChangeClearsLookaheadTest() {
+        for (int i = 0; i < 50 && !gameSimulation.isGameOver(); i++) {
+            gameSimulation.tick(false, false);
+        }
+        assertEquals(WorldChunkStream.LOOKAHEAD_CHUNKS, gameSimulation.getWorldChunkStream().getLookaheadSize());
+
+        visualManager.setViewport(2000, 1000);
+        gameSimulation.getGameSession().setElementDimensions(visualManager.getElementDimensions());
+        gameSimulation.tick(false, false);
+        assertTrue(gameSimulation.getWorldChunkStream().getLookaheadSize() <= 1);
+    }
+
+    /**
+     * Tests that a dimension table with the same values (e.g. the visuals of the viewport were loaded again) neither
+     * drops the lookahead nor is recorded as viewport change.
+     */
+    @Test
+    void sameDimensionsKeepLookaheadTest() {
+        for (int i = 0; i < 50 && !gameSimulation.isGameOver(); i++) {
+            gameSimulation.tick(false, false);
+        }
+        assertEquals(WorldChunkStream.LOOKAHEAD_CHUNKS, gameSimulation.getWorldChunkStream().getLookaheadSize());
+
+        visualManager.setViewport(1000, 1000);
+        assertNotSame(gameSimulation.getGameSession().getElementDimensions(), visualManager.getElementDimensions());
+        gameSimulation.getGameSession().setElementDimensions(visualManager.getElementDimensions());
+        gameSimulation.tick(false, false);
+
+        assertTrue(gameSimulation.getWorldChunkStream().getLookaheadSize() >= WorldChunkStream.LOOKAHEAD_CHUNKS - 1);
+        assertEquals(1, gameSimulation.getInputRecording().getViewportChanges().size());
+    }
+
+    /**
+     * Tests that a chunk which has moved past the left side of the screen is despawned with the next tick and that a
+     * chunk on the screen stays.
+     */
+    @Test
+    void pastChunksAreDespawnedTest() {
+        Coin pastCoin = new Coin(new Point2D.Double(-0.5, 0.9), gameSimulation.getGameSession());
+        Coin visibleCoin = new Coin(new Point2D.Double(0.9, 0.9), gameSimulation.getGameSession());
+        gameSimulation.addElement(pastCoin);
+        gameSimulation.addElement(visibleCoin);
+
+        gameSimulation.tick(false, false);
+
+        //the despawned coin goes back to the pool and may be spawned again, so no element may be far left of the screen
+        List<SpaceElement> gameElements = gameSimulation.getGameElements();
+        for (SpaceElement spaceElement : gameElements.subList(1, gameElements.size())) {
+            assertTrue(spaceElement.getRelativeX() > -0.3);
+        }
+        assertTrue(gameElements.stream().anyMatch(spaceElement -> spaceElement == visibleCoin));
+    }
+
+    /**
+     * Tests that the world which keeps moving after the game is over doesn't pile up chunks which are never despawned.
+     */
+    @Test
+    void pastChunksAreDespawnedAfterGameOverTest() {
+        gameSimulation.addElement(new Asteroid(new Point2D.Double(.05, 0.45), gameSimulation.getGameSession()));
+        gameSimulation.tick(false, false);
+        assertTrue(gameSimulation.isGameOver());
+
+        int ticksPerMinute = (int) (60_000 / GameSimulation.TICK_MILLIS);
+        for (int i = 0; i < ticksPerMinute; i++) {
+            gameSimulation.tick(false, false);
+        }
+
+        List<SpaceElement> gameElements = gameSimulation.getGameElements();
+        for (SpaceElement spaceElement : gameElements.subList(1, gameElements.size())) {
+            assertTrue(spaceElement.getRelativeX() > -0.3);
+        }
+    }
+
+    /**
+     * Tests that a fast chunk which has moved past the left side of the screen is despawned, although a slow chunk which
+     * was spawned before it is still on the screen.
+     */
+    @Test
+    void fastChunkBehindSlowChunkIsDespawnedTest() {
+        Coin slowCoin = new Coin(new Point2D.Double(0.9, 0.9), gameSimulation.getGameSession());
+        Asteroid fastAsteroid = new Asteroid(new Point2D.Double(0.3, 0.9), gameSimulation.getGameSession());
+        gameSimulation.addElement(slowCoin);
+        gameSimulation.addElement(fastAsteroid);
+
+        int ticksPerSecond = (int) (1000 / GameSimulation.TICK_MILLIS);
+        int ticks = 0;
+        while (gameSimulation.getGameElements().contains(fastAsteroid)) {
+            assertTrue(ticks < ticksPerSecond, "the asteroid left the screen but was not despawned");
+            gameSimulation.tick(false, false);
+            ticks++;
+        }
+
+        assertTrue(gameSimulation.getGameElements().contains(slowCoin));
+    }
+}
@@ -0,0 +1,121 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.Persistence;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the binary format of the InputRecording.
+ */
+class InputRecordingTest {
+
+    private Path recordingFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        recordingFile = Files.createTempFile("run", ".recording");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(recordingFile);
+    }
+
+    /**
+     * Tests that a written recording is read back with the same seed, result, profile, viewports and input of every tick.
+     */
+    @Test
+    void writeAndReadTest() throws IOException {
+        InputRecording recording = new InputRecording(-42L);
+        recording.recordViewport(800, 600);
+        for (int tick = 0; tick < 5000; tick++) {
+            if (tick == 1234) {
+                recording.recordViewport(1920, 1080);
+            }
+            recording.recordInput(tick % 300 < 100, tick % 700 > 500);
+        }
+        recording.setResult(12345, 67);
+        recording.recordProfile(VisualSVGFile.SPACE_SHIP_SKIN_1, true, false);
+
+        recording.write(recordingFile);
+        InputRecording readRecording = InputRecording.read(recordingFile);
+
+        assertEquals(-42L, readRecording.getSeed());
+        assertEquals(12345, readRecording.getScore());
+        assertEquals(67, readRecording.getCollectedCoins());
+        assertEquals(5000, readRecording.getTickCount());
+        assertEquals(VisualSVGFile.SPACE_SHIP_SKIN_1, readRecording.getSpaceShipFile());
+        assertTrue(readRecording.hasPowerUpChanceMultiplierUpgrade());
+        assertFalse(readRecording.hasDoubleDurationForCoinPowerUp());
+        for (int tick = 0; tick < 5000; tick++) {
+            assertEquals(recording.isUpPressed(tick), readRecording.isUpPressed(tick));
+            assertEquals(recording.isDownPressed(tick), readRecording.isDownPressed(tick));
+        }
+        assertEquals(2, readRecording.getViewportChanges().size());
+        assertEquals(1234, readRecording.getViewportChanges().get(1).getTick());
+        assertEquals(1920, readRecording.getViewportChanges().get(1).getWidth());
+        assertEquals(1080, readRecording.getViewportChanges().get(1).getHeight());
+
+        //the keys only change every few hundred ticks, so the runs are much smaller than one byte per tick
+        assertTrue(Files.size(recordingFile) < 500);
+    }
+
+    /**
+     * Tests that a copy keeps the recorded ticks and doesn't change with the ticks recorded afterwards.
+     */
+    @Test
+    void copyTest() {
+        InputRecording recording = new InputRecording(7L);
+        recording.recordViewport(800, 600);
+        recording.recordInput(true, false);
+        recording.recordInput(false, true);
+        recording.setResult(10, 2);
+
+        InputRecording copy = recording.copy();
+        recording.recordViewport(1920, 1080);
+        recording.recordInput(true, true);
+        recording.setResult(20, 3);
+
+        assertEquals(7L, copy.getSeed());
+        assertEquals(2, copy.getTickCount());
+        assertTrue(copy.isUpPressed(0));
+        assertTrue(copy.isDownPressed(1));
+        assertEquals(1, copy.getViewportChanges().size());
+        assertEquals(10, copy.getScore());
+        assertEquals(2, copy.getCollectedCoins());
+    }
+
+    /**
+     * Tests that the persistence of a recording has the recorded upgrades active and never reads the player's profile.
+     */
+    @Test
+    void createPersistenceTest() {
+        InputRecording recording = new InputRecording(7L);
+        recording.recordProfile(VisualSVGFile.SPACE_SHIP_SKIN_2, false, true);
+
+        Persistence persistence = recording.createPersistence();
+
+        assertFalse(persistence.hasPowerUpChanceMultiplierUpgrade());
+        assertTrue(persistence.hasDoubleDurationForCoinPowerUp());
+        assertEquals(1, persistence.loadProfile().getActiveShopContent().size());
+        assertEquals(VisualSVGFile.SPACE_SHIP_SKIN_2, persistence.loadProfile().getActiveShopContent().iterator().next().getImageId());
+    }
+
+    /**
+     * Tests that other files are rejected.
+     */
+    @Test
+    void readInvalidFileTest() throws IOException {
+        Files.writeString(recordingFile, "no recording");
+
+        assertThrows(IOException.class, () -> InputRecording.read(recordingFile));
+    }
+}
@@ -0,0 +1,82 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the hand-over of buffers between a writer and a reader.
+ */
+class TripleBufferTest {
+
+    /**
+     * Tests that the reader gets nothing before the first publish and afterwards always the latest published buffer.
+     */
+    @Test
+    void getLatestReturnsLatestPublished() {
+        TripleBuffer<int[]> tripleBuffer = new TripleBuffer<>(() -> new int[1]);
+        assertNull(tripleBuffer.getLatest());
+
+        tripleBuffer.getWriteBuffer()[0] = 1;
+        tripleBuffer.publish();
+        tripleBuffer.getWriteBuffer()[0] = 2;
+        tripleBuffer.publish();
+        assertEquals(2, tripleBuffer.getLatest()[0]);
+
+        //nothing new was published, so the reader keeps its buffer
+        int[] readBuffer = tripleBuffer.getLatest();
+        assertSame(readBuffer, tripleBuffer.getLatest());
+        assertNotSame(readBuffer, tripleBuffer.getWriteBuffer());
+
+        tripleBuffer.getWriteBuffer()[0] = 3;
+        tripleBuffer.publish();
+        assertEquals(3, tripleBuffer.getLatest()[0]);
+    }
+
+    /**
+     * Tests that the reader never sees a buffer which is written at the same time. The writer fills every buffer with
+     * one value, so a torn buffer would contain different values.
+     */
+    @Test
+    void concurrentReadNeverSeesPartialWrite() throws InterruptedException {
+        TripleBuffer<long[]> tripleBuffer = new TripleBuffer<>(() -> new long[64]);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            long value = 0;
+            while (running.get()) {
+                value++;
+                long[] writeBuffer = tripleBuffer.getWriteBuffer();
+                for (int i = 0; i < writeBuffer.length; i++) {
+                    writeBuffer[i] = value;
+                }
+                tripleBuffer.publish();
+            }
+        });
+        writer.start();
+
+        long lastValue = 0;
+        try {
+            for (int read = 0; read < 200_000; read++) {
+                long[] readBuffer = tripleBuffer.getLatest();
+                if (readBuffer == null) {
+                    continue;
+                }
+                for (long value : readBuffer) {
+                    assertEquals(readBuffer[0], value);
+                }
+                assertTrue(readBuffer[0] >= lastValue);
+                lastValue = readBuffer[0];
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new TripleBuffer<>(null));
+    }
+}
@@ -0,0 +1,132 @@
+package ch.zhaw.it.pm3.spacerunner.domain.simulation.balancing;
+
+import ch.zhaw.it.pm3.spacerunner.domain.ContentId;
+import ch.zhaw.it.pm3.spacerunner.domain.PlayerProfile;
+import ch.zhaw.it.pm3.spacerunner.domain.preset.PresetType;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameBalance;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.GameFile;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.persistence.util.JsonPersistenceUtil;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the parallel headless games of the BalancingRunner.
+ */
+class BalancingRunnerTest {
+
+    private static final long MAX_MILLIS = 20_000;
+
+    @BeforeEach
+    void setUp() {
+        VisualManager.getManager().setViewport(1000, 1000);
+    }
+
+    /**
+     * Tests that games which run in parallel don't influence each other: the outcomes are the same as if the games
+     * are played one after the other.
+     */
+    @Test
+    void parallelGamesAreIndependentTest() {
+        BalancingReport sequential = new BalancingRunner(GameBalance.getDefault(), RandomInputScript::new, MAX_MILLIS, 1).run(6, 10);
+        BalancingReport parallel = new BalancingRunner(GameBalance.getDefault(), RandomInputScript::new, MAX_MILLIS, 3).run(6, 10);
+
+        assertEquals(6, parallel.getOutcomes().size());
+        for (int i = 0; i < 6; i++) {
+            GameOutcome expected = sequential.getOutcomes().get(i);
+            GameOutcome actual = parallel.getOutcomes().get(i);
+            assertEquals(10 + i, actual.getSeed());
+            assertEquals(expected.getScore(), actual.getScore());
+            assertEquals(expected.getCollectedCoins(), actual.getCollectedCoins());
+            assertEquals(expected.getSurvivalMillis(), actual.getSurvivalMillis());
+            assertEquals(expected.getCauseOfDeath(), actual.getCauseOfDeath());
+        }
+    }
+
+    /**
+     * Tests that the upgrades of the player's profile don't change the outcomes of the games.
+     */
+    @Test
+    void outcomesDontDependOnProfileTest() throws IOException {
+        GameFile.TEST = true;
+        PlayerProfile.TEST = true;
+        JsonPersistenceUtil persistenceUtil = JsonPersistenceUtil.getUtil();
+        try {
+            persistenceUtil.discardCachedProfile();
+            BalancingReport withoutUpgrades = new BalancingRunner(GameBalance.getDefault(), RandomInputScript::new, MAX_MILLIS, 2).run(4, 20);
+
+            PlayerProfile upgradedProfile = new PlayerProfile();
+            upgradedProfile.addContent(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+            upgradedProfile.addContent(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+            upgradedProfile.activateContent(ContentId.POWER_UP_CHANCE_MULTIPLIER);
+            upgradedProfile.activateContent(ContentId.DOUBLE_DURATION_COIN_UPGRADE);
+            persistenceUtil.saveProfile(upgradedProfile);
+            BalancingReport withUpgrades = new BalancingRunner(GameBalance.getDefault(), RandomInputScript::new, MAX_MILLIS, 2).run(4, 20);
+
+            for (int i = 0; i < 4; i++) {
+                GameOutcome expected = withoutUpgrades.getOutcomes().get(i);
+                GameOutcome actual = withUpgrades.getOutcomes().get(i);
+                assertEquals(expected.getScore(), actual.getScore());
+                assertEquals(expected.getCollectedCoins(), actual.getCollectedCoins());
+                assertEquals(expected.getSurvivalMillis(), actual.getSurvivalMillis());
+            }
+        } finally {
+            persistenceUtil.discardCachedProfile();
+            Files.deleteIfExists(Path.of(GameFile.PROFILE.getFileName()));
+        }
+    }
+
+    /**
+     * Tests that a game stops at the time limit or at the collision which ended it.
+     */
+    @Test
+    void outcomeTest() {
+        BalancingReport report = new BalancingRunner(GameBalance.getDefault(), seed -> new DodgingBot(), MAX_MILLIS, 2).run(4, 1);
+
+        for (GameOutcome outcome : report.getOutcomes()) {
+            assertTrue(outcome.getSurvivalMillis() <= MAX_MILLIS);
+            if (outcome.getSurvivalMillis() < MAX_MILLIS) {
+                assertNotEquals(GameOutcome.SURVIVED, outcome.getCauseOfDeath());
+            }
+            assertTrue(outcome.getScore() >= outcome.getSurvivalMillis() / 10);
+        }
+    }
+
+    /**
+     * Tests that games without obstacles are survived and the reports contain all the games.
+     */
+    @Test
+    void presetWeightsAndReportTest() throws IOException {
+        GameBalance onlyCoins = GameBalance.getDefault();
+        for (PresetType presetType : PresetType.values()) {
+            onlyCoins = onlyCoins.withPresetWeight(presetType, presetType.name().startsWith("COINS") ? 1 : 0);
+        }
+        BalancingReport report = new BalancingRunner(onlyCoins, RandomInputScript::new, 2000, 2).run(3, 5);
+
+        for (GameOutcome outcome : report.getOutcomes()) {
+            assertEquals(GameOutcome.SURVIVED, outcome.getCauseOfDeath());
+            assertEquals(2000, outcome.getSurvivalMillis());
+        }
+        assertEquals(Long.valueOf(3), report.getCausesOfDeath().get(GameOutcome.SURVIVED));
+
+        StringWriter csv = new StringWriter();
+        report.writeCsv(csv);
+        List<String> lines = csv.toString().lines().collect(Collectors.toList());
+        assertEquals(4, lines.size());
+        assertEquals("seed,score,coins,survival_millis,cause_of_death", lines.get(0));
+        assertTrue(lines.get(1).startsWith("5,"));
+
+        StringWriter json = new StringWriter();
+        report.writeJson(json);
+        assertTrue(json.toString().contains("\"causesOfDeath\""));
+    }
+}
@@ -0,0 +1,162 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceElementStoreTest {
+
+    private SpaceElementStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SpaceElementStore();
+    }
+
+    /**
+     * Tests if the position of an added element is kept in the store and changes of the handle are written to it.
+     */
+    @Test
+    void addAndMoveHandleTest() {
+        Coin coin = new Coin(new Point2D.Double(0.3, 0.4));
+        store.add(coin);
+
+        assertEquals(1, store.size());
+        assertEquals(0.3, store.getX(0));
+        assertEquals(0.4, store.getY(0));
+
+        coin.setRelativePosition(0.1, 0.2);
+        assertEquals(0.1, store.getX(0));
+        assertEquals(0.2, store.getY(0));
+        assertEquals(new Point2D.Double(0.1, 0.2), coin.getRelativePosition());
+    }
+
+    /**
+     * Tests if removing an element moves the last element into its place and the handles stay valid.
+     */
+    @Test
+    void swapRemoveTest() {
+        Coin first = new Coin(new Point2D.Double(0.1, 0.1));
+        Coin second = new Coin(new Point2D.Double(0.2, 0.2));
+        Coin third = new Coin(new Point2D.Double(0.3, 0.3));
+        store.addAll(new SpaceElement[]{first, second, third});
+
+        assertTrue(store.remove(first));
+        assertEquals(2, store.size());
+        assertSame(third, store.getElement(0));
+        assertEquals(0.3, third.getRelativeX());
+
+        third.setRelativePosition(0.5, 0.5);
+        assertEquals(0.5, store.getX(0));
+        assertFalse(store.remove(first));
+    }
+
+    /**
+     * Tests if a removed element keeps its last position.
+     */
+    @Test
+    void removedElementKeepsPositionTest() {
+        Asteroid asteroid = new Asteroid(new Point2D.Double(0.7, 0.2));
+        store.add(asteroid);
+        asteroid.setRelativePosition(0.6, 0.3);
+        store.remove(asteroid);
+
+        assertEquals(new Point2D.Double(0.6, 0.3), asteroid.getRelativePosition());
+    }
+
+    /**
+     * Tests if the dimension of a type is set for current and future elements.
+     */
+    @Test
+    void setDimensionTest() {
+        Rocket rocket = new Rocket(new Point2D.Double(0, 0));
+        store.add(rocket);
+        assertFalse(store.isDimensionSet(Rocket.class));
+
+        store.setDimension(Rocket.class, 0.2, 0.1);
+        Rocket nextRocket = new Rocket(new Point2D.Double(0, 0));
+        store.add(nextRocket);
+
+        assertTrue(store.isDimensionSet(Rocket.class));
+        assertEquals(0.2, store.getWidth(rocket));
+        assertEquals(0.1, store.getHeight(nextRocket));
+    }
+
+    /**
+     * Tests if the store grows beyond its initial capacity and copies the elements in order.
+     */
+    @Test
+    void growAndCopyTest() {
+        for (int i = 0; i < 200; i++) {
+            store.add(new Coin(new Point2D.Double(i, 0)));
+        }
+        List<SpaceElement> copy = new ArrayList<>();
+        store.copyElementsTo(copy);
+
+        assertEquals(200, copy.size());
+        assertEquals(199, copy.get(199).getRelativeX());
+    }
+
+    /**
+     * Tests if an element can't be in two stores.
+     */
+    /**
+     * Tests that the previous positions are kept until they are saved again and move along with a swap-remove.
+     */
+    @Test
+    void previousPositionsTest() {
+        Coin first = new Coin(new Point2D.Double(0.1, 0.1));
+        Coin second = new Coin(new Point2D.Double(0.5, 0.6));
+        store.add(first);
+        store.add(second);
+        assertEquals(0.5, store.getPreviousX(1));
+
+        store.savePreviousPositions();
+        second.setRelativePosition(0.4, 0.7);
+        assertEquals(0.5, store.getPreviousX(1));
+        assertEquals(0.6, store.getPreviousY(1));
+
+        store.remove(first);
+        assertEquals(0.5, store.getPreviousX(0));
+        assertEquals(0.4, store.getX(0));
+
+        store.savePreviousPositions();
+        assertEquals(0.4, store.getPreviousX(0));
+        assertEquals(0.7, store.getPreviousY(0));
+    }
+
+    /**
+     * Tests that the chunk of an element is kept with a swap-remove and is forgotten when the element is removed.
+     */
+    @Test
+    void chunkTest() {
+        Coin first = new Coin(new Point2D.Double(0.1, 0.1));
+        Coin second = new Coin(new Point2D.Double(0.2, 0.1));
+        Rocket rocket = new Rocket(new Point2D.Double(0.3, 0.1));
+        store.addAll(new SpaceElement[]{first, second}, 3);
+        store.add(rocket);
+
+        assertEquals(3, store.getChunk(second));
+        assertEquals(SpaceElementStore.NO_CHUNK, store.getChunk(rocket));
+
+        store.remove(first);
+        assertEquals(3, store.getChunk(second));
+        assertEquals(SpaceElementStore.NO_CHUNK, store.getChunk(first));
+
+        store.add(first, 4);
+        assertEquals(4, store.getChunk(first));
+    }
+
+    @Test
+    void addTwiceTest() {
+        Coin coin = new Coin(new Point2D.Double(0, 0));
+        store.add(coin);
+        assertThrows(IllegalArgumentException.class, () -> new SpaceElementStore().add(coin));
+        assertThrows(IllegalArgumentException.class, () -> store.add(null));
+    }
+}
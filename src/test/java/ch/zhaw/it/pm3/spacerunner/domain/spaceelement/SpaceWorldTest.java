@@ -58,16 +58,19 @@ public class SpaceWorldTest {
     }
 
     /**
-     * Test if the image moves back to (0,0) after moving far enough off the left side of the screen, making it seem as if the background is looping.
+     * Test if the image moves back by a tile and its mirror image after moving far enough off the left side of the screen, making it seem as if the background is looping.
      */
     @Test
-    void moveLoopSpaceWorldImage() {
+    void moveLoopSpaceWorldImage() throws VelocityNotSetException {
+        double period = 0;
         try {
-            spaceWorld = new SpaceWorld(new Point2D.Double(-visualManager.getElementRelativeWidth(SpaceWorld.class), 0));
+            period = 2 * visualManager.getElementRelativeWidth(SpaceWorld.class);
         } catch (VisualNotSetException e) {
             fail("VisualNotSetException thrown");
         }
+        spaceWorld = new SpaceWorld(new Point2D.Double(-period, 0));
         spaceWorld.move(1000);
-        assertEquals(spaceWorld.getRelativePosition(), new Point2D.Double(0, 0));
+        assertEquals(velocityManager.getRelativeVelocity(SpaceWorld.class).x, spaceWorld.getRelativeX(), 1e-9);
+        assertEquals(0, spaceWorld.getRelativeY());
     }
 }
@@ -0,0 +1,81 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.collision;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Coin;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionGridTest {
+
+    private CollisionGrid collisionGrid;
+
+    @BeforeEach
+    void setUp() {
+        collisionGrid = new CollisionGrid();
+    }
+
+    /**
+     * Tests if only the elements near the queried area are returned as candidates.
+     */
+    @Test
+    void getCandidatesReturnsOnlyNearElementsTest() {
+        SpaceElement near = new Coin(new Point2D.Double(0.1, 0.5));
+        SpaceElement far = new Asteroid(new Point2D.Double(1.5, 0.5));
+        collisionGrid.add(near, 0.1, 0.5, 0.05, 0.05);
+        collisionGrid.add(far, 1.5, 0.5, 0.05, 0.05);
+
+        List<SpaceElement> candidates = collisionGrid.getCandidates(0.05, 0.45, 0.1, 0.1);
+        assertTrue(candidates.contains(near));
+        assertFalse(candidates.contains(far));
+        assertEquals(2, collisionGrid.size());
+    }
+
+    /**
+     * Tests if an element which starts in a neighbouring cell but reaches into the queried area is a candidate.
+     */
+    @Test
+    void getCandidatesContainsOverlappingElementTest() {
+        SpaceElement overlapping = new Asteroid(new Point2D.Double(0.15, 0.35));
+        collisionGrid.add(overlapping, 0.15, 0.35, 0.2, 0.2);
+
+        assertTrue(collisionGrid.getCandidates(0.3, 0.5, 0.05, 0.05).contains(overlapping));
+    }
+
+    /**
+     * Tests if elements outside of the grid are clamped to the border cells and still found.
+     */
+    @Test
+    void elementOutsideOfGridIsFoundTest() {
+        SpaceElement outside = new Coin(new Point2D.Double(-2, 1.5));
+        collisionGrid.add(outside, -2, 1.5, 0.05, 0.05);
+
+        assertTrue(collisionGrid.getCandidates(-3, 2, 0.1, 0.1).contains(outside));
+    }
+
+    /**
+     * Tests if clear removes all elements.
+     */
+    @Test
+    void clearTest() {
+        SpaceElement coin = new Coin(new Point2D.Double(0.5, 0.5));
+        collisionGrid.add(coin, 0.5, 0.5, 0.05, 0.05);
+        collisionGrid.clear();
+
+        assertEquals(0, collisionGrid.size());
+        assertTrue(collisionGrid.getCandidates(0.5, 0.5, 0.1, 0.1).isEmpty());
+    }
+
+    /**
+     * Tests if adding null is rejected.
+     */
+    @Test
+    void addNullTest() {
+        assertThrows(IllegalArgumentException.class, () -> collisionGrid.add(null, 0, 0, 0.1, 0.1));
+    }
+}
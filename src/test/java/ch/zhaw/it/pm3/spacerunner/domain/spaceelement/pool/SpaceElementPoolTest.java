@@ -0,0 +1,74 @@
+package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.pool;
+
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Coin;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.UFO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceElementPoolTest {
+
+    private SpaceElementPool<Coin> coinPool;
+
+    @BeforeEach
+    void setUp() {
+        coinPool = new SpaceElementPool<>(() -> new Coin(new Point2D.Double(0, 0)), 2);
+    }
+
+    /**
+     * Tests if a released element is reused and counted as hit.
+     */
+    @Test
+    void obtainReusesReleasedElementTest() {
+        Coin coin = coinPool.obtain(0.5, 0.5);
+        assertEquals(1, coinPool.getMisses());
+        assertEquals(0, coinPool.getHits());
+
+        coinPool.release(coin);
+        Coin reusedCoin = coinPool.obtain(1, 0.2);
+
+        assertSame(coin, reusedCoin);
+        assertEquals(new Point2D.Double(1, 0.2), reusedCoin.getRelativePosition());
+        assertEquals(1, coinPool.getHits());
+    }
+
+    /**
+     * Tests if the pool keeps at most maxSize free elements.
+     */
+    @Test
+    void releaseBeyondMaxSizeTest() {
+        for (int i = 0; i < 3; i++) {
+            coinPool.release(new Coin(new Point2D.Double(0, 0)));
+        }
+        assertEquals(2, coinPool.getFreeCount());
+    }
+
+    /**
+     * Tests the invalid arguments.
+     */
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> coinPool.release(null));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceElementPool<Coin>(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceElementPool<>(() -> new Coin(new Point2D.Double(0, 0)), -1));
+    }
+
+    /**
+     * Tests if the released elements are returned to the pool of their type.
+     */
+    @Test
+    void spaceElementPoolsReleaseTest() {
+        SpaceElementPools spaceElementPools = new SpaceElementPools();
+        UFO ufo = spaceElementPools.obtainUFO(1, 0, 0.5);
+        spaceElementPools.release(ufo);
+
+        assertEquals(1, spaceElementPools.getUfoPool().getFreeCount());
+        assertEquals(0, spaceElementPools.getCoinPool().getFreeCount());
+        assertSame(ufo, spaceElementPools.obtainUFO(1, 0, 0));
+        assertEquals(1, spaceElementPools.getHits());
+        assertEquals(1, spaceElementPools.getMisses());
+    }
+}
@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameScheduler;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +18,8 @@ import static org.junit.jupiter.api.Assertions.*;
 class ActivatedPowerUpManagerTest {
     private DoubleCoinsPowerUp doubleCoinsPowerUp;
     private ShieldPowerUp shieldPowerUp;
-    private final ActivatedPowerUpManager activatedPowerUpManager = new ActivatedPowerUpManager();
+    private final GameScheduler gameScheduler = new GameScheduler(GameSimulation.TICK_MILLIS);
+    private final ActivatedPowerUpManager activatedPowerUpManager = new ActivatedPowerUpManager(gameScheduler);
 
     /**
      * Sets Up the two Power-Ups: DoubleCoinsPowerUp and ShieldPowerUp.
@@ -196,4 +199,20 @@ class ActivatedPowerUpManagerTest {
         activatedPowerUpManager.powerUpFinished(shieldPowerUp);
         assertTrue(activePowerUps.isEmpty());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if an activated DoubleCoinsPowerUp is removed when its active time has passed on the GameScheduler.
+     */
+    @Test
+    void powerUpExpiresOnGameSchedulerTest() {
+        activatedPowerUpManager.activatePowerUp(doubleCoinsPowerUp);
+
+        while (gameScheduler.getCurrentMillis() < doubleCoinsPowerUp.getActiveTime()) {
+            gameScheduler.tick();
+        }
+        assertEquals(1, activatedPowerUpManager.getActivePowerUps().size());
+
+        gameScheduler.tick();
+        assertTrue(activatedPowerUpManager.getActivePowerUps().isEmpty());
+    }
+}
@@ -1,5 +1,7 @@
 package ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup;
 
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameScheduler;
+import ch.zhaw.it.pm3.spacerunner.domain.simulation.GameSimulation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +20,7 @@ public class PowerUpTest {
     DoubleCoinsPowerUp doubleCoinsPowerUp;
     ShieldPowerUp shieldPowerUp;
     PowerUpListener powerUpListener;
+    GameScheduler gameScheduler;
 
     /**
      * Initializes the PowerUps and PowerUpListeners
@@ -27,6 +30,7 @@ public class PowerUpTest {
         doubleCoinsPowerUp = new DoubleCoinsPowerUp(new Point2D.Double(1.0, 0.5));
         doubleCoinsPowerUp.setActiveTime(3000);
         shieldPowerUp = new ShieldPowerUp(new Point2D.Double(1.0, 0.5));
+        gameScheduler = new GameScheduler(GameSimulation.TICK_MILLIS);
         powerUpListener = new PowerUpListener() {
             @Override
             public void powerUpTimerChanged(double timeLeft) {
@@ -39,6 +43,13 @@ public class PowerUpTest {
         };
     }
 
+    private void advanceGameTime(long millis) {
+        long targetMillis = gameScheduler.getCurrentMillis() + millis;
+        while (gameScheduler.getCurrentMillis() < targetMillis) {
+            gameScheduler.tick();
+        }
+    }
+
     /**
      * Tests if PowerUps are initialized with the correct multiplier and if they are incremented correctly. Tests also
      * if the powerUpTimer is reset properly.
@@ -52,13 +63,9 @@ public class PowerUpTest {
         assertTrue(powerUpListeners.isEmpty());
         doubleCoinsPowerUp.addListener(powerUpListener);
         assertEquals(1, powerUpListeners.size());
-        doubleCoinsPowerUp.createPowerUpTimer();
+        doubleCoinsPowerUp.createPowerUpTimer(gameScheduler);
 
-        try {
-            Thread.sleep((long) (doubleCoinsPowerUp.getActiveTime() * (1.0 / 2.0)));
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        advanceGameTime((long) (doubleCoinsPowerUp.getActiveTime() * (1.0 / 2.0)));
         assertEquals(1, powerUpListeners.size());
 
         doubleCoinsPowerUp.incrementPowerUpMultiplier();
@@ -67,25 +74,17 @@ public class PowerUpTest {
         assertEquals(2, doubleCoinsPowerUp.getMultiplier());
         assertEquals(2, shieldPowerUp.getMultiplier());
 
-        try {
-            Thread.sleep((long) (doubleCoinsPowerUp.getActiveTime() * (3.0 / 4.0)));
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        advanceGameTime((long) (doubleCoinsPowerUp.getActiveTime() * (3.0 / 4.0)));
 
         assertEquals(1, powerUpListeners.size());
 
-        try {
-            Thread.sleep((long) (doubleCoinsPowerUp.getActiveTime() * (1.0 / 4.0) + 1000));
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        advanceGameTime((long) (doubleCoinsPowerUp.getActiveTime() * (1.0 / 4.0) + 1000));
 
         assertTrue(powerUpListeners.isEmpty());
     }
 
     /**
-     * Tests if the DoubleCoinPowerUp-activation works properly. (Tests if the powerUpTimer and the powerUpTimerTasks are created and executed properly.)
+     * Tests if the DoubleCoinPowerUp-activation works properly. (Tests if the power-up timer is scheduled and executed properly on the GameScheduler.)
      */
     @Test
     void activateDoubleCoinPowerUpTest() {
@@ -93,12 +92,8 @@ public class PowerUpTest {
         assertTrue(powerUpListeners.isEmpty());
         doubleCoinsPowerUp.addListener(powerUpListener);
         assertEquals(1, powerUpListeners.size());
-        doubleCoinsPowerUp.activatePowerUp();
-        try {
-            Thread.sleep(doubleCoinsPowerUp.getActiveTime() + 1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        doubleCoinsPowerUp.activatePowerUp(gameScheduler);
+        advanceGameTime(doubleCoinsPowerUp.getActiveTime() + 1000);
         assertTrue(powerUpListeners.isEmpty());
     }
 }
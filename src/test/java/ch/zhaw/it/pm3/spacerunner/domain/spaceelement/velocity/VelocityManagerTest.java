@@ -7,8 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.geom.Point2D;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class VelocityManagerTest {
 
@@ -131,4 +130,33 @@ public class VelocityManagerTest {
         velocityManager.getRelativeVelocity(Rocket.class);
     }
 
+    /**
+     * Tests if a velocity table which was read before a change keeps the old velocities (snapshot).
+     */
+    @Test
+    void velocityTableSnapshotTest() {
+        velocityManager.setRelativeVelocity(Rocket.class, new Point2D.Double(-1, 0));
+        int rocketOrdinal = VelocityManager.getTypeOrdinal(Rocket.class);
+        VelocityTable before = velocityManager.getVelocityTable();
+
+        velocityManager.accelerateAll(new Point2D.Double(-0.5, 0.5));
+        VelocityTable after = velocityManager.getVelocityTable();
+
+        assertEquals(-1, before.getX(rocketOrdinal));
+        assertEquals(-1.5, after.getX(rocketOrdinal));
+        assertEquals(0, after.getY(rocketOrdinal));
+        assertFalse(after.isSet(VelocityManager.getTypeOrdinal(Asteroid.class)));
+    }
+
+    /**
+     * Tests if every class gets its own ordinal which never changes.
+     */
+    @Test
+    void getTypeOrdinalTest() {
+        int rocketOrdinal = VelocityManager.getTypeOrdinal(Rocket.class);
+
+        assertEquals(rocketOrdinal, VelocityManager.getTypeOrdinal(Rocket.class));
+        assertNotEquals(rocketOrdinal, VelocityManager.getTypeOrdinal(Asteroid.class));
+        assertThrows(IllegalArgumentException.class, () -> VelocityManager.getTypeOrdinal(null));
+    }
 }
@@ -2,7 +2,7 @@ package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class FPSTrackerTest {
 
@@ -33,4 +33,32 @@ class FPSTrackerTest {
 
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the frames which took longer than the deadline of the target frame rate are counted as late.
+     */
+    @Test
+    void lateFramesTest() {
+        FPSTracker fpsTracker = new FPSTracker(60);
+
+        long currentTimeFake = 0;
+        fpsTracker.track(currentTimeFake);
+        for (int i = 0; i < 100; i++) {
+            currentTimeFake += 16_666_666;
+            fpsTracker.track(currentTimeFake);
+        }
+        currentTimeFake += 50_000_000;
+        fpsTracker.track(currentTimeFake);
+
+        FrameTimeSnapshot snapshot = fpsTracker.getSnapshot();
+        assertEquals(101, snapshot.getFrameCount());
+        assertEquals(1, snapshot.getLateFrameCount());
+        assertEquals(50_000_000, snapshot.getMaxNanos());
+        assertTrue(snapshot.getP50Nanos() < fpsTracker.getDeadlineNanos());
+
+        fpsTracker.reset();
+        fpsTracker.track(currentTimeFake + 1_000_000_000);
+        assertEquals(0, fpsTracker.getSnapshot().getFrameCount());
+        assertEquals(0, fpsTracker.getSnapshot().getLateFrameCount());
+    }
+}
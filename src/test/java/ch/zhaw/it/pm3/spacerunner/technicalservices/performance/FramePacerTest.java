@@ -0,0 +1,60 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramePacerTest {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Counts the rendered frames of one second of pulses with the refresh rate of a screen.
+     */
+    private int countRenderedFrames(FramePacer framePacer, int refreshRate, long jitterNanos) {
+        int renderedFrames = 0;
+        for (int pulse = 0; pulse < refreshRate; pulse++) {
+            long jitter = pulse % 2 == 0 ? jitterNanos : -jitterNanos;
+            if (framePacer.shouldRender(pulse * NANOS_PER_SECOND / refreshRate + jitter)) {
+                renderedFrames++;
+            }
+        }
+        return renderedFrames;
+    }
+
+    /**
+     * Tests that a cap which is the same as the refresh rate renders every pulse, even if the pulses jitter.
+     */
+    @Test
+    void capOfRefreshRateRendersEveryPulse() {
+        assertEquals(60, countRenderedFrames(new FramePacer(60), 60, 500_000));
+        assertEquals(144, countRenderedFrames(new FramePacer(144), 144, 200_000));
+    }
+
+    /**
+     * Tests that the frame rate is honoured on screens whose refresh rate isn't a multiple of the cap.
+     */
+    @Test
+    void capIsHonouredOnFasterScreens() {
+        assertEquals(60, countRenderedFrames(new FramePacer(60), 144, 0), 1);
+        assertEquals(60, countRenderedFrames(new FramePacer(60), 75, 0), 1);
+        assertEquals(30, countRenderedFrames(new FramePacer(30), 60, 0), 1);
+    }
+
+    /**
+     * Tests that the frames missed during a hang aren't rendered in a burst afterwards.
+     */
+    @Test
+    void fallingBehindRestartsTheDeadlines() {
+        FramePacer framePacer = new FramePacer(60);
+        assertTrue(framePacer.shouldRender(0));
+        assertTrue(framePacer.shouldRender(NANOS_PER_SECOND));
+        assertFalse(framePacer.shouldRender(NANOS_PER_SECOND + 1_000_000));
+        assertTrue(framePacer.shouldRender(NANOS_PER_SECOND + NANOS_PER_SECOND / 60));
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new FramePacer(0));
+    }
+}
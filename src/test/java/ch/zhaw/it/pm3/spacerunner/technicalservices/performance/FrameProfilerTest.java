@@ -0,0 +1,86 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private void busyWait(long nanos) {
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < nanos) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Tests if the rolling stats are published after a full window and only contain the phases which were run.
+     */
+    @Test
+    void rollingStatsTest() {
+        FrameProfiler frameProfiler = new FrameProfiler("test");
+
+        for (int i = 0; i < FrameProfiler.ROLLING_WINDOW_FRAMES - 1; i++) {
+            long phaseStart = frameProfiler.begin();
+            busyWait(100_000);
+            frameProfiler.end(FramePhase.MOVE_ELEMENTS, phaseStart);
+            frameProfiler.endFrame();
+        }
+        assertEquals(0, frameProfiler.getAverageNanos(FramePhase.MOVE_ELEMENTS));
+
+        long phaseStart = frameProfiler.begin();
+        busyWait(100_000);
+        frameProfiler.end(FramePhase.MOVE_ELEMENTS, phaseStart);
+        frameProfiler.endFrame();
+
+        assertTrue(frameProfiler.getAverageNanos(FramePhase.MOVE_ELEMENTS) >= 100_000);
+        assertTrue(frameProfiler.getMaxNanos(FramePhase.MOVE_ELEMENTS) >= frameProfiler.getAverageNanos(FramePhase.MOVE_ELEMENTS));
+        assertEquals(0, frameProfiler.getAverageNanos(FramePhase.DETECT_COLLISION));
+        assertTrue(frameProfiler.toString().startsWith(FramePhase.MOVE_ELEMENTS.getLabel()));
+    }
+
+    /**
+     * Tests if every phase of a frame is committed as one JFR event with the summed up time of its invocations.
+     */
+    @Test
+    void jfrEventsTest() throws IOException {
+        FrameProfiler frameProfiler = new FrameProfiler("test");
+        Path recordingFile = Files.createTempFile("frame-profiler", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(FramePhaseEvent.class);
+            recording.start();
+
+            long phaseStart = frameProfiler.begin();
+            phaseStart = frameProfiler.end(FramePhase.DETECT_COLLISION, phaseStart);
+            phaseStart = frameProfiler.end(FramePhase.MOVE_ELEMENTS, phaseStart);
+            frameProfiler.end(FramePhase.DETECT_COLLISION, phaseStart);
+            frameProfiler.endFrame();
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+
+        assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            assertEquals("test", event.getString("profiler"));
+            if (FramePhase.DETECT_COLLISION.getLabel().equals(event.getString("phase"))) {
+                assertEquals(2, event.getInt("invocations"));
+            } else {
+                assertEquals(FramePhase.MOVE_ELEMENTS.getLabel(), event.getString("phase"));
+                assertEquals(1, event.getInt("invocations"));
+            }
+        }
+    }
+}
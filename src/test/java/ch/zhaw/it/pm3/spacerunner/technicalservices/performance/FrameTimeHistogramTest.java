@@ -0,0 +1,56 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.performance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameTimeHistogramTest {
+
+    /**
+     * Tests if the percentiles are within the precision of the buckets (6.25%).
+     */
+    @Test
+    void percentileTest() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 100_000L);
+        }
+
+        assertEquals(1000, histogram.getTotalCount());
+        assertEquals(100_000_000L, histogram.getMaxNanos());
+        assertEquals(50_000_000L, histogram.getValueAtPercentile(50), 50_000_000L * 0.0625);
+        assertEquals(90_000_000L, histogram.getValueAtPercentile(90), 90_000_000L * 0.0625);
+        assertEquals(99_000_000L, histogram.getValueAtPercentile(99), 99_000_000L * 0.0625);
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Tests if a single stutter shows up in the high percentiles, but not in the median.
+     */
+    @Test
+    void stutterTest() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.record(16_666_666L);
+        }
+        histogram.record(250_000_000L);
+
+        assertTrue(histogram.getValueAtPercentile(50) < 17_800_000L);
+        assertTrue(histogram.getValueAtPercentile(99) < 17_800_000L);
+        assertEquals(250_000_000L, histogram.getValueAtPercentile(99.95));
+    }
+
+    @Test
+    void resetTest() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        histogram.record(5_000_000L);
+        histogram.record(-1);
+        assertEquals(1, histogram.getTotalCount());
+
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+}
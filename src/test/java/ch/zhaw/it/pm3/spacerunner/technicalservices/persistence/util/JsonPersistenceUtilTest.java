@@ -19,6 +19,7 @@ public class JsonPersistenceUtilTest {
     void setUp() throws IOException {
         GameFile.TEST = true;
         PlayerProfile.TEST = true;
+        jsonPersistenceUtil.discardCachedProfile();
 
         Path testJSON = Path.of(GameFile.PROFILE.getFileName());
         if (Files.exists(testJSON)) {
@@ -39,11 +40,41 @@ public class JsonPersistenceUtilTest {
         playerProfile.setVolume(55);
 
         jsonPersistenceUtil.saveProfile(playerProfile);
+        jsonPersistenceUtil.flush();
         Path path = Path.of(GameFile.PROFILE.getFileName());
         assertTrue(Files.exists(path));
 
     }
 
+    /**
+     * test if a saved profile is written behind and can be loaded again from the disk
+     */
+    @Test
+    void testSaveProfileIsWrittenBehind() {
+        PlayerProfile playerProfile = new PlayerProfile();
+        playerProfile.setCoins(150);
+        jsonPersistenceUtil.saveProfile(playerProfile);
+        playerProfile.setCoins(300);
+
+        assertEquals(150, jsonPersistenceUtil.loadProfile().getCoins());
+
+        jsonPersistenceUtil.flush();
+        jsonPersistenceUtil.discardCachedProfile();
+        assertEquals(150, jsonPersistenceUtil.loadProfile().getCoins());
+    }
+
+    /**
+     * test if changes to a loaded profile don't change the profile in memory until it is saved
+     */
+    @Test
+    void testLoadProfileReturnsCopy() {
+        PlayerProfile playerProfile = jsonPersistenceUtil.loadProfile();
+        playerProfile.setCoins(999);
+
+        assertEquals(0, jsonPersistenceUtil.loadProfile().getCoins());
+        assertFalse(jsonPersistenceUtil.playerHasEnoughCoinsToBuy(999));
+    }
+
     /**
      * test save profile with null -> IllegalArgumentException
      */
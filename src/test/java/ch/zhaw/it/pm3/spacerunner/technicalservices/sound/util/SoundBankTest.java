@@ -0,0 +1,30 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoundBankTest {
+    private final SoundBank soundBank = SoundBank.getBank();
+
+    /**
+     * Tests if a sound is decoded once and kept in memory.
+     */
+    @Test
+    void getSoundTest() throws IOException, UnsupportedAudioFileException {
+        PcmSound sound = soundBank.getSound(GameSound.COIN_PICKUP);
+
+        assertTrue(sound.getFrameCount() > 0);
+        assertEquals(sound.getFrameCount() * SoundMixer.CHANNELS, sound.getSamples().length);
+        assertEquals(sound.getFrameCount() * 1000L / 44100, sound.getDurationMillis());
+        assertSame(sound, soundBank.getSound(GameSound.COIN_PICKUP));
+    }
+
+    @Test
+    void getSoundNullTest() {
+        assertThrows(IllegalArgumentException.class, () -> soundBank.getSound(null));
+    }
+}
@@ -0,0 +1,87 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.sound.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoundMixerTest {
+
+    private PcmSound createSound(int frames, short value) {
+        short[] samples = new short[frames * SoundMixer.CHANNELS];
+        Arrays.fill(samples, value);
+        return new PcmSound(samples);
+    }
+
+    /**
+     * Tests if the active voices are added up and clamped to the 16 bit range.
+     */
+    @Test
+    void renderMixesVoicesTest() {
+        SoundMixer soundMixer = new SoundMixer(4);
+        soundMixer.queue(createSound(4, (short) 1000), 0);
+        soundMixer.queue(createSound(2, (short) 500), 0);
+        soundMixer.queue(createSound(1, Short.MAX_VALUE), 0);
+
+        short[] block = new short[4 * SoundMixer.CHANNELS];
+        soundMixer.render(block);
+
+        assertEquals(Short.MAX_VALUE, block[0]);
+        assertEquals(1500, block[2]);
+        assertEquals(1000, block[4]);
+        assertEquals(1000, block[7]);
+        assertEquals(0, soundMixer.getActiveVoices());
+    }
+
+    /**
+     * Tests if a delayed sound starts after the delay, also across blocks.
+     */
+    @Test
+    void renderDelayedVoiceTest() {
+        SoundMixer soundMixer = new SoundMixer(4);
+        soundMixer.queue(createSound(2, (short) 100), 3);
+
+        short[] block = new short[2 * SoundMixer.CHANNELS];
+        soundMixer.render(block);
+        assertEquals("[0, 0, 0, 0]", Arrays.toString(block));
+
+        soundMixer.render(block);
+        assertEquals("[0, 0, 100, 100]", Arrays.toString(block));
+        assertEquals(1, soundMixer.getActiveVoices());
+
+        soundMixer.render(block);
+        assertEquals("[100, 100, 0, 0]", Arrays.toString(block));
+        assertEquals(0, soundMixer.getActiveVoices());
+    }
+
+    /**
+     * Tests if the oldest voice is replaced when all voices are busy.
+     */
+    @Test
+    void voiceStealingTest() {
+        SoundMixer soundMixer = new SoundMixer(2);
+        soundMixer.queue(createSound(10, (short) 1), 0);
+        soundMixer.queue(createSound(10, (short) 10), 0);
+        soundMixer.queue(createSound(10, (short) 100), 0);
+
+        short[] block = new short[SoundMixer.CHANNELS];
+        soundMixer.render(block);
+
+        assertEquals(2, soundMixer.getActiveVoices());
+        assertEquals(110, block[0]);
+    }
+
+    @Test
+    void setVolumeTest() {
+        SoundMixer soundMixer = new SoundMixer(1);
+        soundMixer.setVolume(0);
+        soundMixer.queue(createSound(1, (short) 1000), 0);
+
+        short[] block = new short[SoundMixer.CHANNELS];
+        soundMixer.render(block);
+        assertEquals(0, block[0]);
+
+        assertThrows(IllegalArgumentException.class, () -> soundMixer.setVolume(101));
+    }
+}
@@ -0,0 +1,103 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual;
+
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.BackgroundLayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundLayerTest {
+
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Tests that a background at the start position is covered by the whole first tile.
+     */
+    @Test
+    void alignedSlicesTest() {
+        BackgroundLayer layer = new BackgroundLayer(1, true);
+        layer.updateSlices(0, 100, 100);
+
+        assertEquals(1, layer.getSliceCount());
+        assertEquals(0, layer.getSourceX(0), DELTA);
+        assertEquals(100, layer.getWidth(0), DELTA);
+        assertEquals(0, layer.getDestinationX(0), DELTA);
+        assertFalse(layer.isMirrored(0));
+    }
+
+    /**
+     * Tests that a scrolled background is covered by the end of the tile and the start of its mirror image,
+     * which is the end of the tile read backwards.
+     */
+    @Test
+    void scrolledSlicesTest() {
+        BackgroundLayer layer = new BackgroundLayer(1, true);
+        layer.updateSlices(30, 100, 100);
+
+        assertEquals(2, layer.getSliceCount());
+        assertEquals(30, layer.getSourceX(0), DELTA);
+        assertEquals(70, layer.getWidth(0), DELTA);
+        assertEquals(0, layer.getDestinationX(0), DELTA);
+        assertFalse(layer.isMirrored(0));
+
+        assertEquals(70, layer.getSourceX(1), DELTA);
+        assertEquals(30, layer.getWidth(1), DELTA);
+        assertEquals(70, layer.getDestinationX(1), DELTA);
+        assertTrue(layer.isMirrored(1));
+    }
+
+    /**
+     * Tests that the slices repeat after a tile and its mirror image and that a layer without mirror repeats after one tile.
+     */
+    @Test
+    void wrappedSlicesTest() {
+        BackgroundLayer layer = new BackgroundLayer(1, true);
+        layer.updateSlices(130, 100, 100);
+        assertEquals(2, layer.getSliceCount());
+        assertTrue(layer.isMirrored(0));
+        assertEquals(0, layer.getSourceX(0), DELTA);
+        assertEquals(70, layer.getWidth(0), DELTA);
+        assertFalse(layer.isMirrored(1));
+        assertEquals(0, layer.getSourceX(1), DELTA);
+
+        layer.updateSlices(230, 100, 100);
+        assertFalse(layer.isMirrored(0));
+        assertEquals(30, layer.getSourceX(0), DELTA);
+
+        BackgroundLayer repeatingLayer = new BackgroundLayer(1, false);
+        repeatingLayer.updateSlices(130, 100, 100);
+        assertFalse(repeatingLayer.isMirrored(0));
+        assertFalse(repeatingLayer.isMirrored(1));
+        assertEquals(30, repeatingLayer.getSourceX(0), DELTA);
+    }
+
+    /**
+     * Tests that a parallax layer scrolls slower and that the slices cover the whole viewport.
+     */
+    @Test
+    void parallaxSlicesTest() {
+        BackgroundLayer layer = new BackgroundLayer(0.5, true);
+        layer.updateSlices(60, 100, 80);
+
+        assertEquals(2, layer.getSliceCount());
+        assertEquals(30, layer.getSourceX(0), DELTA);
+        assertEquals(70, layer.getWidth(0), DELTA);
+        assertEquals(10, layer.getWidth(1), DELTA);
+        assertEquals(90, layer.getSourceX(1), DELTA);
+
+        layer.updateSlices(-50, 100, 80);
+        double coveredWidth = 0;
+        for (int i = 0; i < layer.getSliceCount(); i++) {
+            assertEquals(coveredWidth, layer.getDestinationX(i), DELTA);
+            coveredWidth += layer.getWidth(i);
+        }
+        assertEquals(80, coveredWidth, DELTA);
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new BackgroundLayer(-1, true));
+        BackgroundLayer layer = new BackgroundLayer(1, true);
+        assertThrows(IllegalArgumentException.class, () -> layer.updateSlices(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> layer.updateSlices(0, 100, 200));
+    }
+}
@@ -0,0 +1,93 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual;
+
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.GlyphAtlas;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlyphAtlasTest {
+
+    private final GlyphAtlas glyphAtlas = new GlyphAtlas(new Font(Font.SANS_SERIF, Font.PLAIN, 20), Color.WHITE,
+            "0123456789", List.of("Press P to continue"));
+
+    /**
+     * Tests that the numbers are formatted right-aligned into the buffer.
+     */
+    @Test
+    void formatNumberTest() {
+        char[] buffer = new char[GlyphAtlas.NUMBER_BUFFER_LENGTH];
+
+        int start = GlyphAtlas.formatNumber(0, buffer);
+        assertEquals("0", new String(buffer, start, buffer.length - start));
+        start = GlyphAtlas.formatNumber(40213, buffer);
+        assertEquals("40213", new String(buffer, start, buffer.length - start));
+        start = GlyphAtlas.formatNumber(Integer.MAX_VALUE, buffer);
+        assertEquals(String.valueOf(Integer.MAX_VALUE), new String(buffer, start, buffer.length - start));
+        start = GlyphAtlas.formatNumber(Integer.MIN_VALUE, buffer);
+        assertEquals(String.valueOf(Integer.MIN_VALUE), new String(buffer, start, buffer.length - start));
+
+        assertThrows(IllegalArgumentException.class, () -> GlyphAtlas.formatNumber(1, new char[3]));
+    }
+
+    /**
+     * Tests that every glyph and text has a region inside the atlas image which contains rendered pixels
+     * and that the regions don't overlap.
+     */
+    @Test
+    void regionsTest() {
+        Rectangle previous = null;
+        for (char digit = '0'; digit <= '9'; digit++) {
+            Rectangle region = glyphAtlas.getCharRegion(digit);
+            assertNotNull(region);
+            assertEquals(glyphAtlas.getLineHeight(), region.height);
+            assertTrue(region.x + region.width <= glyphAtlas.getAtlasImage().getWidth());
+            assertTrue(hasVisiblePixel(region));
+            if (previous != null) {
+                assertFalse(region.intersects(previous));
+            }
+            previous = region;
+        }
+
+        Rectangle textRegion = glyphAtlas.getTextRegion("Press P to continue");
+        assertNotNull(textRegion);
+        assertTrue(textRegion.width > glyphAtlas.getCharRegion('0').width);
+        assertTrue(hasVisiblePixel(textRegion));
+
+        assertNull(glyphAtlas.getCharRegion('a'));
+        assertNull(glyphAtlas.getTextRegion("Press SPACE to start"));
+    }
+
+    /**
+     * Tests that the width of a number is the sum of its glyphs.
+     */
+    @Test
+    void widthTest() {
+        char[] buffer = new char[GlyphAtlas.NUMBER_BUFFER_LENGTH];
+        int start = GlyphAtlas.formatNumber(101, buffer);
+        int expectedWidth = 2 * glyphAtlas.getCharRegion('1').width + glyphAtlas.getCharRegion('0').width;
+        assertEquals(expectedWidth, glyphAtlas.getWidth(buffer, start, buffer.length));
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 20);
+        assertThrows(IllegalArgumentException.class, () -> new GlyphAtlas(null, Color.WHITE, "0", Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new GlyphAtlas(font, Color.WHITE, "\u20ac", Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new GlyphAtlas(font, Color.WHITE, "0", null));
+    }
+
+    private boolean hasVisiblePixel(Rectangle region) {
+        for (int x = region.x; x < region.x + region.width; x++) {
+            for (int y = region.y; y < region.y + region.height; y++) {
+                if ((glyphAtlas.getAtlasImage().getRGB(x, y) >>> 24) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual;
+
+import ch.zhaw.it.pm3.spacerunner.SpaceRunnerApp;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.RasterCache;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RasterCacheTest {
+
+    private final URL asteroidURL = SpaceRunnerApp.class.getResource(VisualSVGFile.ASTEROID.getFileName());
+    private final URL rocketURL = SpaceRunnerApp.class.getResource(VisualSVGFile.ROCKET_1.getFileName());
+
+    private Path cacheDirectory;
+    private RasterCache rasterCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheDirectory = Files.createTempDirectory("raster-cache-test");
+        rasterCache = new RasterCache(cacheDirectory, 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        rasterCache.clear();
+        Files.deleteIfExists(cacheDirectory);
+    }
+
+    private BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 31 + y) | 0x80000000);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Tests if a cached image is read back with the same pixels, also by a new cache on the same directory (next launch).
+     */
+    @Test
+    void putAndGetTest() {
+        BufferedImage image = createImage(20, 10);
+        rasterCache.put(asteroidURL, 10, false, false, image);
+
+        for (RasterCache cache : new RasterCache[]{rasterCache, new RasterCache(cacheDirectory, 1024 * 1024)}) {
+            BufferedImage cachedImage = cache.get(asteroidURL, 10, false, false);
+            assertNotNull(cachedImage);
+            assertEquals(20, cachedImage.getWidth());
+            assertEquals(10, cachedImage.getHeight());
+            assertEquals(image.getRGB(7, 3), cachedImage.getRGB(7, 3));
+            assertEquals(1, cache.getHits());
+        }
+    }
+
+    /**
+     * Tests if the height and the flip flags are part of the key.
+     */
+    @Test
+    void keyContainsHeightAndFlipTest() {
+        rasterCache.put(asteroidURL, 10, false, false, createImage(20, 10));
+
+        assertNull(rasterCache.get(asteroidURL, 11, false, false));
+        assertNull(rasterCache.get(asteroidURL, 10, true, false));
+        assertNull(rasterCache.get(asteroidURL, 10, false, true));
+        assertNull(rasterCache.get(rocketURL, 10, false, false));
+        assertEquals(4, rasterCache.getMisses());
+    }
+
+    /**
+     * Tests if the least recently used entry is evicted when the cache is full.
+     */
+    @Test
+    void evictLeastRecentlyUsedTest() {
+        //every entry is a bit more than 40KB => only two fit into 100KB
+        rasterCache = new RasterCache(cacheDirectory, 100 * 1024);
+        rasterCache.put(asteroidURL, 100, false, false, createImage(100, 100));
+        rasterCache.put(asteroidURL, 101, false, false, createImage(100, 100));
+        assertNotNull(rasterCache.get(asteroidURL, 100, false, false));
+
+        rasterCache.put(asteroidURL, 102, false, false, createImage(100, 100));
+
+        assertNotNull(rasterCache.get(asteroidURL, 100, false, false));
+        assertNull(rasterCache.get(asteroidURL, 101, false, false));
+        assertNotNull(rasterCache.get(asteroidURL, 102, false, false));
+        assertTrue(rasterCache.getTotalBytes() <= 100 * 1024);
+    }
+
+    /**
+     * Tests if a corrupt entry is removed and reported as missing.
+     */
+    @Test
+    void corruptEntryTest() throws IOException {
+        rasterCache.put(asteroidURL, 10, false, false, createImage(20, 10));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            Path entry = files.findFirst().orElseThrow();
+            Files.write(entry, new byte[]{1, 2, 3});
+        }
+
+        assertNull(rasterCache.get(asteroidURL, 10, false, false));
+        assertEquals(0, rasterCache.getTotalBytes());
+    }
+
+    /**
+     * Tests that a disabled cache doesn't store anything and that the shared cache is disabled outside the game.
+     */
+    @Test
+    void disabledCacheTest() throws IOException {
+        assertFalse(RasterCache.getCache().isEnabled());
+
+        rasterCache.setEnabled(false);
+        rasterCache.put(asteroidURL, 10, false, false, createImage(20, 10));
+        assertNull(rasterCache.get(asteroidURL, 10, false, false));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(0, files.count());
+        }
+
+        rasterCache.setEnabled(true);
+        assertNull(rasterCache.get(asteroidURL, 10, false, false));
+        rasterCache.put(asteroidURL, 10, false, false, createImage(20, 10));
+        assertNotNull(rasterCache.get(asteroidURL, 10, false, false));
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> rasterCache.get(null, 10, false, false));
+        assertThrows(IllegalArgumentException.class, () -> new RasterCache(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RasterCache(cacheDirectory, 0));
+    }
+}
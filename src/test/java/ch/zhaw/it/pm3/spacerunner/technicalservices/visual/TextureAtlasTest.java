@@ -0,0 +1,69 @@
+package ch.zhaw.it.pm3.spacerunner.technicalservices.visual;
+
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.TextureAtlas;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureAtlasTest {
+
+    private BufferedImage createImage(int width, int height, int argb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Tests if every packed image is copied into its region and the regions don't overlap.
+     */
+    @Test
+    void packImagesTest() {
+        BufferedImage first = createImage(30, 20, 0xFFFF0000);
+        BufferedImage second = createImage(10, 40, 0xFF00FF00);
+        BufferedImage third = createImage(25, 25, 0xFF0000FF);
+
+        TextureAtlas textureAtlas = new TextureAtlas(Arrays.asList(first, second, third), 64);
+
+        assertEquals(3, textureAtlas.size());
+        for (BufferedImage image : new BufferedImage[]{first, second, third}) {
+            Rectangle region = textureAtlas.getRegion(image);
+            assertEquals(image.getWidth(), region.width);
+            assertEquals(image.getHeight(), region.height);
+            assertEquals(image.getRGB(0, 0), textureAtlas.getAtlasImage().getRGB(region.x, region.y));
+            assertEquals(image.getRGB(0, 0), textureAtlas.getAtlasImage().getRGB(region.x + region.width - 1, region.y + region.height - 1));
+        }
+        assertFalse(textureAtlas.getRegion(first).intersects(textureAtlas.getRegion(second)));
+        assertFalse(textureAtlas.getRegion(second).intersects(textureAtlas.getRegion(third)));
+        assertFalse(textureAtlas.getRegion(first).intersects(textureAtlas.getRegion(third)));
+    }
+
+    /**
+     * Tests if images which don't fit into the atlas are not packed.
+     */
+    @Test
+    void imageTooBigTest() {
+        BufferedImage background = createImage(200, 50, 0xFF000000);
+        BufferedImage coin = createImage(10, 10, 0xFFFFFF00);
+
+        TextureAtlas textureAtlas = new TextureAtlas(Arrays.asList(background, coin, null), 100);
+
+        assertNull(textureAtlas.getRegion(background));
+        assertNotNull(textureAtlas.getRegion(coin));
+        assertTrue(textureAtlas.getAtlasImage().getWidth() <= 100);
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new TextureAtlas(null, 100));
+        assertThrows(IllegalArgumentException.class, () -> new TextureAtlas(Collections.emptyList(), 0));
+    }
+}
@@ -1,13 +1,22 @@
 package ch.zhaw.it.pm3.spacerunner.technicalservices.visual;
 
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Asteroid;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Coin;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Rocket;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceShip;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.UFO;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ShieldPowerUp;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.*;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualFile;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGAnimationFiles;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +66,153 @@ public class VisualManagerTest {
         assertNotEquals(image, image2);
     }
 
+    /**
+     * Tests if all visuals of a parallel loading are published and the progress reaches the total number of images.
+     */
+    @Test
+    void loadAndSetVisualsTest() throws VisualNotSetException {
+        AtomicInteger loadedVisuals = new AtomicInteger(0);
+        AtomicInteger totalVisuals = new AtomicInteger(0);
+        VisualManagerListener progressListener = new VisualManagerListener() {
+            @Override
+            public void clear() {
+            }
+
+            @Override
+            public void bufferedImageChanged(BufferedImage bufferedImage) {
+            }
+
+            @Override
+            public void loadingProgressChanged(int loaded, int total) {
+                loadedVisuals.accumulateAndGet(loaded, Math::max);
+                totalVisuals.set(total);
+            }
+        };
+        visualManager.addListener(progressListener);
+
+        Map<Class<? extends VisualElement>, Visual> visuals = new HashMap<>();
+        visuals.put(Asteroid.class, new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID));
+        visuals.put(Rocket.class, new Visual(VisualSVGFile.ROCKET_1, VisualScaling.ROCKET, true, false));
+        Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals = new HashMap<>();
+        animatedVisuals.put(Coin.class, new AnimatedVisual(VisualSVGAnimationFiles.COIN_ANIMATION, VisualScaling.COIN));
+
+        visualManager.loadAndSetVisuals(visuals, animatedVisuals);
+        visualManager.removeListener(progressListener);
+
+        assertNotNull(visualManager.getImage(Asteroid.class));
+        assertNotNull(visualManager.getImage(Rocket.class));
+        assertNotNull(visualManager.getImage(Coin.class));
+        int animationFrames = VisualSVGAnimationFiles.COIN_ANIMATION.getAnimationVisuals().length;
+        assertEquals(2 + animationFrames, totalVisuals.get());
+        assertEquals(totalVisuals.get(), loadedVisuals.get());
+    }
+
+    /**
+     * Tests that every image of a parallel loading has its own height, also when the SVGs are rasterized at the same
+     * time with different heights (the shared raster cache is disabled in the tests).
+     */
+    @Test
+    void loadAndSetVisualsHeightTest() throws VisualNotSetException {
+        visualManager.setViewport(1000, 1000);
+
+        Map<Class<? extends VisualElement>, Visual> visuals = new HashMap<>();
+        visuals.put(Asteroid.class, new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID));
+        visuals.put(UFO.class, new Visual(VisualSVGFile.UFO_1, VisualScaling.UFO));
+        visuals.put(Rocket.class, new Visual(VisualSVGFile.ROCKET_1, VisualScaling.ROCKET, true, false));
+        visuals.put(SpaceShip.class, new Visual(VisualSVGFile.SPACE_SHIP_1, VisualScaling.SPACE_SHIP, true, false));
+        visuals.put(ShieldPowerUp.class, new Visual(VisualSVGFile.SHIELD_POWER_UP, VisualScaling.POWER_UP));
+        Map<Class<? extends VisualElement>, AnimatedVisual> animatedVisuals = new HashMap<>();
+        animatedVisuals.put(Coin.class, new AnimatedVisual(VisualSVGAnimationFiles.COIN_ANIMATION, VisualScaling.COIN));
+
+        for (int i = 0; i < 3; i++) {
+            visualManager.loadAndSetVisuals(visuals, animatedVisuals);
+            for (Map.Entry<Class<? extends VisualElement>, Visual> visual : visuals.entrySet()) {
+                long expectedHeight = Math.round(1000 * visual.getValue().getVisualScaling().getScaling());
+                assertEquals(expectedHeight, visualManager.getImage(visual.getKey()).getHeight(), visual.getKey().getSimpleName());
+            }
+            for (Visual animationVisual : visualManager.getLoadedVisuals().getAnimatedVisual(Coin.class).getVisuals()) {
+                assertEquals(Math.round(1000 * VisualScaling.COIN.getScaling()), animationVisual.getBufferedImage().getHeight());
+            }
+        }
+    }
+
+    /**
+     * Tests that the dimension table is replaced when the viewport changes and the width follows the viewport.
+     */
+    @Test
+    void elementDimensionsTest() throws VisualNotSetException {
+        visualManager.setViewport(1000, 1000);
+        visualManager.loadAndSetVisual(Asteroid.class, new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID));
+        ElementDimensions dimensions = visualManager.getElementDimensions();
+        assertEquals(VisualScaling.ASTEROID.getScaling(), dimensions.getRelativeHeight(Asteroid.class));
+        assertEquals(visualManager.getImage(Asteroid.class).getWidth() / 1000.0, dimensions.getRelativeWidth(Asteroid.class));
+
+        visualManager.setViewport(2000, 1000);
+        ElementDimensions wideDimensions = visualManager.getElementDimensions();
+        assertNotSame(dimensions, wideDimensions);
+        assertEquals(2000, wideDimensions.getViewportWidth());
+        assertEquals(dimensions.getRelativeWidth(Asteroid.class) / 2, wideDimensions.getRelativeWidth(Asteroid.class), 1e-9);
+        assertEquals(VisualScaling.ASTEROID.getScaling(), wideDimensions.getRelativeHeight(Asteroid.class));
+        assertThrows(VisualNotSetException.class, () -> wideDimensions.getRelativeWidth(Rocket.class));
+    }
+
+    /**
+     * Tests that the game element visuals are only loaded (and their dimensions published) again if other visuals were
+     * loaded in between, and that a table with the same values is equal to the previous one.
+     */
+    @Test
+    void loadGameElementVisualsOnceTest() {
+        visualManager.loadGameElementVisuals();
+        ElementDimensions dimensions = visualManager.getElementDimensions();
+        visualManager.loadGameElementVisuals();
+        assertSame(dimensions, visualManager.getElementDimensions());
+
+        visualManager.loadAndSetVisual(Asteroid.class, new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID));
+        ElementDimensions reloadedDimensions = visualManager.getElementDimensions();
+        visualManager.loadGameElementVisuals();
+        assertNotSame(reloadedDimensions, visualManager.getElementDimensions());
+        assertEquals(dimensions, visualManager.getElementDimensions());
+    }
+
+    /**
+     * Tests that querying the dimensions of an animated element doesn't advance the animation.
+     */
+    @Test
+    void animationDoesNotAdvanceOnDimensionQueryTest() throws VisualNotSetException {
+        visualManager.loadAndSetAnimatedVisual(Coin.class, new AnimatedVisual(VisualSVGAnimationFiles.COIN_ANIMATION, VisualScaling.COIN));
+        AnimatedVisual animatedVisual = visualManager.getLoadedVisuals().getAnimatedVisual(Coin.class);
+        long animationStepTime = VisualSVGAnimationFiles.COIN_ANIMATION.getAnimationStepTime();
+
+        Visual visual = animatedVisual.getVisualAt(0);
+        for (int i = 0; i < 100; i++) {
+            visualManager.getElementRelativeWidth(Coin.class);
+        }
+        assertSame(visual, animatedVisual.getVisualAt(animationStepTime - 1));
+        assertNotSame(visual, animatedVisual.getVisualAt(animationStepTime));
+    }
+
+    /**
+     * Tests that loading publishes new visuals instead of changing the published ones, so a reader which keeps the
+     * loaded visuals sees the images and the dimensions of one loading.
+     */
+    @Test
+    void loadingPublishesNewVisualsTest() throws VisualNotSetException {
+        visualManager.setViewport(1000, 1000);
+        Visual asteroidVisual = new Visual(VisualSVGFile.ASTEROID, VisualScaling.ASTEROID);
+        visualManager.loadAndSetVisual(Asteroid.class, asteroidVisual);
+        LoadedVisuals loadedVisuals = visualManager.getLoadedVisuals();
+        BufferedImage image = loadedVisuals.getVisual(Asteroid.class).getBufferedImage();
+        assertNull(asteroidVisual.getBufferedImage());
+
+        visualManager.setViewport(500, 500);
+
+        assertNotSame(loadedVisuals, visualManager.getLoadedVisuals());
+        assertSame(image, loadedVisuals.getVisual(Asteroid.class).getBufferedImage());
+        assertEquals(1000, loadedVisuals.getElementDimensions().getViewportWidth());
+        assertEquals(Math.round(500 * VisualScaling.ASTEROID.getScaling()), visualManager.getImage(Asteroid.class).getHeight());
+        assertEquals(500, visualManager.getElementDimensions().getViewportWidth());
+    }
+
     @Test
     void getVisualWhenNotSetTest() {
         assertThrows(VisualNotSetException.class, () -> {
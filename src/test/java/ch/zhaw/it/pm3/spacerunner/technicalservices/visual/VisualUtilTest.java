@@ -6,10 +6,10 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.image.BufferedImage;
 import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.file.Paths;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class VisualUtilTest {
     private final VisualUtil visualUtil = VisualUtil.getUtil();
@@ -69,6 +69,22 @@ public class VisualUtilTest {
         assertNotNull(visualUtil.loadSVGImage(Paths.get("src/test/resources/ch/zhaw/it/pm3/spacerunner/image/rocket.svg").toUri().toURL(), 500));
     }
 
+    /**
+     * Tests if a cached SVG document is rendered again at a new height.
+     */
+    @Test
+    void loadSVGImageTwiceWithDifferentHeightTest() throws MalformedURLException {
+        URL rocketURL = Paths.get("src/test/resources/ch/zhaw/it/pm3/spacerunner/image/rocket.svg").toUri().toURL();
+        BufferedImage smallImage = visualUtil.loadSVGImage(rocketURL, 50);
+        BufferedImage bigImage = visualUtil.loadSVGImage(rocketURL, 100);
+
+        assertNotNull(smallImage);
+        assertNotNull(bigImage);
+        assertNotSame(smallImage, bigImage);
+        assertEquals(50, smallImage.getHeight());
+        assertEquals(100, bigImage.getHeight());
+    }
+
     @Test
     void resizeImageTestWithNegativeOrZeroScaledSizes() throws MalformedURLException {
         BufferedImage backgroundImage = visualUtil.loadImage(Paths.get("src/test/resources/ch/zhaw/it/pm3/spacerunner/image/background.jpg").toUri().toURL());
@@ -1,18 +1,23 @@
 package ch.zhaw.it.pm3.spacerunner.ui;
 
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Coin;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.Rocket;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.SpaceWorld;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.UFO;
 import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.powerup.ShieldPowerUp;
+import ch.zhaw.it.pm3.spacerunner.domain.spaceelement.velocity.VelocityManager;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.AnimatedVisual;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.Visual;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualManager;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualNotSetException;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.manager.VisualScaling;
+import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGAnimationFiles;
 import ch.zhaw.it.pm3.spacerunner.technicalservices.visual.util.VisualSVGFile;
 import javafx.embed.swing.SwingFXUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 class FXMLImageProxyTest {
     private VisualManager visualManager = VisualManager.getManager();
@@ -51,4 +56,55 @@ class FXMLImageProxyTest {
         assertEquals(fxmlImageProxy.getFXMLImage(Rocket.class).getWidth(), SwingFXUtils.toFXImage(visualManager.getImage(ShieldPowerUp.class), null).getWidth());
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the sprites are drawn from the same atlas image and their regions have the size of the visual.
+     */
+    @Test
+    void getFXMLImageRegion() throws VisualNotSetException {
+        visualManager.loadGameElementVisuals();
+
+        FXMLImageRegion rocketRegion = fxmlImageProxy.getFXMLImageRegion(VelocityManager.getTypeOrdinal(Rocket.class), 0);
+        FXMLImageRegion ufoRegion = fxmlImageProxy.getFXMLImageRegion(VelocityManager.getTypeOrdinal(UFO.class), 0);
+
+        assertSame(rocketRegion.getImage(), ufoRegion.getImage());
+        assertEquals(visualManager.getImage(Rocket.class).getWidth(), rocketRegion.getWidth());
+        assertEquals(visualManager.getImage(Rocket.class).getHeight(), rocketRegion.getHeight());
+    }
+
+    /**
+     * Tests that an animation gets the region of the frame at the time of the frame and that the regions are looked up
+     * again after the visuals changed.
+     */
+    @Test
+    void getFXMLImageRegionOfAnimation() throws VisualNotSetException {
+        visualManager.loadGameElementVisuals();
+        int coinOrdinal = VelocityManager.getTypeOrdinal(Coin.class);
+        long animationStepTime = VisualSVGAnimationFiles.COIN_ANIMATION.getAnimationStepTime();
+
+        FXMLImageRegion firstFrame = fxmlImageProxy.getFXMLImageRegion(coinOrdinal, 0);
+        assertSame(firstFrame, fxmlImageProxy.getFXMLImageRegion(coinOrdinal, animationStepTime - 1));
+        assertNotSame(firstFrame, fxmlImageProxy.getFXMLImageRegion(coinOrdinal, animationStepTime));
+
+        visualManager.setViewport(visualManager.getWidth() * 2, visualManager.getHeight() * 2);
+        FXMLImageRegion resizedFrame = fxmlImageProxy.getFXMLImageRegion(coinOrdinal, 0);
+        AnimatedVisual coinAnimation = visualManager.getLoadedVisuals().getAnimatedVisual(Coin.class);
+        assertEquals(coinAnimation.getVisualAt(0).getBufferedImage().getHeight(), resizedFrame.getHeight());
+    }
+
+    /**
+     * Tests that a visual which isn't packed into the atlas (the background) gets a region of its whole image and that
+     * a type without visual is not set.
+     */
+    @Test
+    void getFXMLImageRegionOfUnpackedVisual() throws VisualNotSetException {
+        visualManager.loadGameElementVisuals();
+
+        FXMLImageRegion backgroundRegion = fxmlImageProxy.getFXMLImageRegion(VelocityManager.getTypeOrdinal(SpaceWorld.class), 0);
+
+        assertEquals(0, backgroundRegion.getX());
+        assertEquals(visualManager.getImage(SpaceWorld.class).getWidth(), backgroundRegion.getWidth());
+        assertEquals(backgroundRegion.getImage().getWidth(), backgroundRegion.getWidth());
+        assertThrows(VisualNotSetException.class, () -> fxmlImageProxy.getFXMLImageRegion(Integer.MAX_VALUE, 0));
+    }
+}